@@ -0,0 +1,12 @@
+#!/usr/bin/env sh
+# Compila e executa todos os benchmarks (ou os filtrados pelos argumentos, ex.: ./run.sh ValorMonetario).
+# O resultado fica em results/jmh-<commit>.json; para comparar dois commits:
+#   java -cp target/benchmarks.jar com.seucantinho.benchmarks.ComparadorResultados results/jmh-<a>.json results/jmh-<b>.json
+set -e
+cd "$(dirname "$0")"
+COMMIT=$(git rev-parse --short HEAD 2>/dev/null || echo local)
+# Instala a API como jar comum (sem o repackage do Spring Boot) só para compilar os benchmarks contra ela;
+# o empacotamento de produção não muda
+../mvnw -q -B -f ../pom.xml install -DskipTests -Djacoco.skip=true -Dspring-boot.repackage.skip=true
+../mvnw -q -B -f pom.xml package
+java -Dbenchmarks.commit="$COMMIT" -jar target/benchmarks.jar "$@"
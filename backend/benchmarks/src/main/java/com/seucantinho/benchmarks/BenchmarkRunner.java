@@ -0,0 +1,45 @@
+package com.seucantinho.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Ponto de entrada do benchmarks.jar: aceita as opções normais do JMH e acrescenta o GC profiler
+// (taxa de alocação por operação) e o resultado em JSON em results/jmh-<commit>.json
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions linhaDeComando = new CommandLineOptions(args);
+        // -h e -l apenas informam, sem executar os benchmarks
+        if (linhaDeComando.shouldHelp()) {
+            linhaDeComando.showHelp();
+            return;
+        }
+        if (linhaDeComando.shouldList()) {
+            new Runner(linhaDeComando).list();
+            return;
+        }
+
+        ChainedOptionsBuilder opcoes = new OptionsBuilder()
+                .parent(linhaDeComando)
+                .addProfiler(GCProfiler.class);
+
+        if (!linhaDeComando.getResult().hasValue()) {
+            String commit = System.getProperty("benchmarks.commit", "local");
+            Path resultado = Path.of("results", "jmh-" + commit + ".json");
+            Files.createDirectories(resultado.getParent());
+            opcoes.resultFormat(ResultFormatType.JSON).result(resultado.toString());
+        }
+
+        new Runner(opcoes.build()).run();
+    }
+}
@@ -0,0 +1,114 @@
+package com.seucantinho.benchmarks;
+
+import com.seucantinho.api.feature.cliente.domain.Cliente;
+import com.seucantinho.api.feature.espaco.domain.Espaco;
+import com.seucantinho.api.feature.espaco.domain.valueobject.Capacidade;
+import com.seucantinho.api.feature.filial.domain.Filial;
+import com.seucantinho.api.feature.funcionario.domain.Funcionario;
+import com.seucantinho.api.feature.pagamento.domain.Pagamento;
+import com.seucantinho.api.feature.pagamento.domain.enums.TipoPagamentoEnum;
+import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import com.seucantinho.api.feature.reserva.domain.valueobject.DataEvento;
+import com.seucantinho.api.feature.usuario.domain.enums.PerfilUsuarioEnum;
+import com.seucantinho.api.shared.domain.valueobject.ValorMonetario;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Grafo de objetos como o carregado pelos repositórios: filial com espaços, cliente com
+// histórico de reservas e reserva com pagamento de sinal
+final class CenarioReservas {
+
+    static final int RESERVAS_POR_CLIENTE = 20;
+
+    final Filial filial;
+    final Espaco espaco;
+    final Cliente cliente;
+    final Funcionario funcionario;
+    final Reserva reservaComSinal;
+
+    CenarioReservas() {
+        LocalDateTime cadastro = LocalDateTime.of(2024, 3, 1, 10, 0);
+        filial = Filial.builder()
+                .id(1)
+                .nome("Seu Cantinho Centro")
+                .cidade("Curitiba")
+                .estado("PR")
+                .endereco("Rua XV de Novembro, 1000")
+                .telefone("(41) 3333-0000")
+                .dataCadastro(cadastro)
+                .build();
+        espaco = Espaco.builder()
+                .id(1)
+                .nome("Salão de Festas Jardim")
+                .descricao("Salão com jardim, churrasqueira e cozinha equipada")
+                .capacidade(Capacidade.of(120))
+                .precoDiaria(ValorMonetario.of("1250.50"))
+                .ativo(true)
+                .urlFotoPrincipal("https://cdn.seucantinho.com.br/espacos/1.jpg")
+                .filial(filial)
+                .build();
+        filial.getEspacos().add(espaco);
+
+        cliente = Cliente.builder()
+                .id(10)
+                .nome("Maria da Silva")
+                .email("maria.silva@email.com")
+                .cpf("123.456.789-00")
+                .telefone("(41) 99999-0000")
+                .perfil(PerfilUsuarioEnum.CLIENTE)
+                .dataCadastro(cadastro)
+                .build();
+        funcionario = new Funcionario();
+        funcionario.setId(20);
+        funcionario.setNome("João Souza");
+        funcionario.setEmail("joao.souza@seucantinho.com.br");
+        funcionario.setCpf("987.654.321-00");
+        funcionario.setTelefone("(41) 98888-0000");
+        funcionario.setAtivo(true);
+        funcionario.setMatricula("FUNC-0020");
+        funcionario.setFilial(filial);
+        funcionario.setDataCadastro(cadastro);
+        filial.getFuncionarios().add(funcionario);
+
+        LocalDate dataBase = LocalDate.now().plusDays(30);
+        for (int i = 0; i < RESERVAS_POR_CLIENTE; i++) {
+            cliente.getReservas().add(novaReserva(100 + i, dataBase.plusDays(i)));
+        }
+        reservaComSinal = cliente.getReservas().get(0);
+        reservaComSinal.registrarPagamento(pagamento(reservaComSinal, TipoPagamentoEnum.SINAL,
+                reservaComSinal.getValorTotal().calcularMetade()));
+        reservaComSinal.setStatus(StatusReservaEnum.CONFIRMADA);
+    }
+
+    Reserva novaReserva(int id, LocalDate data) {
+        return Reserva.builder()
+                .id(id)
+                .dataCriacao(LocalDateTime.of(2024, 3, 2, 9, 30))
+                .dataEvento(DataEvento.of(data))
+                .valorTotal(espaco.getPrecoDiaria())
+                .observacoes("Aniversário de 30 anos")
+                .status(StatusReservaEnum.AGUARDANDO_SINAL)
+                .usuario(cliente)
+                .espaco(espaco)
+                .pagamentos(new ArrayList<>())
+                .build();
+    }
+
+    Pagamento pagamento(Reserva reserva, TipoPagamentoEnum tipo, ValorMonetario valor) {
+        return Pagamento.builder()
+                .reserva(reserva)
+                .tipo(tipo)
+                .valor(valor)
+                .formaPagamento("PIX")
+                .codigoTransacaoGateway("TX-" + reserva.getId() + "-" + tipo)
+                .build();
+    }
+
+    List<Reserva> reservas() {
+        return cliente.getReservas();
+    }
+}
@@ -0,0 +1,68 @@
+package com.seucantinho.benchmarks;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Compara dois resultados JSON do JMH (ex.: results/jmh-<commit>.json de commits diferentes)
+// e imprime a variação de tempo e de bytes alocados por operação de cada benchmark
+public final class ComparadorResultados {
+
+    private static final String METRICA_ALOCACAO = "gc.alloc.rate.norm";
+
+    private ComparadorResultados() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Uso: ComparadorResultados <base.json> <atual.json>");
+            System.exit(2);
+        }
+        ObjectMapper mapper = JsonMapper.builder().build();
+        Map<String, Medicao> base = ler(mapper, new File(args[0]));
+        Map<String, Medicao> atual = ler(mapper, new File(args[1]));
+
+        System.out.printf("%-90s %14s %14s %9s %12s %12s%n",
+                "benchmark", "base", "atual", "tempo", "B/op base", "B/op atual");
+        atual.forEach((benchmark, medicao) -> {
+            Medicao anterior = base.get(benchmark);
+            if (anterior == null) {
+                System.out.printf("%-90s %14s %14.2f %9s %12s %12.0f%n",
+                        benchmark, "-", medicao.score(), "novo", "-", medicao.bytesPorOperacao());
+                return;
+            }
+            double variacao = (medicao.score() - anterior.score()) / anterior.score() * 100;
+            System.out.printf("%-90s %14.2f %14.2f %+8.1f%% %12.0f %12.0f%n",
+                    benchmark, anterior.score(), medicao.score(), variacao,
+                    anterior.bytesPorOperacao(), medicao.bytesPorOperacao());
+        });
+    }
+
+    private static Map<String, Medicao> ler(ObjectMapper mapper, File arquivo) {
+        Map<String, Medicao> medicoes = new LinkedHashMap<>();
+        for (JsonNode resultado : mapper.readTree(arquivo)) {
+            JsonNode primaria = resultado.path("primaryMetric");
+            double bytesPorOperacao = Double.NaN;
+            for (Map.Entry<String, JsonNode> secundaria : resultado.path("secondaryMetrics").properties()) {
+                if (secundaria.getKey().endsWith(METRICA_ALOCACAO)) {
+                    bytesPorOperacao = secundaria.getValue().path("score").asDouble();
+                }
+            }
+            // Cada combinação de @Param é uma medição própria
+            StringBuilder nome = new StringBuilder(resultado.path("benchmark").asString());
+            for (Map.Entry<String, JsonNode> parametro : resultado.path("params").properties()) {
+                nome.append(' ').append(parametro.getKey()).append('=').append(parametro.getValue().asString());
+            }
+            nome.append(" [").append(primaria.path("scoreUnit").asString()).append(']');
+            medicoes.put(nome.toString(), new Medicao(primaria.path("score").asDouble(), bytesPorOperacao));
+        }
+        return medicoes;
+    }
+
+    private record Medicao(double score, double bytesPorOperacao) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.seucantinho.benchmarks;
+
+import com.seucantinho.api.feature.pagamento.domain.Pagamento;
+import com.seucantinho.api.feature.pagamento.domain.enums.TipoPagamentoEnum;
+import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import com.seucantinho.api.feature.reserva.domain.state.ReservaStateFactory;
+import com.seucantinho.api.feature.reserva.domain.valueobject.DataEvento;
+import com.seucantinho.api.shared.domain.valueobject.ValorMonetario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// Regras executadas a cada criação de reserva e a cada pagamento
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DominioBenchmark {
+
+    private CenarioReservas cenario;
+    private LocalDate dataValida;
+    private Reserva reservaAguardandoSinal;
+    private Pagamento sinal;
+    private Pagamento quitacao;
+
+    @Setup
+    public void setUp() {
+        cenario = new CenarioReservas();
+        dataValida = LocalDate.now().plusDays(60);
+        reservaAguardandoSinal = cenario.novaReserva(500, dataValida);
+
+        sinal = cenario.pagamento(reservaAguardandoSinal, TipoPagamentoEnum.SINAL,
+                reservaAguardandoSinal.getValorTotal().calcularMetade());
+        Reserva reservaConfirmada = cenario.reservaComSinal;
+        quitacao = cenario.pagamento(reservaConfirmada, TipoPagamentoEnum.QUITACAO, reservaConfirmada.calcularSaldo());
+    }
+
+    @Benchmark
+    public DataEvento criarDataEvento() {
+        return DataEvento.of(dataValida);
+    }
+
+    // AGUARDANDO_SINAL -> CONFIRMADA -> QUITADA, o caminho de uma reserva paga em duas vezes
+    @Benchmark
+    public StatusReservaEnum transicionarStatus() {
+        reservaAguardandoSinal.setStatus(StatusReservaEnum.AGUARDANDO_SINAL);
+        reservaAguardandoSinal.setState(ReservaStateFactory.createState(StatusReservaEnum.AGUARDANDO_SINAL));
+        reservaAguardandoSinal.transitionToStatus(StatusReservaEnum.CONFIRMADA);
+        reservaAguardandoSinal.transitionToStatus(StatusReservaEnum.QUITADA);
+        return reservaAguardandoSinal.getStatus();
+    }
+
+    @Benchmark
+    public Pagamento validarSinal() {
+        sinal.validar();
+        return sinal;
+    }
+
+    @Benchmark
+    public Pagamento validarQuitacao() {
+        quitacao.validar();
+        return quitacao;
+    }
+
+    @Benchmark
+    public ValorMonetario calcularSaldo() {
+        return cenario.reservaComSinal.calcularSaldo();
+    }
+}
@@ -0,0 +1,74 @@
+package com.seucantinho.benchmarks;
+
+import com.seucantinho.api.feature.espaco.application.dto.EspacoResponseDTO;
+import com.seucantinho.api.feature.espaco.infrastructure.mapper.EspacoMapper;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaResponseDTO;
+import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.infrastructure.mapper.ReservaMapper;
+import com.seucantinho.api.feature.usuario.application.dto.UsuarioResponseDTO;
+import com.seucantinho.api.feature.usuario.infrastructure.mapper.UsuarioMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Conversão entidade -> DTO feita em toda resposta da API, sobre o grafo completo
+// (reserva -> espaço -> filial, reserva -> cliente com histórico de reservas)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private CenarioReservas cenario;
+    private EspacoMapper espacoMapper;
+    private UsuarioMapper usuarioMapper;
+    private ReservaMapper reservaMapper;
+
+    @Setup
+    public void setUp() {
+        cenario = new CenarioReservas();
+        espacoMapper = new EspacoMapper();
+        usuarioMapper = new UsuarioMapper();
+        reservaMapper = new ReservaMapper(espacoMapper, usuarioMapper);
+    }
+
+    @Benchmark
+    public EspacoResponseDTO mapearEspaco() {
+        return espacoMapper.toResponseDTO(cenario.espaco);
+    }
+
+    @Benchmark
+    public UsuarioResponseDTO mapearCliente() {
+        return usuarioMapper.toResponseDTO(cenario.cliente);
+    }
+
+    @Benchmark
+    public UsuarioResponseDTO mapearFuncionario() {
+        return usuarioMapper.toResponseDTO(cenario.funcionario);
+    }
+
+    @Benchmark
+    public ReservaResponseDTO mapearReserva() {
+        return reservaMapper.toResponseDTO(cenario.reservaComSinal);
+    }
+
+    // Uma página da listagem de reservas do cliente
+    @Benchmark
+    public void mapearPaginaDeReservas(Blackhole blackhole) {
+        for (Reserva reserva : cenario.reservas()) {
+            blackhole.consume(reservaMapper.toResponseDTO(reserva));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.seucantinho.benchmarks;
+
+import com.seucantinho.api.feature.reserva.infrastructure.lock.ReservaStripedLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Contenção do lock de pagamentos: 16 threads com seção crítica de ~1 ms (a transação de
+// PagamentoService) distribuídas entre 1..16 reservas; a vazão deve crescer com as reservas distintas
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Threads(16)
+@Fork(1)
+public class ReservaStripedLockBenchmark {
+
+    private static final long SECAO_CRITICA_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @State(Scope.Benchmark)
+    public static class Cenario {
+
+        @Param({"1", "2", "4", "8", "16"})
+        int reservasDistintas;
+
+        final ReservaStripedLock lock = new ReservaStripedLock(256);
+        final AtomicInteger proximaThread = new AtomicInteger();
+    }
+
+    @State(Scope.Thread)
+    public static class Pagador {
+
+        int reservaId;
+
+        // Threads distribuídas em rodízio entre as reservas, como na carga de pagamentos
+        @Setup
+        public void setUp(Cenario cenario) {
+            reservaId = 1 + cenario.proximaThread.getAndIncrement() % cenario.reservasDistintas;
+        }
+    }
+
+    @Benchmark
+    public Object pagar(Cenario cenario, Pagador pagador) {
+        return cenario.lock.executar(pagador.reservaId, () -> {
+            LockSupport.parkNanos(SECAO_CRITICA_NANOS);
+            return pagador;
+        });
+    }
+}
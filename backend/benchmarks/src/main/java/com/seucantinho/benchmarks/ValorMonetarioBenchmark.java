@@ -0,0 +1,89 @@
+package com.seucantinho.benchmarks;
+
+import com.seucantinho.api.shared.domain.valueobject.ValorMonetario;
+import com.seucantinho.benchmarks.baseline.ValorMonetarioBigDecimal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+// Compara a representação em centavos (long) com a anterior em BigDecimal nas operações
+// usadas por Pagamento.validar() e pelos mappers: soma do total pago, metade do sinal,
+// saldo restante, comparação e formatação
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValorMonetarioBenchmark {
+
+    private ValorMonetario valorTotal;
+    private ValorMonetario sinal;
+    private ValorMonetarioBigDecimal valorTotalBigDecimal;
+    private ValorMonetarioBigDecimal sinalBigDecimal;
+    private BigDecimal valorColuna;
+
+    @Setup
+    public void setUp() {
+        valorTotal = ValorMonetario.of("1250.50");
+        sinal = ValorMonetario.of("625.25");
+        valorTotalBigDecimal = ValorMonetarioBigDecimal.of("1250.50");
+        sinalBigDecimal = ValorMonetarioBigDecimal.of("625.25");
+        valorColuna = new BigDecimal("1250.50");
+    }
+
+    @Benchmark
+    public boolean validarQuitacaoCentavos() {
+        ValorMonetario totalPago = ValorMonetario.zero().somar(sinal);
+        ValorMonetario saldo = valorTotal.subtrair(totalPago);
+        return saldo.isIgualA(valorTotal.calcularMetade());
+    }
+
+    @Benchmark
+    public boolean validarQuitacaoBigDecimal() {
+        ValorMonetarioBigDecimal totalPago = ValorMonetarioBigDecimal.zero().somar(sinalBigDecimal);
+        ValorMonetarioBigDecimal saldo = valorTotalBigDecimal.subtrair(totalPago);
+        return saldo.isIgualA(valorTotalBigDecimal.calcularMetade());
+    }
+
+    @Benchmark
+    public ValorMonetario calcularMetadeCentavos() {
+        return valorTotal.calcularMetade();
+    }
+
+    @Benchmark
+    public ValorMonetarioBigDecimal calcularMetadeBigDecimal() {
+        return valorTotalBigDecimal.calcularMetade();
+    }
+
+    @Benchmark
+    public String formatarCentavos() {
+        return valorTotal.getValorFormatado();
+    }
+
+    @Benchmark
+    public String formatarBigDecimal() {
+        return valorTotalBigDecimal.getValorFormatado();
+    }
+
+    // Fronteira JPA/DTO: conversão a partir da coluna e de volta para BigDecimal
+    @Benchmark
+    public BigDecimal converterColunaCentavos() {
+        return ValorMonetario.of(valorColuna).getValor();
+    }
+
+    @Benchmark
+    public BigDecimal converterColunaBigDecimal() {
+        return ValorMonetarioBigDecimal.of(valorColuna).getValor();
+    }
+}
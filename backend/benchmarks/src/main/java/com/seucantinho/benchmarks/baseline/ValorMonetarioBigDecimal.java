@@ -0,0 +1,70 @@
+package com.seucantinho.benchmarks.baseline;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+// Cópia da implementação anterior de ValorMonetario (BigDecimal + String.format), usada como referência
+public final class ValorMonetarioBigDecimal {
+
+    private static final BigDecimal DOIS = new BigDecimal("2");
+
+    private final BigDecimal valor;
+
+    private ValorMonetarioBigDecimal(BigDecimal valor) {
+        this.valor = valor.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    public static ValorMonetarioBigDecimal of(BigDecimal valor) {
+        if (valor.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("Valor monetário não pode ser negativo");
+        }
+        return new ValorMonetarioBigDecimal(valor);
+    }
+
+    public static ValorMonetarioBigDecimal of(String valor) {
+        return of(new BigDecimal(valor));
+    }
+
+    public static ValorMonetarioBigDecimal zero() {
+        return new ValorMonetarioBigDecimal(BigDecimal.ZERO);
+    }
+
+    public ValorMonetarioBigDecimal somar(ValorMonetarioBigDecimal outro) {
+        return new ValorMonetarioBigDecimal(this.valor.add(outro.valor));
+    }
+
+    public ValorMonetarioBigDecimal subtrair(ValorMonetarioBigDecimal outro) {
+        BigDecimal resultado = this.valor.subtract(outro.valor);
+        if (resultado.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("Resultado da subtração não pode ser negativo");
+        }
+        return new ValorMonetarioBigDecimal(resultado);
+    }
+
+    public ValorMonetarioBigDecimal calcularMetade() {
+        return new ValorMonetarioBigDecimal(this.valor.divide(DOIS, 2, RoundingMode.HALF_UP));
+    }
+
+    public boolean isIgualA(ValorMonetarioBigDecimal outro) {
+        return this.valor.compareTo(outro.valor) == 0;
+    }
+
+    public BigDecimal getValor() {
+        return valor;
+    }
+
+    public String getValorFormatado() {
+        return String.format("R$ %.2f", valor);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ValorMonetarioBigDecimal outro && Objects.equals(valor, outro.valor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(valor);
+    }
+}
@@ -7,6 +7,7 @@
 CREATE TYPE status_reserva_enum AS ENUM ('AGUARDANDO_SINAL', 'CONFIRMADA', 'QUITADA', 'CANCELADA', 'FINALIZADA');
 CREATE TYPE tipo_pagamento_enum AS ENUM ('SINAL', 'QUITACAO', 'TOTAL');
 CREATE TYPE perfil_usuario_enum AS ENUM ('ADMIN', 'FUNCIONARIO', 'CLIENTE');
+CREATE TYPE status_solicitacao_pagamento_enum AS ENUM ('PENDENTE', 'PROCESSANDO', 'CONFIRMADO', 'RECUSADO', 'ESTORNADO', 'ESTORNO_PENDENTE', 'FALHA');
 
 CREATE TABLE tb_filial (
     id SERIAL PRIMARY KEY,
@@ -50,10 +51,12 @@ CREATE TABLE tb_reserva (
     data_criacao TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     data_evento DATE NOT NULL,
     valor_total DECIMAL(10, 2) NOT NULL,
+    total_pago DECIMAL(10, 2) NOT NULL DEFAULT 0,
     observacoes TEXT,
     status status_reserva_enum NOT NULL DEFAULT 'AGUARDANDO_SINAL',
     usuario_id INTEGER NOT NULL,
     espaco_id INTEGER NOT NULL,
+    versao BIGINT NOT NULL DEFAULT 0,
     CONSTRAINT fk_reserva_usuario FOREIGN KEY (usuario_id) REFERENCES tb_usuario(id),
     CONSTRAINT fk_reserva_espaco FOREIGN KEY (espaco_id) REFERENCES tb_espaco(id)
 );
@@ -65,14 +68,58 @@ CREATE TABLE tb_pagamento (
     tipo tipo_pagamento_enum NOT NULL,
     forma_pagamento VARCHAR(50),
     codigo_transacao_gateway VARCHAR(100),
+    chave_idempotencia VARCHAR(100),
     reserva_id INTEGER NOT NULL,
     CONSTRAINT fk_pagamento_reserva FOREIGN KEY (reserva_id) REFERENCES tb_reserva(id)
 );
 
+-- Solicitacoes de pagamento assincronas: gravadas antes de ir ao gateway, sem FK porque a reserva
+-- so e conferida na thread do gateway
+CREATE TABLE tb_solicitacao_pagamento (
+    protocolo VARCHAR(36) PRIMARY KEY,
+    chave_idempotencia VARCHAR(100),
+    status status_solicitacao_pagamento_enum NOT NULL,
+    reserva_id INTEGER NOT NULL,
+    tipo tipo_pagamento_enum NOT NULL,
+    valor DECIMAL(10, 2) NOT NULL,
+    forma_pagamento VARCHAR(50),
+    pagamento_id INTEGER,
+    codigo_transacao_gateway VARCHAR(100),
+    mensagem TEXT,
+    data_solicitacao TIMESTAMP NOT NULL,
+    data_atualizacao TIMESTAMP NOT NULL
+);
+
 -- Constraints e Indices Especiais
 CREATE UNIQUE INDEX idx_reserva_unica_ativa ON tb_reserva (espaco_id, data_evento) WHERE status NOT IN ('CANCELADA', 'FINALIZADA');
 CREATE INDEX idx_reserva_data ON tb_reserva(data_evento);
 
+-- Reserva usa sequence com pool de 50 ids (allocationSize do Hibernate) para permitir batch de inserts
+ALTER SEQUENCE tb_reserva_id_seq INCREMENT BY 50;
+
+-- Paginacao por chave (data_evento, id) nas listagens de reservas
+CREATE INDEX idx_reserva_data_id ON tb_reserva(data_evento, id);
+CREATE INDEX idx_reserva_usuario_data_id ON tb_reserva(usuario_id, data_evento, id);
+CREATE INDEX idx_reserva_espaco_data_id ON tb_reserva(espaco_id, data_evento, id);
+
+-- Listagem por filial: tb_espaco(filial_id) -> tb_reserva(espaco_id, data_evento, id)
+CREATE INDEX idx_espaco_filial_id ON tb_espaco(filial_id, id);
+
+-- Busca de reservas (/api/reservas/search): filtro por status com periodo, e o recorte mais comum
+-- (reservas ativas por periodo) em indice parcial menor que o indice completo por data
+CREATE INDEX idx_reserva_status_data_id ON tb_reserva(status, data_evento, id);
+CREATE INDEX idx_reserva_ativa_data_id ON tb_reserva(data_evento, id) WHERE status NOT IN ('CANCELADA', 'FINALIZADA');
+
+-- Carga da agenda de expiracao do sinal na subida da aplicacao
+CREATE INDEX idx_reserva_aguardando_sinal ON tb_reserva(id, data_criacao) WHERE status = 'AGUARDANDO_SINAL';
+
+-- Idempotencia de pagamentos: o mesmo codigo do gateway ou a mesma chave Idempotency-Key
+-- nunca geram dois registros, mesmo com requisicoes repetidas em paralelo
+CREATE UNIQUE INDEX idx_pagamento_codigo_transacao ON tb_pagamento(codigo_transacao_gateway) WHERE codigo_transacao_gateway IS NOT NULL;
+CREATE UNIQUE INDEX idx_pagamento_chave_idempotencia ON tb_pagamento(chave_idempotencia) WHERE chave_idempotencia IS NOT NULL;
+-- Uma unica solicitacao assincrona por Idempotency-Key, entre instancias e apos reinicios
+CREATE UNIQUE INDEX idx_solicitacao_pagamento_chave ON tb_solicitacao_pagamento(chave_idempotencia) WHERE chave_idempotencia IS NOT NULL;
+
 -- ==============================================================
 -- 2. DADOS INICIAIS (SEED)
 -- ==============================================================
@@ -6,6 +6,7 @@ import com.seucantinho.api.feature.auth.application.dto.LoginResponse;
 import com.seucantinho.api.shared.domain.exception.BusinessException;
 import com.seucantinho.api.feature.usuario.domain.port.out.UsuarioRepositoryPort;
 import com.seucantinho.api.feature.auth.domain.port.out.PasswordEncoderPort;
+import com.seucantinho.api.feature.auth.domain.port.out.TokenAcessoPort;
 import com.seucantinho.api.feature.auth.domain.port.in.AuthServicePort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,6 +17,7 @@ public class AuthService implements AuthServicePort {
 
     private final UsuarioRepositoryPort usuarioRepositoryPort;
     private final PasswordEncoderPort passwordEncoderPort;
+    private final TokenAcessoPort tokenAcessoPort;
 
     public LoginResponse login(LoginRequest request) {
         Usuario usuario = usuarioRepositoryPort.findByEmail(request.email())
@@ -25,7 +27,7 @@ public class AuthService implements AuthServicePort {
             throw new BusinessException("Email ou senha inválidos");
         }
 
-        String token = "Bearer " + usuario.getEmail();
+        String token = tokenAcessoPort.emitir(usuario);
 
         return new LoginResponse(
             usuario.getId(),
@@ -2,9 +2,10 @@ package com.seucantinho.api.feature.auth.domain.port.in;
 
 import com.seucantinho.api.feature.auth.application.dto.LoginRequest;
 import com.seucantinho.api.feature.auth.application.dto.LoginResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 
 public interface AuthWebPort {
 
-    ResponseEntity<LoginResponse> login(LoginRequest request);
+    ResponseEntity<LoginResponse> login(LoginRequest request, HttpServletRequest httpRequest);
 }
\ No newline at end of file
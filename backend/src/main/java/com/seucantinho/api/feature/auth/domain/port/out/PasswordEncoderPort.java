@@ -1,8 +1,12 @@
 package com.seucantinho.api.feature.auth.domain.port.out;
 
+import java.util.List;
+
 public interface PasswordEncoderPort {
 
     String encode(String rawPassword);
 
+    List<String> encodeEmLote(List<String> rawPasswords);
+
     boolean matches(String rawPassword, String encodedPassword);
 }
\ No newline at end of file
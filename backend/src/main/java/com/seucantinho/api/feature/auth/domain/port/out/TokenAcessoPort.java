@@ -0,0 +1,13 @@
+package com.seucantinho.api.feature.auth.domain.port.out;
+
+import com.seucantinho.api.feature.auth.domain.valueobject.UsuarioAutenticado;
+import com.seucantinho.api.feature.usuario.domain.Usuario;
+
+import java.util.Optional;
+
+public interface TokenAcessoPort {
+
+    String emitir(Usuario usuario);
+
+    Optional<UsuarioAutenticado> verificar(String token);
+}
@@ -0,0 +1,14 @@
+package com.seucantinho.api.feature.auth.domain.valueobject;
+
+import com.seucantinho.api.feature.usuario.domain.enums.PerfilUsuarioEnum;
+
+/**
+ * Dados do usuário carregados no token de acesso; bastam para autorizar a requisição
+ * sem consultar o banco. {@code filialId} só é preenchido para funcionários.
+ */
+public record UsuarioAutenticado(Integer id, PerfilUsuarioEnum perfil, Integer filialId, long expiraEmSegundos) {
+
+    public boolean expiradoEm(long agoraEmSegundos) {
+        return agoraEmSegundos >= expiraEmSegundos;
+    }
+}
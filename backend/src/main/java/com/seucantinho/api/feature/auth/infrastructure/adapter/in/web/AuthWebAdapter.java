@@ -4,6 +4,7 @@ import com.seucantinho.api.feature.auth.application.dto.LoginRequest;
 import com.seucantinho.api.feature.auth.application.dto.LoginResponse;
 import com.seucantinho.api.feature.auth.domain.port.in.AuthServicePort;
 import com.seucantinho.api.feature.auth.domain.port.in.AuthWebPort;
+import com.seucantinho.api.feature.auth.infrastructure.security.LimiteTentativasLogin;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
@@ -23,6 +25,7 @@ import jakarta.validation.Valid;
 public class AuthWebAdapter implements AuthWebPort {
 
     private final AuthServicePort authService;
+    private final LimiteTentativasLogin limiteTentativasLogin;
 
     @Override
     @PostMapping("/login")
@@ -45,6 +48,16 @@ public class AuthWebAdapter implements AuthWebPort {
             responseCode = "401",
             description = "Credenciais inválidas ou usuário inativo",
             content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "Muitas tentativas para o mesmo email ou endereço; o header Retry-After indica a espera",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Verificação de senhas sobrecarregada, tente novamente em instantes",
+            content = @Content
         )
     })
     public ResponseEntity<LoginResponse> login(
@@ -53,7 +66,9 @@ public class AuthWebAdapter implements AuthWebPort {
                 required = true,
                 content = @Content(schema = @Schema(implementation = LoginRequest.class))
             )
-            @Valid @RequestBody LoginRequest request) {
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
+        limiteTentativasLogin.consumir(request.email(), httpRequest.getRemoteAddr());
         LoginResponse response = authService.login(request);
         return ResponseEntity.ok(response);
     }
@@ -1,23 +1,103 @@
 package com.seucantinho.api.feature.auth.infrastructure.adapter.out;
 
 import com.seucantinho.api.feature.auth.domain.port.out.PasswordEncoderPort;
-import lombok.RequiredArgsConstructor;
+import com.seucantinho.api.shared.domain.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Hash e verificação de senha rodam no senhaExecutor; fila cheia ou espera longa viram 503.
+// Lotes de importação são cifrados em paralelo no senhaLotePool
 @Component
-@RequiredArgsConstructor
 public class PasswordEncoderAdapter implements PasswordEncoderPort {
 
+    private static final String MENSAGEM_SOBRECARGA = "Muitas autenticações em andamento, tente novamente em instantes";
+
     private final PasswordEncoder passwordEncoder;
+    private final Executor senhaExecutor;
+    private final ForkJoinPool senhaLotePool;
+    private final long esperaMaximaMillis;
+
+    private final Timer tempoCodificacao;
+    private final Timer tempoVerificacao;
+
+    public PasswordEncoderAdapter(
+            PasswordEncoder passwordEncoder,
+            @Qualifier("senhaExecutor") Executor senhaExecutor,
+            @Qualifier("senhaLotePool") ForkJoinPool senhaLotePool,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.senha.espera-maxima-ms:5000}") long esperaMaximaMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.senhaExecutor = senhaExecutor;
+        this.senhaLotePool = senhaLotePool;
+        this.esperaMaximaMillis = esperaMaximaMillis;
+        this.tempoCodificacao = tempoHash(meterRegistry, "codificar");
+        this.tempoVerificacao = tempoHash(meterRegistry, "verificar");
+    }
 
     @Override
     public String encode(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return executar(() -> tempoCodificacao.recordCallable(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    @Override
+    public List<String> encodeEmLote(List<String> rawPasswords) {
+        // Stream paralelo submetido ao pool: o trabalho é dividido entre as threads dele, não as do pool comum
+        return senhaLotePool.submit(() -> rawPasswords.parallelStream()
+                        .map(senha -> tempoCodificacao.record(() -> passwordEncoder.encode(senha)))
+                        .toList())
+                .join();
     }
 
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return executar(() -> tempoVerificacao.recordCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    private <T> T executar(Callable<T> operacao) {
+        FutureTask<T> tarefa = new FutureTask<>(operacao);
+        try {
+            senhaExecutor.execute(tarefa);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException(MENSAGEM_SOBRECARGA);
+        }
+
+        try {
+            return tarefa.get(esperaMaximaMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Ainda na fila: não chega a calcular o hash de uma requisição que já desistiu
+            tarefa.cancel(false);
+            throw new ServiceUnavailableException(MENSAGEM_SOBRECARGA);
+        } catch (InterruptedException e) {
+            tarefa.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(MENSAGEM_SOBRECARGA);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Timer tempoHash(MeterRegistry meterRegistry, String operacao) {
+        return Timer.builder("auth.senha.hash")
+                .description("Duração do BCrypt na thread dedicada, sem a espera na fila")
+                .tag("operacao", operacao)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
-}
\ No newline at end of file
+}
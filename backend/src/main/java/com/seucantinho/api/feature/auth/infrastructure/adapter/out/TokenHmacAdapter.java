@@ -0,0 +1,165 @@
+package com.seucantinho.api.feature.auth.infrastructure.adapter.out;
+
+import com.seucantinho.api.feature.auth.domain.port.out.TokenAcessoPort;
+import com.seucantinho.api.feature.auth.domain.valueobject.UsuarioAutenticado;
+import com.seucantinho.api.feature.auth.infrastructure.cache.TokenVerificadoCache;
+import com.seucantinho.api.feature.auth.infrastructure.config.TokenAcessoConfig;
+import com.seucantinho.api.feature.funcionario.domain.Funcionario;
+import com.seucantinho.api.feature.usuario.domain.Usuario;
+import com.seucantinho.api.feature.usuario.domain.enums.PerfilUsuarioEnum;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tokens compactos {@code idChave.dados.assinatura}, assinados com HMAC-SHA256.
+ * <p>
+ * Os dados (id, perfil, filial e expiração) vão no próprio token, em Base64 URL,
+ * então a verificação não consulta o banco. O identificador da chave permite rotação:
+ * tokens assinados por uma chave anterior continuam válidos enquanto ela estiver configurada.
+ */
+@Component
+public class TokenHmacAdapter implements TokenAcessoPort {
+
+    private static final String ALGORITMO = "HmacSHA256";
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+
+    private final TokenAcessoConfig tokenAcessoConfig;
+    private final TokenVerificadoCache tokenVerificadoCache;
+    private final Map<String, ThreadLocal<Mac>> macsPorChave = new HashMap<>();
+
+    private final Counter verificadosPeloCache;
+    private final Counter verificadosPelaAssinatura;
+    private final Counter rejeitados;
+
+    public TokenHmacAdapter(
+            TokenAcessoConfig tokenAcessoConfig,
+            TokenVerificadoCache tokenVerificadoCache,
+            MeterRegistry meterRegistry) {
+        this.tokenAcessoConfig = tokenAcessoConfig;
+        this.tokenVerificadoCache = tokenVerificadoCache;
+        tokenAcessoConfig.getChaves().forEach((id, segredo) ->
+                macsPorChave.put(id, ThreadLocal.withInitial(() -> criarMac(segredo))));
+
+        this.verificadosPeloCache = verificacoes(meterRegistry, "cache");
+        this.verificadosPelaAssinatura = verificacoes(meterRegistry, "assinatura");
+        this.rejeitados = verificacoes(meterRegistry, "rejeitado");
+    }
+
+    @Override
+    public String emitir(Usuario usuario) {
+        Integer filialId = usuario instanceof Funcionario funcionario && funcionario.getFilial() != null
+                ? funcionario.getFilial().getId()
+                : null;
+        long expiraEm = agoraEmSegundos() + tokenAcessoConfig.getValidade().toSeconds();
+        String dados = usuario.getId() + ":" + usuario.getPerfil().name() + ":"
+                + (filialId != null ? filialId : "") + ":" + expiraEm;
+
+        String idChave = tokenAcessoConfig.getChaveAtiva();
+        String conteudo = idChave + "." + BASE64.encodeToString(dados.getBytes(StandardCharsets.UTF_8));
+        return conteudo + "." + BASE64.encodeToString(assinar(idChave, conteudo));
+    }
+
+    @Override
+    public Optional<UsuarioAutenticado> verificar(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        long agora = agoraEmSegundos();
+
+        UsuarioAutenticado verificado = tokenVerificadoCache.buscar(token);
+        if (verificado != null) {
+            if (verificado.expiradoEm(agora)) {
+                tokenVerificadoCache.remover(token);
+                rejeitados.increment();
+                return Optional.empty();
+            }
+            verificadosPeloCache.increment();
+            return Optional.of(verificado);
+        }
+
+        Optional<UsuarioAutenticado> usuario = verificarAssinatura(token)
+                .filter(autenticado -> !autenticado.expiradoEm(agora));
+        if (usuario.isEmpty()) {
+            rejeitados.increment();
+            return usuario;
+        }
+        tokenVerificadoCache.registrar(token, usuario.get());
+        verificadosPelaAssinatura.increment();
+        return usuario;
+    }
+
+    private Optional<UsuarioAutenticado> verificarAssinatura(String token) {
+        int primeiroPonto = token.indexOf('.');
+        int ultimoPonto = token.lastIndexOf('.');
+        if (primeiroPonto <= 0 || ultimoPonto == primeiroPonto) {
+            return Optional.empty();
+        }
+        String idChave = token.substring(0, primeiroPonto);
+        if (!macsPorChave.containsKey(idChave)) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] assinatura = BASE64_DECODER.decode(token.substring(ultimoPonto + 1));
+            byte[] esperada = assinar(idChave, token.substring(0, ultimoPonto));
+            if (!MessageDigest.isEqual(esperada, assinatura)) {
+                return Optional.empty();
+            }
+            String dados = new String(BASE64_DECODER.decode(token.substring(primeiroPonto + 1, ultimoPonto)),
+                    StandardCharsets.UTF_8);
+            return Optional.of(lerDados(dados));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static UsuarioAutenticado lerDados(String dados) {
+        String[] campos = dados.split(":", -1);
+        if (campos.length != 4) {
+            throw new IllegalArgumentException("Token com dados inválidos");
+        }
+        return new UsuarioAutenticado(
+                Integer.valueOf(campos[0]),
+                PerfilUsuarioEnum.valueOf(campos[1]),
+                campos[2].isEmpty() ? null : Integer.valueOf(campos[2]),
+                Long.parseLong(campos[3]));
+    }
+
+    private byte[] assinar(String idChave, String conteudo) {
+        return macsPorChave.get(idChave).get().doFinal(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Mac criarMac(byte[] segredo) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO);
+            mac.init(new SecretKeySpec(segredo, ALGORITMO));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Não foi possível inicializar o HMAC dos tokens", e);
+        }
+    }
+
+    private static long agoraEmSegundos() {
+        return Relogio.clock().millis() / 1000;
+    }
+
+    private static Counter verificacoes(MeterRegistry meterRegistry, String resultado) {
+        return Counter.builder("auth.token.verificacoes")
+                .description("Tokens de acesso verificados, por forma de verificação")
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+}
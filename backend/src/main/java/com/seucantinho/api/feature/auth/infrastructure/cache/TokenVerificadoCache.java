@@ -0,0 +1,55 @@
+package com.seucantinho.api.feature.auth.infrastructure.cache;
+
+import com.seucantinho.api.feature.auth.domain.valueobject.UsuarioAutenticado;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Tokens cuja assinatura já foi conferida, com os dados extraídos deles.
+ * <p>
+ * A chave é o token completo, então um acerto dispensa o HMAC e a decodificação;
+ * a expiração continua sendo conferida a cada uso. Ao atingir a capacidade as
+ * entradas mais antigas são descartadas e voltam a ser verificadas pela assinatura.
+ */
+@Component
+public class TokenVerificadoCache {
+
+    private final int capacidade;
+    private final Map<String, UsuarioAutenticado> verificados = new ConcurrentHashMap<>();
+    private final Queue<String> ordemInsercao = new ConcurrentLinkedQueue<>();
+
+    public TokenVerificadoCache(@Value("${app.auth.token.capacidade-cache:10000}") int capacidade) {
+        this.capacidade = capacidade;
+    }
+
+    public UsuarioAutenticado buscar(String token) {
+        return verificados.get(token);
+    }
+
+    public void registrar(String token, UsuarioAutenticado usuario) {
+        if (verificados.putIfAbsent(token, usuario) != null) {
+            return;
+        }
+        ordemInsercao.add(token);
+        while (verificados.size() > capacidade) {
+            String maisAntigo = ordemInsercao.poll();
+            if (maisAntigo == null) {
+                return;
+            }
+            verificados.remove(maisAntigo);
+        }
+    }
+
+    public void remover(String token) {
+        verificados.remove(token);
+    }
+
+    public int tamanho() {
+        return verificados.size();
+    }
+}
@@ -0,0 +1,46 @@
+package com.seucantinho.api.feature.auth.infrastructure.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class SenhaExecutorConfig {
+
+    // BCrypt fica restrito a poucas threads: um pico de logins não ocupa a CPU que atende as consultas
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor senhaExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.senha.threads:0}") int threads,
+            @Value("${app.auth.senha.capacidade-fila:64}") int capacidadeFila) {
+        int quantidade = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                quantidade, quantidade, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                new CustomizableThreadFactory("senha-bcrypt-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("auth.senha.fila", executor, e -> e.getQueue().size())
+                .description("Verificações de senha aguardando uma thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.senha.em_processamento", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Verificações de senha em execução")
+                .register(meterRegistry);
+        return executor;
+    }
+
+    // Importação em lote: as senhas do lote são cifradas em paralelo, separadas das verificações de login
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool senhaLotePool(@Value("${app.auth.senha.paralelismo-lote:0}") int paralelismo) {
+        return new ForkJoinPool(paralelismo > 0 ? paralelismo : Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,81 @@
+package com.seucantinho.api.feature.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Slf4j
+@Getter
+@Component
+public class TokenAcessoConfig {
+
+    private static final int TAMANHO_MINIMO_CHAVE = 32;
+    private static final String CHAVE_LOCAL = "local";
+
+    // Chaves HMAC por identificador; a ativa assina, todas verificam (rotação sem invalidar tokens em uso)
+    private final Map<String, byte[]> chaves;
+    private final String chaveAtiva;
+    private final Duration validade;
+
+    public TokenAcessoConfig(
+            @Value("${app.auth.token.chaves:}") String chaves,
+            @Value("${app.auth.token.chave-ativa:}") String chaveAtiva,
+            @Value("${app.auth.token.validade-minutos:480}") long validadeMinutos) {
+        Map<String, byte[]> configuradas = lerChaves(chaves);
+        if (configuradas.isEmpty()) {
+            log.warn("Nenhuma chave de token configurada (app.auth.token.chaves); usando chave aleatória, "
+                    + "os tokens deixam de valer ao reiniciar a aplicação");
+            byte[] aleatoria = new byte[TAMANHO_MINIMO_CHAVE];
+            new SecureRandom().nextBytes(aleatoria);
+            configuradas.put(CHAVE_LOCAL, aleatoria);
+        }
+        String ativa = chaveAtiva.isBlank() ? configuradas.keySet().iterator().next() : chaveAtiva.trim();
+        if (!configuradas.containsKey(ativa)) {
+            throw new IllegalStateException("Chave ativa de token não configurada: " + ativa);
+        }
+        this.chaves = Collections.unmodifiableMap(configuradas);
+        this.chaveAtiva = ativa;
+        this.validade = Duration.ofMinutes(validadeMinutos);
+    }
+
+    // Formato "id1:segredo1,id2:segredo2"; segredos em Base64 ou texto com pelo menos 32 bytes
+    private static Map<String, byte[]> lerChaves(String chaves) {
+        Map<String, byte[]> resultado = new LinkedHashMap<>();
+        for (String entrada : chaves.split(",")) {
+            if (entrada.isBlank()) {
+                continue;
+            }
+            int separador = entrada.indexOf(':');
+            if (separador <= 0) {
+                throw new IllegalStateException("Chave de token sem identificador: use id:segredo");
+            }
+            String id = entrada.substring(0, separador).trim();
+            if (id.contains(".")) {
+                throw new IllegalStateException("Identificador de chave de token não pode conter '.': " + id);
+            }
+            byte[] segredo = decodificar(entrada.substring(separador + 1).trim());
+            if (segredo.length < TAMANHO_MINIMO_CHAVE) {
+                throw new IllegalStateException("Chave de token '" + id + "' deve ter pelo menos 32 bytes");
+            }
+            resultado.put(id, segredo);
+        }
+        return resultado;
+    }
+
+    private static byte[] decodificar(String segredo) {
+        try {
+            return Base64.getDecoder().decode(segredo);
+        } catch (IllegalArgumentException e) {
+            return segredo.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.seucantinho.api.feature.auth.infrastructure.security;
+
+import com.seucantinho.api.shared.domain.exception.TooManyRequestsException;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limite de tentativas de login por email e por IP, em baldes de fichas.
+ * <p>
+ * Cada tentativa consome uma ficha do balde do email e outra do balde do IP; as
+ * fichas voltam continuamente até a capacidade. Sem ficha a tentativa é recusada
+ * antes de chegar ao BCrypt. Os baldes ficam em memória, por instância. Ao atingir a
+ * capacidade saem primeiro os que já se recarregaram (equivalem a um balde novo) e,
+ * se ainda faltar espaço, os mais próximos de encher; um balde esgotado é o último a
+ * sair, então inundar o cache com chaves novas não devolve as tentativas de outra chave.
+ */
+@Component
+public class LimiteTentativasLogin {
+
+    private static final double MILLIS_POR_MINUTO = 60_000d;
+
+    private final Regra porEmail;
+    private final Regra porIp;
+    private final int capacidadeBaldes;
+
+    private final Map<String, Balde> baldes = new ConcurrentHashMap<>();
+    private final AtomicBoolean descartando = new AtomicBoolean();
+
+    private final Counter recusadasPorEmail;
+    private final Counter recusadasPorIp;
+
+    public LimiteTentativasLogin(
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.login.limite.email.tentativas:5}") int tentativasPorEmail,
+            @Value("${app.auth.login.limite.email.por-minuto:5}") double recargaPorEmail,
+            @Value("${app.auth.login.limite.ip.tentativas:30}") int tentativasPorIp,
+            @Value("${app.auth.login.limite.ip.por-minuto:30}") double recargaPorIp,
+            @Value("${app.auth.login.limite.capacidade-cache:100000}") int capacidadeBaldes) {
+        this.porEmail = new Regra("email:", tentativasPorEmail, recargaPorEmail / MILLIS_POR_MINUTO);
+        this.porIp = new Regra("ip:", tentativasPorIp, recargaPorIp / MILLIS_POR_MINUTO);
+        this.capacidadeBaldes = capacidadeBaldes;
+
+        this.recusadasPorEmail = recusadas(meterRegistry, "email");
+        this.recusadasPorIp = recusadas(meterRegistry, "ip");
+    }
+
+    public void consumir(String email, String ip) {
+        long agora = Relogio.clock().millis();
+        if (ip != null) {
+            long espera = consumir(porIp, ip, agora);
+            if (espera > 0) {
+                recusadasPorIp.increment();
+                throw new TooManyRequestsException("Muitas tentativas de login deste endereço, aguarde para tentar novamente", espera);
+            }
+        }
+        if (email != null) {
+            long espera = consumir(porEmail, email.trim().toLowerCase(Locale.ROOT), agora);
+            if (espera > 0) {
+                recusadasPorEmail.increment();
+                throw new TooManyRequestsException("Muitas tentativas de login para este email, aguarde para tentar novamente", espera);
+            }
+        }
+    }
+
+    public int tamanho() {
+        return baldes.size();
+    }
+
+    // Retorna 0 quando havia ficha ou os segundos até a próxima ficha
+    private long consumir(Regra regra, String identificador, long agora) {
+        String chave = regra.prefixo() + identificador;
+        Balde balde = baldes.get(chave);
+        if (balde == null) {
+            Balde novo = new Balde(regra, agora);
+            Balde existente = baldes.putIfAbsent(chave, novo);
+            if (existente == null) {
+                // Consome antes da limpeza para o balde novo não sair dela como já recarregado
+                long espera = novo.consumir(agora);
+                if (baldes.size() > capacidadeBaldes) {
+                    descartarExcedentes(agora);
+                }
+                return espera;
+            }
+            balde = existente;
+        }
+        return balde.consumir(agora);
+    }
+
+    // Uma thread por vez varre o mapa; as demais seguem sem esperar pela limpeza
+    private void descartarExcedentes(long agora) {
+        if (!descartando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Map.Entry<String, Long>> pendentes = new ArrayList<>();
+            baldes.forEach((chave, balde) -> {
+                long cheioEm = balde.cheioEm();
+                if (cheioEm <= agora) {
+                    baldes.remove(chave, balde);
+                } else {
+                    pendentes.add(Map.entry(chave, cheioEm));
+                }
+            });
+
+            // Desce um décimo abaixo da capacidade para não varrer de novo a cada chave nova
+            int excedente = baldes.size() - capacidadeBaldes + capacidadeBaldes / 10;
+            if (excedente > 0) {
+                pendentes.sort(Map.Entry.comparingByValue());
+                for (int i = 0; i < excedente && i < pendentes.size(); i++) {
+                    baldes.remove(pendentes.get(i).getKey());
+                }
+            }
+        } finally {
+            descartando.set(false);
+        }
+    }
+
+    private static Counter recusadas(MeterRegistry meterRegistry, String motivo) {
+        return Counter.builder("auth.login.recusadas")
+                .description("Tentativas de login recusadas pelo limite de tentativas")
+                .tag("motivo", motivo)
+                .register(meterRegistry);
+    }
+
+    private record Regra(String prefixo, int tentativas, double fichasPorMilli) {
+    }
+
+    private static final class Balde {
+
+        private final Regra regra;
+        private double fichas;
+        private long atualizadoEm;
+
+        private Balde(Regra regra, long atualizadoEm) {
+            this.regra = regra;
+            this.fichas = regra.tentativas();
+            this.atualizadoEm = atualizadoEm;
+        }
+
+        // Instante em que o balde volta à capacidade e deixa de diferir de um balde novo
+        synchronized long cheioEm() {
+            return atualizadoEm + (long) Math.ceil((regra.tentativas() - fichas) / regra.fichasPorMilli());
+        }
+
+        synchronized long consumir(long agora) {
+            if (agora > atualizadoEm) {
+                fichas = Math.min(regra.tentativas(), fichas + (agora - atualizadoEm) * regra.fichasPorMilli());
+                atualizadoEm = agora;
+            }
+            if (fichas >= 1) {
+                fichas -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - fichas) / regra.fichasPorMilli() / 1000));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.seucantinho.api.feature.auth.infrastructure.security;
+
+import com.seucantinho.api.feature.auth.domain.port.out.TokenAcessoPort;
+import com.seucantinho.api.feature.auth.domain.valueobject.UsuarioAutenticado;
+import com.seucantinho.api.feature.usuario.domain.enums.PerfilUsuarioEnum;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Autentica pelo header Authorization sem ir ao banco; token ausente ou inválido segue como anônimo
+public class TokenAutenticacaoFilter extends OncePerRequestFilter {
+
+    private static final String PREFIXO_BEARER = "Bearer ";
+    private static final Map<PerfilUsuarioEnum, List<GrantedAuthority>> AUTORIDADES = new EnumMap<>(PerfilUsuarioEnum.class);
+
+    static {
+        for (PerfilUsuarioEnum perfil : PerfilUsuarioEnum.values()) {
+            AUTORIDADES.put(perfil, List.of(new SimpleGrantedAuthority("ROLE_" + perfil.name())));
+        }
+    }
+
+    private final TokenAcessoPort tokenAcessoPort;
+
+    public TokenAutenticacaoFilter(TokenAcessoPort tokenAcessoPort) {
+        this.tokenAcessoPort = tokenAcessoPort;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.regionMatches(true, 0, PREFIXO_BEARER, 0, PREFIXO_BEARER.length())) {
+            tokenAcessoPort.verificar(authorization.substring(PREFIXO_BEARER.length()).trim())
+                    .ifPresent(this::autenticar);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void autenticar(UsuarioAutenticado usuario) {
+        SecurityContext contexto = SecurityContextHolder.createEmptyContext();
+        contexto.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                usuario, null, AUTORIDADES.get(usuario.perfil())));
+        SecurityContextHolder.setContext(contexto);
+    }
+}
@@ -0,0 +1,17 @@
+package com.seucantinho.api.feature.cliente.application.dto;
+
+import com.seucantinho.api.feature.cliente.domain.enums.MotivoRejeicaoImportacaoEnum;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportacaoClienteErroDTO {
+
+    private Integer linha;
+    private String email;
+    private MotivoRejeicaoImportacaoEnum motivo;
+    private String mensagem;
+}
@@ -0,0 +1,20 @@
+package com.seucantinho.api.feature.cliente.application.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportacaoClienteRelatorioDTO {
+
+    private int linhasProcessadas;
+    private int importados;
+    private int rejeitados;
+    private List<ImportacaoClienteErroDTO> erros;
+    // true quando há mais rejeições do que o limite detalhado no relatório
+    private boolean errosTruncados;
+}
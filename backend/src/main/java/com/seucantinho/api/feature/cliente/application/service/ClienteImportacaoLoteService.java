@@ -0,0 +1,131 @@
+package com.seucantinho.api.feature.cliente.application.service;
+
+import com.seucantinho.api.feature.auth.domain.port.out.PasswordEncoderPort;
+import com.seucantinho.api.feature.cliente.application.dto.ImportacaoClienteErroDTO;
+import com.seucantinho.api.feature.cliente.application.dto.ImportacaoClienteRelatorioDTO;
+import com.seucantinho.api.feature.cliente.domain.Cliente;
+import com.seucantinho.api.feature.cliente.domain.enums.MotivoRejeicaoImportacaoEnum;
+import com.seucantinho.api.feature.cliente.domain.port.out.ClienteRepositoryPort;
+import com.seucantinho.api.feature.cliente.domain.valueobject.LinhaImportacaoCliente;
+import com.seucantinho.api.feature.usuario.domain.port.out.UsuarioRepositoryPort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class ClienteImportacaoLoteService {
+
+    private final ClienteRepositoryPort clienteRepositoryPort;
+    private final UsuarioRepositoryPort usuarioRepositoryPort;
+    private final PasswordEncoderPort passwordEncoderPort;
+    private final TransactionTemplate transactionTemplate;
+
+    public ClienteImportacaoLoteService(
+            ClienteRepositoryPort clienteRepositoryPort,
+            UsuarioRepositoryPort usuarioRepositoryPort,
+            PasswordEncoderPort passwordEncoderPort,
+            PlatformTransactionManager transactionManager) {
+        this.clienteRepositoryPort = clienteRepositoryPort;
+        this.usuarioRepositoryPort = usuarioRepositoryPort;
+        this.passwordEncoderPort = passwordEncoderPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Uma consulta para emails e uma para CPFs já cadastrados, BCrypt em paralelo fora da transação
+    // e um INSERT em lote; a conexão com o banco não fica presa enquanto as senhas são cifradas
+    public ImportacaoClienteRelatorioDTO importar(List<LinhaImportacaoCliente> linhas) {
+        List<ImportacaoClienteErroDTO> erros = new ArrayList<>();
+
+        List<LinhaImportacaoCliente> validas = new ArrayList<>(linhas.size());
+        Set<String> emailsDoLote = new HashSet<>();
+        Set<String> cpfsDoLote = new HashSet<>();
+        for (LinhaImportacaoCliente linha : linhas) {
+            try {
+                paraCliente(linha, null).validar();
+            } catch (IllegalArgumentException e) {
+                erros.add(erro(linha, MotivoRejeicaoImportacaoEnum.DADOS_INVALIDOS, e.getMessage()));
+                continue;
+            }
+            if (!emailsDoLote.add(linha.getEmail())) {
+                erros.add(erro(linha, MotivoRejeicaoImportacaoEnum.DUPLICADO_NO_ARQUIVO, "Email repetido no arquivo"));
+                continue;
+            }
+            if (linha.getCpf() != null && !cpfsDoLote.add(linha.getCpf())) {
+                erros.add(erro(linha, MotivoRejeicaoImportacaoEnum.DUPLICADO_NO_ARQUIVO, "CPF repetido no arquivo"));
+                continue;
+            }
+            validas.add(linha);
+        }
+
+        Set<String> emailsCadastrados = usuarioRepositoryPort.findEmailsExistentes(emailsDoLote);
+        Set<String> cpfsCadastrados = cpfsDoLote.isEmpty() ? Set.of() : usuarioRepositoryPort.findCpfsExistentes(cpfsDoLote);
+        List<LinhaImportacaoCliente> novas = new ArrayList<>(validas.size());
+        for (LinhaImportacaoCliente linha : validas) {
+            if (emailsCadastrados.contains(linha.getEmail())) {
+                erros.add(erro(linha, MotivoRejeicaoImportacaoEnum.JA_CADASTRADO, "Email já cadastrado no sistema"));
+            } else if (linha.getCpf() != null && cpfsCadastrados.contains(linha.getCpf())) {
+                erros.add(erro(linha, MotivoRejeicaoImportacaoEnum.JA_CADASTRADO, "CPF já cadastrado"));
+            } else {
+                novas.add(linha);
+            }
+        }
+
+        int importados = inserir(novas, erros);
+        erros.sort((a, b) -> Integer.compare(a.getLinha(), b.getLinha()));
+        return ImportacaoClienteRelatorioDTO.builder()
+                .linhasProcessadas(linhas.size())
+                .importados(importados)
+                .rejeitados(erros.size())
+                .erros(erros)
+                .build();
+    }
+
+    private int inserir(List<LinhaImportacaoCliente> novas, List<ImportacaoClienteErroDTO> erros) {
+        if (novas.isEmpty()) {
+            return 0;
+        }
+        List<String> hashes = passwordEncoderPort.encodeEmLote(novas.stream().map(LinhaImportacaoCliente::getSenha).toList());
+        List<Cliente> clientes = new ArrayList<>(novas.size());
+        for (int i = 0; i < novas.size(); i++) {
+            clientes.add(paraCliente(novas.get(i), hashes.get(i)));
+        }
+
+        // Cadastros concorrentes entre a consulta e o INSERT não derrubam o lote: a linha só não é inserida
+        boolean[] inseridos = transactionTemplate.execute(status -> clienteRepositoryPort.inserirEmLote(clientes));
+        int importados = 0;
+        for (int i = 0; i < clientes.size(); i++) {
+            if (inseridos[i]) {
+                importados++;
+            } else {
+                erros.add(erro(novas.get(i), MotivoRejeicaoImportacaoEnum.JA_CADASTRADO, "Email ou CPF já cadastrado no sistema"));
+            }
+        }
+        return importados;
+    }
+
+    private static Cliente paraCliente(LinhaImportacaoCliente linha, String senhaHash) {
+        return Cliente.builder()
+                .nome(linha.getNome())
+                .email(linha.getEmail())
+                .senhaHash(senhaHash)
+                .cpf(linha.getCpf())
+                .telefone(linha.getTelefone())
+                .ativo(true)
+                .build();
+    }
+
+    private static ImportacaoClienteErroDTO erro(LinhaImportacaoCliente linha, MotivoRejeicaoImportacaoEnum motivo,
+                                                 String mensagem) {
+        return ImportacaoClienteErroDTO.builder()
+                .linha(linha.getNumero())
+                .email(linha.getEmail())
+                .motivo(motivo)
+                .mensagem(mensagem)
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.seucantinho.api.feature.cliente.application.service;
+
+import com.seucantinho.api.feature.cliente.application.dto.ImportacaoClienteErroDTO;
+import com.seucantinho.api.feature.cliente.application.dto.ImportacaoClienteRelatorioDTO;
+import com.seucantinho.api.feature.cliente.domain.enums.MotivoRejeicaoImportacaoEnum;
+import com.seucantinho.api.feature.cliente.domain.valueobject.LinhaImportacaoCliente;
+import com.seucantinho.api.feature.cliente.infrastructure.config.ClienteImportacaoConfig;
+import com.seucantinho.api.shared.domain.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ClienteImportacaoService {
+
+    private final ClienteImportacaoLoteService clienteImportacaoLoteService;
+    private final ClienteImportacaoConfig clienteImportacaoConfig;
+    private final JsonMapper jsonMapper;
+
+    // O arquivo é lido linha a linha e importado em lotes de tamanho fixo; apenas o lote corrente
+    // e no máximo "maximoErros" rejeições ficam em memória. CSV e NDJSON podem ser misturados
+    public ImportacaoClienteRelatorioDTO importar(InputStream arquivo) {
+        int tamanhoLote = clienteImportacaoConfig.getTamanhoLote();
+        ImportacaoClienteRelatorioDTO relatorio = ImportacaoClienteRelatorioDTO.builder()
+                .erros(new ArrayList<>())
+                .build();
+
+        try (BufferedReader leitor = new BufferedReader(new InputStreamReader(arquivo, StandardCharsets.UTF_8))) {
+            List<LinhaImportacaoCliente> lote = new ArrayList<>(tamanhoLote);
+            int numero = 0;
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                numero++;
+                if (linha.isBlank() || (numero == 1 && LinhaImportacaoCliente.isCabecalho(linha))) {
+                    continue;
+                }
+                try {
+                    lote.add(ler(numero, linha));
+                } catch (BusinessException e) {
+                    acumular(relatorio, linhaInvalida(numero, e.getMessage()));
+                }
+                if (lote.size() == tamanhoLote) {
+                    acumular(relatorio, clienteImportacaoLoteService.importar(lote));
+                    lote = new ArrayList<>(tamanhoLote);
+                }
+            }
+            if (!lote.isEmpty()) {
+                acumular(relatorio, clienteImportacaoLoteService.importar(lote));
+            }
+        } catch (IOException e) {
+            throw new BusinessException("Não foi possível ler o arquivo de importação de clientes");
+        }
+        return relatorio;
+    }
+
+    private LinhaImportacaoCliente ler(int numero, String linha) {
+        if (!LinhaImportacaoCliente.isJson(linha)) {
+            return LinhaImportacaoCliente.parse(numero, linha);
+        }
+        try {
+            LinhaJson json = jsonMapper.readValue(linha, LinhaJson.class);
+            return LinhaImportacaoCliente.of(numero, json.nome(), json.email(), json.senha(), json.cpf(), json.telefone());
+        } catch (JacksonException e) {
+            throw new BusinessException("JSON inválido na linha");
+        }
+    }
+
+    private ImportacaoClienteRelatorioDTO linhaInvalida(int numero, String mensagem) {
+        List<ImportacaoClienteErroDTO> erros = new ArrayList<>();
+        erros.add(ImportacaoClienteErroDTO.builder()
+                .linha(numero)
+                .motivo(MotivoRejeicaoImportacaoEnum.LINHA_INVALIDA)
+                .mensagem(mensagem)
+                .build());
+        return ImportacaoClienteRelatorioDTO.builder()
+                .linhasProcessadas(1)
+                .rejeitados(1)
+                .erros(erros)
+                .build();
+    }
+
+    private void acumular(ImportacaoClienteRelatorioDTO relatorio, ImportacaoClienteRelatorioDTO parcial) {
+        relatorio.setLinhasProcessadas(relatorio.getLinhasProcessadas() + parcial.getLinhasProcessadas());
+        relatorio.setImportados(relatorio.getImportados() + parcial.getImportados());
+        relatorio.setRejeitados(relatorio.getRejeitados() + parcial.getRejeitados());
+
+        int espaco = clienteImportacaoConfig.getMaximoErros() - relatorio.getErros().size();
+        List<ImportacaoClienteErroDTO> erros = parcial.getErros();
+        if (erros.size() > espaco) {
+            erros = erros.subList(0, Math.max(espaco, 0));
+            relatorio.setErrosTruncados(true);
+        }
+        relatorio.getErros().addAll(erros);
+    }
+
+    record LinhaJson(String nome, String email, String senha, String cpf, String telefone) {
+    }
+}
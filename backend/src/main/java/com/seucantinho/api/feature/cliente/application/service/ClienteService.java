@@ -8,11 +8,15 @@ import com.seucantinho.api.feature.cliente.infrastructure.mapper.ClienteMapper;
 import com.seucantinho.api.feature.cliente.domain.port.out.ClienteRepositoryPort;
 import com.seucantinho.api.feature.cliente.domain.port.in.ClienteServicePort;
 import com.seucantinho.api.feature.cliente.domain.service.ClienteUniquenessService;
+import com.seucantinho.api.feature.cliente.domain.enums.ModoContagemReservasEnum;
+import com.seucantinho.api.feature.cliente.infrastructure.config.ClienteListagemConfig;
+import com.seucantinho.api.feature.reserva.domain.port.out.ReservaRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,12 +26,25 @@ public class ClienteService implements ClienteServicePort {
     private final ClienteRepositoryPort clienteRepositoryPort;
     private final ClienteMapper clienteMapper;
     private final ClienteUniquenessService clienteUniquenessService;
+    private final ReservaRepositoryPort reservaRepositoryPort;
+    private final ClienteListagemConfig clienteListagemConfig;
 
+    // A quantidade de reservas nunca vem de cliente.getReservas(): a listagem faz no máximo uma consulta
+    // de contagem por página de ids, ou nenhuma no modo SUBCONSULTA
     @Override
     @Transactional(readOnly = true)
     public List<ClienteResponseDTO> findAll() {
-        return clienteRepositoryPort.findAll().stream()
-                .map(clienteMapper::toResponseDTO)
+        if (clienteListagemConfig.getContagemReservas() == ModoContagemReservasEnum.SUBCONSULTA) {
+            return clienteRepositoryPort.findAllWithQuantidadeReservas().stream()
+                    .map(item -> clienteMapper.toResponseDTO(item.cliente(), item.quantidadeReservas()))
+                    .collect(Collectors.toList());
+        }
+
+        List<Cliente> clientes = clienteRepositoryPort.findAll();
+        Map<Integer, Integer> quantidadeReservas = reservaRepositoryPort.countByUsuarioIds(
+                clientes.stream().map(Cliente::getId).toList());
+        return clientes.stream()
+                .map(cliente -> clienteMapper.toResponseDTO(cliente, quantidadeReservas.getOrDefault(cliente.getId(), 0)))
                 .collect(Collectors.toList());
     }
 
@@ -35,7 +52,7 @@ public class ClienteService implements ClienteServicePort {
     @Transactional(readOnly = true)
     public ClienteResponseDTO findById(Integer id) {
         Cliente cliente = findClienteById(id);
-        return clienteMapper.toResponseDTO(cliente);
+        return toResponseDTO(cliente);
     }
 
     @Override
@@ -47,7 +64,7 @@ public class ClienteService implements ClienteServicePort {
         Cliente cliente = clienteMapper.toEntity(requestDTO);
         cliente.validar();
         Cliente savedCliente = clienteRepositoryPort.save(cliente);
-        return clienteMapper.toResponseDTO(savedCliente);
+        return clienteMapper.toResponseDTO(savedCliente, 0);
     }
 
     @Override
@@ -61,7 +78,7 @@ public class ClienteService implements ClienteServicePort {
 
         clienteMapper.updateEntityFromDTO(cliente, requestDTO);
         Cliente updatedCliente = clienteRepositoryPort.save(cliente);
-        return clienteMapper.toResponseDTO(updatedCliente);
+        return toResponseDTO(updatedCliente);
     }
 
     @Override
@@ -79,7 +96,11 @@ public class ClienteService implements ClienteServicePort {
         Cliente cliente = findClienteById(id);
         cliente.setAtivo(ativo);
         Cliente updatedCliente = clienteRepositoryPort.save(cliente);
-        return clienteMapper.toResponseDTO(updatedCliente);
+        return toResponseDTO(updatedCliente);
+    }
+
+    private ClienteResponseDTO toResponseDTO(Cliente cliente) {
+        return clienteMapper.toResponseDTO(cliente, reservaRepositoryPort.countByUsuarioId(cliente.getId()));
     }
 
     private Cliente findClienteById(Integer id) {
@@ -0,0 +1,6 @@
+package com.seucantinho.api.feature.cliente.domain.enums;
+
+public enum ModoContagemReservasEnum {
+    AGRUPADA,
+    SUBCONSULTA
+}
@@ -0,0 +1,8 @@
+package com.seucantinho.api.feature.cliente.domain.enums;
+
+public enum MotivoRejeicaoImportacaoEnum {
+    LINHA_INVALIDA,
+    DADOS_INVALIDOS,
+    DUPLICADO_NO_ARQUIVO,
+    JA_CADASTRADO
+}
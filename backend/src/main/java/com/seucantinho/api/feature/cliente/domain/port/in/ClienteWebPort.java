@@ -2,7 +2,9 @@ package com.seucantinho.api.feature.cliente.domain.port.in;
 
 import com.seucantinho.api.feature.cliente.application.dto.ClienteRequestDTO;
 import com.seucantinho.api.feature.cliente.application.dto.ClienteResponseDTO;
+import com.seucantinho.api.feature.cliente.application.dto.ImportacaoClienteRelatorioDTO;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -19,4 +21,6 @@ public interface ClienteWebPort {
     ResponseEntity<Void> delete(Integer id);
 
     ResponseEntity<ClienteResponseDTO> toggleAtivo(Integer id, Boolean ativo);
+
+    ResponseEntity<ImportacaoClienteRelatorioDTO> importar(MultipartFile arquivo);
 }
\ No newline at end of file
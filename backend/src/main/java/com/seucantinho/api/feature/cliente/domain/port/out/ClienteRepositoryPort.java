@@ -1,6 +1,7 @@
 package com.seucantinho.api.feature.cliente.domain.port.out;
 
 import com.seucantinho.api.feature.cliente.domain.Cliente;
+import com.seucantinho.api.feature.cliente.domain.valueobject.ClienteComReservas;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,6 +10,8 @@ public interface ClienteRepositoryPort {
 
     List<Cliente> findAll();
 
+    List<ClienteComReservas> findAllWithQuantidadeReservas();
+
     Optional<Cliente> findById(Integer id);
 
     Optional<Cliente> findByEmail(String email);
@@ -21,6 +24,8 @@ public interface ClienteRepositoryPort {
 
     Cliente save(Cliente cliente);
 
+    boolean[] inserirEmLote(List<Cliente> clientes);
+
     void deleteById(Integer id);
 
     boolean existsById(Integer id);
@@ -15,22 +15,20 @@ public class ClienteUniquenessService {
 
     public void validarEmailUnico(String email) {
         // Verifica em toda a tabela de usuários (Cliente, Funcionário, Administrador)
-        if (usuarioRepositoryPort.findByEmail(email).isPresent()) {
+        if (usuarioRepositoryPort.existsByEmail(email)) {
             throw new DuplicateResourceException("Email já cadastrado no sistema");
         }
     }
 
     public void validarEmailUnicoParaAtualizacao(String email, Integer clienteId) {
         // Verifica em toda a tabela de usuários
-        usuarioRepositoryPort.findByEmail(email).ifPresent(existingUsuario -> {
-            if (!existingUsuario.getId().equals(clienteId)) {
-                throw new DuplicateResourceException("Email já cadastrado no sistema");
-            }
-        });
+        if (usuarioRepositoryPort.existsByEmailAndIdNot(email, clienteId)) {
+            throw new DuplicateResourceException("Email já cadastrado no sistema");
+        }
     }
 
     public void validarCpfUnico(String cpf) {
-        if (cpf != null && clienteRepositoryPort.findByCpf(cpf).isPresent()) {
+        if (cpf != null && clienteRepositoryPort.existsByCpf(cpf)) {
             throw new DuplicateResourceException("CPF já cadastrado");
         }
     }
@@ -0,0 +1,10 @@
+package com.seucantinho.api.feature.cliente.domain.valueobject;
+
+import com.seucantinho.api.feature.cliente.domain.Cliente;
+
+/**
+ * Cliente acompanhado da quantidade de reservas contada na mesma consulta da listagem,
+ * sem inicializar {@code cliente.getReservas()}.
+ */
+public record ClienteComReservas(Cliente cliente, int quantidadeReservas) {
+}
@@ -0,0 +1,105 @@
+package com.seucantinho.api.feature.cliente.domain.valueobject;
+
+import com.seucantinho.api.shared.domain.exception.BusinessException;
+import lombok.Getter;
+
+/**
+ * Linha do arquivo de importação de clientes, no formato
+ * {@code nome;email;senha[;cpf[;telefone]]} (CSV) ou um objeto JSON por linha (NDJSON).
+ * Só confere a estrutura e a senha; as demais regras são as de {@code Usuario.validar()}.
+ * A senha em texto não aparece em {@code toString}.
+ */
+@Getter
+public class LinhaImportacaoCliente {
+
+    private static final char SEPARADOR = ';';
+    private static final int CAMPOS_OBRIGATORIOS = 3;
+    private static final int TOTAL_CAMPOS = 5;
+    private static final int TAMANHO_MINIMO_SENHA = 6;
+    private static final int TAMANHO_MAXIMO_NOME = 150;
+    private static final int TAMANHO_MAXIMO_EMAIL = 150;
+    private static final int TAMANHO_MAXIMO_TELEFONE = 20;
+    private static final String CABECALHO = "nome";
+
+    private final int numero;
+    private final String nome;
+    private final String email;
+    private final String senha;
+    private final String cpf;
+    private final String telefone;
+
+    private LinhaImportacaoCliente(int numero, String nome, String email, String senha, String cpf, String telefone) {
+        this.numero = numero;
+        this.nome = nome;
+        this.email = email;
+        this.senha = senha;
+        this.cpf = cpf;
+        this.telefone = telefone;
+    }
+
+    public static boolean isCabecalho(String linha) {
+        return linha.regionMatches(true, 0, CABECALHO, 0, CABECALHO.length())
+                && (linha.length() == CABECALHO.length() || linha.charAt(CABECALHO.length()) == SEPARADOR);
+    }
+
+    public static boolean isJson(String linha) {
+        for (int i = 0; i < linha.length(); i++) {
+            if (!Character.isWhitespace(linha.charAt(i))) {
+                return linha.charAt(i) == '{';
+            }
+        }
+        return false;
+    }
+
+    public static LinhaImportacaoCliente parse(int numero, String linha) {
+        String[] campos = new String[TOTAL_CAMPOS];
+        int quantidade = 0;
+        int inicio = 0;
+        while (quantidade < TOTAL_CAMPOS) {
+            int fim = linha.indexOf(SEPARADOR, inicio);
+            if (fim < 0) {
+                campos[quantidade++] = linha.substring(inicio).trim();
+                break;
+            }
+            campos[quantidade++] = linha.substring(inicio, fim).trim();
+            inicio = fim + 1;
+        }
+        if (quantidade < CAMPOS_OBRIGATORIOS) {
+            throw new BusinessException("Linha deve possuir ao menos " + CAMPOS_OBRIGATORIOS + " campos separados por ';'");
+        }
+        return of(numero, campos[0], campos[1], campos[2], campos[3], campos[4]);
+    }
+
+    public static LinhaImportacaoCliente of(int numero, String nome, String email, String senha,
+                                            String cpf, String telefone) {
+        if (senha == null || senha.length() < TAMANHO_MINIMO_SENHA) {
+            throw new BusinessException("Senha deve ter no mínimo " + TAMANHO_MINIMO_SENHA + " caracteres");
+        }
+        return new LinhaImportacaoCliente(numero,
+                limitar(vazioComoNulo(nome), TAMANHO_MAXIMO_NOME, "Nome"),
+                limitar(vazioComoNulo(email), TAMANHO_MAXIMO_EMAIL, "Email"),
+                senha,
+                vazioComoNulo(cpf),
+                limitar(vazioComoNulo(telefone), TAMANHO_MAXIMO_TELEFONE, "Telefone"));
+    }
+
+    private static String limitar(String valor, int tamanhoMaximo, String campo) {
+        if (valor != null && valor.length() > tamanhoMaximo) {
+            throw new BusinessException(campo + " deve ter no máximo " + tamanhoMaximo + " caracteres");
+        }
+        return valor;
+    }
+
+    private static String vazioComoNulo(String campo) {
+        if (campo == null) {
+            return null;
+        }
+        String valor = campo.trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    @Override
+    public String toString() {
+        return "LinhaImportacaoCliente[numero=" + numero + ", email=" + email + "]";
+    }
+}
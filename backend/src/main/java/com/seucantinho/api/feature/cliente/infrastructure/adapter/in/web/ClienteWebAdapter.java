@@ -4,8 +4,11 @@ import com.seucantinho.api.core.validation.OnCreate;
 import com.seucantinho.api.core.validation.OnUpdate;
 import com.seucantinho.api.feature.cliente.application.dto.ClienteRequestDTO;
 import com.seucantinho.api.feature.cliente.application.dto.ClienteResponseDTO;
+import com.seucantinho.api.feature.cliente.application.dto.ImportacaoClienteRelatorioDTO;
+import com.seucantinho.api.feature.cliente.application.service.ClienteImportacaoService;
 import com.seucantinho.api.feature.cliente.domain.port.in.ClienteServicePort;
 import com.seucantinho.api.feature.cliente.domain.port.in.ClienteWebPort;
+import com.seucantinho.api.shared.domain.exception.BusinessException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,9 +19,14 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -29,6 +37,7 @@ import java.util.List;
 public class ClienteWebAdapter implements ClienteWebPort {
 
     private final ClienteServicePort clienteService;
+    private final ClienteImportacaoService clienteImportacaoService;
 
     @Override
     @GetMapping
@@ -167,4 +176,28 @@ public class ClienteWebAdapter implements ClienteWebPort {
         ClienteResponseDTO cliente = clienteService.toggleAtivo(id, ativo);
         return ResponseEntity.ok(cliente);
     }
+
+    @Override
+    @PostMapping(value = "/importacao", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+        summary = "Importar clientes em lote",
+        description = "Recebe um arquivo com um cliente por linha, em CSV separado por ';' (nome;email;senha;cpf;telefone, " +
+                     "cabeçalho opcional) ou em JSON por linha com os mesmos campos. Linhas inválidas ou com email/CPF " +
+                     "já cadastrado são rejeitadas sem interromper a importação. Retorna o relatório com as linhas rejeitadas."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Arquivo processado; rejeições listadas no relatório"),
+        @ApiResponse(responseCode = "400", description = "Arquivo ilegível", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content),
+        @ApiResponse(responseCode = "403", description = "Sem permissão para importar clientes", content = @Content)
+    })
+    public ResponseEntity<ImportacaoClienteRelatorioDTO> importar(
+            @Parameter(description = "Arquivo com os clientes a importar", required = true)
+            @RequestParam("arquivo") MultipartFile arquivo) {
+        try (InputStream conteudo = arquivo.getInputStream()) {
+            return ResponseEntity.ok(clienteImportacaoService.importar(conteudo));
+        } catch (IOException e) {
+            throw new BusinessException("Não foi possível ler o arquivo de importação de clientes");
+        }
+    }
 }
\ No newline at end of file
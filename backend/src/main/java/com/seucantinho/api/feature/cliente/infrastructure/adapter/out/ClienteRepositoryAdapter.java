@@ -2,10 +2,16 @@ package com.seucantinho.api.feature.cliente.infrastructure.adapter.out;
 
 import com.seucantinho.api.feature.cliente.domain.Cliente;
 import com.seucantinho.api.feature.cliente.domain.port.out.ClienteRepositoryPort;
+import com.seucantinho.api.feature.cliente.domain.valueobject.ClienteComReservas;
 import com.seucantinho.api.feature.cliente.infrastructure.persistence.ClienteRepository;
+import com.seucantinho.api.feature.usuario.domain.enums.PerfilUsuarioEnum;
+import com.seucantinho.api.feature.usuario.infrastructure.cache.ChavesUsuarioFiltro;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,13 +19,28 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ClienteRepositoryAdapter implements ClienteRepositoryPort {
 
+    // tb_usuario usa IDENTITY, o que impede o Hibernate de agrupar INSERTs; a importação em lote usa JDBC direto.
+    // ON CONFLICT descarta a linha que colidir com email ou CPF cadastrado depois da verificação
+    private static final String INSERT_CLIENTE = "INSERT INTO tb_usuario " +
+            "(nome, email, senha_hash, perfil, cpf, telefone, ativo, data_cadastro) " +
+            "VALUES (?, ?, ?, CAST(? AS perfil_usuario_enum), ?, ?, ?, ?) ON CONFLICT DO NOTHING";
+
     private final ClienteRepository clienteRepository;
+    private final ChavesUsuarioFiltro chavesUsuarioFiltro;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<Cliente> findAll() {
         return clienteRepository.findAll();
     }
 
+    @Override
+    public List<ClienteComReservas> findAllWithQuantidadeReservas() {
+        return clienteRepository.findAllWithQuantidadeReservas().stream()
+                .map(linha -> new ClienteComReservas((Cliente) linha[0], ((Long) linha[1]).intValue()))
+                .toList();
+    }
+
     @Override
     public Optional<Cliente> findById(Integer id) {
         return clienteRepository.findById(id);
@@ -37,17 +58,51 @@ public class ClienteRepositoryAdapter implements ClienteRepositoryPort {
 
     @Override
     public boolean existsByEmail(String email) {
-        return clienteRepository.findByEmail(email).isPresent();
+        return chavesUsuarioFiltro.talvezExistaEmail(email) && clienteRepository.existsByEmail(email);
     }
 
     @Override
     public boolean existsByCpf(String cpf) {
-        return clienteRepository.findByCpf(cpf).isPresent();
+        return chavesUsuarioFiltro.talvezExistaCpf(cpf) && clienteRepository.existsByCpf(cpf);
     }
 
     @Override
     public Cliente save(Cliente cliente) {
-        return clienteRepository.save(cliente);
+        Cliente salvo = clienteRepository.save(cliente);
+        chavesUsuarioFiltro.registrar(salvo);
+        return salvo;
+    }
+
+    @Override
+    public boolean[] inserirEmLote(List<Cliente> clientes) {
+        boolean[] inseridos = new boolean[clientes.size()];
+        if (clientes.isEmpty()) {
+            return inseridos;
+        }
+        Timestamp agora = Timestamp.valueOf(Relogio.agora());
+        int[][] resultados = jdbcTemplate.batchUpdate(INSERT_CLIENTE, clientes, clientes.size(),
+                (comando, cliente) -> {
+                    comando.setString(1, cliente.getNome());
+                    comando.setString(2, cliente.getEmail());
+                    comando.setString(3, cliente.getSenhaHash());
+                    comando.setString(4, PerfilUsuarioEnum.CLIENTE.name());
+                    comando.setString(5, cliente.getCpf());
+                    comando.setString(6, cliente.getTelefone());
+                    comando.setBoolean(7, cliente.getAtivo() == null || cliente.getAtivo());
+                    comando.setTimestamp(8, agora);
+                });
+
+        int posicao = 0;
+        for (int[] lote : resultados) {
+            for (int linhasAfetadas : lote) {
+                inseridos[posicao] = linhasAfetadas != 0;
+                if (inseridos[posicao]) {
+                    chavesUsuarioFiltro.registrar(clientes.get(posicao));
+                }
+                posicao++;
+            }
+        }
+        return inseridos;
     }
 
     @Override
@@ -0,0 +1,21 @@
+package com.seucantinho.api.feature.cliente.infrastructure.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class ClienteImportacaoConfig {
+
+    // Linhas do arquivo validadas, cifradas e inseridas por vez; limita a memória usada pela importação
+    private final int tamanhoLote;
+    private final int maximoErros;
+
+    public ClienteImportacaoConfig(
+            @Value("${app.cliente.importacao.tamanho-lote:500}") int tamanhoLote,
+            @Value("${app.cliente.importacao.maximo-erros:1000}") int maximoErros) {
+        this.tamanhoLote = tamanhoLote;
+        this.maximoErros = maximoErros;
+    }
+}
@@ -0,0 +1,19 @@
+package com.seucantinho.api.feature.cliente.infrastructure.config;
+
+import com.seucantinho.api.feature.cliente.domain.enums.ModoContagemReservasEnum;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class ClienteListagemConfig {
+
+    // AGRUPADA: uma consulta agrupada por página de ids após a listagem; SUBCONSULTA: contagem na própria listagem
+    private final ModoContagemReservasEnum contagemReservas;
+
+    public ClienteListagemConfig(
+            @Value("${app.cliente.listagem.contagem-reservas:AGRUPADA}") ModoContagemReservasEnum contagemReservas) {
+        this.contagemReservas = contagemReservas;
+    }
+}
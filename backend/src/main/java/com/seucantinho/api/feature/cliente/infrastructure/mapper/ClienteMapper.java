@@ -24,7 +24,7 @@ public class ClienteMapper {
                 .build();
     }
 
-    public ClienteResponseDTO toResponseDTO(Cliente cliente) {
+    public ClienteResponseDTO toResponseDTO(Cliente cliente, int quantidadeReservas) {
         return ClienteResponseDTO.builder()
                 .id(cliente.getId())
                 .nome(cliente.getNome())
@@ -33,7 +33,7 @@ public class ClienteMapper {
                 .telefone(cliente.getTelefone())
                 .ativo(cliente.getAtivo())
                 .dataCadastro(cliente.getDataCadastro())
-                .quantidadeReservas(cliente.getReservas() != null ? cliente.getReservas().size() : 0)
+                .quantidadeReservas(quantidadeReservas)
                 .build();
     }
 
@@ -15,8 +15,16 @@ public interface ClienteRepository extends JpaRepository<Cliente, Integer> {
 
     Optional<Cliente> findByCpf(String cpf);
 
+    boolean existsByEmail(String email);
+
+    boolean existsByCpf(String cpf);
+
     @Query("SELECT c FROM Cliente c LEFT JOIN FETCH c.reservas WHERE c.id = :id")
     Optional<Cliente> findByIdWithReservas(Integer id);
 
     List<Cliente> findByAtivoTrue();
+
+    // Mesmo efeito de um @Formula, mas só nesta consulta: as demais leituras de Cliente não pagam a subconsulta
+    @Query("SELECT c, (SELECT COUNT(r) FROM Reserva r WHERE r.usuario.id = c.id) FROM Cliente c")
+    List<Object[]> findAllWithQuantidadeReservas();
 }
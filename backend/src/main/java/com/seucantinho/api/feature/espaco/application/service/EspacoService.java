@@ -5,6 +5,7 @@ import com.seucantinho.api.feature.filial.domain.Filial;
 import com.seucantinho.api.feature.espaco.application.dto.EspacoRequestDTO;
 import com.seucantinho.api.feature.espaco.application.dto.EspacoResponseDTO;
 import com.seucantinho.api.shared.domain.exception.ResourceNotFoundException;
+import com.seucantinho.api.feature.espaco.infrastructure.cache.CatalogoCache;
 import com.seucantinho.api.feature.espaco.infrastructure.mapper.EspacoMapper;
 import com.seucantinho.api.feature.espaco.domain.port.out.EspacoRepositoryPort;
 import com.seucantinho.api.feature.filial.domain.port.out.FilialRepositoryPort;
@@ -24,29 +25,22 @@ public class EspacoService implements EspacoServicePort {
     private final EspacoRepositoryPort espacoRepositoryPort;
     private final FilialRepositoryPort filialRepositoryPort;
     private final EspacoMapper espacoMapper;
+    private final CatalogoCache catalogoCache;
 
+    // Leituras do catálogo não abrem transação: com o cache carregado não há acesso ao banco
     @Override
-    @Transactional(readOnly = true)
     public List<EspacoResponseDTO> findAll() {
-        return espacoRepositoryPort.findAll().stream()
-                .map(espacoMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return catalogoCache.obter().espacos();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<EspacoResponseDTO> findByFilialId(Integer filialId) {
-        return espacoRepositoryPort.findByFilialId(filialId).stream()
-                .map(espacoMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return catalogoCache.obter().espacosDaFilial(filialId);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<EspacoResponseDTO> findAtivos() {
-        return espacoRepositoryPort.findByAtivoTrue().stream()
-                .map(espacoMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return catalogoCache.obter().espacosAtivos();
     }
 
     @Override
@@ -58,11 +52,9 @@ public class EspacoService implements EspacoServicePort {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public EspacoResponseDTO findById(Integer id) {
-        Espaco espaco = espacoRepositoryPort.findByIdWithFilial(id)
+        return catalogoCache.obter().espaco(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Espaço não encontrado com ID: " + id));
-        return espacoMapper.toResponseDTO(espaco);
     }
 
     @Override
@@ -72,6 +64,7 @@ public class EspacoService implements EspacoServicePort {
         Espaco espaco = espacoMapper.toEntity(requestDTO, filial);
         espaco.validar();
         Espaco savedEspaco = espacoRepositoryPort.save(espaco);
+        catalogoCache.invalidar();
         return espacoMapper.toResponseDTO(savedEspaco);
     }
 
@@ -83,6 +76,7 @@ public class EspacoService implements EspacoServicePort {
         espacoMapper.updateEntityFromDTO(espaco, requestDTO, filial);
         espaco.validar();
         Espaco updatedEspaco = espacoRepositoryPort.save(espaco);
+        catalogoCache.invalidar();
         return espacoMapper.toResponseDTO(updatedEspaco);
     }
 
@@ -102,6 +96,7 @@ public class EspacoService implements EspacoServicePort {
         } else {
             espacoRepositoryPort.deleteById(id);
         }
+        catalogoCache.invalidar();
     }
 
     private Espaco findEspacoById(Integer id) {
@@ -80,6 +80,6 @@ public class Espaco {
     }
 
     public boolean podeSerReservadoPara(java.time.LocalDate data) {
-        return ativo && data.isAfter(java.time.LocalDate.now());
+        return ativo && data.isAfter(com.seucantinho.api.shared.domain.tempo.Relogio.hoje());
     }
 }
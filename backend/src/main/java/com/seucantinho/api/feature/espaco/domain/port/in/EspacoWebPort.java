@@ -15,7 +15,7 @@ public interface EspacoWebPort {
 
     ResponseEntity<List<EspacoResponseDTO>> findByFilialId(Integer filialId);
 
-    ResponseEntity<List<EspacoResponseDTO>> findAtivos();
+    ResponseEntity<byte[]> findAtivos(String ifNoneMatch, String acceptEncoding);
 
     ResponseEntity<List<EspacoResponseDTO>> findDisponiveis(LocalDate data, Integer capacidadeMinima);
 
@@ -3,7 +3,9 @@ package com.seucantinho.api.feature.espaco.domain.port.out;
 import com.seucantinho.api.feature.espaco.domain.Espaco;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface EspacoRepositoryPort {
@@ -14,12 +16,16 @@ public interface EspacoRepositoryPort {
 
     List<Espaco> findByFilialId(Integer filialId);
 
+    Map<Integer, Integer> countByFilialIds(Collection<Integer> filialIds);
+
     List<Espaco> findByAtivoTrue();
 
     List<Espaco> findByFilialIdAndAtivoTrue(Integer filialId);
 
     Optional<Espaco> findByIdWithFilial(Integer id);
 
+    List<Espaco> findAllWithFilial();
+
     List<Espaco> findEspacosDisponiveisPorData(LocalDate data, Integer capacidadeMinima);
 
     Espaco save(Espaco espaco);
@@ -4,8 +4,10 @@ import com.seucantinho.api.feature.espaco.application.dto.EspacoRequestDTO;
 import com.seucantinho.api.feature.espaco.application.dto.EspacoResponseDTO;
 import com.seucantinho.api.feature.espaco.domain.port.in.EspacoServicePort;
 import com.seucantinho.api.feature.espaco.domain.port.in.EspacoWebPort;
+import com.seucantinho.api.shared.infrastructure.web.RespostaJsonCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,6 +17,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -30,6 +33,7 @@ import java.util.List;
 public class EspacoWebAdapter implements EspacoWebPort {
 
     private final EspacoServicePort espacoService;
+    private final RespostaJsonCache respostaJsonCache;
 
     @GetMapping
     @Operation(
@@ -85,16 +89,21 @@ public class EspacoWebAdapter implements EspacoWebPort {
     @GetMapping("/ativos")
     @Operation(
         summary = "Listar espaços ativos",
-        description = "Retorna apenas os espaços que estão ativos e disponíveis para reserva."
+        description = "Retorna apenas os espaços que estão ativos e disponíveis para reserva. " +
+                     "A resposta traz ETag; com If-None-Match igual, responde 304 sem corpo."
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Lista de espaços ativos retornada com sucesso"),
+        @ApiResponse(responseCode = "200", description = "Lista de espaços ativos retornada com sucesso",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = EspacoResponseDTO.class)))),
+        @ApiResponse(responseCode = "304", description = "Lista inalterada desde a ETag informada", content = @Content),
         @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content),
         @ApiResponse(responseCode = "403", description = "Sem permissão para acessar este recurso", content = @Content)
     })
-    public ResponseEntity<List<EspacoResponseDTO>> findAtivos() {
+    public ResponseEntity<byte[]> findAtivos(
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         List<EspacoResponseDTO> espacos = espacoService.findAtivos();
-        return ResponseEntity.ok(espacos);
+        return respostaJsonCache.responder("espacos-ativos", espacos, ifNoneMatch, acceptEncoding);
     }
 
     @GetMapping("/disponiveis")
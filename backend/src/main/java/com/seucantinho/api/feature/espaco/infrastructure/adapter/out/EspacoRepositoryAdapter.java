@@ -3,18 +3,26 @@ package com.seucantinho.api.feature.espaco.infrastructure.adapter.out;
 import com.seucantinho.api.feature.espaco.domain.Espaco;
 import com.seucantinho.api.feature.espaco.domain.port.out.EspacoRepositoryPort;
 import com.seucantinho.api.feature.espaco.infrastructure.persistence.EspacoRepository;
+import com.seucantinho.api.feature.reserva.infrastructure.cache.OcupacaoEspacoIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class EspacoRepositoryAdapter implements EspacoRepositoryPort {
 
+    static final int IDS_POR_CONSULTA = 1000;
+
     private final EspacoRepository espacoRepository;
+    private final OcupacaoEspacoIndex ocupacaoEspacoIndex;
 
     @Override
     public List<Espaco> findAll() {
@@ -31,6 +39,20 @@ public class EspacoRepositoryAdapter implements EspacoRepositoryPort {
         return espacoRepository.findByFilialId(filialId);
     }
 
+    // Uma consulta agrupada por página de ids; filiais sem espaços ficam fora do mapa
+    @Override
+    public Map<Integer, Integer> countByFilialIds(Collection<Integer> filialIds) {
+        Map<Integer, Integer> quantidades = new HashMap<>();
+        List<Integer> ids = List.copyOf(new HashSet<>(filialIds));
+        for (int inicio = 0; inicio < ids.size(); inicio += IDS_POR_CONSULTA) {
+            List<Integer> pagina = ids.subList(inicio, Math.min(inicio + IDS_POR_CONSULTA, ids.size()));
+            for (Object[] linha : espacoRepository.countByFilialIds(pagina)) {
+                quantidades.put((Integer) linha[0], ((Long) linha[1]).intValue());
+            }
+        }
+        return quantidades;
+    }
+
     @Override
     public List<Espaco> findByAtivoTrue() {
         return espacoRepository.findByAtivoTrue();
@@ -46,8 +68,20 @@ public class EspacoRepositoryAdapter implements EspacoRepositoryPort {
         return espacoRepository.findByIdWithFilial(id);
     }
 
+    @Override
+    public List<Espaco> findAllWithFilial() {
+        return espacoRepository.findAllWithFilial();
+    }
+
     @Override
     public List<Espaco> findEspacosDisponiveisPorData(LocalDate data, Integer capacidadeMinima) {
+        // O índice só responde quando todos os candidatos estão livres; qualquer marcação é confirmada no banco
+        if (ocupacaoEspacoIndex.cobre(data)) {
+            List<Espaco> candidatos = espacoRepository.findAtivosComCapacidadeMinima(capacidadeMinima);
+            if (candidatos.stream().allMatch(espaco -> ocupacaoEspacoIndex.isLivre(espaco.getId(), data, null))) {
+                return candidatos;
+            }
+        }
         return espacoRepository.findEspacosDisponiveisPorData(data, capacidadeMinima);
     }
 
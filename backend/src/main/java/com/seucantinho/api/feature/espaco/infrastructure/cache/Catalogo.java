@@ -0,0 +1,83 @@
+package com.seucantinho.api.feature.espaco.infrastructure.cache;
+
+import com.seucantinho.api.feature.espaco.application.dto.EspacoResponseDTO;
+import com.seucantinho.api.feature.filial.application.dto.FilialResponseDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fotografia imutável de espaços e filiais, já convertidos em DTO.
+ * <p>
+ * Os ids ficam em vetores {@code int[]} ordenados e as buscas são por pesquisa
+ * binária, sem boxing; as listas devolvidas não podem ser alteradas.
+ */
+public final class Catalogo {
+
+    private final List<EspacoResponseDTO> espacos;
+    private final List<EspacoResponseDTO> espacosAtivos;
+    private final int[] idsEspacos;
+
+    private final List<FilialResponseDTO> filiais;
+    private final int[] idsFiliais;
+    private final List<List<EspacoResponseDTO>> espacosPorFilial;
+
+    private Catalogo(List<EspacoResponseDTO> espacos, List<FilialResponseDTO> filiais) {
+        this.espacos = espacos;
+        this.idsEspacos = espacos.stream().mapToInt(EspacoResponseDTO::getId).toArray();
+        this.espacosAtivos = espacos.stream().filter(espaco -> Boolean.TRUE.equals(espaco.getAtivo())).toList();
+
+        this.filiais = filiais;
+        this.idsFiliais = filiais.stream().mapToInt(FilialResponseDTO::getId).toArray();
+
+        List<List<EspacoResponseDTO>> agrupados = new ArrayList<>(filiais.size());
+        filiais.forEach(filial -> agrupados.add(new ArrayList<>()));
+        for (EspacoResponseDTO espaco : espacos) {
+            int posicao = espaco.getFilial() != null ? Arrays.binarySearch(idsFiliais, espaco.getFilial().getId()) : -1;
+            if (posicao >= 0) {
+                agrupados.get(posicao).add(espaco);
+            }
+        }
+        this.espacosPorFilial = agrupados.stream().map(List::copyOf).toList();
+    }
+
+    public static Catalogo de(List<EspacoResponseDTO> espacos, List<FilialResponseDTO> filiais) {
+        return new Catalogo(
+                espacos.stream().sorted(Comparator.comparingInt(EspacoResponseDTO::getId)).toList(),
+                filiais.stream().sorted(Comparator.comparingInt(FilialResponseDTO::getId)).toList());
+    }
+
+    public List<EspacoResponseDTO> espacos() {
+        return espacos;
+    }
+
+    public List<EspacoResponseDTO> espacosAtivos() {
+        return espacosAtivos;
+    }
+
+    public List<EspacoResponseDTO> espacosDaFilial(int filialId) {
+        int posicao = Arrays.binarySearch(idsFiliais, filialId);
+        return posicao >= 0 ? espacosPorFilial.get(posicao) : List.of();
+    }
+
+    public Optional<EspacoResponseDTO> espaco(int id) {
+        int posicao = Arrays.binarySearch(idsEspacos, id);
+        return posicao >= 0 ? Optional.of(espacos.get(posicao)) : Optional.empty();
+    }
+
+    public List<FilialResponseDTO> filiais() {
+        return filiais;
+    }
+
+    public Optional<FilialResponseDTO> filial(int id) {
+        int posicao = Arrays.binarySearch(idsFiliais, id);
+        return posicao >= 0 ? Optional.of(filiais.get(posicao)) : Optional.empty();
+    }
+
+    public int tamanho() {
+        return espacos.size() + filiais.size();
+    }
+}
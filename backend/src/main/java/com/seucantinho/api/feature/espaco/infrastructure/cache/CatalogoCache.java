@@ -0,0 +1,157 @@
+package com.seucantinho.api.feature.espaco.infrastructure.cache;
+
+import com.seucantinho.api.feature.espaco.application.dto.EspacoResponseDTO;
+import com.seucantinho.api.feature.espaco.domain.Espaco;
+import com.seucantinho.api.feature.espaco.domain.port.out.EspacoRepositoryPort;
+import com.seucantinho.api.feature.espaco.infrastructure.mapper.EspacoMapper;
+import com.seucantinho.api.feature.filial.application.dto.FilialResponseDTO;
+import com.seucantinho.api.feature.filial.domain.port.out.FilialRepositoryPort;
+import com.seucantinho.api.feature.filial.infrastructure.mapper.FilialMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Catálogo de espaços e filiais mantido em memória.
+ * <p>
+ * A primeira leitura carrega tudo em duas consultas e as seguintes não vão ao banco.
+ * Qualquer alteração em espaço ou filial descarta o catálogo após o commit; uma
+ * carga iniciada antes do descarte não é publicada. A validade limita por quanto
+ * tempo alterações feitas por outras instâncias podem passar despercebidas.
+ */
+@Component
+public class CatalogoCache {
+
+    private final EspacoRepositoryPort espacoRepositoryPort;
+    private final FilialRepositoryPort filialRepositoryPort;
+    private final EspacoMapper espacoMapper;
+    private final FilialMapper filialMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final long validadeNanos;
+
+    private final Object trava = new Object();
+    private final AtomicLong geracao = new AtomicLong();
+    private volatile Entrada atual;
+
+    private final Counter acertos;
+    private final Counter falhas;
+
+    public CatalogoCache(
+            EspacoRepositoryPort espacoRepositoryPort,
+            FilialRepositoryPort filialRepositoryPort,
+            EspacoMapper espacoMapper,
+            FilialMapper filialMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.catalogo.cache.validade-segundos:300}") long validadeSegundos) {
+        this.espacoRepositoryPort = espacoRepositoryPort;
+        this.filialRepositoryPort = filialRepositoryPort;
+        this.espacoMapper = espacoMapper;
+        this.filialMapper = filialMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.validadeNanos = TimeUnit.SECONDS.toNanos(validadeSegundos);
+
+        this.acertos = Counter.builder("catalogo.cache.acessos")
+                .description("Leituras do catálogo de espaços e filiais")
+                .tag("resultado", "acerto")
+                .register(meterRegistry);
+        this.falhas = Counter.builder("catalogo.cache.acessos")
+                .description("Leituras do catálogo de espaços e filiais")
+                .tag("resultado", "falha")
+                .register(meterRegistry);
+        Gauge.builder("catalogo.cache.tamanho", this, CatalogoCache::tamanho)
+                .description("Espaços e filiais em memória")
+                .register(meterRegistry);
+        Gauge.builder("catalogo.cache.taxa_acerto", this, CatalogoCache::taxaAcerto)
+                .description("Fração das leituras atendidas sem ir ao banco")
+                .register(meterRegistry);
+    }
+
+    public Catalogo obter() {
+        Entrada entrada = atual;
+        if (entrada != null && !entrada.vencida(System.nanoTime())) {
+            acertos.increment();
+            return entrada.catalogo();
+        }
+        synchronized (trava) {
+            entrada = atual;
+            if (entrada != null && !entrada.vencida(System.nanoTime())) {
+                acertos.increment();
+                return entrada.catalogo();
+            }
+            falhas.increment();
+            long geracaoDaCarga = geracao.get();
+            Catalogo catalogo = transactionTemplate.execute(status -> carregar());
+            if (geracao.get() == geracaoDaCarga) {
+                atual = new Entrada(catalogo, System.nanoTime() + validadeNanos);
+            }
+            return catalogo;
+        }
+    }
+
+    public void invalidar() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    descartar();
+                }
+            });
+        } else {
+            descartar();
+        }
+    }
+
+    public int tamanho() {
+        Entrada entrada = atual;
+        return entrada != null ? entrada.catalogo().tamanho() : 0;
+    }
+
+    private void descartar() {
+        geracao.incrementAndGet();
+        atual = null;
+    }
+
+    private double taxaAcerto() {
+        double total = acertos.count() + falhas.count();
+        return total == 0 ? 0 : acertos.count() / total;
+    }
+
+    private Catalogo carregar() {
+        List<Espaco> espacos = espacoRepositoryPort.findAllWithFilial();
+        Map<Integer, Integer> quantidadePorFilial = new HashMap<>();
+        for (Espaco espaco : espacos) {
+            if (espaco.getFilial() != null) {
+                quantidadePorFilial.merge(espaco.getFilial().getId(), 1, Integer::sum);
+            }
+        }
+
+        List<EspacoResponseDTO> espacosDTO = espacos.stream()
+                .map(espacoMapper::toResponseDTO)
+                .toList();
+        List<FilialResponseDTO> filiaisDTO = filialRepositoryPort.findAll().stream()
+                .map(filial -> filialMapper.toResponseDTO(filial, quantidadePorFilial.getOrDefault(filial.getId(), 0)))
+                .toList();
+        return Catalogo.de(espacosDTO, filiaisDTO);
+    }
+
+    private record Entrada(Catalogo catalogo, long venceEmNanos) {
+
+        boolean vencida(long agoraNanos) {
+            return agoraNanos - venceEmNanos >= 0;
+        }
+    }
+}
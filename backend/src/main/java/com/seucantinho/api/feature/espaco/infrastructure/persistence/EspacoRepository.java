@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,15 +20,27 @@ public interface EspacoRepository extends JpaRepository<Espaco, Integer> {
 
     List<Espaco> findByFilialIdAndAtivoTrue(Integer filialId);
 
+    @Query("SELECT e.filial.id, COUNT(e) FROM Espaco e " +
+           "WHERE e.filial.id IN :filialIds " +
+           "GROUP BY e.filial.id")
+    List<Object[]> countByFilialIds(@Param("filialIds") Collection<Integer> filialIds);
+
+    @Query("SELECT e FROM Espaco e LEFT JOIN FETCH e.filial")
+    List<Espaco> findAllWithFilial();
+
     @Query("SELECT e FROM Espaco e LEFT JOIN FETCH e.filial WHERE e.id = :id")
     Optional<Espaco> findByIdWithFilial(Integer id);
 
+    @Query("SELECT e FROM Espaco e LEFT JOIN FETCH e.filial WHERE e.ativo = true " +
+           "AND e.capacidade.quantidade >= :capacidadeMinima")
+    List<Espaco> findAtivosComCapacidadeMinima(@Param("capacidadeMinima") Integer capacidadeMinima);
+
     @Query("SELECT e FROM Espaco e WHERE e.ativo = true " +
-           "AND e.capacidade >= :capacidadeMinima " +
+           "AND e.capacidade.quantidade >= :capacidadeMinima " +
            "AND e.id NOT IN (" +
            "  SELECT r.espaco.id FROM Reserva r " +
-           "  WHERE r.dataEvento = :data " +
-           "  AND r.status NOT IN ('CANCELADA')" +
+           "  WHERE r.dataEvento.data = :data " +
+           "  AND r.status NOT IN ('CANCELADA', 'FINALIZADA')" +
            ")")
     List<Espaco> findEspacosDisponiveisPorData(
         @Param("data") LocalDate data,
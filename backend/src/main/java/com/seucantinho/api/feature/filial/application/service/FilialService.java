@@ -1,5 +1,7 @@
 package com.seucantinho.api.feature.filial.application.service;
 
+import com.seucantinho.api.feature.espaco.domain.port.out.EspacoRepositoryPort;
+import com.seucantinho.api.feature.espaco.infrastructure.cache.CatalogoCache;
 import com.seucantinho.api.feature.filial.domain.Filial;
 import com.seucantinho.api.feature.filial.application.dto.FilialRequestDTO;
 import com.seucantinho.api.feature.filial.application.dto.FilialResponseDTO;
@@ -14,29 +16,27 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class FilialService implements FilialServicePort {
 
     private final FilialRepositoryPort filialRepositoryPort;
+    private final EspacoRepositoryPort espacoRepositoryPort;
     private final FilialMapper filialMapper;
     private final FuncionarioRepository funcionarioRepository;
+    private final CatalogoCache catalogoCache;
 
+    // Leituras do catálogo não abrem transação: com o cache carregado não há acesso ao banco
     @Override
-    @Transactional(readOnly = true)
     public List<FilialResponseDTO> findAll() {
-        return filialRepositoryPort.findAll().stream()
-                .map(filialMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return catalogoCache.obter().filiais();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public FilialResponseDTO findById(Integer id) {
-        Filial filial = findFilialById(id);
-        return filialMapper.toResponseDTO(filial);
+        return catalogoCache.obter().filial(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Filial não encontrada com ID: " + id));
     }
 
     @Override
@@ -44,7 +44,8 @@ public class FilialService implements FilialServicePort {
     public FilialResponseDTO create(FilialRequestDTO requestDTO) {
         Filial filial = filialMapper.toEntity(requestDTO);
         Filial savedFilial = filialRepositoryPort.save(filial);
-        return filialMapper.toResponseDTO(savedFilial);
+        catalogoCache.invalidar();
+        return filialMapper.toResponseDTO(savedFilial, 0);
     }
 
     @Override
@@ -53,7 +54,9 @@ public class FilialService implements FilialServicePort {
         Filial filial = findFilialById(id);
         filialMapper.updateEntityFromDTO(filial, requestDTO);
         Filial updatedFilial = filialRepositoryPort.save(filial);
-        return filialMapper.toResponseDTO(updatedFilial);
+        catalogoCache.invalidar();
+        int quantidadeEspacos = espacoRepositoryPort.countByFilialIds(List.of(id)).getOrDefault(id, 0);
+        return filialMapper.toResponseDTO(updatedFilial, quantidadeEspacos);
     }
 
     @Override
@@ -69,6 +72,7 @@ public class FilialService implements FilialServicePort {
         }
 
         filialRepositoryPort.deleteById(id);
+        catalogoCache.invalidar();
     }
 
     private Filial findFilialById(Integer id) {
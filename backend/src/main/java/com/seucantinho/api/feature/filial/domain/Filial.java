@@ -2,6 +2,7 @@ package com.seucantinho.api.feature.filial.domain;
 
 import com.seucantinho.api.feature.espaco.domain.Espaco;
 import com.seucantinho.api.feature.funcionario.domain.Funcionario;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -50,6 +51,6 @@ public class Filial {
 
     @PrePersist
     protected void onCreate() {
-        dataCadastro = LocalDateTime.now();
+        dataCadastro = Relogio.agora();
     }
 }
@@ -8,7 +8,7 @@ import java.util.List;
 
 public interface FilialWebPort {
 
-    ResponseEntity<List<FilialResponseDTO>> findAll();
+    ResponseEntity<byte[]> findAll(String ifNoneMatch, String acceptEncoding);
 
     ResponseEntity<FilialResponseDTO> findById(Integer id);
 
@@ -4,8 +4,10 @@ import com.seucantinho.api.feature.filial.application.dto.FilialRequestDTO;
 import com.seucantinho.api.feature.filial.application.dto.FilialResponseDTO;
 import com.seucantinho.api.feature.filial.domain.port.in.FilialServicePort;
 import com.seucantinho.api.feature.filial.domain.port.in.FilialWebPort;
+import com.seucantinho.api.shared.infrastructure.web.RespostaJsonCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,6 +16,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -28,20 +31,26 @@ import java.util.List;
 public class FilialWebAdapter implements FilialWebPort {
 
     private final FilialServicePort filialService;
+    private final RespostaJsonCache respostaJsonCache;
 
     @GetMapping
     @Operation(
         summary = "Listar filiais",
-        description = "Retorna a lista de todas as filiais cadastradas no sistema."
+        description = "Retorna a lista de todas as filiais cadastradas no sistema. " +
+                     "A resposta traz ETag; com If-None-Match igual, responde 304 sem corpo."
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Lista de filiais retornada com sucesso"),
+        @ApiResponse(responseCode = "200", description = "Lista de filiais retornada com sucesso",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = FilialResponseDTO.class)))),
+        @ApiResponse(responseCode = "304", description = "Lista inalterada desde a ETag informada", content = @Content),
         @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content),
         @ApiResponse(responseCode = "403", description = "Sem permissão para acessar este recurso", content = @Content)
     })
-    public ResponseEntity<List<FilialResponseDTO>> findAll() {
+    public ResponseEntity<byte[]> findAll(
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         List<FilialResponseDTO> filiais = filialService.findAll();
-        return ResponseEntity.ok(filiais);
+        return respostaJsonCache.responder("filiais", filiais, ifNoneMatch, acceptEncoding);
     }
 
     @GetMapping("/{id}")
@@ -19,6 +19,10 @@ public class FilialMapper {
     }
 
     public FilialResponseDTO toResponseDTO(Filial filial) {
+        return toResponseDTO(filial, filial.getEspacos() != null ? filial.getEspacos().size() : 0);
+    }
+
+    public FilialResponseDTO toResponseDTO(Filial filial, int quantidadeEspacos) {
         return FilialResponseDTO.builder()
                 .id(filial.getId())
                 .nome(filial.getNome())
@@ -27,7 +31,7 @@ public class FilialMapper {
                 .endereco(filial.getEndereco())
                 .telefone(filial.getTelefone())
                 .dataCadastro(filial.getDataCadastro())
-                .quantidadeEspacos(filial.getEspacos() != null ? filial.getEspacos().size() : 0)
+                .quantidadeEspacos(quantidadeEspacos)
                 .build();
     }
 
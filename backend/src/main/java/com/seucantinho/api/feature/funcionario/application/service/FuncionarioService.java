@@ -9,12 +9,15 @@ import com.seucantinho.api.feature.funcionario.domain.service.FuncionarioUniquen
 import com.seucantinho.api.feature.funcionario.infrastructure.mapper.FuncionarioMapper;
 import com.seucantinho.api.feature.filial.domain.Filial;
 import com.seucantinho.api.feature.filial.domain.port.out.FilialRepositoryPort;
+import com.seucantinho.api.feature.espaco.domain.port.out.EspacoRepositoryPort;
 import com.seucantinho.api.shared.domain.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,30 +26,27 @@ public class FuncionarioService implements FuncionarioServicePort {
 
     private final FuncionarioRepositoryPort funcionarioRepositoryPort;
     private final FilialRepositoryPort filialRepositoryPort;
+    private final EspacoRepositoryPort espacoRepositoryPort;
     private final FuncionarioMapper funcionarioMapper;
     private final FuncionarioUniquenessService funcionarioUniquenessService;
 
     @Override
     @Transactional(readOnly = true)
     public List<FuncionarioResponseDTO> findAll() {
-        return funcionarioRepositoryPort.findAll().stream()
-                .map(funcionarioMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return toResponseDTOs(funcionarioRepositoryPort.findAll());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<FuncionarioResponseDTO> findByFilialId(Integer filialId) {
-        return funcionarioRepositoryPort.findByFilialId(filialId).stream()
-                .map(funcionarioMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return toResponseDTOs(funcionarioRepositoryPort.findByFilialId(filialId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public FuncionarioResponseDTO findById(Integer id) {
         Funcionario funcionario = findFuncionarioById(id);
-        return funcionarioMapper.toResponseDTO(funcionario);
+        return toResponseDTO(funcionario);
     }
 
     @Override
@@ -65,7 +65,7 @@ public class FuncionarioService implements FuncionarioServicePort {
         funcionario.setFilial(filial);
 
         Funcionario savedFuncionario = funcionarioRepositoryPort.save(funcionario);
-        return funcionarioMapper.toResponseDTO(savedFuncionario);
+        return toResponseDTO(savedFuncionario);
     }
 
     @Override
@@ -87,7 +87,7 @@ public class FuncionarioService implements FuncionarioServicePort {
 
         funcionarioMapper.updateEntityFromDTO(funcionario, requestDTO);
         Funcionario updatedFuncionario = funcionarioRepositoryPort.save(funcionario);
-        return funcionarioMapper.toResponseDTO(updatedFuncionario);
+        return toResponseDTO(updatedFuncionario);
     }
 
     @Override
@@ -105,7 +105,7 @@ public class FuncionarioService implements FuncionarioServicePort {
         Funcionario funcionario = findFuncionarioById(id);
         funcionario.setAtivo(ativo);
         Funcionario updatedFuncionario = funcionarioRepositoryPort.save(funcionario);
-        return funcionarioMapper.toResponseDTO(updatedFuncionario);
+        return toResponseDTO(updatedFuncionario);
     }
 
     @Override
@@ -119,7 +119,24 @@ public class FuncionarioService implements FuncionarioServicePort {
 
         funcionario.setFilial(novaFilial);
         Funcionario updatedFuncionario = funcionarioRepositoryPort.save(funcionario);
-        return funcionarioMapper.toResponseDTO(updatedFuncionario);
+        return toResponseDTO(updatedFuncionario);
+    }
+
+    // A quantidade de espaços das filiais vem de uma contagem agrupada, sem inicializar filial.getEspacos()
+    private List<FuncionarioResponseDTO> toResponseDTOs(List<Funcionario> funcionarios) {
+        Map<Integer, Integer> quantidadeEspacos = espacoRepositoryPort.countByFilialIds(funcionarios.stream()
+                .map(Funcionario::getFilial)
+                .filter(Objects::nonNull)
+                .map(Filial::getId)
+                .toList());
+        return funcionarios.stream()
+                .map(funcionario -> funcionarioMapper.toResponseDTO(funcionario,
+                        funcionario.getFilial() != null ? quantidadeEspacos.getOrDefault(funcionario.getFilial().getId(), 0) : 0))
+                .collect(Collectors.toList());
+    }
+
+    private FuncionarioResponseDTO toResponseDTO(Funcionario funcionario) {
+        return toResponseDTOs(List.of(funcionario)).get(0);
     }
 
     private Funcionario findFuncionarioById(Integer id) {
@@ -24,4 +24,6 @@ public interface FuncionarioRepositoryPort {
     boolean existsByEmail(String email);
 
     boolean existsByMatricula(String matricula);
+
+    boolean existsByMatriculaAndIdNot(String matricula, Integer id);
 }
@@ -15,31 +15,27 @@ public class FuncionarioUniquenessService {
 
     public void validarEmailUnico(String email) {
         // Verifica em toda a tabela de usuários (Cliente, Funcionário, Administrador)
-        if (usuarioRepositoryPort.findByEmail(email).isPresent()) {
+        if (usuarioRepositoryPort.existsByEmail(email)) {
             throw new DuplicateResourceException("Email já cadastrado no sistema");
         }
     }
 
     public void validarEmailUnicoParaAtualizacao(String email, Integer funcionarioId) {
         // Verifica em toda a tabela de usuários
-        usuarioRepositoryPort.findByEmail(email).ifPresent(existingUsuario -> {
-            if (!existingUsuario.getId().equals(funcionarioId)) {
-                throw new DuplicateResourceException("Email já cadastrado no sistema");
-            }
-        });
+        if (usuarioRepositoryPort.existsByEmailAndIdNot(email, funcionarioId)) {
+            throw new DuplicateResourceException("Email já cadastrado no sistema");
+        }
     }
 
     public void validarMatriculaUnica(String matricula) {
-        if (funcionarioRepositoryPort.findByMatricula(matricula).isPresent()) {
+        if (funcionarioRepositoryPort.existsByMatricula(matricula)) {
             throw new DuplicateResourceException("Matrícula já cadastrada");
         }
     }
 
     public void validarMatriculaUnicaParaAtualizacao(String matricula, Integer funcionarioId) {
-        funcionarioRepositoryPort.findByMatricula(matricula).ifPresent(existingFuncionario -> {
-            if (!existingFuncionario.getId().equals(funcionarioId)) {
-                throw new DuplicateResourceException("Matrícula já cadastrada");
-            }
-        });
+        if (funcionarioRepositoryPort.existsByMatriculaAndIdNot(matricula, funcionarioId)) {
+            throw new DuplicateResourceException("Matrícula já cadastrada");
+        }
     }
 }
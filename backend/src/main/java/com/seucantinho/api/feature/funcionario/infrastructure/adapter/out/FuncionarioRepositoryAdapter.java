@@ -3,6 +3,7 @@ package com.seucantinho.api.feature.funcionario.infrastructure.adapter.out;
 import com.seucantinho.api.feature.funcionario.domain.Funcionario;
 import com.seucantinho.api.feature.funcionario.domain.port.out.FuncionarioRepositoryPort;
 import com.seucantinho.api.feature.funcionario.infrastructure.persistence.FuncionarioRepository;
+import com.seucantinho.api.feature.usuario.infrastructure.cache.ChavesUsuarioFiltro;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -14,6 +15,7 @@ import java.util.Optional;
 public class FuncionarioRepositoryAdapter implements FuncionarioRepositoryPort {
 
     private final FuncionarioRepository funcionarioRepository;
+    private final ChavesUsuarioFiltro chavesUsuarioFiltro;
 
     @Override
     public List<Funcionario> findAll() {
@@ -42,7 +44,9 @@ public class FuncionarioRepositoryAdapter implements FuncionarioRepositoryPort {
 
     @Override
     public Funcionario save(Funcionario funcionario) {
-        return funcionarioRepository.save(funcionario);
+        Funcionario salvo = funcionarioRepository.save(funcionario);
+        chavesUsuarioFiltro.registrar(salvo);
+        return salvo;
     }
 
     @Override
@@ -52,11 +56,17 @@ public class FuncionarioRepositoryAdapter implements FuncionarioRepositoryPort {
 
     @Override
     public boolean existsByEmail(String email) {
-        return funcionarioRepository.findByEmail(email).isPresent();
+        return chavesUsuarioFiltro.talvezExistaEmail(email) && funcionarioRepository.existsByEmail(email);
     }
 
     @Override
     public boolean existsByMatricula(String matricula) {
-        return funcionarioRepository.existsByMatricula(matricula);
+        return chavesUsuarioFiltro.talvezExistaMatricula(matricula) && funcionarioRepository.existsByMatricula(matricula);
+    }
+
+    @Override
+    public boolean existsByMatriculaAndIdNot(String matricula, Integer id) {
+        return chavesUsuarioFiltro.talvezExistaMatricula(matricula)
+                && funcionarioRepository.existsByMatriculaAndIdNot(matricula, id);
     }
 }
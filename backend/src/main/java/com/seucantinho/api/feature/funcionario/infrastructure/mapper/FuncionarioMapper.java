@@ -31,6 +31,11 @@ public class FuncionarioMapper {
     }
 
     public FuncionarioResponseDTO toResponseDTO(Funcionario funcionario) {
+        Filial filial = funcionario.getFilial();
+        return toResponseDTO(funcionario, filial != null && filial.getEspacos() != null ? filial.getEspacos().size() : 0);
+    }
+
+    public FuncionarioResponseDTO toResponseDTO(Funcionario funcionario, int quantidadeEspacosFilial) {
         return FuncionarioResponseDTO.builder()
                 .id(funcionario.getId())
                 .nome(funcionario.getNome())
@@ -40,7 +45,8 @@ public class FuncionarioMapper {
                 .ativo(funcionario.getAtivo())
                 .dataCadastro(funcionario.getDataCadastro())
                 .matricula(funcionario.getMatricula())
-                .filial(funcionario.getFilial() != null ? filialMapper.toResponseDTO(funcionario.getFilial()) : null)
+                .filial(funcionario.getFilial() != null
+                        ? filialMapper.toResponseDTO(funcionario.getFilial(), quantidadeEspacosFilial) : null)
                 .build();
     }
 
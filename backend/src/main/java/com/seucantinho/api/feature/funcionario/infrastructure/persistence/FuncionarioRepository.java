@@ -21,4 +21,8 @@ public interface FuncionarioRepository extends JpaRepository<Funcionario, Intege
     Optional<Funcionario> findByIdWithFilial(Integer id);
 
     boolean existsByMatricula(String matricula);
+
+    boolean existsByMatriculaAndIdNot(String matricula, Integer id);
+
+    boolean existsByEmail(String email);
 }
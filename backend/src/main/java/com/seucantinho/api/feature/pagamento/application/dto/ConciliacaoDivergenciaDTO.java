@@ -0,0 +1,17 @@
+package com.seucantinho.api.feature.pagamento.application.dto;
+
+import com.seucantinho.api.feature.pagamento.domain.enums.MotivoDivergenciaConciliacaoEnum;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConciliacaoDivergenciaDTO {
+
+    private Integer linha;
+    private String codigoTransacaoGateway;
+    private MotivoDivergenciaConciliacaoEnum motivo;
+    private String mensagem;
+}
@@ -0,0 +1,21 @@
+package com.seucantinho.api.feature.pagamento.application.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConciliacaoRelatorioDTO {
+
+    private int linhasProcessadas;
+    private int conciliados;
+    private int inseridos;
+    private int divergentes;
+    private List<ConciliacaoDivergenciaDTO> divergencias;
+    // true quando há mais divergências do que o limite detalhado no relatório
+    private boolean divergenciasTruncadas;
+}
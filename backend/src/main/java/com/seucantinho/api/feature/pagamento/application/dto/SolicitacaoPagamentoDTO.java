@@ -0,0 +1,28 @@
+package com.seucantinho.api.feature.pagamento.application.dto;
+
+import com.seucantinho.api.feature.pagamento.domain.enums.StatusSolicitacaoPagamentoEnum;
+import com.seucantinho.api.feature.pagamento.domain.enums.TipoPagamentoEnum;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class SolicitacaoPagamentoDTO {
+
+    private String protocolo;
+    private StatusSolicitacaoPagamentoEnum status;
+    private Integer reservaId;
+    private TipoPagamentoEnum tipo;
+    private BigDecimal valor;
+    private String formaPagamento;
+    private Integer pagamentoId;
+    private String codigoTransacaoGateway;
+    private String mensagem;
+    private LocalDateTime dataSolicitacao;
+    private LocalDateTime dataAtualizacao;
+}
@@ -0,0 +1,213 @@
+package com.seucantinho.api.feature.pagamento.application.service;
+
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoRequestDTO;
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoResponseDTO;
+import com.seucantinho.api.feature.pagamento.application.dto.SolicitacaoPagamentoDTO;
+import com.seucantinho.api.feature.pagamento.domain.enums.StatusSolicitacaoPagamentoEnum;
+import com.seucantinho.api.feature.pagamento.domain.port.in.PagamentoAssincronoServicePort;
+import com.seucantinho.api.feature.pagamento.domain.port.in.PagamentoServicePort;
+import com.seucantinho.api.feature.pagamento.domain.port.out.PagamentoGatewayPort;
+import com.seucantinho.api.feature.pagamento.domain.port.out.SolicitacaoPagamentoRepositoryPort;
+import com.seucantinho.api.feature.pagamento.domain.valueobject.AutorizacaoGateway;
+import com.seucantinho.api.feature.pagamento.infrastructure.cache.SolicitacaoPagamentoCache;
+import com.seucantinho.api.shared.domain.exception.BusinessException;
+import com.seucantinho.api.shared.domain.exception.DuplicateResourceException;
+import com.seucantinho.api.shared.domain.exception.ResourceNotFoundException;
+import com.seucantinho.api.shared.domain.exception.ServiceUnavailableException;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+// A thread HTTP apenas grava a solicitação e enfileira; a espera pelo gateway e a
+// transação de PagamentoService acontecem nas threads de pagamentoGatewayExecutor.
+// tb_solicitacao_pagamento é a fonte da situação; o cache atende as consultas recentes
+@Slf4j
+@Service
+public class PagamentoAssincronoService implements PagamentoAssincronoServicePort {
+
+    private final PagamentoServicePort pagamentoServicePort;
+    private final PagamentoIdempotenciaService pagamentoIdempotenciaService;
+    private final PagamentoGatewayPort pagamentoGatewayPort;
+    private final SolicitacaoPagamentoCache solicitacaoPagamentoCache;
+    private final SolicitacaoPagamentoRepositoryPort solicitacaoPagamentoRepositoryPort;
+    private final Executor pagamentoGatewayExecutor;
+    private final Timer latenciaGateway;
+    private final Map<StatusSolicitacaoPagamentoEnum, Counter> solicitacoesConcluidas =
+            new EnumMap<>(StatusSolicitacaoPagamentoEnum.class);
+
+    public PagamentoAssincronoService(
+            PagamentoServicePort pagamentoServicePort,
+            PagamentoIdempotenciaService pagamentoIdempotenciaService,
+            PagamentoGatewayPort pagamentoGatewayPort,
+            SolicitacaoPagamentoCache solicitacaoPagamentoCache,
+            SolicitacaoPagamentoRepositoryPort solicitacaoPagamentoRepositoryPort,
+            @Qualifier("pagamentoGatewayExecutor") Executor pagamentoGatewayExecutor,
+            MeterRegistry meterRegistry) {
+        this.pagamentoServicePort = pagamentoServicePort;
+        this.pagamentoIdempotenciaService = pagamentoIdempotenciaService;
+        this.pagamentoGatewayPort = pagamentoGatewayPort;
+        this.solicitacaoPagamentoCache = solicitacaoPagamentoCache;
+        this.solicitacaoPagamentoRepositoryPort = solicitacaoPagamentoRepositoryPort;
+        this.pagamentoGatewayExecutor = pagamentoGatewayExecutor;
+        this.latenciaGateway = Timer.builder("pagamento.gateway.latencia")
+                .description("Tempo de resposta do gateway de pagamento")
+                .register(meterRegistry);
+        for (StatusSolicitacaoPagamentoEnum status : EnumSet.of(StatusSolicitacaoPagamentoEnum.CONFIRMADO,
+                StatusSolicitacaoPagamentoEnum.RECUSADO, StatusSolicitacaoPagamentoEnum.ESTORNADO,
+                StatusSolicitacaoPagamentoEnum.ESTORNO_PENDENTE, StatusSolicitacaoPagamentoEnum.FALHA)) {
+            solicitacoesConcluidas.put(status, Counter.builder("pagamento.assincrono.solicitacoes")
+                    .description("Solicitações de pagamento assíncronas concluídas")
+                    .tag("status", status.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public SolicitacaoPagamentoDTO solicitar(PagamentoRequestDTO requestDTO, String chaveIdempotencia) {
+        String chave = chaveIdempotencia == null || chaveIdempotencia.isBlank() ? null : chaveIdempotencia.trim();
+        LocalDateTime agora = Relogio.agora();
+        SolicitacaoPagamentoDTO nova = SolicitacaoPagamentoDTO.builder()
+                .protocolo(UUID.randomUUID().toString())
+                .status(StatusSolicitacaoPagamentoEnum.PENDENTE)
+                .reservaId(requestDTO.getReservaId())
+                .tipo(requestDTO.getTipo())
+                .valor(requestDTO.getValor())
+                .formaPagamento(requestDTO.getFormaPagamento())
+                .dataSolicitacao(agora)
+                .dataAtualizacao(agora)
+                .build();
+
+        SolicitacaoPagamentoDTO solicitacao = solicitacaoPagamentoCache.registrarSeAusente(chave, nova);
+        if (solicitacao != nova) {
+            // Reenvio de uma solicitação em andamento ou concluída: não cobra de novo
+            return solicitacao;
+        }
+
+        // Gravada antes de ir ao gateway: um reinício não apaga a solicitação e a chave vale entre instâncias
+        boolean inserida;
+        try {
+            inserida = solicitacaoPagamentoRepositoryPort.inserir(nova, chave);
+        } catch (RuntimeException e) {
+            solicitacaoPagamentoCache.remover(nova.getProtocolo());
+            throw e;
+        }
+        if (!inserida) {
+            solicitacaoPagamentoCache.remover(nova.getProtocolo());
+            return solicitacaoPagamentoRepositoryPort.findByChaveIdempotencia(chave)
+                    .orElseThrow(() -> new ServiceUnavailableException(
+                            "Solicitação de pagamento em andamento, tente novamente em instantes"));
+        }
+
+        try {
+            pagamentoGatewayExecutor.execute(() -> processar(nova.getProtocolo(), requestDTO, chave));
+        } catch (RejectedExecutionException e) {
+            solicitacaoPagamentoCache.remover(nova.getProtocolo());
+            solicitacaoPagamentoRepositoryPort.deleteByProtocolo(nova.getProtocolo());
+            throw new ServiceUnavailableException("Fila de pagamentos cheia, tente novamente em instantes");
+        }
+        return nova;
+    }
+
+    @Override
+    public SolicitacaoPagamentoDTO consultar(String protocolo) {
+        return solicitacaoPagamentoCache.buscar(protocolo)
+                .or(() -> solicitacaoPagamentoRepositoryPort.findByProtocolo(protocolo))
+                .orElseThrow(() -> new ResourceNotFoundException("Solicitação de pagamento não encontrada: " + protocolo));
+    }
+
+    void processar(String protocolo, PagamentoRequestDTO requestDTO, String chaveIdempotencia) {
+        atualizar(protocolo, StatusSolicitacaoPagamentoEnum.PROCESSANDO, null, null, null);
+        AutorizacaoGateway autorizacao;
+        try {
+            // As regras da reserva são conferidas antes da cobrança: o que seria recusado não chega ao gateway
+            pagamentoServicePort.validar(requestDTO);
+            autorizacao = latenciaGateway.record(() -> pagamentoGatewayPort.autorizar(protocolo, requestDTO));
+        } catch (BusinessException | ResourceNotFoundException | IllegalArgumentException e) {
+            concluir(protocolo, StatusSolicitacaoPagamentoEnum.RECUSADO, null, null, e.getMessage());
+            return;
+        } catch (RuntimeException e) {
+            log.error("Falha ao processar a solicitação de pagamento {}", protocolo, e);
+            concluir(protocolo, StatusSolicitacaoPagamentoEnum.FALHA, null, null,
+                    "Não foi possível concluir o pagamento, tente novamente");
+            return;
+        }
+        if (!autorizacao.isAprovada()) {
+            concluir(protocolo, StatusSolicitacaoPagamentoEnum.RECUSADO, null, null, autorizacao.getMotivoRecusa());
+            return;
+        }
+
+        try {
+            // A transição de status da reserva só é aplicada com a confirmação do gateway
+            PagamentoResponseDTO pagamento = pagamentoIdempotenciaService.registrar(
+                    comCodigoTransacao(requestDTO, autorizacao.getCodigoTransacao()), chaveIdempotencia);
+            concluir(protocolo, StatusSolicitacaoPagamentoEnum.CONFIRMADO,
+                    pagamento.getId(), pagamento.getCodigoTransacaoGateway(), null);
+        } catch (BusinessException | ResourceNotFoundException | DuplicateResourceException | IllegalArgumentException e) {
+            // A reserva mudou entre a validação e o registro (ex.: pagamento concorrente)
+            estornar(protocolo, autorizacao.getCodigoTransacao(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Falha ao registrar o pagamento aprovado da solicitação {}", protocolo, e);
+            estornar(protocolo, autorizacao.getCodigoTransacao(), "Não foi possível registrar o pagamento");
+        }
+    }
+
+    // A cobrança já foi aprovada mas o pagamento não foi registrado: o valor precisa voltar ao cliente
+    private void estornar(String protocolo, String codigoTransacao, String motivo) {
+        try {
+            pagamentoGatewayPort.estornar(protocolo, codigoTransacao);
+            concluir(protocolo, StatusSolicitacaoPagamentoEnum.ESTORNADO, null, codigoTransacao,
+                    motivo + "; a cobrança foi estornada");
+        } catch (RuntimeException e) {
+            log.error("Falha ao estornar a transação {} da solicitação {}", codigoTransacao, protocolo, e);
+            concluir(protocolo, StatusSolicitacaoPagamentoEnum.ESTORNO_PENDENTE, null, codigoTransacao,
+                    motivo + "; o estorno da cobrança está pendente");
+        }
+    }
+
+    private void concluir(String protocolo, StatusSolicitacaoPagamentoEnum status, Integer pagamentoId,
+                          String codigoTransacao, String mensagem) {
+        atualizar(protocolo, status, pagamentoId, codigoTransacao, mensagem);
+        solicitacoesConcluidas.get(status).increment();
+    }
+
+    private void atualizar(String protocolo, StatusSolicitacaoPagamentoEnum status, Integer pagamentoId,
+                           String codigoTransacao, String mensagem) {
+        LocalDateTime agora = Relogio.agora();
+        solicitacaoPagamentoCache.atualizar(protocolo, atual -> atual.toBuilder()
+                .status(status)
+                .pagamentoId(pagamentoId)
+                .codigoTransacaoGateway(codigoTransacao)
+                .mensagem(mensagem)
+                .dataAtualizacao(agora)
+                .build());
+        try {
+            solicitacaoPagamentoRepositoryPort.atualizarSituacao(
+                    protocolo, status, pagamentoId, codigoTransacao, mensagem, agora);
+        } catch (RuntimeException e) {
+            // A cobrança segue; a situação fica no cache desta instância até a próxima atualização gravada
+            log.error("Falha ao gravar a situação {} da solicitação de pagamento {}", status, protocolo, e);
+        }
+    }
+
+    private PagamentoRequestDTO comCodigoTransacao(PagamentoRequestDTO requestDTO, String codigoTransacao) {
+        return PagamentoRequestDTO.builder()
+                .reservaId(requestDTO.getReservaId())
+                .tipo(requestDTO.getTipo())
+                .valor(requestDTO.getValor())
+                .formaPagamento(requestDTO.getFormaPagamento())
+                .codigoTransacaoGateway(codigoTransacao != null ? codigoTransacao : requestDTO.getCodigoTransacaoGateway())
+                .build();
+    }
+}
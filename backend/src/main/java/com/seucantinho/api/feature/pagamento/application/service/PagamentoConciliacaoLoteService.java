@@ -0,0 +1,173 @@
+package com.seucantinho.api.feature.pagamento.application.service;
+
+import com.seucantinho.api.feature.pagamento.application.dto.ConciliacaoDivergenciaDTO;
+import com.seucantinho.api.feature.pagamento.application.dto.ConciliacaoRelatorioDTO;
+import com.seucantinho.api.feature.pagamento.domain.Pagamento;
+import com.seucantinho.api.feature.pagamento.domain.enums.MotivoDivergenciaConciliacaoEnum;
+import com.seucantinho.api.feature.pagamento.domain.port.out.PagamentoRepositoryPort;
+import com.seucantinho.api.feature.pagamento.domain.valueobject.LinhaConciliacao;
+import com.seucantinho.api.feature.reserva.application.service.ReservaStatusService;
+import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.domain.port.out.ReservaRepositoryPort;
+import com.seucantinho.api.shared.domain.exception.BusinessException;
+import com.seucantinho.api.shared.domain.valueobject.ValorMonetario;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class PagamentoConciliacaoLoteService {
+
+    private final PagamentoRepositoryPort pagamentoRepositoryPort;
+    private final ReservaRepositoryPort reservaRepositoryPort;
+    private final ReservaStatusService reservaStatusService;
+
+    // Um lote do arquivo por transação: uma consulta para os pagamentos já registrados, uma para as
+    // reservas, um UPDATE em lote com checagem de versão e um INSERT em lote.
+    // codigosJaVistos acumula os códigos do arquivo inteiro, entre um lote e outro
+    @Transactional
+    public ConciliacaoRelatorioDTO conciliar(List<LinhaConciliacao> linhas, Set<String> codigosJaVistos) {
+        List<ConciliacaoDivergenciaDTO> divergencias = new ArrayList<>();
+        int conciliados = 0;
+
+        Map<String, Pagamento> registrados = pagamentoRepositoryPort.findByCodigosTransacaoGateway(
+                        linhas.stream().map(LinhaConciliacao::getCodigoTransacaoGateway).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Pagamento::getCodigoTransacaoGateway, Function.identity(), (a, b) -> a));
+
+        List<LinhaConciliacao> novas = new ArrayList<>();
+        for (LinhaConciliacao linha : linhas) {
+            if (!codigosJaVistos.add(linha.getCodigoTransacaoGateway())) {
+                divergencias.add(divergencia(linha, MotivoDivergenciaConciliacaoEnum.DUPLICADA_NO_ARQUIVO,
+                        "Código de transação repetido no arquivo"));
+                continue;
+            }
+            Pagamento registrado = registrados.get(linha.getCodigoTransacaoGateway());
+            if (registrado == null) {
+                novas.add(linha);
+                continue;
+            }
+            ConciliacaoDivergenciaDTO divergencia = comparar(registrado, linha);
+            if (divergencia == null) {
+                conciliados++;
+            } else {
+                divergencias.add(divergencia);
+            }
+        }
+
+        List<Pagamento> inseridos = registrarNovos(novas, divergencias);
+
+        return ConciliacaoRelatorioDTO.builder()
+                .linhasProcessadas(linhas.size())
+                .conciliados(conciliados)
+                .inseridos(inseridos.size())
+                .divergentes(divergencias.size())
+                .divergencias(divergencias)
+                .build();
+    }
+
+    private List<Pagamento> registrarNovos(List<LinhaConciliacao> novas, List<ConciliacaoDivergenciaDTO> divergencias) {
+        List<Pagamento> inseridos = new ArrayList<>();
+        if (novas.isEmpty()) {
+            return inseridos;
+        }
+
+        // Reservas desanexadas: as regras de domínio rodam em memória e a gravação é feita em lote
+        Map<Integer, Reserva> reservas = reservaRepositoryPort.findDesanexadasComPagamentos(
+                        novas.stream().map(LinhaConciliacao::getReservaId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Reserva::getId, Function.identity()));
+
+        Map<LinhaConciliacao, Pagamento> aceitos = new LinkedHashMap<>();
+        Set<Integer> reservasAlteradas = new LinkedHashSet<>();
+        for (LinhaConciliacao linha : novas) {
+            Reserva reserva = reservas.get(linha.getReservaId());
+            if (reserva == null) {
+                divergencias.add(divergencia(linha, MotivoDivergenciaConciliacaoEnum.RESERVA_NAO_ENCONTRADA,
+                        "Reserva não encontrada com ID: " + linha.getReservaId()));
+                continue;
+            }
+            Pagamento pagamento = Pagamento.builder()
+                    .valor(ValorMonetario.of(linha.getValor()))
+                    .tipo(linha.getTipo())
+                    .formaPagamento(linha.getFormaPagamento())
+                    .codigoTransacaoGateway(linha.getCodigoTransacaoGateway())
+                    .reserva(reserva)
+                    .build();
+            try {
+                pagamento.validar();
+                reservaStatusService.updateStatusAfterPayment(reserva, pagamento);
+            } catch (IllegalArgumentException | BusinessException e) {
+                divergencias.add(divergencia(linha, MotivoDivergenciaConciliacaoEnum.PAGAMENTO_RECUSADO, e.getMessage()));
+                continue;
+            }
+            reserva.registrarPagamento(pagamento);
+            reservasAlteradas.add(reserva.getId());
+            aceitos.put(linha, pagamento);
+        }
+
+        // As regras rodaram sobre uma cópia: o novo status só é gravado se a versão lida ainda for a atual,
+        // e os pagamentos das reservas alteradas por outra operação nesse meio tempo não são inseridos
+        Set<Integer> reservasConfirmadas = confirmarVersoes(reservasAlteradas, reservas);
+        aceitos.forEach((linha, pagamento) -> {
+            if (reservasConfirmadas.contains(linha.getReservaId())) {
+                inseridos.add(pagamento);
+            } else {
+                divergencias.add(divergencia(linha, MotivoDivergenciaConciliacaoEnum.RESERVA_ALTERADA,
+                        "Reserva alterada durante a conciliação; reprocesse a linha"));
+            }
+        });
+
+        pagamentoRepositoryPort.inserirEmLote(inseridos);
+        reservaRepositoryPort.recalcularTotalPago(reservasConfirmadas);
+        return inseridos;
+    }
+
+    private Set<Integer> confirmarVersoes(Set<Integer> reservasAlteradas, Map<Integer, Reserva> reservas) {
+        List<Reserva> alteradas = reservasAlteradas.stream().map(reservas::get).toList();
+        boolean[] atualizadas = reservaRepositoryPort.updateStatusComVersaoEmLote(alteradas);
+        Set<Integer> confirmadas = new LinkedHashSet<>();
+        for (int i = 0; i < alteradas.size(); i++) {
+            if (atualizadas[i]) {
+                confirmadas.add(alteradas.get(i).getId());
+            }
+        }
+        return confirmadas;
+    }
+
+    private ConciliacaoDivergenciaDTO comparar(Pagamento registrado, LinhaConciliacao linha) {
+        if (!registrado.getReserva().getId().equals(linha.getReservaId())) {
+            return divergencia(linha, MotivoDivergenciaConciliacaoEnum.RESERVA_DIVERGENTE,
+                    "Pagamento registrado para a reserva " + registrado.getReserva().getId());
+        }
+        if (registrado.getTipo() != linha.getTipo()) {
+            return divergencia(linha, MotivoDivergenciaConciliacaoEnum.TIPO_DIVERGENTE,
+                    "Pagamento registrado como " + registrado.getTipo());
+        }
+        if (registrado.getValor().getValor().compareTo(linha.getValor()) != 0) {
+            return divergencia(linha, MotivoDivergenciaConciliacaoEnum.VALOR_DIVERGENTE,
+                    "Pagamento registrado com valor " + registrado.getValor().getValorFormatado());
+        }
+        return null;
+    }
+
+    private ConciliacaoDivergenciaDTO divergencia(LinhaConciliacao linha, MotivoDivergenciaConciliacaoEnum motivo,
+                                                  String mensagem) {
+        return ConciliacaoDivergenciaDTO.builder()
+                .linha(linha.getNumero())
+                .codigoTransacaoGateway(linha.getCodigoTransacaoGateway())
+                .motivo(motivo)
+                .mensagem(mensagem)
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.seucantinho.api.feature.pagamento.application.service;
+
+import com.seucantinho.api.feature.pagamento.application.dto.ConciliacaoDivergenciaDTO;
+import com.seucantinho.api.feature.pagamento.application.dto.ConciliacaoRelatorioDTO;
+import com.seucantinho.api.feature.pagamento.domain.enums.MotivoDivergenciaConciliacaoEnum;
+import com.seucantinho.api.feature.pagamento.domain.port.in.PagamentoConciliacaoServicePort;
+import com.seucantinho.api.feature.pagamento.domain.valueobject.LinhaConciliacao;
+import com.seucantinho.api.feature.pagamento.infrastructure.config.PagamentoConciliacaoConfig;
+import com.seucantinho.api.shared.domain.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PagamentoConciliacaoService implements PagamentoConciliacaoServicePort {
+
+    private final PagamentoConciliacaoLoteService pagamentoConciliacaoLoteService;
+    private final PagamentoConciliacaoConfig pagamentoConciliacaoConfig;
+
+    // O arquivo é lido linha a linha e conciliado em lotes de tamanho fixo; ficam em memória o lote
+    // corrente, os códigos de transação já lidos e no máximo "maximoDivergencias" divergências
+    @Override
+    public ConciliacaoRelatorioDTO importar(InputStream arquivo) {
+        int tamanhoLote = pagamentoConciliacaoConfig.getTamanhoLote();
+        ConciliacaoRelatorioDTO relatorio = ConciliacaoRelatorioDTO.builder()
+                .divergencias(new ArrayList<>())
+                .build();
+
+        try (BufferedReader leitor = new BufferedReader(new InputStreamReader(arquivo, StandardCharsets.UTF_8))) {
+            Set<String> codigosVistos = new HashSet<>();
+            List<LinhaConciliacao> lote = new ArrayList<>(tamanhoLote);
+            int numero = 0;
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                numero++;
+                if (linha.isBlank() || (numero == 1 && LinhaConciliacao.isCabecalho(linha))) {
+                    continue;
+                }
+                try {
+                    lote.add(LinhaConciliacao.parse(numero, linha));
+                } catch (BusinessException e) {
+                    acumular(relatorio, linhaInvalida(numero, e.getMessage()));
+                }
+                if (lote.size() == tamanhoLote) {
+                    acumular(relatorio, conciliarLote(lote, codigosVistos));
+                    lote = new ArrayList<>(tamanhoLote);
+                }
+            }
+            if (!lote.isEmpty()) {
+                acumular(relatorio, conciliarLote(lote, codigosVistos));
+            }
+        } catch (IOException e) {
+            throw new BusinessException("Não foi possível ler o arquivo de conciliação");
+        }
+        return relatorio;
+    }
+
+    // A falha de um lote desfaz apenas a transação dele: as linhas entram no relatório e o arquivo segue
+    private ConciliacaoRelatorioDTO conciliarLote(List<LinhaConciliacao> lote, Set<String> codigosVistos) {
+        try {
+            return pagamentoConciliacaoLoteService.conciliar(lote, codigosVistos);
+        } catch (RuntimeException e) {
+            log.error("Falha ao conciliar o lote das linhas {} a {}",
+                    lote.get(0).getNumero(), lote.get(lote.size() - 1).getNumero(), e);
+            List<ConciliacaoDivergenciaDTO> divergencias = new ArrayList<>(lote.size());
+            for (LinhaConciliacao linha : lote) {
+                divergencias.add(ConciliacaoDivergenciaDTO.builder()
+                        .linha(linha.getNumero())
+                        .codigoTransacaoGateway(linha.getCodigoTransacaoGateway())
+                        .motivo(MotivoDivergenciaConciliacaoEnum.LOTE_NAO_CONCILIADO)
+                        .mensagem("Lote não conciliado por falha ao gravar; reenvie a linha")
+                        .build());
+            }
+            return ConciliacaoRelatorioDTO.builder()
+                    .linhasProcessadas(lote.size())
+                    .divergentes(lote.size())
+                    .divergencias(divergencias)
+                    .build();
+        }
+    }
+
+    private ConciliacaoRelatorioDTO linhaInvalida(int numero, String mensagem) {
+        List<ConciliacaoDivergenciaDTO> divergencias = new ArrayList<>();
+        divergencias.add(ConciliacaoDivergenciaDTO.builder()
+                .linha(numero)
+                .motivo(MotivoDivergenciaConciliacaoEnum.LINHA_INVALIDA)
+                .mensagem(mensagem)
+                .build());
+        return ConciliacaoRelatorioDTO.builder()
+                .linhasProcessadas(1)
+                .divergentes(1)
+                .divergencias(divergencias)
+                .build();
+    }
+
+    private void acumular(ConciliacaoRelatorioDTO relatorio, ConciliacaoRelatorioDTO parcial) {
+        relatorio.setLinhasProcessadas(relatorio.getLinhasProcessadas() + parcial.getLinhasProcessadas());
+        relatorio.setConciliados(relatorio.getConciliados() + parcial.getConciliados());
+        relatorio.setInseridos(relatorio.getInseridos() + parcial.getInseridos());
+        relatorio.setDivergentes(relatorio.getDivergentes() + parcial.getDivergentes());
+
+        int espaco = pagamentoConciliacaoConfig.getMaximoDivergencias() - relatorio.getDivergencias().size();
+        List<ConciliacaoDivergenciaDTO> divergencias = parcial.getDivergencias();
+        if (divergencias.size() > espaco) {
+            divergencias = divergencias.subList(0, Math.max(espaco, 0));
+            relatorio.setDivergenciasTruncadas(true);
+        }
+        relatorio.getDivergencias().addAll(divergencias);
+    }
+}
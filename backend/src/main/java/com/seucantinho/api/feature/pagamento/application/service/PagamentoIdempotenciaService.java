@@ -0,0 +1,142 @@
+package com.seucantinho.api.feature.pagamento.application.service;
+
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoRequestDTO;
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoResponseDTO;
+import com.seucantinho.api.feature.pagamento.domain.port.in.PagamentoIdempotenciaServicePort;
+import com.seucantinho.api.feature.pagamento.domain.port.in.PagamentoServicePort;
+import com.seucantinho.api.feature.pagamento.infrastructure.cache.PagamentoIdempotenciaCache;
+import com.seucantinho.api.feature.reserva.infrastructure.lock.ReservaStripedLock;
+import com.seucantinho.api.shared.domain.exception.BusinessException;
+import com.seucantinho.api.shared.domain.exception.DuplicateResourceException;
+import com.seucantinho.api.shared.infrastructure.exception.ViolacaoIndiceUnico;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Fica fora da transação de PagamentoService: um reenvio é respondido sem abrir transação,
+// sem travar a reserva e sem executar Pagamento.validar() de novo
+@Slf4j
+@Service
+public class PagamentoIdempotenciaService implements PagamentoIdempotenciaServicePort {
+
+    static final int TAMANHO_MAXIMO_CHAVE = 100;
+    private static final String INDICE_CODIGO_TRANSACAO = "idx_pagamento_codigo_transacao";
+    private static final String INDICE_CHAVE_IDEMPOTENCIA = "idx_pagamento_chave_idempotencia";
+
+    private final PagamentoServicePort pagamentoServicePort;
+    private final PagamentoIdempotenciaCache pagamentoIdempotenciaCache;
+    private final ReservaStripedLock reservaStripedLock;
+    private final int maximoTentativas;
+    private final long esperaEntreTentativasMs;
+
+    public PagamentoIdempotenciaService(
+            PagamentoServicePort pagamentoServicePort,
+            PagamentoIdempotenciaCache pagamentoIdempotenciaCache,
+            ReservaStripedLock reservaStripedLock,
+            @Value("${app.pagamento.conflito.maximo-tentativas:3}") int maximoTentativas,
+            @Value("${app.pagamento.conflito.espera-ms:20}") long esperaEntreTentativasMs) {
+        this.pagamentoServicePort = pagamentoServicePort;
+        this.pagamentoIdempotenciaCache = pagamentoIdempotenciaCache;
+        this.reservaStripedLock = reservaStripedLock;
+        this.maximoTentativas = Math.max(1, maximoTentativas);
+        this.esperaEntreTentativasMs = esperaEntreTentativasMs;
+    }
+
+    @Override
+    public PagamentoResponseDTO registrar(PagamentoRequestDTO requestDTO, String chaveIdempotencia) {
+        String chave = normalizarChave(chaveIdempotencia);
+        String codigoTransacao = requestDTO.getCodigoTransacaoGateway();
+        if (chave == null && codigoTransacao == null) {
+            return criar(requestDTO, null);
+        }
+
+        Optional<PagamentoResponseDTO> registrado = buscarRegistrado(chave, codigoTransacao);
+        if (registrado.isPresent()) {
+            return conferir(registrado.get(), requestDTO);
+        }
+
+        try {
+            PagamentoResponseDTO criado = criar(requestDTO, chave);
+            pagamentoIdempotenciaCache.registrar(chave, criado);
+            return criado;
+        } catch (DataIntegrityViolationException e) {
+            // Outra requisição com a mesma chave venceu a corrida pelo índice único
+            if (!ViolacaoIndiceUnico.de(e, INDICE_CODIGO_TRANSACAO, INDICE_CHAVE_IDEMPOTENCIA)) {
+                throw e;
+            }
+            PagamentoResponseDTO vencedor = buscarRegistrado(chave, codigoTransacao).orElseThrow(() -> e);
+            return conferir(vencedor, requestDTO);
+        }
+    }
+
+    // O lock por reserva serializa os pagamentos desta instância; o @Version de Reserva detecta os
+    // concorrentes de outras instâncias, e a nova tentativa revalida sobre o estado já confirmado
+    private PagamentoResponseDTO criar(PagamentoRequestDTO requestDTO, String chave) {
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return reservaStripedLock.executar(requestDTO.getReservaId(), () -> chave == null
+                        ? pagamentoServicePort.create(requestDTO)
+                        : pagamentoServicePort.create(requestDTO, chave));
+            } catch (OptimisticLockingFailureException e) {
+                if (tentativa >= maximoTentativas) {
+                    throw e;
+                }
+                log.debug("Conflito de versão na reserva {}, tentativa {} de {}",
+                        requestDTO.getReservaId(), tentativa, maximoTentativas);
+                aguardar(tentativa);
+            }
+        }
+    }
+
+    private void aguardar(int tentativa) {
+        if (esperaEntreTentativasMs <= 0) {
+            return;
+        }
+        long espera = esperaEntreTentativasMs * tentativa
+                + ThreadLocalRandom.current().nextLong(esperaEntreTentativasMs + 1);
+        try {
+            Thread.sleep(espera);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Registro de pagamento interrompido", e);
+        }
+    }
+
+    private Optional<PagamentoResponseDTO> buscarRegistrado(String chave, String codigoTransacao) {
+        Optional<PagamentoResponseDTO> emCache = pagamentoIdempotenciaCache.buscar(chave, codigoTransacao);
+        if (emCache.isPresent()) {
+            return emCache;
+        }
+        Optional<PagamentoResponseDTO> persistido = pagamentoServicePort.findRegistrado(chave, codigoTransacao);
+        persistido.ifPresent(pagamento -> pagamentoIdempotenciaCache.registrar(chave, pagamento));
+        return persistido;
+    }
+
+    private PagamentoResponseDTO conferir(PagamentoResponseDTO registrado, PagamentoRequestDTO requestDTO) {
+        boolean mesmoPagamento = Objects.equals(registrado.getReservaId(), requestDTO.getReservaId())
+                && registrado.getTipo() == requestDTO.getTipo()
+                && registrado.getValor() != null && requestDTO.getValor() != null
+                && registrado.getValor().compareTo(requestDTO.getValor()) == 0;
+        if (!mesmoPagamento) {
+            throw new DuplicateResourceException("Chave de idempotência já utilizada em outro pagamento");
+        }
+        return registrado;
+    }
+
+    private String normalizarChave(String chaveIdempotencia) {
+        if (chaveIdempotencia == null || chaveIdempotencia.isBlank()) {
+            return null;
+        }
+        String chave = chaveIdempotencia.trim();
+        if (chave.length() > TAMANHO_MAXIMO_CHAVE) {
+            throw new BusinessException("Idempotency-Key deve ter no máximo " + TAMANHO_MAXIMO_CHAVE + " caracteres");
+        }
+        return chave;
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -49,22 +50,51 @@ public class PagamentoService implements PagamentoServicePort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PagamentoResponseDTO> findRegistrado(String chaveIdempotencia, String codigoTransacaoGateway) {
+        return pagamentoRepositoryPort.findByChaveIdempotenciaOrCodigoTransacao(chaveIdempotencia, codigoTransacaoGateway)
+                .map(pagamentoMapper::toResponseDTO);
+    }
+
+    // Confere as regras do pagamento contra a reserva sem gravar nada
+    @Override
+    @Transactional(readOnly = true)
+    public void validar(PagamentoRequestDTO requestDTO) {
+        pagamentoMapper.toEntity(requestDTO, findReservaWithPagamentos(requestDTO.getReservaId())).validar();
+    }
+
     @Override
     @Transactional
     public PagamentoResponseDTO create(PagamentoRequestDTO requestDTO) {
-        Reserva reserva = reservaRepositoryPort.findByIdWithPagamentos(requestDTO.getReservaId())
-                .orElseThrow(() -> new ResourceNotFoundException("Reserva não encontrada com ID: " + requestDTO.getReservaId()));
+        return create(requestDTO, null);
+    }
+
+    @Override
+    @Transactional
+    public PagamentoResponseDTO create(PagamentoRequestDTO requestDTO, String chaveIdempotencia) {
+        Reserva reserva = findReservaWithPagamentos(requestDTO.getReservaId());
 
         Pagamento pagamento = pagamentoMapper.toEntity(requestDTO, reserva);
+        pagamento.setChaveIdempotencia(chaveIdempotencia);
         pagamento.validar();
         Pagamento savedPagamento = pagamentoRepositoryPort.save(pagamento);
+        reserva.registrarPagamento(savedPagamento);
 
         reservaStatusService.updateStatusAfterPayment(reserva, savedPagamento);
         reservaRepositoryPort.save(reserva);
+        // total_pago é somado no próprio UPDATE, na mesma transação do INSERT do pagamento, e não a partir
+        // do valor lido com a reserva: dois pagamentos concorrentes não sobrescrevem um ao outro
+        reservaRepositoryPort.somarTotalPago(reserva.getId(), savedPagamento.getValor().getValor());
 
         return pagamentoMapper.toResponseDTO(savedPagamento);
     }
 
+    private Reserva findReservaWithPagamentos(Integer reservaId) {
+        return reservaRepositoryPort.findByIdWithPagamentos(reservaId)
+                .orElseThrow(() -> new ResourceNotFoundException("Reserva não encontrada com ID: " + reservaId));
+    }
+
     private Pagamento findPagamentoById(Integer id) {
         return pagamentoRepositoryPort.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Pagamento não encontrado com ID: " + id));
@@ -3,6 +3,7 @@ package com.seucantinho.api.feature.pagamento.domain;
 import com.seucantinho.api.feature.reserva.domain.Reserva;
 import com.seucantinho.api.feature.pagamento.domain.enums.TipoPagamentoEnum;
 import com.seucantinho.api.shared.domain.valueobject.ValorMonetario;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -42,13 +43,16 @@ public class Pagamento {
     @Column(name = "codigo_transacao_gateway", length = 100)
     private String codigoTransacaoGateway;
 
+    @Column(name = "chave_idempotencia", length = 100)
+    private String chaveIdempotencia;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "reserva_id", nullable = false)
     private Reserva reserva;
 
     @PrePersist
     protected void onCreate() {
-        dataPagamento = LocalDateTime.now();
+        dataPagamento = Relogio.agora();
     }
 
     public void validar() {
@@ -0,0 +1,13 @@
+package com.seucantinho.api.feature.pagamento.domain.enums;
+
+public enum MotivoDivergenciaConciliacaoEnum {
+    LINHA_INVALIDA,
+    DUPLICADA_NO_ARQUIVO,
+    RESERVA_NAO_ENCONTRADA,
+    RESERVA_DIVERGENTE,
+    TIPO_DIVERGENTE,
+    VALOR_DIVERGENTE,
+    PAGAMENTO_RECUSADO,
+    RESERVA_ALTERADA,
+    LOTE_NAO_CONCILIADO
+}
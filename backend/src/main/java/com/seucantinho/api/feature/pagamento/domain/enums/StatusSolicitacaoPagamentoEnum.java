@@ -0,0 +1,11 @@
+package com.seucantinho.api.feature.pagamento.domain.enums;
+
+public enum StatusSolicitacaoPagamentoEnum {
+    PENDENTE,
+    PROCESSANDO,
+    CONFIRMADO,
+    RECUSADO,
+    ESTORNADO,
+    ESTORNO_PENDENTE,
+    FALHA
+}
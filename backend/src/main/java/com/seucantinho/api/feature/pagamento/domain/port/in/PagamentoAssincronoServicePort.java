@@ -0,0 +1,11 @@
+package com.seucantinho.api.feature.pagamento.domain.port.in;
+
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoRequestDTO;
+import com.seucantinho.api.feature.pagamento.application.dto.SolicitacaoPagamentoDTO;
+
+public interface PagamentoAssincronoServicePort {
+
+    SolicitacaoPagamentoDTO solicitar(PagamentoRequestDTO requestDTO, String chaveIdempotencia);
+
+    SolicitacaoPagamentoDTO consultar(String protocolo);
+}
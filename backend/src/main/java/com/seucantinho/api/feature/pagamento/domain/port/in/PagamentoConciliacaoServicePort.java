@@ -0,0 +1,10 @@
+package com.seucantinho.api.feature.pagamento.domain.port.in;
+
+import com.seucantinho.api.feature.pagamento.application.dto.ConciliacaoRelatorioDTO;
+
+import java.io.InputStream;
+
+public interface PagamentoConciliacaoServicePort {
+
+    ConciliacaoRelatorioDTO importar(InputStream arquivo);
+}
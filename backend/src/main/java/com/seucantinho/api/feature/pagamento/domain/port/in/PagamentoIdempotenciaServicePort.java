@@ -0,0 +1,9 @@
+package com.seucantinho.api.feature.pagamento.domain.port.in;
+
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoRequestDTO;
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoResponseDTO;
+
+public interface PagamentoIdempotenciaServicePort {
+
+    PagamentoResponseDTO registrar(PagamentoRequestDTO requestDTO, String chaveIdempotencia);
+}
@@ -4,6 +4,7 @@ import com.seucantinho.api.feature.pagamento.application.dto.PagamentoRequestDTO
 import com.seucantinho.api.feature.pagamento.application.dto.PagamentoResponseDTO;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface PagamentoServicePort {
 
@@ -13,5 +14,11 @@ public interface PagamentoServicePort {
 
     List<PagamentoResponseDTO> findByReservaId(Integer reservaId);
 
+    Optional<PagamentoResponseDTO> findRegistrado(String chaveIdempotencia, String codigoTransacaoGateway);
+
+    void validar(PagamentoRequestDTO requestDTO);
+
     PagamentoResponseDTO create(PagamentoRequestDTO requestDTO);
+
+    PagamentoResponseDTO create(PagamentoRequestDTO requestDTO, String chaveIdempotencia);
 }
@@ -1,8 +1,11 @@
 package com.seucantinho.api.feature.pagamento.domain.port.in;
 
+import com.seucantinho.api.feature.pagamento.application.dto.ConciliacaoRelatorioDTO;
 import com.seucantinho.api.feature.pagamento.application.dto.PagamentoRequestDTO;
 import com.seucantinho.api.feature.pagamento.application.dto.PagamentoResponseDTO;
+import com.seucantinho.api.feature.pagamento.application.dto.SolicitacaoPagamentoDTO;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -14,5 +17,11 @@ public interface PagamentoWebPort {
 
     ResponseEntity<List<PagamentoResponseDTO>> findByReservaId(Integer reservaId);
 
-    ResponseEntity<PagamentoResponseDTO> create(PagamentoRequestDTO requestDTO);
+    ResponseEntity<PagamentoResponseDTO> create(PagamentoRequestDTO requestDTO, String chaveIdempotencia);
+
+    ResponseEntity<SolicitacaoPagamentoDTO> solicitar(PagamentoRequestDTO requestDTO, String chaveIdempotencia);
+
+    ResponseEntity<SolicitacaoPagamentoDTO> findSolicitacao(String protocolo);
+
+    ResponseEntity<ConciliacaoRelatorioDTO> conciliar(MultipartFile arquivo);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.seucantinho.api.feature.pagamento.domain.port.out;
+
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoRequestDTO;
+import com.seucantinho.api.feature.pagamento.domain.valueobject.AutorizacaoGateway;
+
+public interface PagamentoGatewayPort {
+
+    // Recusas do adquirente voltam como AutorizacaoGateway; falhas de comunicação são lançadas
+    AutorizacaoGateway autorizar(String protocolo, PagamentoRequestDTO requestDTO);
+
+    // Devolve uma cobrança aprovada que não pôde ser registrada; falhas de comunicação são lançadas
+    void estornar(String protocolo, String codigoTransacao);
+}
@@ -1,8 +1,12 @@
 package com.seucantinho.api.feature.pagamento.domain.port.out;
 
 import com.seucantinho.api.feature.pagamento.domain.Pagamento;
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PagamentoRepositoryPort {
@@ -13,8 +17,18 @@ public interface PagamentoRepositoryPort {
 
     List<Pagamento> findByReservaId(Integer reservaId);
 
+    Optional<Pagamento> findByChaveIdempotenciaOrCodigoTransacao(String chaveIdempotencia, String codigoTransacaoGateway);
+
+    List<Pagamento> findByCodigosTransacaoGateway(Collection<String> codigosTransacaoGateway);
+
+    Map<Integer, BigDecimal> sumValorByReservaIds(Collection<Integer> reservaIds);
+
     Pagamento save(Pagamento pagamento);
 
+    int inserirEmLote(List<Pagamento> pagamentos);
+
+    int deleteByReservaIdsAndStatusReserva(Collection<Integer> reservaIds, StatusReservaEnum statusReserva);
+
     void deleteById(Integer id);
 
     boolean existsById(Integer id);
@@ -0,0 +1,22 @@
+package com.seucantinho.api.feature.pagamento.domain.port.out;
+
+import com.seucantinho.api.feature.pagamento.application.dto.SolicitacaoPagamentoDTO;
+import com.seucantinho.api.feature.pagamento.domain.enums.StatusSolicitacaoPagamentoEnum;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface SolicitacaoPagamentoRepositoryPort {
+
+    // false quando já existe uma solicitação com a mesma chave de idempotência
+    boolean inserir(SolicitacaoPagamentoDTO solicitacao, String chaveIdempotencia);
+
+    Optional<SolicitacaoPagamentoDTO> findByProtocolo(String protocolo);
+
+    Optional<SolicitacaoPagamentoDTO> findByChaveIdempotencia(String chaveIdempotencia);
+
+    void atualizarSituacao(String protocolo, StatusSolicitacaoPagamentoEnum status, Integer pagamentoId,
+                           String codigoTransacaoGateway, String mensagem, LocalDateTime dataAtualizacao);
+
+    void deleteByProtocolo(String protocolo);
+}
@@ -0,0 +1,26 @@
+package com.seucantinho.api.feature.pagamento.domain.valueobject;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resposta do gateway para uma cobrança: aprovada com o código da transação
+ * ou recusada com o motivo informado pelo adquirente.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AutorizacaoGateway {
+
+    private final boolean aprovada;
+    private final String codigoTransacao;
+    private final String motivoRecusa;
+
+    public static AutorizacaoGateway aprovada(String codigoTransacao) {
+        return new AutorizacaoGateway(true, codigoTransacao, null);
+    }
+
+    public static AutorizacaoGateway recusada(String motivoRecusa) {
+        return new AutorizacaoGateway(false, null, motivoRecusa);
+    }
+}
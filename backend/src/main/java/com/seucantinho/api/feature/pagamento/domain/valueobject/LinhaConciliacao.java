@@ -0,0 +1,99 @@
+package com.seucantinho.api.feature.pagamento.domain.valueobject;
+
+import com.seucantinho.api.feature.pagamento.domain.enums.TipoPagamentoEnum;
+import com.seucantinho.api.shared.domain.exception.BusinessException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Linha do arquivo de liquidação do adquirente, no formato
+ * {@code codigo_transacao;reserva_id;tipo;valor[;forma_pagamento]}.
+ * O parse percorre a linha com indexOf, sem expressões regulares.
+ */
+@Getter
+@EqualsAndHashCode
+public class LinhaConciliacao {
+
+    private static final char SEPARADOR = ';';
+    private static final int CAMPOS_OBRIGATORIOS = 4;
+    private static final int TOTAL_CAMPOS = 5;
+    private static final int TAMANHO_MAXIMO_CODIGO = 100;
+    private static final String CABECALHO = "codigo_transacao";
+
+    private final int numero;
+    private final String codigoTransacaoGateway;
+    private final Integer reservaId;
+    private final TipoPagamentoEnum tipo;
+    private final BigDecimal valor;
+    private final String formaPagamento;
+
+    private LinhaConciliacao(int numero, String codigoTransacaoGateway, Integer reservaId,
+                             TipoPagamentoEnum tipo, BigDecimal valor, String formaPagamento) {
+        this.numero = numero;
+        this.codigoTransacaoGateway = codigoTransacaoGateway;
+        this.reservaId = reservaId;
+        this.tipo = tipo;
+        this.valor = valor;
+        this.formaPagamento = formaPagamento;
+    }
+
+    public static boolean isCabecalho(String linha) {
+        return linha.regionMatches(true, 0, CABECALHO, 0, CABECALHO.length());
+    }
+
+    public static LinhaConciliacao parse(int numero, String linha) {
+        String[] campos = new String[TOTAL_CAMPOS];
+        int quantidade = 0;
+        int inicio = 0;
+        while (quantidade < TOTAL_CAMPOS) {
+            int fim = linha.indexOf(SEPARADOR, inicio);
+            if (fim < 0) {
+                campos[quantidade++] = linha.substring(inicio).trim();
+                break;
+            }
+            campos[quantidade++] = linha.substring(inicio, fim).trim();
+            inicio = fim + 1;
+        }
+        if (quantidade < CAMPOS_OBRIGATORIOS) {
+            throw new BusinessException("Linha deve possuir ao menos " + CAMPOS_OBRIGATORIOS + " campos separados por ';'");
+        }
+
+        String codigo = campos[0];
+        if (codigo.isEmpty() || codigo.length() > TAMANHO_MAXIMO_CODIGO) {
+            throw new BusinessException("Código de transação deve ter entre 1 e " + TAMANHO_MAXIMO_CODIGO + " caracteres");
+        }
+        String formaPagamento = quantidade == TOTAL_CAMPOS && !campos[4].isEmpty() ? campos[4] : null;
+        return new LinhaConciliacao(numero, codigo, parseReservaId(campos[1]), parseTipo(campos[2]),
+                parseValor(campos[3]), formaPagamento);
+    }
+
+    private static Integer parseReservaId(String campo) {
+        try {
+            return Integer.valueOf(campo);
+        } catch (NumberFormatException e) {
+            throw new BusinessException("ID da reserva inválido: " + campo);
+        }
+    }
+
+    private static TipoPagamentoEnum parseTipo(String campo) {
+        try {
+            return TipoPagamentoEnum.valueOf(campo);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Tipo de pagamento inválido: " + campo);
+        }
+    }
+
+    private static BigDecimal parseValor(String campo) {
+        try {
+            BigDecimal valor = new BigDecimal(campo.replace(',', '.'));
+            if (valor.signum() <= 0) {
+                throw new BusinessException("Valor deve ser positivo: " + campo);
+            }
+            return valor;
+        } catch (NumberFormatException e) {
+            throw new BusinessException("Valor inválido: " + campo);
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.seucantinho.api.feature.pagamento.infrastructure.adapter.in.web;
 
+import com.seucantinho.api.feature.pagamento.application.dto.ConciliacaoRelatorioDTO;
 import com.seucantinho.api.feature.pagamento.application.dto.PagamentoRequestDTO;
 import com.seucantinho.api.feature.pagamento.application.dto.PagamentoResponseDTO;
+import com.seucantinho.api.feature.pagamento.application.dto.SolicitacaoPagamentoDTO;
+import com.seucantinho.api.feature.pagamento.domain.port.in.PagamentoAssincronoServicePort;
+import com.seucantinho.api.feature.pagamento.domain.port.in.PagamentoConciliacaoServicePort;
+import com.seucantinho.api.feature.pagamento.domain.port.in.PagamentoIdempotenciaServicePort;
 import com.seucantinho.api.feature.pagamento.domain.port.in.PagamentoServicePort;
 import com.seucantinho.api.feature.pagamento.domain.port.in.PagamentoWebPort;
+import com.seucantinho.api.shared.domain.exception.BusinessException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,10 +20,15 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -28,6 +39,9 @@ import java.util.List;
 public class PagamentoWebAdapter implements PagamentoWebPort {
 
     private final PagamentoServicePort pagamentoService;
+    private final PagamentoIdempotenciaServicePort pagamentoIdempotenciaService;
+    private final PagamentoConciliacaoServicePort pagamentoConciliacaoService;
+    private final PagamentoAssincronoServicePort pagamentoAssincronoService;
 
     @Override
     @GetMapping
@@ -89,7 +103,9 @@ public class PagamentoWebAdapter implements PagamentoWebPort {
     @Operation(
         summary = "Registrar novo pagamento",
         description = "Registra um novo pagamento para uma reserva. O pagamento pode ser sinal, parcela ou pagamento total. " +
-                     "Atualiza automaticamente o status da reserva baseado nos pagamentos realizados."
+                     "Atualiza automaticamente o status da reserva baseado nos pagamentos realizados. " +
+                     "Reenvios com o mesmo Idempotency-Key ou o mesmo código de transação do gateway " +
+                     "retornam o pagamento original sem registrá-lo de novo."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -100,7 +116,8 @@ public class PagamentoWebAdapter implements PagamentoWebPort {
         @ApiResponse(responseCode = "400", description = "Dados inválidos ou valor do pagamento inconsistente", content = @Content),
         @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content),
         @ApiResponse(responseCode = "403", description = "Sem permissão para registrar pagamentos", content = @Content),
-        @ApiResponse(responseCode = "404", description = "Reserva não encontrada", content = @Content)
+        @ApiResponse(responseCode = "404", description = "Reserva não encontrada", content = @Content),
+        @ApiResponse(responseCode = "409", description = "Chave de idempotência já utilizada em outro pagamento", content = @Content)
     })
     public ResponseEntity<PagamentoResponseDTO> create(
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -108,8 +125,88 @@ public class PagamentoWebAdapter implements PagamentoWebPort {
                 required = true,
                 content = @Content(schema = @Schema(implementation = PagamentoRequestDTO.class))
             )
-            @Valid @RequestBody PagamentoRequestDTO requestDTO) {
-        PagamentoResponseDTO pagamento = pagamentoService.create(requestDTO);
+            @Valid @RequestBody PagamentoRequestDTO requestDTO,
+            @Parameter(description = "Chave única da tentativa de pagamento, repetida nos reenvios")
+            @RequestHeader(value = "Idempotency-Key", required = false) String chaveIdempotencia) {
+        PagamentoResponseDTO pagamento = pagamentoIdempotenciaService.registrar(requestDTO, chaveIdempotencia);
         return ResponseEntity.status(HttpStatus.CREATED).body(pagamento);
     }
+
+    @Override
+    @PostMapping("/assincrono")
+    @Operation(
+        summary = "Solicitar pagamento assíncrono",
+        description = "Aceita a intenção de pagamento e responde imediatamente com um protocolo de acompanhamento. " +
+                     "A cobrança no gateway e o registro do pagamento acontecem em segundo plano; o status da reserva " +
+                     "só é atualizado quando o gateway confirma. Reenvios com o mesmo Idempotency-Key devolvem a mesma solicitação."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Solicitação aceita; acompanhe pelo protocolo retornado",
+            content = @Content(schema = @Schema(implementation = SolicitacaoPagamentoDTO.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content),
+        @ApiResponse(responseCode = "403", description = "Sem permissão para registrar pagamentos", content = @Content),
+        @ApiResponse(responseCode = "503", description = "Fila de pagamentos cheia", content = @Content)
+    })
+    public ResponseEntity<SolicitacaoPagamentoDTO> solicitar(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Dados do pagamento a ser cobrado",
+                required = true,
+                content = @Content(schema = @Schema(implementation = PagamentoRequestDTO.class))
+            )
+            @Valid @RequestBody PagamentoRequestDTO requestDTO,
+            @Parameter(description = "Chave única da tentativa de pagamento, repetida nos reenvios")
+            @RequestHeader(value = "Idempotency-Key", required = false) String chaveIdempotencia) {
+        SolicitacaoPagamentoDTO solicitacao = pagamentoAssincronoService.solicitar(requestDTO, chaveIdempotencia);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/pagamentos/solicitacoes/" + solicitacao.getProtocolo()))
+                .body(solicitacao);
+    }
+
+    @Override
+    @GetMapping("/solicitacoes/{protocolo}")
+    @Operation(
+        summary = "Consultar solicitação de pagamento assíncrono",
+        description = "Retorna a situação da solicitação (PENDENTE, PROCESSANDO, CONFIRMADO, RECUSADO, ESTORNADO, " +
+                     "ESTORNO_PENDENTE ou FALHA) e, quando confirmada, o ID do pagamento registrado. ESTORNADO indica " +
+                     "uma cobrança aprovada que não pôde ser registrada e foi devolvida."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Solicitação encontrada"),
+        @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content),
+        @ApiResponse(responseCode = "403", description = "Sem permissão para acessar este recurso", content = @Content),
+        @ApiResponse(responseCode = "404", description = "Solicitação não encontrada", content = @Content)
+    })
+    public ResponseEntity<SolicitacaoPagamentoDTO> findSolicitacao(
+            @Parameter(description = "Protocolo retornado na solicitação", required = true)
+            @PathVariable String protocolo) {
+        return ResponseEntity.ok(pagamentoAssincronoService.consultar(protocolo));
+    }
+
+    @Override
+    @PostMapping(value = "/conciliacao", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+        summary = "Importar arquivo de conciliação do adquirente",
+        description = "Recebe o arquivo de liquidação (CSV separado por ';': codigo_transacao;reserva_id;tipo;valor;forma_pagamento). " +
+                     "Pagamentos já registrados são conferidos pelo código de transação, os ausentes são registrados " +
+                     "e as reservas têm o status atualizado. Retorna o relatório com as divergências encontradas."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Arquivo processado; divergências listadas no relatório"),
+        @ApiResponse(responseCode = "400", description = "Arquivo ilegível", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content),
+        @ApiResponse(responseCode = "403", description = "Sem permissão para conciliar pagamentos", content = @Content)
+    })
+    public ResponseEntity<ConciliacaoRelatorioDTO> conciliar(
+            @Parameter(description = "Arquivo de liquidação do adquirente", required = true)
+            @RequestParam("arquivo") MultipartFile arquivo) {
+        try (InputStream conteudo = arquivo.getInputStream()) {
+            return ResponseEntity.ok(pagamentoConciliacaoService.importar(conteudo));
+        } catch (IOException e) {
+            throw new BusinessException("Não foi possível ler o arquivo de conciliação");
+        }
+    }
 }
\ No newline at end of file
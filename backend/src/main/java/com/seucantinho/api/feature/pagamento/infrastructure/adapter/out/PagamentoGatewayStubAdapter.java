@@ -0,0 +1,67 @@
+package com.seucantinho.api.feature.pagamento.infrastructure.adapter.out;
+
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoRequestDTO;
+import com.seucantinho.api.feature.pagamento.domain.port.out.PagamentoGatewayPort;
+import com.seucantinho.api.feature.pagamento.domain.valueobject.AutorizacaoGateway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Gateway em memória para desenvolvimento e testes de carga: simula latência, recusas e indisponibilidade
+@Component
+@ConditionalOnProperty(name = "app.pagamento.gateway.tipo", havingValue = "stub", matchIfMissing = true)
+public class PagamentoGatewayStubAdapter implements PagamentoGatewayPort {
+
+    private final long latenciaMinimaMs;
+    private final long latenciaMaximaMs;
+    private final double taxaRecusa;
+    private final double taxaFalha;
+
+    public PagamentoGatewayStubAdapter(
+            @Value("${app.pagamento.gateway.stub.latencia-minima-ms:50}") long latenciaMinimaMs,
+            @Value("${app.pagamento.gateway.stub.latencia-maxima-ms:300}") long latenciaMaximaMs,
+            @Value("${app.pagamento.gateway.stub.taxa-recusa:0.0}") double taxaRecusa,
+            @Value("${app.pagamento.gateway.stub.taxa-falha:0.0}") double taxaFalha) {
+        this.latenciaMinimaMs = latenciaMinimaMs;
+        this.latenciaMaximaMs = Math.max(latenciaMinimaMs, latenciaMaximaMs);
+        this.taxaRecusa = taxaRecusa;
+        this.taxaFalha = taxaFalha;
+    }
+
+    @Override
+    public AutorizacaoGateway autorizar(String protocolo, PagamentoRequestDTO requestDTO) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        simularLatencia(random.nextLong(latenciaMinimaMs, latenciaMaximaMs + 1));
+
+        double sorteio = random.nextDouble();
+        if (sorteio < taxaFalha) {
+            throw new IllegalStateException("Gateway de pagamento indisponível");
+        }
+        if (sorteio < taxaFalha + taxaRecusa) {
+            return AutorizacaoGateway.recusada("Pagamento recusado pelo emissor");
+        }
+        String codigoTransacao = requestDTO.getCodigoTransacaoGateway() != null
+                ? requestDTO.getCodigoTransacaoGateway()
+                : "STUB-" + protocolo;
+        return AutorizacaoGateway.aprovada(codigoTransacao);
+    }
+
+    @Override
+    public void estornar(String protocolo, String codigoTransacao) {
+        simularLatencia(ThreadLocalRandom.current().nextLong(latenciaMinimaMs, latenciaMaximaMs + 1));
+    }
+
+    private void simularLatencia(long latenciaMs) {
+        if (latenciaMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latenciaMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Consulta ao gateway de pagamento interrompida", e);
+        }
+    }
+}
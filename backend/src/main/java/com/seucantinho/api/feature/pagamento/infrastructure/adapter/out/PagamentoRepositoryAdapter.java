@@ -3,17 +3,33 @@ package com.seucantinho.api.feature.pagamento.infrastructure.adapter.out;
 import com.seucantinho.api.feature.pagamento.domain.Pagamento;
 import com.seucantinho.api.feature.pagamento.domain.port.out.PagamentoRepositoryPort;
 import com.seucantinho.api.feature.pagamento.infrastructure.persistence.PagamentoRepository;
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class PagamentoRepositoryAdapter implements PagamentoRepositoryPort {
 
+    // tb_pagamento usa IDENTITY, o que impede o Hibernate de agrupar INSERTs; a importação em lote usa JDBC direto
+    private static final String INSERT_PAGAMENTO = "INSERT INTO tb_pagamento " +
+            "(data_pagamento, valor, tipo, forma_pagamento, codigo_transacao_gateway, reserva_id) " +
+            "VALUES (?, ?, CAST(? AS tipo_pagamento_enum), ?, ?, ?)";
+
     private final PagamentoRepository pagamentoRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<Pagamento> findAll() {
@@ -30,11 +46,72 @@ public class PagamentoRepositoryAdapter implements PagamentoRepositoryPort {
         return pagamentoRepository.findByReservaId(reservaId);
     }
 
+    @Override
+    public Optional<Pagamento> findByChaveIdempotenciaOrCodigoTransacao(String chaveIdempotencia,
+                                                                        String codigoTransacaoGateway) {
+        if (chaveIdempotencia == null && codigoTransacaoGateway == null) {
+            return Optional.empty();
+        }
+        List<Pagamento> pagamentos = pagamentoRepository.findByChaveIdempotenciaOrCodigoTransacao(
+                chaveIdempotencia, codigoTransacaoGateway);
+        // A chave de idempotência identifica a requisição original; o código do gateway é o fallback
+        return pagamentos.stream()
+                .filter(pagamento -> chaveIdempotencia != null && chaveIdempotencia.equals(pagamento.getChaveIdempotencia()))
+                .findFirst()
+                .or(() -> pagamentos.stream().findFirst());
+    }
+
+    @Override
+    public List<Pagamento> findByCodigosTransacaoGateway(Collection<String> codigosTransacaoGateway) {
+        if (codigosTransacaoGateway.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return pagamentoRepository.findByCodigoTransacaoGatewayIn(codigosTransacaoGateway);
+    }
+
+    @Override
+    public Map<Integer, BigDecimal> sumValorByReservaIds(Collection<Integer> reservaIds) {
+        Map<Integer, BigDecimal> totais = new HashMap<>();
+        if (reservaIds.isEmpty()) {
+            return totais;
+        }
+        for (Object[] linha : pagamentoRepository.sumValorByReservaIds(reservaIds)) {
+            totais.put((Integer) linha[0], (BigDecimal) linha[1]);
+        }
+        return totais;
+    }
+
     @Override
     public Pagamento save(Pagamento pagamento) {
         return pagamentoRepository.save(pagamento);
     }
 
+    @Override
+    public int inserirEmLote(List<Pagamento> pagamentos) {
+        if (pagamentos.isEmpty()) {
+            return 0;
+        }
+        Timestamp agora = Timestamp.valueOf(Relogio.agora());
+        int[][] resultados = jdbcTemplate.batchUpdate(INSERT_PAGAMENTO, pagamentos, pagamentos.size(),
+                (comando, pagamento) -> {
+                    comando.setTimestamp(1, agora);
+                    comando.setBigDecimal(2, pagamento.getValor().getValor());
+                    comando.setString(3, pagamento.getTipo().name());
+                    comando.setString(4, pagamento.getFormaPagamento());
+                    comando.setString(5, pagamento.getCodigoTransacaoGateway());
+                    comando.setInt(6, pagamento.getReserva().getId());
+                });
+        return Arrays.stream(resultados).mapToInt(lote -> lote.length).sum();
+    }
+
+    @Override
+    public int deleteByReservaIdsAndStatusReserva(Collection<Integer> reservaIds, StatusReservaEnum statusReserva) {
+        if (reservaIds.isEmpty()) {
+            return 0;
+        }
+        return pagamentoRepository.deleteByReservaIdsAndStatusReserva(reservaIds, statusReserva);
+    }
+
     @Override
     public void deleteById(Integer id) {
         pagamentoRepository.deleteById(id);
@@ -0,0 +1,92 @@
+package com.seucantinho.api.feature.pagamento.infrastructure.adapter.out;
+
+import com.seucantinho.api.feature.pagamento.application.dto.SolicitacaoPagamentoDTO;
+import com.seucantinho.api.feature.pagamento.domain.enums.StatusSolicitacaoPagamentoEnum;
+import com.seucantinho.api.feature.pagamento.domain.enums.TipoPagamentoEnum;
+import com.seucantinho.api.feature.pagamento.domain.port.out.SolicitacaoPagamentoRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class SolicitacaoPagamentoRepositoryAdapter implements SolicitacaoPagamentoRepositoryPort {
+
+    // A mesma Idempotency-Key já gravada (por outra instância ou antes de um reinício) não insere nada
+    private static final String INSERT_SOLICITACAO = "INSERT INTO tb_solicitacao_pagamento " +
+            "(protocolo, chave_idempotencia, status, reserva_id, tipo, valor, forma_pagamento, data_solicitacao, data_atualizacao) " +
+            "VALUES (?, ?, CAST(? AS status_solicitacao_pagamento_enum), ?, CAST(? AS tipo_pagamento_enum), ?, ?, ?, ?) " +
+            "ON CONFLICT (chave_idempotencia) WHERE chave_idempotencia IS NOT NULL DO NOTHING";
+
+    private static final String UPDATE_SITUACAO = "UPDATE tb_solicitacao_pagamento " +
+            "SET status = CAST(? AS status_solicitacao_pagamento_enum), pagamento_id = ?, codigo_transacao_gateway = ?, " +
+            "mensagem = ?, data_atualizacao = ? WHERE protocolo = ?";
+
+    private static final String SELECT_SOLICITACAO = "SELECT protocolo, status, reserva_id, tipo, valor, forma_pagamento, " +
+            "pagamento_id, codigo_transacao_gateway, mensagem, data_solicitacao, data_atualizacao " +
+            "FROM tb_solicitacao_pagamento ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean inserir(SolicitacaoPagamentoDTO solicitacao, String chaveIdempotencia) {
+        return jdbcTemplate.update(INSERT_SOLICITACAO,
+                solicitacao.getProtocolo(),
+                chaveIdempotencia,
+                solicitacao.getStatus().name(),
+                solicitacao.getReservaId(),
+                solicitacao.getTipo().name(),
+                solicitacao.getValor(),
+                solicitacao.getFormaPagamento(),
+                Timestamp.valueOf(solicitacao.getDataSolicitacao()),
+                Timestamp.valueOf(solicitacao.getDataAtualizacao())) == 1;
+    }
+
+    @Override
+    public Optional<SolicitacaoPagamentoDTO> findByProtocolo(String protocolo) {
+        return jdbcTemplate.query(SELECT_SOLICITACAO + "WHERE protocolo = ?", this::mapear, protocolo)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<SolicitacaoPagamentoDTO> findByChaveIdempotencia(String chaveIdempotencia) {
+        return jdbcTemplate.query(SELECT_SOLICITACAO + "WHERE chave_idempotencia = ?", this::mapear, chaveIdempotencia)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public void atualizarSituacao(String protocolo, StatusSolicitacaoPagamentoEnum status, Integer pagamentoId,
+                                  String codigoTransacaoGateway, String mensagem, LocalDateTime dataAtualizacao) {
+        jdbcTemplate.update(UPDATE_SITUACAO, status.name(), pagamentoId, codigoTransacaoGateway, mensagem,
+                Timestamp.valueOf(dataAtualizacao), protocolo);
+    }
+
+    @Override
+    public void deleteByProtocolo(String protocolo) {
+        jdbcTemplate.update("DELETE FROM tb_solicitacao_pagamento WHERE protocolo = ?", protocolo);
+    }
+
+    private SolicitacaoPagamentoDTO mapear(ResultSet linha, int numero) throws SQLException {
+        return SolicitacaoPagamentoDTO.builder()
+                .protocolo(linha.getString("protocolo"))
+                .status(StatusSolicitacaoPagamentoEnum.valueOf(linha.getString("status")))
+                .reservaId(linha.getInt("reserva_id"))
+                .tipo(TipoPagamentoEnum.valueOf(linha.getString("tipo")))
+                .valor(linha.getBigDecimal("valor"))
+                .formaPagamento(linha.getString("forma_pagamento"))
+                .pagamentoId(linha.getObject("pagamento_id", Integer.class))
+                .codigoTransacaoGateway(linha.getString("codigo_transacao_gateway"))
+                .mensagem(linha.getString("mensagem"))
+                .dataSolicitacao(linha.getTimestamp("data_solicitacao").toLocalDateTime())
+                .dataAtualizacao(linha.getTimestamp("data_atualizacao").toLocalDateTime())
+                .build();
+    }
+}
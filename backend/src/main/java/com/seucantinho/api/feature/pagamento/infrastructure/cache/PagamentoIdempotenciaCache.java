@@ -0,0 +1,72 @@
+package com.seucantinho.api.feature.pagamento.infrastructure.cache;
+
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Respostas de pagamentos registrados recentemente, indexadas pela chave
+ * {@code Idempotency-Key} e pelo código de transação do gateway.
+ * <p>
+ * A leitura não bloqueia; ao atingir a capacidade as entradas mais antigas são
+ * descartadas e o reenvio passa a ser resolvido pelos índices únicos de {@code tb_pagamento}.
+ */
+@Component
+public class PagamentoIdempotenciaCache {
+
+    private static final String PREFIXO_CHAVE = "chave:";
+    private static final String PREFIXO_TRANSACAO = "transacao:";
+
+    private final int capacidade;
+    private final Map<String, PagamentoResponseDTO> pagamentos = new ConcurrentHashMap<>();
+    private final Queue<String> ordemInsercao = new ConcurrentLinkedQueue<>();
+
+    public PagamentoIdempotenciaCache(
+            @Value("${app.pagamento.idempotencia.capacidade-cache:10000}") int capacidade) {
+        this.capacidade = capacidade;
+    }
+
+    public Optional<PagamentoResponseDTO> buscar(String chaveIdempotencia, String codigoTransacaoGateway) {
+        PagamentoResponseDTO pagamento = null;
+        if (chaveIdempotencia != null) {
+            pagamento = pagamentos.get(PREFIXO_CHAVE + chaveIdempotencia);
+        }
+        if (pagamento == null && codigoTransacaoGateway != null) {
+            pagamento = pagamentos.get(PREFIXO_TRANSACAO + codigoTransacaoGateway);
+        }
+        return Optional.ofNullable(pagamento);
+    }
+
+    public void registrar(String chaveIdempotencia, PagamentoResponseDTO pagamento) {
+        if (chaveIdempotencia != null) {
+            adicionar(PREFIXO_CHAVE + chaveIdempotencia, pagamento);
+        }
+        if (pagamento.getCodigoTransacaoGateway() != null) {
+            adicionar(PREFIXO_TRANSACAO + pagamento.getCodigoTransacaoGateway(), pagamento);
+        }
+    }
+
+    public int tamanho() {
+        return pagamentos.size();
+    }
+
+    private void adicionar(String chave, PagamentoResponseDTO pagamento) {
+        if (pagamentos.putIfAbsent(chave, pagamento) != null) {
+            return;
+        }
+        ordemInsercao.add(chave);
+        while (pagamentos.size() > capacidade) {
+            String maisAntiga = ordemInsercao.poll();
+            if (maisAntiga == null) {
+                return;
+            }
+            pagamentos.remove(maisAntiga);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.seucantinho.api.feature.pagamento.infrastructure.cache;
+
+import com.seucantinho.api.feature.pagamento.application.dto.SolicitacaoPagamentoDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.UnaryOperator;
+
+/**
+ * Situação das solicitações de pagamento assíncronas, indexadas pelo protocolo
+ * devolvido no 202 e pela {@code Idempotency-Key} da requisição.
+ * <p>
+ * Ao atingir a capacidade as solicitações mais antigas são descartadas; a consulta
+ * passa a ler {@code tb_solicitacao_pagamento}, onde toda solicitação é gravada.
+ */
+@Component
+public class SolicitacaoPagamentoCache {
+
+    private final int capacidade;
+    private final Map<String, SolicitacaoPagamentoDTO> solicitacoes = new ConcurrentHashMap<>();
+    private final Map<String, String> protocoloPorChave = new ConcurrentHashMap<>();
+    private final Map<String, String> chavePorProtocolo = new ConcurrentHashMap<>();
+    private final Queue<String> ordemInsercao = new ConcurrentLinkedQueue<>();
+
+    public SolicitacaoPagamentoCache(
+            @Value("${app.pagamento.assincrono.capacidade-cache:10000}") int capacidade) {
+        this.capacidade = capacidade;
+    }
+
+    // Devolve a solicitação já aberta com a mesma chave ou registra a nova
+    public SolicitacaoPagamentoDTO registrarSeAusente(String chaveIdempotencia, SolicitacaoPagamentoDTO solicitacao) {
+        String protocolo = solicitacao.getProtocolo();
+        solicitacoes.put(protocolo, solicitacao);
+        if (chaveIdempotencia != null) {
+            String existente = protocoloPorChave.putIfAbsent(chaveIdempotencia, protocolo);
+            if (existente != null) {
+                SolicitacaoPagamentoDTO anterior = solicitacoes.get(existente);
+                if (anterior != null) {
+                    solicitacoes.remove(protocolo);
+                    return anterior;
+                }
+                // A solicitação anterior já foi descartada; a chave passa a apontar para a nova
+                protocoloPorChave.put(chaveIdempotencia, protocolo);
+            }
+            chavePorProtocolo.put(protocolo, chaveIdempotencia);
+        }
+        ordemInsercao.add(protocolo);
+        descartarExcedentes();
+        return solicitacao;
+    }
+
+    public Optional<SolicitacaoPagamentoDTO> buscar(String protocolo) {
+        return Optional.ofNullable(solicitacoes.get(protocolo));
+    }
+
+    public void atualizar(String protocolo, UnaryOperator<SolicitacaoPagamentoDTO> atualizacao) {
+        solicitacoes.computeIfPresent(protocolo, (chave, atual) -> atualizacao.apply(atual));
+    }
+
+    public void remover(String protocolo) {
+        solicitacoes.remove(protocolo);
+        String chave = chavePorProtocolo.remove(protocolo);
+        if (chave != null) {
+            protocoloPorChave.remove(chave, protocolo);
+        }
+    }
+
+    public int tamanho() {
+        return solicitacoes.size();
+    }
+
+    private void descartarExcedentes() {
+        while (solicitacoes.size() > capacidade) {
+            String maisAntiga = ordemInsercao.poll();
+            if (maisAntiga == null) {
+                return;
+            }
+            remover(maisAntiga);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.seucantinho.api.feature.pagamento.infrastructure.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class PagamentoAssincronoConfig {
+
+    // Threads e fila limitadas: com a fila cheia a solicitação é recusada (503) em vez de acumular memória
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor pagamentoGatewayExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${app.pagamento.assincrono.threads:32}") int threads,
+            @Value("${app.pagamento.assincrono.capacidade-fila:1000}") int capacidadeFila) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                new CustomizableThreadFactory("pagamento-gateway-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("pagamento.assincrono.fila", executor, e -> e.getQueue().size())
+                .description("Solicitações de pagamento aguardando uma thread do gateway")
+                .register(meterRegistry);
+        Gauge.builder("pagamento.assincrono.em_processamento", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Solicitações de pagamento em conversa com o gateway")
+                .register(meterRegistry);
+        return executor;
+    }
+}
@@ -0,0 +1,21 @@
+package com.seucantinho.api.feature.pagamento.infrastructure.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class PagamentoConciliacaoConfig {
+
+    // Linhas do arquivo conciliadas por transação; limita a memória usada pela importação
+    private final int tamanhoLote;
+    private final int maximoDivergencias;
+
+    public PagamentoConciliacaoConfig(
+            @Value("${app.pagamento.conciliacao.tamanho-lote:1000}") int tamanhoLote,
+            @Value("${app.pagamento.conciliacao.maximo-divergencias:1000}") int maximoDivergencias) {
+        this.tamanhoLote = tamanhoLote;
+        this.maximoDivergencias = maximoDivergencias;
+    }
+}
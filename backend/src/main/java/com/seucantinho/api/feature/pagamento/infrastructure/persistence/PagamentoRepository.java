@@ -2,11 +2,16 @@ package com.seucantinho.api.feature.pagamento.infrastructure.persistence;
 
 import com.seucantinho.api.feature.pagamento.domain.Pagamento;
 import com.seucantinho.api.feature.pagamento.domain.enums.TipoPagamentoEnum;
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,6 +21,31 @@ public interface PagamentoRepository extends JpaRepository<Pagamento, Integer> {
 
     List<Pagamento> findByTipo(TipoPagamentoEnum tipo);
 
-    @Query("SELECT SUM(p.valor) FROM Pagamento p WHERE p.reserva.id = :reservaId")
+    List<Pagamento> findByCodigoTransacaoGatewayIn(Collection<String> codigosTransacaoGateway);
+
+    // Parâmetros nulos nao casam com "=" em JPQL, entao basta informar uma das chaves
+    @Query("SELECT p FROM Pagamento p " +
+           "WHERE p.chaveIdempotencia = :chaveIdempotencia " +
+           "OR p.codigoTransacaoGateway = :codigoTransacaoGateway")
+    List<Pagamento> findByChaveIdempotenciaOrCodigoTransacao(
+        @Param("chaveIdempotencia") String chaveIdempotencia,
+        @Param("codigoTransacaoGateway") String codigoTransacaoGateway
+    );
+
+    @Query("SELECT SUM(p.valor.valor) FROM Pagamento p WHERE p.reserva.id = :reservaId")
     BigDecimal sumValorByReservaId(Integer reservaId);
+
+    @Query("SELECT p.reserva.id, SUM(p.valor.valor) FROM Pagamento p " +
+           "WHERE p.reserva.id IN :reservaIds " +
+           "GROUP BY p.reserva.id")
+    List<Object[]> sumValorByReservaIds(@Param("reservaIds") Collection<Integer> reservaIds);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Pagamento p WHERE p.reserva.id IN (" +
+           "SELECT r.id FROM Reserva r WHERE r.id IN :reservaIds AND r.status = :statusReserva)")
+    int deleteByReservaIdsAndStatusReserva(
+        @Param("reservaIds") Collection<Integer> reservaIds,
+        @Param("statusReserva") StatusReservaEnum statusReserva
+    );
 }
@@ -0,0 +1,18 @@
+package com.seucantinho.api.feature.reserva.application.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservaBuscaPaginaDTO {
+
+    private List<ReservaResponseDTO> reservas;
+    private int pagina;
+    private int tamanho;
+    private boolean possuiProxima;
+}
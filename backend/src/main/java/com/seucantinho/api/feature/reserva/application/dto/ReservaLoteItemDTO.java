@@ -0,0 +1,17 @@
+package com.seucantinho.api.feature.reserva.application.dto;
+
+import com.seucantinho.api.feature.reserva.domain.enums.ResultadoItemLoteEnum;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservaLoteItemDTO {
+
+    private Integer indice;
+    private ResultadoItemLoteEnum resultado;
+    private ReservaResponseDTO reserva;
+    private String mensagem;
+}
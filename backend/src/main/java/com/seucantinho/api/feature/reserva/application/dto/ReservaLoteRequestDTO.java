@@ -0,0 +1,20 @@
+package com.seucantinho.api.feature.reserva.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservaLoteRequestDTO {
+
+    @NotEmpty(message = "Lista de reservas é obrigatória")
+    @Size(max = 500, message = "Lote deve ter no máximo 500 reservas")
+    private List<@Valid ReservaRequestDTO> reservas;
+}
@@ -0,0 +1,18 @@
+package com.seucantinho.api.feature.reserva.application.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservaLoteResponseDTO {
+
+    private int criadas;
+    private int conflitos;
+    private int erros;
+    private List<ReservaLoteItemDTO> itens;
+}
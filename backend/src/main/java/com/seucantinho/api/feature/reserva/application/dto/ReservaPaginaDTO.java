@@ -0,0 +1,16 @@
+package com.seucantinho.api.feature.reserva.application.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservaPaginaDTO {
+
+    private List<ReservaResponseDTO> reservas;
+    private String nextCursor;
+}
@@ -0,0 +1,44 @@
+package com.seucantinho.api.feature.reserva.application.service;
+
+import com.seucantinho.api.feature.pagamento.domain.port.out.PagamentoRepositoryPort;
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import com.seucantinho.api.feature.reserva.domain.port.out.ReservaRepositoryPort;
+import com.seucantinho.api.feature.reserva.domain.state.ReservaStateFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ReservaExpiracaoService {
+
+    static final Set<StatusReservaEnum> STATUS_EXPIRAVEIS = EnumSet.of(StatusReservaEnum.AGUARDANDO_SINAL)
+            .stream()
+            .filter(status -> ReservaStateFactory.createState(status).canTransitionTo(StatusReservaEnum.CANCELADA))
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(StatusReservaEnum.class)));
+
+    private final ReservaRepositoryPort reservaRepositoryPort;
+    private final PagamentoRepositoryPort pagamentoRepositoryPort;
+
+    // Regras de ReservaStatusService.cancelReservation aplicadas em lote (transição validada pelo State e
+    // remoção dos pagamentos), exceto o prazo mínimo de cancelamento: ele protege quem já pagou o sinal.
+    // Toda reserva vencida ainda em AGUARDANDO_SINAL termina CANCELADA, inclusive as de evento hoje ou
+    // amanhã, que já saíram da agenda e, se fossem puladas, segurariam a data até o evento
+    @Transactional
+    public int expirar(List<Integer> reservaIds) {
+        if (reservaIds.isEmpty() || STATUS_EXPIRAVEIS.isEmpty()) {
+            return 0;
+        }
+
+        int canceladas = reservaRepositoryPort.cancelarEmLote(reservaIds, STATUS_EXPIRAVEIS);
+        if (canceladas > 0) {
+            pagamentoRepositoryPort.deleteByReservaIdsAndStatusReserva(reservaIds, StatusReservaEnum.CANCELADA);
+        }
+        return canceladas;
+    }
+}
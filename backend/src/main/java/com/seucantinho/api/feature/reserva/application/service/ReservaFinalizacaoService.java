@@ -0,0 +1,68 @@
+package com.seucantinho.api.feature.reserva.application.service;
+
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import com.seucantinho.api.feature.reserva.domain.port.out.ReservaRepositoryPort;
+import com.seucantinho.api.feature.reserva.domain.state.ReservaStateFactory;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class ReservaFinalizacaoService {
+
+    // Apenas os status cujo State permite a transição para FINALIZADA
+    static final Set<StatusReservaEnum> STATUS_FINALIZAVEIS = EnumSet.of(StatusReservaEnum.CONFIRMADA, StatusReservaEnum.QUITADA)
+            .stream()
+            .filter(status -> ReservaStateFactory.createState(status).canTransitionTo(StatusReservaEnum.FINALIZADA))
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(StatusReservaEnum.class)));
+
+    private final ReservaRepositoryPort reservaRepositoryPort;
+    private final int tamanhoLote;
+    private final DistributionSummary reservasPorExecucao;
+    private final Timer duracaoExecucao;
+
+    public ReservaFinalizacaoService(
+            ReservaRepositoryPort reservaRepositoryPort,
+            MeterRegistry meterRegistry,
+            @Value("${app.reserva.finalizacao.tamanho-lote:500}") int tamanhoLote) {
+        this.reservaRepositoryPort = reservaRepositoryPort;
+        this.tamanhoLote = tamanhoLote;
+        this.reservasPorExecucao = DistributionSummary.builder("reserva.finalizacao.reservas")
+                .description("Reservas finalizadas por execução")
+                .register(meterRegistry);
+        this.duracaoExecucao = Timer.builder("reserva.finalizacao.duracao")
+                .description("Tempo de execução da finalização de reservas")
+                .register(meterRegistry);
+    }
+
+    public int finalizarReservasPassadas() {
+        return duracaoExecucao.record(() -> {
+            LocalDate hoje = Relogio.hoje();
+            int finalizadas = 0;
+            Integer ultimoId = 0;
+            List<Integer> ids;
+
+            do {
+                ids = reservaRepositoryPort.findIdsByStatusAndDataEventoAntes(
+                        STATUS_FINALIZAVEIS, hoje, ultimoId, tamanhoLote);
+                if (!ids.isEmpty()) {
+                    finalizadas += reservaRepositoryPort.updateStatusEmLote(
+                            ids, STATUS_FINALIZAVEIS, StatusReservaEnum.FINALIZADA);
+                    ultimoId = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == tamanhoLote);
+
+            reservasPorExecucao.record(finalizadas);
+            return finalizadas;
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package com.seucantinho.api.feature.reserva.application.service;
+
+import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.domain.port.out.ReservaRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// Cada gravacao roda na propria transacao: uma violacao de idx_reserva_unica_ativa desfaz so esta
+// gravacao e o lote segue tentando os itens um a um. O chamador nao deve abrir transacao em volta,
+// ou cada gravacao prende duas conexoes do pool
+@Service
+@RequiredArgsConstructor
+public class ReservaLoteGravacaoService {
+
+    private final ReservaRepositoryPort reservaRepositoryPort;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Reserva> gravarTodas(List<Reserva> reservas) {
+        return reservaRepositoryPort.saveAllAndFlush(reservas);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Reserva gravar(Reserva reserva) {
+        return reservaRepositoryPort.saveAndFlush(reserva);
+    }
+}
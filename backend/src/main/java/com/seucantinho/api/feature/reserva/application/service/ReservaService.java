@@ -4,12 +4,24 @@ import com.seucantinho.api.feature.espaco.domain.Espaco;
 import com.seucantinho.api.feature.reserva.domain.Reserva;
 import com.seucantinho.api.feature.usuario.domain.Usuario;
 import com.seucantinho.api.feature.funcionario.domain.Funcionario;
+import com.seucantinho.api.feature.reserva.domain.enums.OrdenacaoReservaEnum;
+import com.seucantinho.api.feature.reserva.domain.enums.ResultadoItemLoteEnum;
 import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
 import com.seucantinho.api.feature.reserva.domain.valueobject.DataEvento;
+import com.seucantinho.api.feature.reserva.domain.valueobject.ReservaCursor;
+import com.seucantinho.api.feature.reserva.domain.valueobject.ReservaFiltro;
+import com.seucantinho.api.feature.reserva.infrastructure.config.ReservaCriacaoConfig;
+import com.seucantinho.api.feature.reserva.infrastructure.config.ReservaPaginacaoConfig;
 import com.seucantinho.api.shared.domain.valueobject.ValorMonetario;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaBuscaPaginaDTO;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaLoteItemDTO;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaLoteResponseDTO;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaPaginaDTO;
 import com.seucantinho.api.feature.reserva.application.dto.ReservaRequestDTO;
 import com.seucantinho.api.feature.reserva.application.dto.ReservaResponseDTO;
+import com.seucantinho.api.shared.domain.exception.BusinessException;
 import com.seucantinho.api.shared.domain.exception.ResourceNotFoundException;
+import com.seucantinho.api.shared.infrastructure.exception.ViolacaoIndiceUnico;
 import com.seucantinho.api.feature.reserva.infrastructure.mapper.ReservaMapper;
 import com.seucantinho.api.feature.espaco.domain.port.out.EspacoRepositoryPort;
 import com.seucantinho.api.feature.reserva.domain.port.out.ReservaRepositoryPort;
@@ -17,30 +29,47 @@ import com.seucantinho.api.feature.usuario.domain.port.out.UsuarioRepositoryPort
 import com.seucantinho.api.feature.reserva.domain.port.in.ReservaServicePort;
 import com.seucantinho.api.feature.reserva.domain.service.ReservaAvailabilityService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ReservaService implements ReservaServicePort {
 
+    private static final String INDICE_RESERVA_UNICA_ATIVA = "idx_reserva_unica_ativa";
+    private static final String MENSAGEM_CONFLITO = "Espaço já possui reserva ativa para esta data";
+
     private final ReservaRepositoryPort reservaRepositoryPort;
     private final UsuarioRepositoryPort usuarioRepositoryPort;
     private final EspacoRepositoryPort espacoRepositoryPort;
     private final ReservaMapper reservaMapper;
     private final ReservaAvailabilityService reservaAvailabilityService;
     private final ReservaStatusService reservaStatusService;
+    private final ReservaPaginacaoConfig reservaPaginacaoConfig;
+    private final ReservaCriacaoConfig reservaCriacaoConfig;
+    private final ReservaLoteGravacaoService reservaLoteGravacaoService;
 
     @Override
     @Transactional(readOnly = true)
     public List<ReservaResponseDTO> findAll() {
-        return reservaRepositoryPort.findAll().stream()
-                .map(reservaMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return toResponseDTOs(reservaRepositoryPort.findAll());
     }
 
     @Override
@@ -48,23 +77,70 @@ public class ReservaService implements ReservaServicePort {
     public ReservaResponseDTO findById(Integer id) {
         Reserva reserva = reservaRepositoryPort.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Reserva não encontrada com ID: " + id));
-        return reservaMapper.toResponseDTO(reserva);
+        return toResponseDTO(reserva);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ReservaResponseDTO> findByUsuarioId(Integer usuarioId) {
-        return reservaRepositoryPort.findByUsuarioId(usuarioId).stream()
-                .map(reservaMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return toResponseDTOs(reservaRepositoryPort.findByUsuarioId(usuarioId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ReservaResponseDTO> findByEspacoId(Integer espacoId) {
-        return reservaRepositoryPort.findByEspacoId(espacoId).stream()
-                .map(reservaMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return toResponseDTOs(reservaRepositoryPort.findByEspacoId(espacoId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReservaPaginaDTO findPagina(String cursor, Integer tamanho) {
+        return paginar(cursor, tamanho, reservaRepositoryPort::findPagina);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReservaPaginaDTO findPaginaByUsuarioId(Integer usuarioId, String cursor, Integer tamanho) {
+        return paginar(cursor, tamanho,
+                (posicao, limite) -> reservaRepositoryPort.findPaginaByUsuarioId(usuarioId, posicao, limite));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReservaPaginaDTO findPaginaByEspacoId(Integer espacoId, String cursor, Integer tamanho) {
+        return paginar(cursor, tamanho,
+                (posicao, limite) -> reservaRepositoryPort.findPaginaByEspacoId(espacoId, posicao, limite));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReservaBuscaPaginaDTO buscar(ReservaFiltro filtro, OrdenacaoReservaEnum ordenacao, Sort.Direction direcao,
+                                        Integer pagina, Integer tamanho) {
+        int numeroPagina = pagina != null ? pagina : 0;
+        if (numeroPagina < 0) {
+            throw new BusinessException("Página deve ser maior ou igual a zero");
+        }
+        int tamanhoPagina = reservaPaginacaoConfig.resolverTamanho(tamanho);
+
+        Slice<Reserva> resultado = reservaRepositoryPort.buscar(
+                filtro,
+                ordenacao != null ? ordenacao : OrdenacaoReservaEnum.DATA_EVENTO,
+                direcao != null ? direcao : Sort.Direction.ASC,
+                numeroPagina,
+                tamanhoPagina);
+
+        return ReservaBuscaPaginaDTO.builder()
+                .reservas(toResponseDTOs(resultado.getContent()))
+                .pagina(numeroPagina)
+                .tamanho(tamanhoPagina)
+                .possuiProxima(resultado.hasNext())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportar(ReservaFiltro filtro, Consumer<ReservaResponseDTO> consumidor) {
+        reservaRepositoryPort.percorrer(filtro, lote -> toResponseDTOs(lote).forEach(consumidor));
     }
 
     @Override
@@ -77,11 +153,123 @@ public class ReservaService implements ReservaServicePort {
 
         // Usar validações centralizadas no domínio
         reserva.validar();
+
+        if (reservaCriacaoConfig.isInsertFirst()) {
+            // Sem consulta previa: idx_reserva_unica_ativa rejeita o INSERT em caso de conflito
+            return toResponseDTO(reservaRepositoryPort.saveAndFlush(reserva));
+        }
+
         reservaAvailabilityService.validarDisponibilidade(
                 requestDTO.getEspacoId(), requestDTO.getDataEvento(), null);
 
         Reserva savedReserva = reservaRepositoryPort.save(reserva);
-        return reservaMapper.toResponseDTO(savedReserva);
+        return toResponseDTO(savedReserva);
+    }
+
+    // Sem transacao propria: cada gravacao abre a sua (REQUIRES_NEW) e uma transacao externa prenderia
+    // uma segunda conexao do pool durante todo o lote. As leituras rodam cada uma na sua conexao, por isso
+    // o espaco ja vem com a filial carregada para o mapeamento da resposta
+    @Override
+    public ReservaLoteResponseDTO createBatch(List<ReservaRequestDTO> requestDTOs) {
+        // Cada usuario/espaco distinto e buscado uma unica vez
+        Map<Integer, Optional<Usuario>> usuarios = new HashMap<>();
+        Map<Integer, Optional<Espaco>> espacos = new HashMap<>();
+        for (ReservaRequestDTO dto : requestDTOs) {
+            usuarios.computeIfAbsent(dto.getUsuarioId(), usuarioRepositoryPort::findById);
+            espacos.computeIfAbsent(dto.getEspacoId(), espacoRepositoryPort::findByIdWithFilial);
+        }
+
+        // Uma unica consulta de disponibilidade para todos os pares (espaco, data) do lote
+        Map<Integer, Set<LocalDate>> datasOcupadas = new HashMap<>();
+        reservaRepositoryPort.findDatasOcupadas(
+                espacos.keySet(),
+                requestDTOs.stream().map(ReservaRequestDTO::getDataEvento).collect(Collectors.toSet())
+        ).forEach((espacoId, datas) -> datasOcupadas.put(espacoId, new HashSet<>(datas)));
+
+        ReservaLoteItemDTO[] itens = new ReservaLoteItemDTO[requestDTOs.size()];
+        List<Reserva> novasReservas = new ArrayList<>();
+        List<Integer> indicesNovasReservas = new ArrayList<>();
+
+        for (int i = 0; i < requestDTOs.size(); i++) {
+            ReservaRequestDTO dto = requestDTOs.get(i);
+            try {
+                Usuario usuario = usuarios.get(dto.getUsuarioId())
+                        .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + dto.getUsuarioId()));
+                Espaco espaco = espacos.get(dto.getEspacoId())
+                        .orElseThrow(() -> new ResourceNotFoundException("Espaço não encontrado com ID: " + dto.getEspacoId()));
+
+                Reserva reserva = reservaMapper.toEntity(dto, usuario, espaco);
+                reserva.validar();
+
+                if (!datasOcupadas.computeIfAbsent(dto.getEspacoId(), id -> new HashSet<>()).add(dto.getDataEvento())) {
+                    itens[i] = itemLote(i, ResultadoItemLoteEnum.CONFLITO, null, MENSAGEM_CONFLITO);
+                    continue;
+                }
+
+                novasReservas.add(reserva);
+                indicesNovasReservas.add(i);
+            } catch (BusinessException | ResourceNotFoundException e) {
+                itens[i] = itemLote(i, ResultadoItemLoteEnum.ERRO, null, e.getMessage());
+            }
+        }
+
+        List<Reserva> salvas = new ArrayList<>();
+        List<Integer> indicesSalvas = new ArrayList<>();
+        gravarLote(requestDTOs, novasReservas, indicesNovasReservas, salvas, indicesSalvas, itens);
+
+        Map<Integer, Integer> quantidadePorUsuario = salvas.isEmpty()
+                ? Collections.emptyMap()
+                : reservaRepositoryPort.countByUsuarioIds(salvas.stream().map(reserva -> reserva.getUsuario().getId()).toList());
+        for (int i = 0; i < salvas.size(); i++) {
+            int indice = indicesSalvas.get(i);
+            Reserva salva = salvas.get(i);
+            itens[indice] = itemLote(indice, ResultadoItemLoteEnum.CRIADA,
+                    reservaMapper.toResponseDTO(salva, ValorMonetario.zero(),
+                            quantidadePorUsuario.getOrDefault(salva.getUsuario().getId(), 0)), null);
+        }
+
+        List<ReservaLoteItemDTO> resultado = Arrays.asList(itens);
+        return ReservaLoteResponseDTO.builder()
+                .criadas(contarResultado(resultado, ResultadoItemLoteEnum.CRIADA))
+                .conflitos(contarResultado(resultado, ResultadoItemLoteEnum.CONFLITO))
+                .erros(contarResultado(resultado, ResultadoItemLoteEnum.ERRO))
+                .itens(resultado)
+                .build();
+    }
+
+    // O lote vai em um unico batch. Se outra requisicao ocupar um par (espaco, data) entre a consulta de
+    // disponibilidade e o INSERT, o batch inteiro e desfeito e os itens sao regravados um a um, de modo
+    // que so o item em colisao seja reportado como CONFLITO
+    private void gravarLote(List<ReservaRequestDTO> requestDTOs, List<Reserva> novasReservas, List<Integer> indicesNovasReservas,
+                            List<Reserva> salvas, List<Integer> indicesSalvas, ReservaLoteItemDTO[] itens) {
+        if (novasReservas.isEmpty()) {
+            return;
+        }
+        try {
+            salvas.addAll(reservaLoteGravacaoService.gravarTodas(novasReservas));
+            indicesSalvas.addAll(indicesNovasReservas);
+            return;
+        } catch (DataIntegrityViolationException e) {
+            if (!ViolacaoIndiceUnico.de(e, INDICE_RESERVA_UNICA_ATIVA)) {
+                throw e;
+            }
+        }
+
+        for (int i = 0; i < novasReservas.size(); i++) {
+            int indice = indicesNovasReservas.get(i);
+            Reserva desfeita = novasReservas.get(i);
+            // A entidade do batch desfeito ja recebeu id e versao; regrava a partir de uma nova
+            Reserva reserva = reservaMapper.toEntity(requestDTOs.get(indice), desfeita.getUsuario(), desfeita.getEspaco());
+            try {
+                salvas.add(reservaLoteGravacaoService.gravar(reserva));
+                indicesSalvas.add(indice);
+            } catch (DataIntegrityViolationException e) {
+                if (!ViolacaoIndiceUnico.de(e, INDICE_RESERVA_UNICA_ATIVA)) {
+                    throw e;
+                }
+                itens[indice] = itemLote(indice, ResultadoItemLoteEnum.CONFLITO, null, MENSAGEM_CONFLITO);
+            }
+        }
     }
 
     @Override
@@ -113,7 +301,10 @@ public class ReservaService implements ReservaServicePort {
 
         reserva.validar();
         Reserva updatedReserva = reservaRepositoryPort.save(reserva);
-        return reservaMapper.toResponseDTO(updatedReserva);
+        if (requestDTO.getStatus() == StatusReservaEnum.CANCELADA) {
+            reservaRepositoryPort.zerarTotalPago(id);
+        }
+        return toResponseDTO(updatedReserva);
     }
 
     @Override
@@ -128,7 +319,10 @@ public class ReservaService implements ReservaServicePort {
         }
 
         Reserva updatedReserva = reservaRepositoryPort.save(reserva);
-        return reservaMapper.toResponseDTO(updatedReserva);
+        if (novoStatus == StatusReservaEnum.CANCELADA) {
+            reservaRepositoryPort.zerarTotalPago(id);
+        }
+        return toResponseDTO(updatedReserva);
     }
 
     @Override
@@ -142,32 +336,81 @@ public class ReservaService implements ReservaServicePort {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ReservaResponseDTO> findByAcessoPorEmail(String email) {
+    public ReservaPaginaDTO findByAcessoPorEmail(String email, LocalDate dataInicio, LocalDate dataFim,
+                                                 String cursor, Integer tamanho) {
         Usuario usuario = usuarioRepositoryPort.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com email: " + email));
 
         if (usuario.getPerfil() != null && usuario.getPerfil().name().equalsIgnoreCase("ADMIN")) {
-            return findAll();
+            return paginar(cursor, tamanho, (posicao, limite) -> reservaRepositoryPort
+                    .findPaginaByPeriodo(dataInicio, dataFim, posicao, limite));
         }
 
         if (usuario instanceof Funcionario) {
             Funcionario funcionario = (Funcionario) usuario;
             if (funcionario.getFilial() == null) {
-                return Collections.emptyList();
+                return ReservaPaginaDTO.builder().reservas(Collections.emptyList()).build();
             }
             Integer filialId = funcionario.getFilial().getId();
-            // Método não existe no port, vamos usar findByEspacoId como alternativa
-            return reservaRepositoryPort.findAll().stream()
-                    .filter(r -> r.getEspaco() != null && r.getEspaco().getFilial().getId().equals(filialId))
-                    .map(reservaMapper::toResponseDTO)
-                    .collect(Collectors.toList());
+            return paginar(cursor, tamanho, (posicao, limite) -> reservaRepositoryPort
+                    .findPaginaByFilialIdAndPeriodo(filialId, dataInicio, dataFim, posicao, limite));
+        }
+
+        Integer usuarioId = usuario.getId();
+        return paginar(cursor, tamanho, (posicao, limite) -> reservaRepositoryPort
+                .findPaginaByUsuarioIdAndPeriodo(usuarioId, dataInicio, dataFim, posicao, limite));
+    }
+
+    // Busca um item a mais que o tamanho da pagina para saber se existe proxima pagina
+    private ReservaPaginaDTO paginar(String cursor, Integer tamanho,
+                                     BiFunction<ReservaCursor, Integer, List<Reserva>> consulta) {
+        int tamanhoPagina = reservaPaginacaoConfig.resolverTamanho(tamanho);
+        List<Reserva> reservas = consulta.apply(ReservaCursor.decode(cursor), tamanhoPagina + 1);
+
+        String nextCursor = null;
+        if (reservas.size() > tamanhoPagina) {
+            reservas = reservas.subList(0, tamanhoPagina);
+            nextCursor = ReservaCursor.from(reservas.get(tamanhoPagina - 1)).encode();
         }
 
-        return reservaRepositoryPort.findByUsuarioId(usuario.getId()).stream()
-                .map(reservaMapper::toResponseDTO)
+        return ReservaPaginaDTO.builder()
+                .reservas(toResponseDTOs(reservas))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // Resposta de uma única reserva: a quantidade de reservas do cliente vem de um COUNT
+    private ReservaResponseDTO toResponseDTO(Reserva reserva) {
+        return reservaMapper.toResponseDTO(reserva, reserva.calcularTotalPago(),
+                reservaRepositoryPort.countByUsuarioId(reserva.getUsuario().getId()));
+    }
+
+    // O total pago vem da coluna total_pago da propria reserva, sem consultar pagamentos, e a quantidade
+    // de reservas de cada cliente de uma unica contagem agrupada para a pagina
+    private List<ReservaResponseDTO> toResponseDTOs(List<Reserva> reservas) {
+        Map<Integer, Integer> quantidadePorUsuario = reservaRepositoryPort.countByUsuarioIds(reservas.stream()
+                .map(reserva -> reserva.getUsuario().getId())
+                .toList());
+        return reservas.stream()
+                .map(reserva -> reservaMapper.toResponseDTO(reserva, reserva.calcularTotalPago(),
+                        quantidadePorUsuario.getOrDefault(reserva.getUsuario().getId(), 0)))
                 .collect(Collectors.toList());
     }
 
+    private ReservaLoteItemDTO itemLote(int indice, ResultadoItemLoteEnum resultado,
+                                        ReservaResponseDTO reserva, String mensagem) {
+        return ReservaLoteItemDTO.builder()
+                .indice(indice)
+                .resultado(resultado)
+                .reserva(reserva)
+                .mensagem(mensagem)
+                .build();
+    }
+
+    private int contarResultado(List<ReservaLoteItemDTO> itens, ResultadoItemLoteEnum resultado) {
+        return (int) itens.stream().filter(item -> item.getResultado() == resultado).count();
+    }
+
     private Reserva findReservaById(Integer id) {
         return reservaRepositoryPort.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Reserva não encontrada com ID: " + id));
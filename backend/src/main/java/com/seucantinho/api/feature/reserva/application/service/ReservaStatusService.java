@@ -26,7 +26,7 @@ public class ReservaStatusService {
     public void cancelReservation(Reserva reserva) {
         // A validação de prazo está no State Pattern
         reserva.transitionToStatus(StatusReservaEnum.CANCELADA);
-        reserva.getPagamentos().clear();
+        reserva.limparPagamentos();
     }
 
     private StatusTransitionStrategy findStrategyForPayment(Pagamento pagamento) {
@@ -0,0 +1,74 @@
+package com.seucantinho.api.feature.reserva.application.service;
+
+import com.seucantinho.api.feature.pagamento.domain.port.out.PagamentoRepositoryPort;
+import com.seucantinho.api.feature.reserva.domain.port.out.ReservaRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+public class ReservaTotalPagoVerificacaoService {
+
+    private final ReservaRepositoryPort reservaRepositoryPort;
+    private final PagamentoRepositoryPort pagamentoRepositoryPort;
+    private final int tamanhoLote;
+    private final boolean corrigir;
+    private final Counter divergencias;
+
+    public ReservaTotalPagoVerificacaoService(
+            ReservaRepositoryPort reservaRepositoryPort,
+            PagamentoRepositoryPort pagamentoRepositoryPort,
+            MeterRegistry meterRegistry,
+            @Value("${app.reserva.total-pago.verificacao.tamanho-lote:500}") int tamanhoLote,
+            @Value("${app.reserva.total-pago.verificacao.corrigir:true}") boolean corrigir) {
+        this.reservaRepositoryPort = reservaRepositoryPort;
+        this.pagamentoRepositoryPort = pagamentoRepositoryPort;
+        this.tamanhoLote = tamanhoLote;
+        this.corrigir = corrigir;
+        this.divergencias = Counter.builder("reserva.total_pago.divergencias")
+                .description("Reservas com total_pago diferente da soma dos pagamentos")
+                .register(meterRegistry);
+    }
+
+    // Percorre tb_reserva em lotes por id, comparando total_pago com a soma agrupada de tb_pagamento
+    public int verificar() {
+        int divergentes = 0;
+        Integer ultimoId = 0;
+        Map<Integer, BigDecimal> totaisPagos;
+
+        do {
+            totaisPagos = reservaRepositoryPort.findTotaisPagos(ultimoId, tamanhoLote);
+            if (totaisPagos.isEmpty()) {
+                break;
+            }
+            Map<Integer, BigDecimal> somas = pagamentoRepositoryPort.sumValorByReservaIds(totaisPagos.keySet());
+
+            List<Integer> idsDivergentes = new ArrayList<>();
+            for (Map.Entry<Integer, BigDecimal> total : totaisPagos.entrySet()) {
+                BigDecimal soma = somas.getOrDefault(total.getKey(), BigDecimal.ZERO);
+                if (total.getValue().compareTo(soma) != 0) {
+                    log.warn("Reserva {} com total_pago {} divergente da soma dos pagamentos {}",
+                            total.getKey(), total.getValue(), soma);
+                    idsDivergentes.add(total.getKey());
+                }
+                ultimoId = total.getKey();
+            }
+
+            if (corrigir) {
+                reservaRepositoryPort.recalcularTotalPago(idsDivergentes);
+            }
+            divergentes += idsDivergentes.size();
+        } while (totaisPagos.size() == tamanhoLote);
+
+        divergencias.increment(divergentes);
+        return divergentes;
+    }
+}
@@ -9,6 +9,7 @@ import com.seucantinho.api.shared.domain.valueobject.ValorMonetario;
 import com.seucantinho.api.feature.espaco.domain.Espaco;
 import com.seucantinho.api.feature.pagamento.domain.Pagamento;
 import com.seucantinho.api.shared.domain.exception.BusinessException;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -30,10 +31,17 @@ import java.util.List;
 @Builder
 public class Reserva {
 
+    // Sequence com pool (allocationSize = INCREMENT BY em init.sql) permite o batch de inserts do Hibernate
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reserva_seq")
+    @SequenceGenerator(name = "reserva_seq", sequenceName = "tb_reserva_id_seq", allocationSize = 50)
     private Integer id;
 
+    // Controle otimista: pagamentos simultâneos na mesma reserva não podem ser validados sobre o mesmo estado
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
     @Column(name = "data_criacao", updatable = false)
     private LocalDateTime dataCriacao;
 
@@ -45,6 +53,13 @@ public class Reserva {
     @AttributeOverride(name = "valor", column = @Column(name = "valor_total", nullable = false, precision = 10, scale = 2))
     private ValorMonetario valorTotal;
 
+    // Soma dos pagamentos mantida a cada pagamento registrado; evita percorrer a lista de pagamentos nas leituras
+    @Embedded
+    // Nunca gravado pelo UPDATE da entidade: só pelos UPDATEs atômicos do repositório (somar, zerar, recalcular)
+    @AttributeOverride(name = "valor", column = @Column(name = "total_pago", nullable = false, updatable = false, precision = 10, scale = 2))
+    @Builder.Default
+    private ValorMonetario totalPago = ValorMonetario.zero();
+
     @Column(columnDefinition = "TEXT")
     private String observacoes;
 
@@ -71,7 +86,7 @@ public class Reserva {
 
     @PrePersist
     protected void onCreate() {
-        dataCriacao = LocalDateTime.now();
+        dataCriacao = Relogio.agora();
         if (status == null) {
             status = StatusReservaEnum.AGUARDANDO_SINAL;
         }
@@ -90,9 +105,17 @@ public class Reserva {
     }
 
     public ValorMonetario calcularTotalPago() {
-        return pagamentos.stream()
-            .map(Pagamento::getValor)
-            .reduce(ValorMonetario.zero(), ValorMonetario::somar);
+        return totalPago != null ? totalPago : ValorMonetario.zero();
+    }
+
+    public void registrarPagamento(Pagamento pagamento) {
+        pagamentos.add(pagamento);
+        totalPago = calcularTotalPago().somar(pagamento.getValor());
+    }
+
+    public void limparPagamentos() {
+        pagamentos.clear();
+        totalPago = ValorMonetario.zero();
     }
 
     public ValorMonetario calcularSaldo() {
@@ -136,7 +159,7 @@ public class Reserva {
     }
 
     private void validarDataEvento() {
-        if (dataEvento != null && dataEvento.getData().isBefore(LocalDateTime.now().toLocalDate())) {
+        if (dataEvento != null && dataEvento.getData().isBefore(Relogio.hoje())) {
             throw new BusinessException("Data do evento não pode ser no passado");
         }
     }
@@ -152,7 +175,7 @@ public class Reserva {
             return;
         }
 
-        LocalDate hoje = LocalDate.now();
+        LocalDate hoje = Relogio.hoje();
         LocalDate dataDoEvento = dataEvento.getData();
         long diasAteEvento = ChronoUnit.DAYS.between(hoje, dataDoEvento);
 
@@ -0,0 +1,15 @@
+package com.seucantinho.api.feature.reserva.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrdenacaoReservaEnum {
+    DATA_EVENTO("dataEvento.data"),
+    DATA_CRIACAO("dataCriacao"),
+    VALOR_TOTAL("valorTotal.valor"),
+    STATUS("status");
+
+    private final String propriedade;
+}
@@ -0,0 +1,7 @@
+package com.seucantinho.api.feature.reserva.domain.enums;
+
+public enum ResultadoItemLoteEnum {
+    CRIADA,
+    CONFLITO,
+    ERRO
+}
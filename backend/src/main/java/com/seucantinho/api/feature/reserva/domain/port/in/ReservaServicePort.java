@@ -1,10 +1,18 @@
 package com.seucantinho.api.feature.reserva.domain.port.in;
 
+import com.seucantinho.api.feature.reserva.domain.enums.OrdenacaoReservaEnum;
 import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaBuscaPaginaDTO;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaLoteResponseDTO;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaPaginaDTO;
 import com.seucantinho.api.feature.reserva.application.dto.ReservaRequestDTO;
 import com.seucantinho.api.feature.reserva.application.dto.ReservaResponseDTO;
+import com.seucantinho.api.feature.reserva.domain.valueobject.ReservaFiltro;
+import org.springframework.data.domain.Sort;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ReservaServicePort {
 
@@ -16,13 +24,27 @@ public interface ReservaServicePort {
 
     List<ReservaResponseDTO> findByEspacoId(Integer espacoId);
 
+    ReservaPaginaDTO findPagina(String cursor, Integer tamanho);
+
+    ReservaPaginaDTO findPaginaByUsuarioId(Integer usuarioId, String cursor, Integer tamanho);
+
+    ReservaPaginaDTO findPaginaByEspacoId(Integer espacoId, String cursor, Integer tamanho);
+
+    ReservaBuscaPaginaDTO buscar(ReservaFiltro filtro, OrdenacaoReservaEnum ordenacao, Sort.Direction direcao,
+                                 Integer pagina, Integer tamanho);
+
+    void exportar(ReservaFiltro filtro, Consumer<ReservaResponseDTO> consumidor);
+
     ReservaResponseDTO create(ReservaRequestDTO requestDTO);
 
+    ReservaLoteResponseDTO createBatch(List<ReservaRequestDTO> requestDTOs);
+
     ReservaResponseDTO update(Integer id, ReservaRequestDTO requestDTO);
 
     ReservaResponseDTO updateStatus(Integer id, StatusReservaEnum novoStatus);
 
     void delete(Integer id);
 
-    List<ReservaResponseDTO> findByAcessoPorEmail(String email);
+    ReservaPaginaDTO findByAcessoPorEmail(String email, LocalDate dataInicio, LocalDate dataFim,
+                                          String cursor, Integer tamanho);
 }
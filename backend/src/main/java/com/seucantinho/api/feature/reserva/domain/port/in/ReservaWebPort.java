@@ -1,26 +1,47 @@
 package com.seucantinho.api.feature.reserva.domain.port.in;
 
+import com.seucantinho.api.feature.reserva.application.dto.ReservaBuscaPaginaDTO;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaLoteRequestDTO;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaLoteResponseDTO;
 import com.seucantinho.api.feature.reserva.application.dto.ReservaRequestDTO;
 import com.seucantinho.api.feature.reserva.application.dto.ReservaResponseDTO;
+import com.seucantinho.api.feature.reserva.domain.enums.OrdenacaoReservaEnum;
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 public interface ReservaWebPort {
 
-    ResponseEntity<List<ReservaResponseDTO>> findAll();
+    ResponseEntity<List<ReservaResponseDTO>> findAll(String cursor, Integer tamanho);
+
+    ResponseEntity<ReservaBuscaPaginaDTO> search(Set<StatusReservaEnum> status, LocalDate dataInicio, LocalDate dataFim,
+                                                 Integer filialId, Integer espacoId, Integer usuarioId,
+                                                 OrdenacaoReservaEnum ordenarPor, Sort.Direction direcao,
+                                                 Integer pagina, Integer tamanho);
+
+    ResponseEntity<StreamingResponseBody> export(Integer usuarioId, Integer espacoId, Integer filialId,
+                                                 LocalDate dataInicio, LocalDate dataFim, HttpServletRequest request);
 
     ResponseEntity<ReservaResponseDTO> findById(Integer id);
 
-    ResponseEntity<List<ReservaResponseDTO>> findByUsuarioId(Integer usuarioId);
+    ResponseEntity<List<ReservaResponseDTO>> findByUsuarioId(Integer usuarioId, String cursor, Integer tamanho);
 
-    ResponseEntity<List<ReservaResponseDTO>> findByEspacoId(Integer espacoId);
+    ResponseEntity<List<ReservaResponseDTO>> findByEspacoId(Integer espacoId, String cursor, Integer tamanho);
 
     ResponseEntity<ReservaResponseDTO> create(ReservaRequestDTO requestDTO);
 
+    ResponseEntity<ReservaLoteResponseDTO> createBatch(ReservaLoteRequestDTO requestDTO);
+
     ResponseEntity<ReservaResponseDTO> update(Integer id, ReservaRequestDTO requestDTO);
 
     ResponseEntity<Void> delete(Integer id);
 
-    ResponseEntity<List<ReservaResponseDTO>> findByAcessoPorEmail(String email);
+    ResponseEntity<List<ReservaResponseDTO>> findByAcessoPorEmail(String email, LocalDate dataInicio, LocalDate dataFim,
+                                                                  String cursor, Integer tamanho);
 }
\ No newline at end of file
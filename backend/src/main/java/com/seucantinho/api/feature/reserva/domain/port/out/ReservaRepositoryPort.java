@@ -1,11 +1,22 @@
 package com.seucantinho.api.feature.reserva.domain.port.out;
 
 import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.domain.enums.OrdenacaoReservaEnum;
 import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import com.seucantinho.api.feature.reserva.domain.valueobject.ReservaCursor;
+import com.seucantinho.api.feature.reserva.domain.valueobject.ReservaFiltro;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface ReservaRepositoryPort {
 
@@ -15,16 +26,69 @@ public interface ReservaRepositoryPort {
 
     List<Reserva> findByUsuarioId(Integer usuarioId);
 
+    Map<Integer, Integer> countByUsuarioIds(Collection<Integer> usuarioIds);
+
+    int countByUsuarioId(Integer usuarioId);
+
     List<Reserva> findByEspacoId(Integer espacoId);
 
+    List<Reserva> findPagina(ReservaCursor cursor, int limite);
+
+    List<Reserva> findPaginaByUsuarioId(Integer usuarioId, ReservaCursor cursor, int limite);
+
+    List<Reserva> findPaginaByEspacoId(Integer espacoId, ReservaCursor cursor, int limite);
+
+    List<Reserva> findPaginaByPeriodo(LocalDate dataInicio, LocalDate dataFim, ReservaCursor cursor, int limite);
+
+    List<Reserva> findPaginaByUsuarioIdAndPeriodo(Integer usuarioId, LocalDate dataInicio, LocalDate dataFim,
+                                                  ReservaCursor cursor, int limite);
+
+    List<Reserva> findPaginaByFilialIdAndPeriodo(Integer filialId, LocalDate dataInicio, LocalDate dataFim,
+                                                 ReservaCursor cursor, int limite);
+
     List<Reserva> findByStatus(StatusReservaEnum status);
 
+    // Data de criação por id; o valor é nulo quando a reserva não registrou a criação
+    Map<Integer, LocalDateTime> findDatasCriacaoByStatus(StatusReservaEnum status);
+
     Optional<Reserva> findByIdWithPagamentos(Integer id);
 
     boolean existsActiveReservationByEspacoAndData(Integer espacoId, LocalDate dataEvento, Integer excludeReservaId);
 
+    Map<Integer, Set<LocalDate>> findDatasOcupadas(Collection<Integer> espacoIds, Collection<LocalDate> datas);
+
+    List<Integer> findIdsByStatusAndDataEventoAntes(Set<StatusReservaEnum> status, LocalDate data,
+                                                    Integer idApos, int limite);
+
+    int updateStatusEmLote(List<Integer> ids, Set<StatusReservaEnum> statusOrigem, StatusReservaEnum novoStatus);
+
+    // Grava o status atual de cada reserva apenas se a versão lida não mudou; false indica alteração concorrente
+    boolean[] updateStatusComVersaoEmLote(List<Reserva> reservas);
+
+    int cancelarEmLote(List<Integer> ids, Set<StatusReservaEnum> statusOrigem);
+
+    // Reservas desanexadas do contexto de persistência: alterações feitas nelas não são gravadas
+    List<Reserva> findDesanexadasComPagamentos(Collection<Integer> ids);
+
+    Map<Integer, BigDecimal> findTotaisPagos(Integer idApos, int limite);
+
+    int recalcularTotalPago(Collection<Integer> ids);
+
+    int somarTotalPago(Integer id, BigDecimal valor);
+
+    int zerarTotalPago(Integer id);
+
+    Slice<Reserva> buscar(ReservaFiltro filtro, OrdenacaoReservaEnum ordenacao, Sort.Direction direcao,
+                          int pagina, int tamanho);
+
+    void percorrer(ReservaFiltro filtro, Consumer<List<Reserva>> consumidorLote);
+
     Reserva save(Reserva reserva);
 
+    Reserva saveAndFlush(Reserva reserva);
+
+    List<Reserva> saveAllAndFlush(List<Reserva> reservas);
+
     void deleteById(Integer id);
 
     boolean existsById(Integer id);
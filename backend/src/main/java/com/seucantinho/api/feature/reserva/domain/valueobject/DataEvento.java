@@ -1,6 +1,7 @@
 package com.seucantinho.api.feature.reserva.domain.valueobject;
 
 import com.seucantinho.api.shared.domain.exception.BusinessException;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
 import jakarta.persistence.Embeddable;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -20,6 +21,7 @@ public class DataEvento implements Serializable {
 
     private static final int DIAS_MINIMOS_ANTECEDENCIA = 1;
     private static final int DIAS_MAXIMOS_ANTECEDENCIA = 365;
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
     private LocalDate data;
 
@@ -36,7 +38,7 @@ public class DataEvento implements Serializable {
     }
 
     private static void validarData(LocalDate data) {
-        LocalDate hoje = LocalDate.now();
+        LocalDate hoje = Relogio.hoje();
 
         if (data.isBefore(hoje)) {
             throw new BusinessException("Data do evento não pode ser no passado");
@@ -60,7 +62,7 @@ public class DataEvento implements Serializable {
     }
 
     public String getDataFormatada() {
-        return data.format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+        return data.format(FORMATO_DATA);
     }
 
     @Override
@@ -0,0 +1,65 @@
+package com.seucantinho.api.feature.reserva.domain.valueobject;
+
+import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.shared.domain.exception.BusinessException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posição de paginação por chave sobre (data_evento, id).
+ * O valor exposto ao cliente é opaco: "data:id" codificado em Base64 URL-safe.
+ */
+@Getter
+@EqualsAndHashCode
+public class ReservaCursor {
+
+    private static final String SEPARADOR = ":";
+
+    private final LocalDate dataEvento;
+    private final Integer id;
+
+    private ReservaCursor(LocalDate dataEvento, Integer id) {
+        this.dataEvento = dataEvento;
+        this.id = id;
+    }
+
+    public static ReservaCursor of(LocalDate dataEvento, Integer id) {
+        if (dataEvento == null || id == null) {
+            throw new BusinessException("Cursor deve possuir data do evento e ID");
+        }
+        return new ReservaCursor(dataEvento, id);
+    }
+
+    public static ReservaCursor from(Reserva reserva) {
+        return of(reserva.getDataEvento().getData(), reserva.getId());
+    }
+
+    public static ReservaCursor decode(String valor) {
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        try {
+            String decodificado = new String(Base64.getUrlDecoder().decode(valor), StandardCharsets.UTF_8);
+            int separador = decodificado.lastIndexOf(SEPARADOR);
+            return of(LocalDate.parse(decodificado.substring(0, separador)),
+                    Integer.valueOf(decodificado.substring(separador + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new BusinessException("Cursor de paginação inválido");
+        }
+    }
+
+    public String encode() {
+        String valor = dataEvento + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
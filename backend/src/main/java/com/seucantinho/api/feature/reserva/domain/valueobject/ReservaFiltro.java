@@ -0,0 +1,44 @@
+package com.seucantinho.api.feature.reserva.domain.valueobject;
+
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import com.seucantinho.api.shared.domain.exception.BusinessException;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Critérios opcionais de seleção de reservas; campos nulos (ou conjunto de status vazio)
+ * não restringem a consulta.
+ */
+@Getter
+@EqualsAndHashCode
+public class ReservaFiltro {
+
+    private final Set<StatusReservaEnum> status;
+    private final Integer usuarioId;
+    private final Integer espacoId;
+    private final Integer filialId;
+    private final LocalDate dataInicio;
+    private final LocalDate dataFim;
+
+    @Builder
+    private ReservaFiltro(Set<StatusReservaEnum> status, Integer usuarioId, Integer espacoId, Integer filialId,
+                          LocalDate dataInicio, LocalDate dataFim) {
+        if (dataInicio != null && dataFim != null && dataInicio.isAfter(dataFim)) {
+            throw new BusinessException("Data inicial não pode ser posterior à data final");
+        }
+        this.status = status == null || status.isEmpty()
+                ? Set.of()
+                : Collections.unmodifiableSet(EnumSet.copyOf(status));
+        this.usuarioId = usuarioId;
+        this.espacoId = espacoId;
+        this.filialId = filialId;
+        this.dataInicio = dataInicio;
+        this.dataFim = dataFim;
+    }
+}
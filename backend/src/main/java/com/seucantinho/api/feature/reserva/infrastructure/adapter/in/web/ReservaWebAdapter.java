@@ -1,25 +1,45 @@
 package com.seucantinho.api.feature.reserva.infrastructure.adapter.in.web;
 
+import com.seucantinho.api.feature.reserva.application.dto.ReservaBuscaPaginaDTO;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaLoteRequestDTO;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaLoteResponseDTO;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaPaginaDTO;
 import com.seucantinho.api.feature.reserva.application.dto.ReservaRequestDTO;
 import com.seucantinho.api.feature.reserva.application.dto.ReservaResponseDTO;
+import com.seucantinho.api.feature.reserva.domain.enums.OrdenacaoReservaEnum;
 import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
 import com.seucantinho.api.feature.reserva.domain.port.in.ReservaServicePort;
 import com.seucantinho.api.feature.reserva.domain.port.in.ReservaWebPort;
+import com.seucantinho.api.feature.reserva.domain.valueobject.ReservaFiltro;
+import com.seucantinho.api.feature.reserva.infrastructure.config.ReservaExportacaoConfig;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/reservas")
@@ -28,21 +48,124 @@ import java.util.List;
 @SecurityRequirement(name = "bearer-jwt")
 public class ReservaWebAdapter implements ReservaWebPort {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ReservaServicePort reservaService;
+    private final JsonMapper jsonMapper;
+    private final ReservaExportacaoConfig reservaExportacaoConfig;
 
     @GetMapping
     @Operation(
         summary = "Listar reservas",
-        description = "Retorna a lista de todas as reservas cadastradas no sistema."
+        description = "Retorna uma página das reservas cadastradas no sistema, ordenadas por data do evento e ID. " +
+                     "Use o cursor do cabeçalho " + NEXT_CURSOR_HEADER + " para buscar a próxima página."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de reservas retornada com sucesso",
+            headers = @Header(name = NEXT_CURSOR_HEADER, description = "Cursor opaco da próxima página; ausente na última página")),
+        @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content),
+        @ApiResponse(responseCode = "403", description = "Sem permissão para acessar este recurso", content = @Content)
+    })
+    public ResponseEntity<List<ReservaResponseDTO>> findAll(
+            @Parameter(description = "Cursor da página retornado pela consulta anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de reservas por página")
+            @RequestParam(required = false) Integer tamanho) {
+        return toPaginaResponse(reservaService.findPagina(cursor, tamanho));
+    }
+
+    @GetMapping("/search")
+    @Operation(
+        summary = "Buscar reservas",
+        description = "Busca reservas combinando filtros opcionais de status, período, filial, espaço e usuário, " +
+                     "com ordenação e paginação. Filtros não informados não restringem o resultado."
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Lista de reservas retornada com sucesso"),
+        @ApiResponse(
+            responseCode = "200",
+            description = "Página da busca retornada com sucesso",
+            content = @Content(schema = @Schema(implementation = ReservaBuscaPaginaDTO.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "Período ou página inválidos", content = @Content),
         @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content),
         @ApiResponse(responseCode = "403", description = "Sem permissão para acessar este recurso", content = @Content)
     })
-    public ResponseEntity<List<ReservaResponseDTO>> findAll() {
-        List<ReservaResponseDTO> reservas = reservaService.findAll();
-        return ResponseEntity.ok(reservas);
+    public ResponseEntity<ReservaBuscaPaginaDTO> search(
+            @Parameter(description = "Status aceitos; pode ser repetido", example = "CONFIRMADA")
+            @RequestParam(required = false) Set<StatusReservaEnum> status,
+            @Parameter(description = "Data inicial do período (inclusive)", example = "2025-12-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @Parameter(description = "Data final do período (inclusive)", example = "2025-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @Parameter(description = "ID da filial")
+            @RequestParam(required = false) Integer filialId,
+            @Parameter(description = "ID do espaço")
+            @RequestParam(required = false) Integer espacoId,
+            @Parameter(description = "ID do usuário (cliente)")
+            @RequestParam(required = false) Integer usuarioId,
+            @Parameter(description = "Campo de ordenação")
+            @RequestParam(defaultValue = "DATA_EVENTO") OrdenacaoReservaEnum ordenarPor,
+            @Parameter(description = "Direção da ordenação")
+            @RequestParam(defaultValue = "ASC") Sort.Direction direcao,
+            @Parameter(description = "Número da página, iniciando em 0")
+            @RequestParam(defaultValue = "0") Integer pagina,
+            @Parameter(description = "Quantidade de reservas por página")
+            @RequestParam(required = false) Integer tamanho) {
+        ReservaFiltro filtro = ReservaFiltro.builder()
+                .status(status)
+                .usuarioId(usuarioId)
+                .espacoId(espacoId)
+                .filialId(filialId)
+                .dataInicio(dataInicio)
+                .dataFim(dataFim)
+                .build();
+        return ResponseEntity.ok(reservaService.buscar(filtro, ordenarPor, direcao, pagina, tamanho));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Exportar reservas",
+        description = "Retorna todas as reservas que atendem aos filtros em formato NDJSON (uma reserva JSON por linha), " +
+                     "ordenadas por data do evento e ID. As linhas são enviadas à medida que são lidas do banco, " +
+                     "sem montar a lista completa em memória."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação iniciada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Período inválido", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content),
+        @ApiResponse(responseCode = "403", description = "Sem permissão para acessar este recurso", content = @Content)
+    })
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "ID do usuário (cliente)")
+            @RequestParam(required = false) Integer usuarioId,
+            @Parameter(description = "ID do espaço")
+            @RequestParam(required = false) Integer espacoId,
+            @Parameter(description = "ID da filial")
+            @RequestParam(required = false) Integer filialId,
+            @Parameter(description = "Data inicial do período (inclusive)", example = "2025-12-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @Parameter(description = "Data final do período (inclusive)", example = "2025-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @Parameter(hidden = true) HttpServletRequest request) {
+        ReservaFiltro filtro = ReservaFiltro.builder()
+                .usuarioId(usuarioId)
+                .espacoId(espacoId)
+                .filialId(filialId)
+                .dataInicio(dataInicio)
+                .dataFim(dataFim)
+                .build();
+
+        // Só esta requisição ganha o tempo limite estendido; é aplicado quando o corpo começa a ser escrito
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest()
+                .setTimeout(reservaExportacaoConfig.getTempoLimite().toMillis());
+
+        StreamingResponseBody corpo = saida -> {
+            reservaService.exportar(filtro, reserva -> escreverLinha(saida, reserva));
+            saida.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(corpo);
     }
 
     @GetMapping("/{id}")
@@ -66,55 +189,72 @@ public class ReservaWebAdapter implements ReservaWebPort {
     @GetMapping("/usuario/{usuarioId}")
     @Operation(
         summary = "Listar reservas por usuário",
-        description = "Retorna todas as reservas realizadas por um usuário específico (cliente)."
+        description = "Retorna uma página das reservas realizadas por um usuário específico (cliente)."
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Lista de reservas do usuário retornada com sucesso"),
+        @ApiResponse(responseCode = "200", description = "Página de reservas do usuário retornada com sucesso",
+            headers = @Header(name = NEXT_CURSOR_HEADER, description = "Cursor opaco da próxima página; ausente na última página")),
         @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content),
         @ApiResponse(responseCode = "403", description = "Sem permissão para acessar reservas deste usuário", content = @Content),
         @ApiResponse(responseCode = "404", description = "Usuário não encontrado", content = @Content)
     })
     public ResponseEntity<List<ReservaResponseDTO>> findByUsuarioId(
             @Parameter(description = "ID do usuário (cliente)", required = true)
-            @PathVariable Integer usuarioId) {
-        List<ReservaResponseDTO> reservas = reservaService.findByUsuarioId(usuarioId);
-        return ResponseEntity.ok(reservas);
+            @PathVariable Integer usuarioId,
+            @Parameter(description = "Cursor da página retornado pela consulta anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de reservas por página")
+            @RequestParam(required = false) Integer tamanho) {
+        return toPaginaResponse(reservaService.findPaginaByUsuarioId(usuarioId, cursor, tamanho));
     }
 
     @GetMapping("/espaco/{espacoId}")
     @Operation(
         summary = "Listar reservas por espaço",
-        description = "Retorna todas as reservas realizadas para um espaço específico. Útil para verificar agenda de ocupação."
+        description = "Retorna uma página das reservas realizadas para um espaço específico. Útil para verificar agenda de ocupação."
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Lista de reservas do espaço retornada com sucesso"),
+        @ApiResponse(responseCode = "200", description = "Página de reservas do espaço retornada com sucesso",
+            headers = @Header(name = NEXT_CURSOR_HEADER, description = "Cursor opaco da próxima página; ausente na última página")),
         @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content),
         @ApiResponse(responseCode = "403", description = "Sem permissão para acessar este recurso", content = @Content),
         @ApiResponse(responseCode = "404", description = "Espaço não encontrado", content = @Content)
     })
     public ResponseEntity<List<ReservaResponseDTO>> findByEspacoId(
             @Parameter(description = "ID do espaço", required = true)
-            @PathVariable Integer espacoId) {
-        List<ReservaResponseDTO> reservas = reservaService.findByEspacoId(espacoId);
-        return ResponseEntity.ok(reservas);
+            @PathVariable Integer espacoId,
+            @Parameter(description = "Cursor da página retornado pela consulta anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de reservas por página")
+            @RequestParam(required = false) Integer tamanho) {
+        return toPaginaResponse(reservaService.findPaginaByEspacoId(espacoId, cursor, tamanho));
     }
 
     @GetMapping("/acesso/{email}")
     @Operation(
         summary = "Listar reservas por email do usuário",
-        description = "Retorna todas as reservas de um usuário identificado pelo email. Endpoint de conveniência."
+        description = "Retorna uma página das reservas visíveis para o usuário identificado pelo email: todas para administradores, " +
+                     "as da filial para funcionários e as próprias para clientes. O período, quando informado, filtra a página em todos os perfis."
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Lista de reservas retornada com sucesso"),
+        @ApiResponse(responseCode = "200", description = "Página de reservas retornada com sucesso",
+            headers = @Header(name = NEXT_CURSOR_HEADER, description = "Cursor opaco da próxima página; ausente na última página")),
         @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content),
         @ApiResponse(responseCode = "403", description = "Sem permissão para acessar reservas deste usuário", content = @Content),
         @ApiResponse(responseCode = "404", description = "Usuário não encontrado", content = @Content)
     })
     public ResponseEntity<List<ReservaResponseDTO>> findByAcessoPorEmail(
             @Parameter(description = "Email do usuário", required = true, example = "cliente@example.com")
-            @PathVariable String email) {
-        List<ReservaResponseDTO> reservas = reservaService.findByAcessoPorEmail(email);
-        return ResponseEntity.ok(reservas);
+            @PathVariable String email,
+            @Parameter(description = "Data inicial do período (inclusive)", example = "2025-12-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @Parameter(description = "Data final do período (inclusive)", example = "2025-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @Parameter(description = "Cursor da página retornado pela consulta anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de reservas por página")
+            @RequestParam(required = false) Integer tamanho) {
+        return toPaginaResponse(reservaService.findByAcessoPorEmail(email, dataInicio, dataFim, cursor, tamanho));
     }
 
     @PostMapping
@@ -146,6 +286,34 @@ public class ReservaWebAdapter implements ReservaWebPort {
         return ResponseEntity.status(HttpStatus.CREATED).body(reserva);
     }
 
+    @PostMapping("/batch")
+    @Operation(
+        summary = "Criar reservas em lote",
+        description = "Cria várias reservas em uma única requisição, por exemplo datas recorrentes de um evento corporativo. " +
+                     "Cada item é validado individualmente e o resultado informa, por posição, se a reserva foi criada, " +
+                     "se houve conflito de disponibilidade ou outro erro."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lote processado; consulte o resultado de cada item",
+            content = @Content(schema = @Schema(implementation = ReservaLoteResponseDTO.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "Lote vazio, acima do limite ou com itens inválidos", content = @Content),
+        @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content),
+        @ApiResponse(responseCode = "403", description = "Sem permissão para criar reservas", content = @Content)
+    })
+    public ResponseEntity<ReservaLoteResponseDTO> createBatch(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Reservas a serem criadas",
+                required = true,
+                content = @Content(schema = @Schema(implementation = ReservaLoteRequestDTO.class))
+            )
+            @Valid @RequestBody ReservaLoteRequestDTO requestDTO) {
+        ReservaLoteResponseDTO resultado = reservaService.createBatch(requestDTO.getReservas());
+        return ResponseEntity.ok(resultado);
+    }
+
     @PutMapping("/{id}")
     @Operation(
         summary = "Atualizar reserva",
@@ -223,4 +391,21 @@ public class ReservaWebAdapter implements ReservaWebPort {
         reservaService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    private void escreverLinha(OutputStream saida, ReservaResponseDTO reserva) {
+        try {
+            saida.write(jsonMapper.writeValueAsBytes(reserva));
+            saida.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ResponseEntity<List<ReservaResponseDTO>> toPaginaResponse(ReservaPaginaDTO pagina) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (pagina.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, pagina.getNextCursor());
+        }
+        return response.body(pagina.getReservas());
+    }
 }
\ No newline at end of file
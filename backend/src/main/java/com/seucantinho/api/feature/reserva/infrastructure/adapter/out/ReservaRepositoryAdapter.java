@@ -1,21 +1,57 @@
 package com.seucantinho.api.feature.reserva.infrastructure.adapter.out;
 
 import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.domain.enums.OrdenacaoReservaEnum;
 import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
 import com.seucantinho.api.feature.reserva.domain.port.out.ReservaRepositoryPort;
+import com.seucantinho.api.feature.reserva.domain.valueobject.ReservaCursor;
+import com.seucantinho.api.feature.reserva.domain.valueobject.ReservaFiltro;
+import com.seucantinho.api.feature.reserva.infrastructure.cache.OcupacaoEspacoIndex;
 import com.seucantinho.api.feature.reserva.infrastructure.persistence.ReservaRepository;
+import com.seucantinho.api.feature.reserva.infrastructure.persistence.ReservaSpecifications;
+import com.seucantinho.api.feature.reserva.infrastructure.scheduler.ReservaExpiracaoAgenda;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 public class ReservaRepositoryAdapter implements ReservaRepositoryPort {
 
+    static final int TAMANHO_LOTE_EXPORTACAO = Integer.parseInt(ReservaRepository.FETCH_SIZE_EXPORTACAO);
+    static final int IDS_POR_CONSULTA = 1000;
+
+    // So grava se a versao lida ainda for a atual; uma linha nao afetada indica alteracao concorrente
+    private static final String UPDATE_STATUS_COM_VERSAO = "UPDATE tb_reserva " +
+            "SET status = CAST(? AS status_reserva_enum), versao = versao + 1 " +
+            "WHERE id = ? AND versao = ?";
+
     private final ReservaRepository reservaRepository;
+    private final OcupacaoEspacoIndex ocupacaoEspacoIndex;
+    private final ReservaExpiracaoAgenda reservaExpiracaoAgenda;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<Reserva> findAll() {
@@ -32,16 +68,101 @@ public class ReservaRepositoryAdapter implements ReservaRepositoryPort {
         return reservaRepository.findByUsuarioId(usuarioId);
     }
 
+    @Override
+    public int countByUsuarioId(Integer usuarioId) {
+        return Math.toIntExact(reservaRepository.countByUsuarioId(usuarioId));
+    }
+
+    // Uma consulta agrupada por página de ids; usuários sem reservas ficam fora do mapa
+    @Override
+    public Map<Integer, Integer> countByUsuarioIds(Collection<Integer> usuarioIds) {
+        Map<Integer, Integer> quantidades = new HashMap<>();
+        List<Integer> ids = List.copyOf(new HashSet<>(usuarioIds));
+        for (int inicio = 0; inicio < ids.size(); inicio += IDS_POR_CONSULTA) {
+            List<Integer> pagina = ids.subList(inicio, Math.min(inicio + IDS_POR_CONSULTA, ids.size()));
+            for (Object[] linha : reservaRepository.countByUsuarioIds(pagina)) {
+                quantidades.put((Integer) linha[0], ((Long) linha[1]).intValue());
+            }
+        }
+        return quantidades;
+    }
+
     @Override
     public List<Reserva> findByEspacoId(Integer espacoId) {
         return reservaRepository.findByEspacoId(espacoId);
     }
 
+    @Override
+    public List<Reserva> findPagina(ReservaCursor cursor, int limite) {
+        if (cursor == null) {
+            return reservaRepository.findPrimeiraPagina(Limit.of(limite));
+        }
+        return reservaRepository.findPaginaApos(cursor.getDataEvento(), cursor.getId(), Limit.of(limite));
+    }
+
+    @Override
+    public List<Reserva> findPaginaByUsuarioId(Integer usuarioId, ReservaCursor cursor, int limite) {
+        if (cursor == null) {
+            return reservaRepository.findPrimeiraPaginaByUsuarioId(usuarioId, Limit.of(limite));
+        }
+        return reservaRepository.findPaginaAposByUsuarioId(
+                usuarioId, cursor.getDataEvento(), cursor.getId(), Limit.of(limite));
+    }
+
+    @Override
+    public List<Reserva> findPaginaByEspacoId(Integer espacoId, ReservaCursor cursor, int limite) {
+        if (cursor == null) {
+            return reservaRepository.findPrimeiraPaginaByEspacoId(espacoId, Limit.of(limite));
+        }
+        return reservaRepository.findPaginaAposByEspacoId(
+                espacoId, cursor.getDataEvento(), cursor.getId(), Limit.of(limite));
+    }
+
+    @Override
+    public List<Reserva> findPaginaByPeriodo(LocalDate dataInicio, LocalDate dataFim, ReservaCursor cursor, int limite) {
+        if (cursor == null) {
+            return reservaRepository.findPrimeiraPaginaByPeriodo(dataInicio, dataFim, Limit.of(limite));
+        }
+        return reservaRepository.findPaginaAposByPeriodo(
+                dataInicio, dataFim, cursor.getDataEvento(), cursor.getId(), Limit.of(limite));
+    }
+
+    @Override
+    public List<Reserva> findPaginaByUsuarioIdAndPeriodo(Integer usuarioId, LocalDate dataInicio, LocalDate dataFim,
+                                                         ReservaCursor cursor, int limite) {
+        if (cursor == null) {
+            return reservaRepository.findPrimeiraPaginaByUsuarioIdAndPeriodo(
+                    usuarioId, dataInicio, dataFim, Limit.of(limite));
+        }
+        return reservaRepository.findPaginaAposByUsuarioIdAndPeriodo(
+                usuarioId, dataInicio, dataFim, cursor.getDataEvento(), cursor.getId(), Limit.of(limite));
+    }
+
+    @Override
+    public List<Reserva> findPaginaByFilialIdAndPeriodo(Integer filialId, LocalDate dataInicio, LocalDate dataFim,
+                                                        ReservaCursor cursor, int limite) {
+        if (cursor == null) {
+            return reservaRepository.findPrimeiraPaginaByFilialIdAndPeriodo(
+                    filialId, dataInicio, dataFim, Limit.of(limite));
+        }
+        return reservaRepository.findPaginaAposByFilialIdAndPeriodo(
+                filialId, dataInicio, dataFim, cursor.getDataEvento(), cursor.getId(), Limit.of(limite));
+    }
+
     @Override
     public List<Reserva> findByStatus(StatusReservaEnum status) {
         return reservaRepository.findByStatus(status);
     }
 
+    @Override
+    public Map<Integer, LocalDateTime> findDatasCriacaoByStatus(StatusReservaEnum status) {
+        Map<Integer, LocalDateTime> datas = new LinkedHashMap<>();
+        for (Object[] linha : reservaRepository.findCriacoesByStatus(status)) {
+            datas.put((Integer) linha[0], (LocalDateTime) linha[1]);
+        }
+        return datas;
+    }
+
     @Override
     public Optional<Reserva> findByIdWithPagamentos(Integer id) {
         return reservaRepository.findByIdWithPagamentos(id);
@@ -49,21 +170,192 @@ public class ReservaRepositoryAdapter implements ReservaRepositoryPort {
 
     @Override
     public boolean existsActiveReservationByEspacoAndData(Integer espacoId, LocalDate dataEvento, Integer excludeReservaId) {
+        // O índice só dispensa o banco quando a data está livre; uma marcação pode estar desatualizada
+        if (ocupacaoEspacoIndex.isLivre(espacoId, dataEvento, excludeReservaId)) {
+            return false;
+        }
         return reservaRepository.existsReservaAtivaByEspacoAndData(espacoId, dataEvento, excludeReservaId);
     }
 
+    @Override
+    public Map<Integer, Set<LocalDate>> findDatasOcupadas(Collection<Integer> espacoIds, Collection<LocalDate> datas) {
+        Map<Integer, Set<LocalDate>> ocupadas = new HashMap<>();
+        if (espacoIds.isEmpty() || datas.isEmpty()) {
+            return ocupadas;
+        }
+        for (Object[] linha : reservaRepository.findDatasOcupadas(espacoIds, datas)) {
+            ocupadas.computeIfAbsent((Integer) linha[0], id -> new HashSet<>()).add((LocalDate) linha[1]);
+        }
+        return ocupadas;
+    }
+
+    @Override
+    public List<Integer> findIdsByStatusAndDataEventoAntes(Set<StatusReservaEnum> status, LocalDate data,
+                                                           Integer idApos, int limite) {
+        return reservaRepository.findIdsByStatusAndDataEventoAntes(status, data, idApos, Limit.of(limite));
+    }
+
+    @Override
+    public int updateStatusEmLote(List<Integer> ids, Set<StatusReservaEnum> statusOrigem, StatusReservaEnum novoStatus) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int atualizadas = reservaRepository.updateStatusEmLote(ids, statusOrigem, novoStatus);
+        if (novoStatus == StatusReservaEnum.CANCELADA || novoStatus == StatusReservaEnum.FINALIZADA) {
+            liberarOcupacao(ids, atualizadas, novoStatus);
+        }
+        return atualizadas;
+    }
+
+    @Override
+    public boolean[] updateStatusComVersaoEmLote(List<Reserva> reservas) {
+        boolean[] atualizadas = new boolean[reservas.size()];
+        if (reservas.isEmpty()) {
+            return atualizadas;
+        }
+        int[][] resultados = jdbcTemplate.batchUpdate(UPDATE_STATUS_COM_VERSAO, reservas, reservas.size(),
+                (comando, reserva) -> {
+                    comando.setString(1, reserva.getStatus().name());
+                    comando.setInt(2, reserva.getId());
+                    comando.setLong(3, reserva.getVersao());
+                });
+
+        int posicao = 0;
+        for (int[] lote : resultados) {
+            for (int linhasAfetadas : lote) {
+                atualizadas[posicao++] = linhasAfetadas != 0;
+            }
+        }
+        return atualizadas;
+    }
+
+    @Override
+    public int cancelarEmLote(List<Integer> ids, Set<StatusReservaEnum> statusOrigem) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int canceladas = reservaRepository.cancelarEmLote(ids, statusOrigem, StatusReservaEnum.CANCELADA);
+        liberarOcupacao(ids, canceladas, StatusReservaEnum.CANCELADA);
+        return canceladas;
+    }
+
+    // O id desempata a ordenacao para que as paginas sejam estaveis
+    @Override
+    public Slice<Reserva> buscar(ReservaFiltro filtro, OrdenacaoReservaEnum ordenacao, Sort.Direction direcao,
+                                 int pagina, int tamanho) {
+        Sort sort = Sort.by(direcao, ordenacao.getPropriedade()).and(Sort.by(direcao, "id"));
+        return reservaRepository.findBy(ReservaSpecifications.comFiltro(filtro),
+                consulta -> consulta.sortBy(sort).slice(PageRequest.of(pagina, tamanho)));
+    }
+
+    @Override
+    public List<Reserva> findDesanexadasComPagamentos(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Reserva> reservas = reservaRepository.findAllByIdWithPagamentos(ids);
+        reservas.forEach(entityManager::detach);
+        return reservas;
+    }
+
+    @Override
+    public Map<Integer, BigDecimal> findTotaisPagos(Integer idApos, int limite) {
+        Map<Integer, BigDecimal> totais = new LinkedHashMap<>();
+        for (Object[] linha : reservaRepository.findTotaisPagos(idApos, Limit.of(limite))) {
+            totais.put((Integer) linha[0], (BigDecimal) linha[1]);
+        }
+        return totais;
+    }
+
+    @Override
+    public int recalcularTotalPago(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return reservaRepository.recalcularTotalPago(ids);
+    }
+
+    @Override
+    public int somarTotalPago(Integer id, BigDecimal valor) {
+        return reservaRepository.somarTotalPago(id, valor);
+    }
+
+    @Override
+    public int zerarTotalPago(Integer id) {
+        return reservaRepository.zerarTotalPago(id);
+    }
+
+    // Entrega as reservas em lotes e limpa o contexto de persistencia a cada lote,
+    // para que a memoria nao cresca com o numero de linhas percorridas
+    @Override
+    public void percorrer(ReservaFiltro filtro, Consumer<List<Reserva>> consumidorLote) {
+        try (Stream<Reserva> reservas = reservaRepository.streamByFiltro(
+                filtro.getUsuarioId(), filtro.getEspacoId(), filtro.getFilialId(),
+                filtro.getDataInicio(), filtro.getDataFim())) {
+            List<Reserva> lote = new ArrayList<>(TAMANHO_LOTE_EXPORTACAO);
+            Iterator<Reserva> iterator = reservas.iterator();
+            while (iterator.hasNext()) {
+                lote.add(iterator.next());
+                if (lote.size() == TAMANHO_LOTE_EXPORTACAO) {
+                    entregarLote(lote, consumidorLote);
+                    lote = new ArrayList<>(TAMANHO_LOTE_EXPORTACAO);
+                }
+            }
+            if (!lote.isEmpty()) {
+                entregarLote(lote, consumidorLote);
+            }
+        }
+    }
+
     @Override
     public Reserva save(Reserva reserva) {
-        return reservaRepository.save(reserva);
+        Reserva saved = reservaRepository.save(reserva);
+        ocupacaoEspacoIndex.registrar(saved);
+        reservaExpiracaoAgenda.agendar(saved);
+        return saved;
+    }
+
+    @Override
+    public Reserva saveAndFlush(Reserva reserva) {
+        Reserva saved = reservaRepository.saveAndFlush(reserva);
+        ocupacaoEspacoIndex.registrar(saved);
+        reservaExpiracaoAgenda.agendar(saved);
+        return saved;
+    }
+
+    @Override
+    public List<Reserva> saveAllAndFlush(List<Reserva> reservas) {
+        // O flush dispara o batch aqui: um conflito de indice sobe antes de registrar as reservas no indice de ocupacao
+        List<Reserva> saved = reservaRepository.saveAllAndFlush(reservas);
+        saved.forEach(ocupacaoEspacoIndex::registrar);
+        saved.forEach(reservaExpiracaoAgenda::agendar);
+        return saved;
     }
 
     @Override
     public void deleteById(Integer id) {
         reservaRepository.deleteById(id);
+        ocupacaoEspacoIndex.remover(id);
     }
 
     @Override
     public boolean existsById(Integer id) {
         return reservaRepository.existsById(id);
     }
-}
\ No newline at end of file
+
+    private void entregarLote(List<Reserva> lote, Consumer<List<Reserva>> consumidorLote) {
+        consumidorLote.accept(lote);
+        entityManager.clear();
+    }
+
+    // Se o filtro de status barrou parte do lote, so as reservas que de fato mudaram saem do indice
+    private void liberarOcupacao(List<Integer> ids, int atualizadas, StatusReservaEnum novoStatus) {
+        if (atualizadas == 0) {
+            return;
+        }
+        List<Integer> liberadas = atualizadas == ids.size()
+                ? ids
+                : reservaRepository.findIdsByIdInAndStatus(ids, novoStatus);
+        liberadas.forEach(ocupacaoEspacoIndex::remover);
+    }
+}
@@ -0,0 +1,181 @@
+package com.seucantinho.api.feature.reserva.infrastructure.cache;
+
+import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.infrastructure.persistence.ReservaRepository;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice em memória das datas ocupadas por reservas ativas de cada espaço.
+ * <p>
+ * Cada espaço possui um bitmap circular de {@value #JANELA_DIAS} posições, cobrindo
+ * de hoje até o limite de antecedência de {@code DataEvento}. O índice só afirma que
+ * uma data está livre: só vê as gravações desta instância e não as atualizações em
+ * lote, então uma data marcada pode já ter sido liberada e quem consulta confirma no
+ * banco. Uma data livre aqui pode ter sido ocupada por outra instância; o índice único
+ * {@code idx_reserva_unica_ativa} decide o conflito na inserção. Até o aquecimento
+ * terminar o índice não responde por nenhuma data.
+ */
+@Component
+@RequiredArgsConstructor
+public class OcupacaoEspacoIndex {
+
+    static final int JANELA_DIAS = 366;
+
+    private final ReservaRepository reservaRepository;
+
+    private final Map<Integer, BitSet> ocupacaoPorEspaco = new HashMap<>();
+    private final Map<Integer, Long> posicaoPorReserva = new HashMap<>();
+    private boolean aquecido;
+    private long diaBase;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void aquecer() {
+        LocalDate hoje = Relogio.hoje();
+        List<Object[]> ocupacoes = reservaRepository.findOcupacoesAtivas(hoje, hoje.plusDays(JANELA_DIAS - 1L));
+
+        ocupacaoPorEspaco.clear();
+        posicaoPorReserva.clear();
+        diaBase = hoje.toEpochDay();
+
+        for (Object[] ocupacao : ocupacoes) {
+            marcar((Integer) ocupacao[0], (Integer) ocupacao[1], ((LocalDate) ocupacao[2]).toEpochDay());
+        }
+        aquecido = true;
+    }
+
+    public synchronized boolean cobre(LocalDate data) {
+        if (!aquecido || data == null) {
+            return false;
+        }
+        avancarDia();
+        return dentroDaJanela(data.toEpochDay());
+    }
+
+    // true só quando o índice aquecido sabe que a data está livre; false significa "não se sabe"
+    public synchronized boolean isLivre(Integer espacoId, LocalDate data, Integer excludeReservaId) {
+        if (!cobre(data)) {
+            return false;
+        }
+        long dia = data.toEpochDay();
+
+        if (excludeReservaId != null) {
+            Long posicao = posicaoPorReserva.get(excludeReservaId);
+            if (posicao != null && posicao == chave(espacoId, dia)) {
+                return true;
+            }
+        }
+
+        BitSet ocupacao = ocupacaoPorEspaco.get(espacoId);
+        return ocupacao == null || !ocupacao.get(slot(dia));
+    }
+
+    public void registrar(Reserva reserva) {
+        if (reserva.getId() == null || reserva.getEspaco() == null || reserva.getEspaco().getId() == null
+                || reserva.getDataEvento() == null || reserva.getDataEvento().getData() == null) {
+            return;
+        }
+
+        Integer reservaId = reserva.getId();
+        Integer espacoId = reserva.getEspaco().getId();
+        long dia = reserva.getDataEvento().getData().toEpochDay();
+        boolean ativa = reserva.isAtiva();
+
+        aposCommit(() -> atualizar(reservaId, espacoId, dia, ativa));
+    }
+
+    public void remover(Integer reservaId) {
+        aposCommit(() -> desmarcar(reservaId));
+    }
+
+    // Antes do aquecimento nada é marcado: a gravação já está no banco que o aquecimento vai ler
+    private synchronized void atualizar(Integer reservaId, Integer espacoId, long dia, boolean ativa) {
+        if (!aquecido) {
+            return;
+        }
+        avancarDia();
+        desmarcar(reservaId);
+        if (ativa) {
+            marcar(reservaId, espacoId, dia);
+        }
+    }
+
+    private void marcar(Integer reservaId, Integer espacoId, long dia) {
+        if (!dentroDaJanela(dia)) {
+            return;
+        }
+        ocupacaoPorEspaco.computeIfAbsent(espacoId, id -> new BitSet(JANELA_DIAS)).set(slot(dia));
+        posicaoPorReserva.put(reservaId, chave(espacoId, dia));
+    }
+
+    private synchronized void desmarcar(Integer reservaId) {
+        Long posicao = posicaoPorReserva.remove(reservaId);
+        if (posicao == null) {
+            return;
+        }
+        BitSet ocupacao = ocupacaoPorEspaco.get(espacoDa(posicao));
+        if (ocupacao != null) {
+            ocupacao.clear(slot(diaDa(posicao)));
+        }
+    }
+
+    // Ao virar o dia, as posições de datas passadas são limpas antes de serem reaproveitadas
+    private void avancarDia() {
+        long hoje = Relogio.hoje().toEpochDay();
+        if (hoje <= diaBase) {
+            return;
+        }
+
+        long fim = Math.min(hoje, diaBase + JANELA_DIAS);
+        for (long dia = diaBase; dia < fim; dia++) {
+            int slot = slot(dia);
+            ocupacaoPorEspaco.values().forEach(ocupacao -> ocupacao.clear(slot));
+        }
+        posicaoPorReserva.values().removeIf(posicao -> diaDa(posicao) < hoje);
+        diaBase = hoje;
+    }
+
+    private boolean dentroDaJanela(long dia) {
+        return dia >= diaBase && dia < diaBase + JANELA_DIAS;
+    }
+
+    private static void aposCommit(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+
+    private static int slot(long dia) {
+        return (int) Math.floorMod(dia, (long) JANELA_DIAS);
+    }
+
+    private static long chave(Integer espacoId, long dia) {
+        return ((long) espacoId << 32) | (dia & 0xFFFFFFFFL);
+    }
+
+    private static Integer espacoDa(long chave) {
+        return (int) (chave >>> 32);
+    }
+
+    private static long diaDa(long chave) {
+        return (int) chave;
+    }
+}
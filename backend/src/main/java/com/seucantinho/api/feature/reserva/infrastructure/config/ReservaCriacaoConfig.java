@@ -0,0 +1,17 @@
+package com.seucantinho.api.feature.reserva.infrastructure.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class ReservaCriacaoConfig {
+
+    // Quando ativo, a criacao faz o INSERT direto e usa idx_reserva_unica_ativa para detectar conflito
+    private final boolean insertFirst;
+
+    public ReservaCriacaoConfig(@Value("${app.reserva.criacao.insert-first:true}") boolean insertFirst) {
+        this.insertFirst = insertFirst;
+    }
+}
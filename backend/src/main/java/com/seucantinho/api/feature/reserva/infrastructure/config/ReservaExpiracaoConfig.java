@@ -0,0 +1,26 @@
+package com.seucantinho.api.feature.reserva.infrastructure.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Component
+public class ReservaExpiracaoConfig {
+
+    private final boolean habilitada;
+    // Prazo, a partir da criacao, para o pagamento do sinal antes do cancelamento automatico
+    private final Duration ttl;
+    private final int tamanhoLote;
+
+    public ReservaExpiracaoConfig(
+            @Value("${app.reserva.expiracao.habilitada:true}") boolean habilitada,
+            @Value("${app.reserva.expiracao.ttl-horas:48}") long ttlHoras,
+            @Value("${app.reserva.expiracao.tamanho-lote:200}") int tamanhoLote) {
+        this.habilitada = habilitada;
+        this.ttl = Duration.ofHours(ttlHoras);
+        this.tamanhoLote = tamanhoLote;
+    }
+}
@@ -0,0 +1,19 @@
+package com.seucantinho.api.feature.reserva.infrastructure.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Component
+public class ReservaExportacaoConfig {
+
+    // Tempo limite da escrita assincrona do NDJSON; os demais endpoints assincronos mantem o padrao do container
+    private final Duration tempoLimite;
+
+    public ReservaExportacaoConfig(@Value("${app.reserva.exportacao.tempo-limite-minutos:30}") long tempoLimiteMinutos) {
+        this.tempoLimite = Duration.ofMinutes(tempoLimiteMinutos);
+    }
+}
@@ -0,0 +1,27 @@
+package com.seucantinho.api.feature.reserva.infrastructure.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class ReservaPaginacaoConfig {
+
+    private final int tamanhoPadrao;
+    private final int tamanhoMaximo;
+
+    public ReservaPaginacaoConfig(
+            @Value("${app.reserva.paginacao.tamanho-padrao:50}") int tamanhoPadrao,
+            @Value("${app.reserva.paginacao.tamanho-maximo:200}") int tamanhoMaximo) {
+        this.tamanhoPadrao = tamanhoPadrao;
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+
+    public int resolverTamanho(Integer tamanhoSolicitado) {
+        if (tamanhoSolicitado == null || tamanhoSolicitado <= 0) {
+            return tamanhoPadrao;
+        }
+        return Math.min(tamanhoSolicitado, tamanhoMaximo);
+    }
+}
@@ -0,0 +1,54 @@
+package com.seucantinho.api.feature.reserva.infrastructure.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Locks em memória por reserva, distribuídos em um número fixo de listras.
+ * <p>
+ * Operações na mesma reserva são serializadas dentro da instância; reservas
+ * diferentes só disputam o mesmo lock quando caem na mesma listra. Entre
+ * instâncias a proteção continua sendo o {@code @Version} de {@code Reserva}.
+ */
+@Component
+public class ReservaStripedLock {
+
+    private final ReentrantLock[] listras;
+    private final int mascara;
+
+    public ReservaStripedLock(@Value("${app.reserva.lock.listras:256}") int quantidadeListras) {
+        // Potência de dois para escolher a listra com uma máscara de bits
+        int quantidade = quantidadeListras <= 1 ? 1 : Integer.highestOneBit(quantidadeListras - 1) << 1;
+        this.listras = new ReentrantLock[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            listras[i] = new ReentrantLock();
+        }
+        this.mascara = quantidade - 1;
+    }
+
+    public <T> T executar(Integer reservaId, Supplier<T> operacao) {
+        if (reservaId == null) {
+            return operacao.get();
+        }
+        ReentrantLock lock = listras[indice(reservaId)];
+        lock.lock();
+        try {
+            return operacao.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int quantidadeListras() {
+        return listras.length;
+    }
+
+    int indice(int reservaId) {
+        // Espalha ids sequenciais pelas listras (mesmo hash de HashMap)
+        int hash = Integer.hashCode(reservaId);
+        return (hash ^ (hash >>> 16)) & mascara;
+    }
+}
@@ -11,6 +11,7 @@ import com.seucantinho.api.feature.reserva.domain.valueobject.DataEvento;
 import com.seucantinho.api.shared.domain.valueobject.ValorMonetario;
 import com.seucantinho.api.feature.reserva.application.dto.ReservaRequestDTO;
 import com.seucantinho.api.feature.reserva.application.dto.ReservaResponseDTO;
+import com.seucantinho.api.feature.usuario.application.dto.UsuarioResponseDTO;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -33,7 +34,10 @@ public class ReservaMapper {
                 .build();
     }
 
-    public ReservaResponseDTO toResponseDTO(Reserva reserva) {
+    // O total pago vem da coluna total_pago (ou de um valor já conhecido) e a quantidade de reservas do cliente
+    // de uma contagem feita por quem chama: nem reserva.getPagamentos() nem cliente.getReservas() são inicializados
+    public ReservaResponseDTO toResponseDTO(Reserva reserva, ValorMonetario totalPago, int quantidadeReservasUsuario) {
+        UsuarioResponseDTO usuario = usuarioMapper.toResponseDTO(reserva.getUsuario(), quantidadeReservasUsuario);
         return ReservaResponseDTO.builder()
                 .id(reserva.getId())
                 .dataCriacao(reserva.getDataCriacao())
@@ -41,9 +45,9 @@ public class ReservaMapper {
                 .valorTotal(reserva.getValorTotal().getValor())
                 .observacoes(reserva.getObservacoes())
                 .status(reserva.getStatus())
-                .totalPago(reserva.calcularTotalPago().getValor())
-                .saldo(reserva.calcularSaldo().getValor())
-                .usuario(usuarioMapper.toResponseDTO(reserva.getUsuario()))
+                .totalPago(totalPago.getValor())
+                .saldo(reserva.getValorTotal().subtrair(totalPago).getValor())
+                .usuario(usuario)
                 .espaco(espacoMapper.toResponseDTO(reserva.getEspaco()))
                 .build();
     }
@@ -2,20 +2,34 @@ package com.seucantinho.api.feature.reserva.infrastructure.persistence;
 
 import com.seucantinho.api.feature.reserva.domain.Reserva;
 import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ReservaRepository extends JpaRepository<Reserva, Integer> {
+public interface ReservaRepository extends JpaRepository<Reserva, Integer>, JpaSpecificationExecutor<Reserva> {
+
+    String FETCH_SIZE_EXPORTACAO = "500";
 
     List<Reserva> findByUsuarioId(Integer usuarioId);
 
+    long countByUsuarioId(Integer usuarioId);
+
     List<Reserva> findByEspacoId(Integer espacoId);
 
     List<Reserva> findByStatus(StatusReservaEnum status);
@@ -33,6 +47,11 @@ public interface ReservaRepository extends JpaRepository<Reserva, Integer> {
            "WHERE r.id = :id")
     Optional<Reserva> findByIdWithPagamentos(Integer id);
 
+    @Query("SELECT DISTINCT r FROM Reserva r " +
+           "LEFT JOIN FETCH r.pagamentos " +
+           "WHERE r.id IN :ids")
+    List<Reserva> findAllByIdWithPagamentos(@Param("ids") Collection<Integer> ids);
+
     @Query("SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END " +
            "FROM Reserva r " +
            "WHERE r.espaco.id = :espacoId " +
@@ -56,4 +75,284 @@ public interface ReservaRepository extends JpaRepository<Reserva, Integer> {
 
     @Query("SELECT r FROM Reserva r WHERE r.espaco.filial.id = :filialId")
     List<Reserva> findByEspacoFilialId(@Param("filialId") Integer filialId);
+
+    // Paginacao por chave (data_evento, id): a proxima pagina comeca apos o ultimo item retornado.
+    // O limite redundante "data >= :dataEvento" deixa o Postgres fazer range scan em idx_reserva_*_data_id
+    // em vez de ler o indice desde o inicio e filtrar o OR
+    @Query("SELECT r FROM Reserva r " +
+           "JOIN FETCH r.usuario " +
+           "JOIN FETCH r.espaco e " +
+           "LEFT JOIN FETCH e.filial " +
+           "ORDER BY r.dataEvento.data, r.id")
+    List<Reserva> findPrimeiraPagina(Limit limit);
+
+    @Query("SELECT r FROM Reserva r " +
+           "JOIN FETCH r.usuario " +
+           "JOIN FETCH r.espaco e " +
+           "LEFT JOIN FETCH e.filial " +
+           "WHERE r.dataEvento.data >= :dataEvento " +
+           "AND (r.dataEvento.data > :dataEvento OR r.id > :id) " +
+           "ORDER BY r.dataEvento.data, r.id")
+    List<Reserva> findPaginaApos(
+        @Param("dataEvento") LocalDate dataEvento,
+        @Param("id") Integer id,
+        Limit limit
+    );
+
+    @Query("SELECT r FROM Reserva r " +
+           "JOIN FETCH r.usuario u " +
+           "JOIN FETCH r.espaco e " +
+           "LEFT JOIN FETCH e.filial " +
+           "WHERE u.id = :usuarioId " +
+           "ORDER BY r.dataEvento.data, r.id")
+    List<Reserva> findPrimeiraPaginaByUsuarioId(@Param("usuarioId") Integer usuarioId, Limit limit);
+
+    @Query("SELECT r FROM Reserva r " +
+           "JOIN FETCH r.usuario u " +
+           "JOIN FETCH r.espaco e " +
+           "LEFT JOIN FETCH e.filial " +
+           "WHERE u.id = :usuarioId " +
+           "AND r.dataEvento.data >= :dataEvento " +
+           "AND (r.dataEvento.data > :dataEvento OR r.id > :id) " +
+           "ORDER BY r.dataEvento.data, r.id")
+    List<Reserva> findPaginaAposByUsuarioId(
+        @Param("usuarioId") Integer usuarioId,
+        @Param("dataEvento") LocalDate dataEvento,
+        @Param("id") Integer id,
+        Limit limit
+    );
+
+    @Query("SELECT r FROM Reserva r " +
+           "JOIN FETCH r.usuario " +
+           "JOIN FETCH r.espaco e " +
+           "LEFT JOIN FETCH e.filial " +
+           "WHERE e.id = :espacoId " +
+           "ORDER BY r.dataEvento.data, r.id")
+    List<Reserva> findPrimeiraPaginaByEspacoId(@Param("espacoId") Integer espacoId, Limit limit);
+
+    @Query("SELECT r FROM Reserva r " +
+           "JOIN FETCH r.usuario " +
+           "JOIN FETCH r.espaco e " +
+           "LEFT JOIN FETCH e.filial " +
+           "WHERE e.id = :espacoId " +
+           "AND r.dataEvento.data >= :dataEvento " +
+           "AND (r.dataEvento.data > :dataEvento OR r.id > :id) " +
+           "ORDER BY r.dataEvento.data, r.id")
+    List<Reserva> findPaginaAposByEspacoId(
+        @Param("espacoId") Integer espacoId,
+        @Param("dataEvento") LocalDate dataEvento,
+        @Param("id") Integer id,
+        Limit limit
+    );
+
+    @Query("SELECT r FROM Reserva r " +
+           "JOIN FETCH r.usuario " +
+           "JOIN FETCH r.espaco e " +
+           "LEFT JOIN FETCH e.filial " +
+           "WHERE (:dataInicio IS NULL OR r.dataEvento.data >= :dataInicio) " +
+           "AND (:dataFim IS NULL OR r.dataEvento.data <= :dataFim) " +
+           "ORDER BY r.dataEvento.data, r.id")
+    List<Reserva> findPrimeiraPaginaByPeriodo(
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("dataFim") LocalDate dataFim,
+        Limit limit
+    );
+
+    @Query("SELECT r FROM Reserva r " +
+           "JOIN FETCH r.usuario " +
+           "JOIN FETCH r.espaco e " +
+           "LEFT JOIN FETCH e.filial " +
+           "WHERE (:dataInicio IS NULL OR r.dataEvento.data >= :dataInicio) " +
+           "AND (:dataFim IS NULL OR r.dataEvento.data <= :dataFim) " +
+           "AND r.dataEvento.data >= :dataEvento " +
+           "AND (r.dataEvento.data > :dataEvento OR r.id > :id) " +
+           "ORDER BY r.dataEvento.data, r.id")
+    List<Reserva> findPaginaAposByPeriodo(
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("dataFim") LocalDate dataFim,
+        @Param("dataEvento") LocalDate dataEvento,
+        @Param("id") Integer id,
+        Limit limit
+    );
+
+    @Query("SELECT r FROM Reserva r " +
+           "JOIN FETCH r.usuario u " +
+           "JOIN FETCH r.espaco e " +
+           "LEFT JOIN FETCH e.filial " +
+           "WHERE u.id = :usuarioId " +
+           "AND (:dataInicio IS NULL OR r.dataEvento.data >= :dataInicio) " +
+           "AND (:dataFim IS NULL OR r.dataEvento.data <= :dataFim) " +
+           "ORDER BY r.dataEvento.data, r.id")
+    List<Reserva> findPrimeiraPaginaByUsuarioIdAndPeriodo(
+        @Param("usuarioId") Integer usuarioId,
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("dataFim") LocalDate dataFim,
+        Limit limit
+    );
+
+    @Query("SELECT r FROM Reserva r " +
+           "JOIN FETCH r.usuario u " +
+           "JOIN FETCH r.espaco e " +
+           "LEFT JOIN FETCH e.filial " +
+           "WHERE u.id = :usuarioId " +
+           "AND (:dataInicio IS NULL OR r.dataEvento.data >= :dataInicio) " +
+           "AND (:dataFim IS NULL OR r.dataEvento.data <= :dataFim) " +
+           "AND r.dataEvento.data >= :dataEvento " +
+           "AND (r.dataEvento.data > :dataEvento OR r.id > :id) " +
+           "ORDER BY r.dataEvento.data, r.id")
+    List<Reserva> findPaginaAposByUsuarioIdAndPeriodo(
+        @Param("usuarioId") Integer usuarioId,
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("dataFim") LocalDate dataFim,
+        @Param("dataEvento") LocalDate dataEvento,
+        @Param("id") Integer id,
+        Limit limit
+    );
+
+    @Query("SELECT r FROM Reserva r " +
+           "JOIN FETCH r.usuario " +
+           "JOIN FETCH r.espaco e " +
+           "JOIN FETCH e.filial f " +
+           "WHERE f.id = :filialId " +
+           "AND (:dataInicio IS NULL OR r.dataEvento.data >= :dataInicio) " +
+           "AND (:dataFim IS NULL OR r.dataEvento.data <= :dataFim) " +
+           "ORDER BY r.dataEvento.data, r.id")
+    List<Reserva> findPrimeiraPaginaByFilialIdAndPeriodo(
+        @Param("filialId") Integer filialId,
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("dataFim") LocalDate dataFim,
+        Limit limit
+    );
+
+    @Query("SELECT r FROM Reserva r " +
+           "JOIN FETCH r.usuario " +
+           "JOIN FETCH r.espaco e " +
+           "JOIN FETCH e.filial f " +
+           "WHERE f.id = :filialId " +
+           "AND (:dataInicio IS NULL OR r.dataEvento.data >= :dataInicio) " +
+           "AND (:dataFim IS NULL OR r.dataEvento.data <= :dataFim) " +
+           "AND r.dataEvento.data >= :dataEvento " +
+           "AND (r.dataEvento.data > :dataEvento OR r.id > :id) " +
+           "ORDER BY r.dataEvento.data, r.id")
+    List<Reserva> findPaginaAposByFilialIdAndPeriodo(
+        @Param("filialId") Integer filialId,
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("dataFim") LocalDate dataFim,
+        @Param("dataEvento") LocalDate dataEvento,
+        @Param("id") Integer id,
+        Limit limit
+    );
+
+    @Query("SELECT r.espaco.id, r.dataEvento.data FROM Reserva r " +
+           "WHERE r.status NOT IN ('CANCELADA', 'FINALIZADA') " +
+           "AND r.espaco.id IN :espacoIds " +
+           "AND r.dataEvento.data IN :datas")
+    List<Object[]> findDatasOcupadas(
+        @Param("espacoIds") Collection<Integer> espacoIds,
+        @Param("datas") Collection<LocalDate> datas
+    );
+
+    @Query("SELECT r.id FROM Reserva r " +
+           "WHERE r.status IN :status " +
+           "AND r.dataEvento.data < :data " +
+           "AND r.id > :idApos " +
+           "ORDER BY r.id")
+    List<Integer> findIdsByStatusAndDataEventoAntes(
+        @Param("status") Collection<StatusReservaEnum> status,
+        @Param("data") LocalDate data,
+        @Param("idApos") Integer idApos,
+        Limit limit
+    );
+
+    // Leitura em cursor do JDBC: o driver traz FETCH_SIZE_EXPORTACAO linhas por vez em vez do resultado inteiro
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE_EXPORTACAO),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM Reserva r " +
+           "JOIN FETCH r.usuario u " +
+           "JOIN FETCH r.espaco e " +
+           "JOIN FETCH e.filial f " +
+           "WHERE (:usuarioId IS NULL OR u.id = :usuarioId) " +
+           "AND (:espacoId IS NULL OR e.id = :espacoId) " +
+           "AND (:filialId IS NULL OR f.id = :filialId) " +
+           "AND (:dataInicio IS NULL OR r.dataEvento.data >= :dataInicio) " +
+           "AND (:dataFim IS NULL OR r.dataEvento.data <= :dataFim) " +
+           "ORDER BY r.dataEvento.data, r.id")
+    Stream<Reserva> streamByFiltro(
+        @Param("usuarioId") Integer usuarioId,
+        @Param("espacoId") Integer espacoId,
+        @Param("filialId") Integer filialId,
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("dataFim") LocalDate dataFim
+    );
+
+    // Atualizacao em conjunto, sem carregar entidades; o filtro de status protege contra mudancas concorrentes
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Reserva r SET r.status = :novoStatus, r.versao = r.versao + 1 " +
+           "WHERE r.id IN :ids AND r.status IN :statusOrigem")
+    int updateStatusEmLote(
+        @Param("ids") Collection<Integer> ids,
+        @Param("statusOrigem") Collection<StatusReservaEnum> statusOrigem,
+        @Param("novoStatus") StatusReservaEnum novoStatus
+    );
+
+    // Mesmo filtro de updateStatusEmLote, zerando o total pago das reservas canceladas
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Reserva r SET r.status = :cancelada, r.totalPago.valor = 0, r.versao = r.versao + 1 " +
+           "WHERE r.id IN :ids AND r.status IN :statusOrigem")
+    int cancelarEmLote(
+        @Param("ids") Collection<Integer> ids,
+        @Param("statusOrigem") Collection<StatusReservaEnum> statusOrigem,
+        @Param("cancelada") StatusReservaEnum cancelada
+    );
+
+    @Query("SELECT r.id FROM Reserva r WHERE r.id IN :ids AND r.status = :status")
+    List<Integer> findIdsByIdInAndStatus(
+        @Param("ids") Collection<Integer> ids,
+        @Param("status") StatusReservaEnum status
+    );
+
+    @Query("SELECT r.id, r.dataCriacao FROM Reserva r WHERE r.status = :status")
+    List<Object[]> findCriacoesByStatus(@Param("status") StatusReservaEnum status);
+
+    @Query("SELECT r.id, r.espaco.id, r.dataEvento.data FROM Reserva r " +
+           "WHERE r.status NOT IN ('CANCELADA', 'FINALIZADA') " +
+           "AND r.dataEvento.data BETWEEN :dataInicio AND :dataFim")
+    List<Object[]> findOcupacoesAtivas(
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("dataFim") LocalDate dataFim
+    );
+
+    @Query("SELECT r.usuario.id, COUNT(r) FROM Reserva r " +
+           "WHERE r.usuario.id IN :usuarioIds " +
+           "GROUP BY r.usuario.id")
+    List<Object[]> countByUsuarioIds(@Param("usuarioIds") Collection<Integer> usuarioIds);
+
+    @Query("SELECT r.id, r.totalPago.valor FROM Reserva r WHERE r.id > :idApos ORDER BY r.id")
+    List<Object[]> findTotaisPagos(@Param("idApos") Integer idApos, Limit limit);
+
+    // Incremento atomico: soma sobre o valor da linha no momento do UPDATE, sem depender do que foi lido antes.
+    // O flush antes garante que o UPDATE de status da entidade (com a checagem de versao) ja foi enviado
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Reserva r SET r.totalPago.valor = r.totalPago.valor + :valor, r.versao = r.versao + 1 " +
+           "WHERE r.id = :id")
+    int somarTotalPago(@Param("id") Integer id, @Param("valor") BigDecimal valor);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Reserva r SET r.totalPago.valor = 0, r.versao = r.versao + 1 WHERE r.id = :id")
+    int zerarTotalPago(@Param("id") Integer id);
+
+    // Recalcula a partir de tb_pagamento no proprio UPDATE, sem depender de somas lidas antes
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Reserva r SET r.totalPago.valor = COALESCE(" +
+           "(SELECT SUM(p.valor.valor) FROM Pagamento p WHERE p.reserva.id = r.id), 0), " +
+           "r.versao = r.versao + 1 " +
+           "WHERE r.id IN :ids")
+    int recalcularTotalPago(@Param("ids") Collection<Integer> ids);
 }
@@ -0,0 +1,75 @@
+package com.seucantinho.api.feature.reserva.infrastructure.persistence;
+
+import com.seucantinho.api.feature.espaco.domain.Espaco;
+import com.seucantinho.api.feature.filial.domain.Filial;
+import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.domain.valueobject.ReservaFiltro;
+import com.seucantinho.api.feature.usuario.domain.Usuario;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ReservaSpecifications {
+
+    private ReservaSpecifications() {
+    }
+
+    // Um unico SELECT: usuario, espaco e filial entram por JOIN FETCH na consulta de entidades
+    // e por JOIN simples nas consultas de contagem, onde FETCH nao e permitido
+    @SuppressWarnings("unchecked")
+    public static Specification<Reserva> comFiltro(ReservaFiltro filtro) {
+        return (root, query, cb) -> {
+            Join<Reserva, Usuario> usuario;
+            Join<Reserva, Espaco> espaco;
+            Join<Espaco, Filial> filial;
+
+            if (isConsultaDeEntidades(query)) {
+                usuario = (Join<Reserva, Usuario>) root.<Reserva, Usuario>fetch("usuario", JoinType.INNER);
+                espaco = (Join<Reserva, Espaco>) root.<Reserva, Espaco>fetch("espaco", JoinType.INNER);
+                filial = (Join<Espaco, Filial>) espaco.<Espaco, Filial>fetch("filial", JoinType.INNER);
+            } else {
+                usuario = root.join("usuario");
+                espaco = root.join("espaco");
+                filial = espaco.join("filial");
+            }
+
+            List<Predicate> predicados = new ArrayList<>();
+            if (!filtro.getStatus().isEmpty()) {
+                predicados.add(root.get("status").in(filtro.getStatus()));
+            }
+            if (filtro.getUsuarioId() != null) {
+                predicados.add(cb.equal(usuario.get("id"), filtro.getUsuarioId()));
+            }
+            if (filtro.getEspacoId() != null) {
+                predicados.add(cb.equal(espaco.get("id"), filtro.getEspacoId()));
+            }
+            if (filtro.getFilialId() != null) {
+                predicados.add(cb.equal(filial.get("id"), filtro.getFilialId()));
+            }
+
+            Path<LocalDate> dataEvento = root.get("dataEvento").get("data");
+            if (filtro.getDataInicio() != null) {
+                predicados.add(cb.greaterThanOrEqualTo(dataEvento, filtro.getDataInicio()));
+            }
+            if (filtro.getDataFim() != null) {
+                predicados.add(cb.lessThanOrEqualTo(dataEvento, filtro.getDataFim()));
+            }
+
+            return cb.and(predicados.toArray(Predicate[]::new));
+        };
+    }
+
+    private static boolean isConsultaDeEntidades(CriteriaQuery<?> query) {
+        return query != null
+                && !Long.class.equals(query.getResultType())
+                && !long.class.equals(query.getResultType());
+    }
+}
@@ -0,0 +1,125 @@
+package com.seucantinho.api.feature.reserva.infrastructure.scheduler;
+
+import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import com.seucantinho.api.feature.reserva.domain.port.out.ReservaRepositoryPort;
+import com.seucantinho.api.feature.reserva.infrastructure.config.ReservaExpiracaoConfig;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agenda em memória dos prazos de pagamento do sinal das reservas em
+ * {@code AGUARDANDO_SINAL}.
+ * <p>
+ * É carregada do banco uma única vez na subida e alimentada a cada nova reserva
+ * salva; quem consome a fila bloqueia até o próximo vencimento, sem varrer
+ * {@code tb_reserva} periodicamente. Reservas pagas continuam na fila e são
+ * ignoradas no cancelamento, que filtra pelo status atual.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservaExpiracaoAgenda {
+
+    // Resolvido só na carga: o adaptador do repositório depende desta agenda para agendar as reservas salvas
+    private final ObjectProvider<ReservaRepositoryPort> reservaRepositoryPort;
+    private final ReservaExpiracaoConfig reservaExpiracaoConfig;
+
+    private final DelayQueue<Vencimento> fila = new DelayQueue<>();
+    private final Set<Integer> agendadas = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        if (!reservaExpiracaoConfig.isHabilitada()) {
+            return;
+        }
+        LocalDateTime agora = Relogio.agora();
+        reservaRepositoryPort.getObject()
+                .findDatasCriacaoByStatus(StatusReservaEnum.AGUARDANDO_SINAL)
+                .forEach((reservaId, dataCriacao) ->
+                        incluir(reservaId, vencimento(dataCriacao != null ? dataCriacao : agora)));
+    }
+
+    public void agendar(Reserva reserva) {
+        if (!reservaExpiracaoConfig.isHabilitada() || reserva.getId() == null
+                || reserva.getStatus() != StatusReservaEnum.AGUARDANDO_SINAL) {
+            return;
+        }
+
+        Integer reservaId = reserva.getId();
+        long vencimento = vencimento(reserva.getDataCriacao() != null ? reserva.getDataCriacao() : Relogio.agora());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incluir(reservaId, vencimento);
+                }
+            });
+        } else {
+            incluir(reservaId, vencimento);
+        }
+    }
+
+    // Bloqueia ate o proximo vencimento e devolve, junto com ele, os demais ja vencidos
+    public List<Integer> proximoLote(int tamanhoMaximo) throws InterruptedException {
+        List<Vencimento> vencidos = new ArrayList<>();
+        vencidos.add(fila.take());
+        fila.drainTo(vencidos, tamanhoMaximo - 1);
+
+        List<Integer> ids = new ArrayList<>(vencidos.size());
+        for (Vencimento vencido : vencidos) {
+            agendadas.remove(vencido.reservaId());
+            ids.add(vencido.reservaId());
+        }
+        return ids;
+    }
+
+    public void reagendar(List<Integer> reservaIds, Duration atraso) {
+        long vencimento = Relogio.clock().millis() + atraso.toMillis();
+        reservaIds.forEach(reservaId -> incluir(reservaId, vencimento));
+    }
+
+    public int pendentes() {
+        return fila.size();
+    }
+
+    private void incluir(Integer reservaId, long vencimento) {
+        if (agendadas.add(reservaId)) {
+            fila.add(new Vencimento(reservaId, vencimento));
+        }
+    }
+
+    private long vencimento(LocalDateTime dataCriacao) {
+        return dataCriacao.atZone(Relogio.zona()).toInstant().toEpochMilli()
+                + reservaExpiracaoConfig.getTtl().toMillis();
+    }
+
+    record Vencimento(Integer reservaId, long vencimentoEmMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(vencimentoEmMillis - Relogio.clock().millis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed outro) {
+            return Long.compare(vencimentoEmMillis, ((Vencimento) outro).vencimentoEmMillis);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.seucantinho.api.feature.reserva.infrastructure.scheduler;
+
+import com.seucantinho.api.feature.reserva.application.service.ReservaExpiracaoService;
+import com.seucantinho.api.feature.reserva.infrastructure.config.ReservaExpiracaoConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservaExpiracaoScheduler {
+
+    static final Duration ATRASO_RETENTATIVA = Duration.ofMinutes(1);
+
+    private final ReservaExpiracaoAgenda reservaExpiracaoAgenda;
+    private final ReservaExpiracaoService reservaExpiracaoService;
+    private final ReservaExpiracaoConfig reservaExpiracaoConfig;
+
+    private Thread executor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        if (!reservaExpiracaoConfig.isHabilitada()) {
+            return;
+        }
+        executor = new Thread(this::executar, "reserva-expiracao");
+        executor.setDaemon(true);
+        executor.start();
+    }
+
+    @PreDestroy
+    public void parar() {
+        if (executor != null) {
+            executor.interrupt();
+        }
+    }
+
+    private void executar() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                expirar(reservaExpiracaoAgenda.proximoLote(reservaExpiracaoConfig.getTamanhoLote()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    void expirar(List<Integer> reservaIds) {
+        try {
+            reservaExpiracaoService.expirar(reservaIds);
+        } catch (RuntimeException e) {
+            log.error("Falha ao expirar {} reservas aguardando sinal; nova tentativa em {}",
+                    reservaIds.size(), ATRASO_RETENTATIVA, e);
+            reservaExpiracaoAgenda.reagendar(reservaIds, ATRASO_RETENTATIVA);
+        }
+    }
+}
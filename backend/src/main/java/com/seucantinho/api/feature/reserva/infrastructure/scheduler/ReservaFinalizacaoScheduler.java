@@ -0,0 +1,18 @@
+package com.seucantinho.api.feature.reserva.infrastructure.scheduler;
+
+import com.seucantinho.api.feature.reserva.application.service.ReservaFinalizacaoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ReservaFinalizacaoScheduler {
+
+    private final ReservaFinalizacaoService reservaFinalizacaoService;
+
+    @Scheduled(cron = "${app.reserva.finalizacao.cron:0 5 0 * * *}")
+    public void finalizarReservasPassadas() {
+        reservaFinalizacaoService.finalizarReservasPassadas();
+    }
+}
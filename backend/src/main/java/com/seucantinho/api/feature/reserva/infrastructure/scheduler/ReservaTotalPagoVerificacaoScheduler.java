@@ -0,0 +1,18 @@
+package com.seucantinho.api.feature.reserva.infrastructure.scheduler;
+
+import com.seucantinho.api.feature.reserva.application.service.ReservaTotalPagoVerificacaoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ReservaTotalPagoVerificacaoScheduler {
+
+    private final ReservaTotalPagoVerificacaoService reservaTotalPagoVerificacaoService;
+
+    @Scheduled(cron = "${app.reserva.total-pago.verificacao.cron:0 30 3 * * *}")
+    public void verificarTotaisPagos() {
+        reservaTotalPagoVerificacaoService.verificar();
+    }
+}
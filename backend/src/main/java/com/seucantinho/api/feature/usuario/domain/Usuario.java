@@ -1,6 +1,7 @@
 package com.seucantinho.api.feature.usuario.domain;
 
 import com.seucantinho.api.feature.usuario.domain.enums.PerfilUsuarioEnum;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -50,7 +51,7 @@ public abstract class Usuario {
 
     @PrePersist
     protected void onCreate() {
-        dataCadastro = LocalDateTime.now();
+        dataCadastro = Relogio.agora();
         if (ativo == null) {
             ativo = true;
         }
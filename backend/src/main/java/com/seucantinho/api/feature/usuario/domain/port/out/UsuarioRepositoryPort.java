@@ -2,8 +2,10 @@ package com.seucantinho.api.feature.usuario.domain.port.out;
 
 import com.seucantinho.api.feature.usuario.domain.Usuario;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UsuarioRepositoryPort {
 
@@ -17,6 +19,12 @@ public interface UsuarioRepositoryPort {
 
     boolean existsByCpf(String cpf);
 
+    boolean existsByEmailAndIdNot(String email, Integer id);
+
+    Set<String> findEmailsExistentes(Collection<String> emails);
+
+    Set<String> findCpfsExistentes(Collection<String> cpfs);
+
     Usuario save(Usuario usuario);
 
     void deleteById(Integer id);
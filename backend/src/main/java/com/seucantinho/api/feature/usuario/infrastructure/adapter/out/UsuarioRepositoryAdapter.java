@@ -2,18 +2,23 @@ package com.seucantinho.api.feature.usuario.infrastructure.adapter.out;
 
 import com.seucantinho.api.feature.usuario.domain.Usuario;
 import com.seucantinho.api.feature.usuario.domain.port.out.UsuarioRepositoryPort;
+import com.seucantinho.api.feature.usuario.infrastructure.cache.ChavesUsuarioFiltro;
 import com.seucantinho.api.feature.usuario.infrastructure.persistence.UsuarioRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class UsuarioRepositoryAdapter implements UsuarioRepositoryPort {
 
     private final UsuarioRepository usuarioRepository;
+    private final ChavesUsuarioFiltro chavesUsuarioFiltro;
 
     @Override
     public List<Usuario> findAll() {
@@ -32,17 +37,37 @@ public class UsuarioRepositoryAdapter implements UsuarioRepositoryPort {
 
     @Override
     public boolean existsByEmail(String email) {
-        return usuarioRepository.existsByEmail(email);
+        return chavesUsuarioFiltro.talvezExistaEmail(email) && usuarioRepository.existsByEmail(email);
     }
 
     @Override
     public boolean existsByCpf(String cpf) {
-        return usuarioRepository.existsByCpf(cpf);
+        return chavesUsuarioFiltro.talvezExistaCpf(cpf) && usuarioRepository.existsByCpf(cpf);
+    }
+
+    @Override
+    public boolean existsByEmailAndIdNot(String email, Integer id) {
+        return chavesUsuarioFiltro.talvezExistaEmail(email) && usuarioRepository.existsByEmailAndIdNot(email, id);
+    }
+
+    // Só vão ao banco os valores que o filtro não descarta
+    @Override
+    public Set<String> findEmailsExistentes(Collection<String> emails) {
+        List<String> candidatos = emails.stream().filter(chavesUsuarioFiltro::talvezExistaEmail).toList();
+        return candidatos.isEmpty() ? Set.of() : new HashSet<>(usuarioRepository.findEmailsIn(candidatos));
+    }
+
+    @Override
+    public Set<String> findCpfsExistentes(Collection<String> cpfs) {
+        List<String> candidatos = cpfs.stream().filter(chavesUsuarioFiltro::talvezExistaCpf).toList();
+        return candidatos.isEmpty() ? Set.of() : new HashSet<>(usuarioRepository.findCpfsIn(candidatos));
     }
 
     @Override
     public Usuario save(Usuario usuario) {
-        return usuarioRepository.save(usuario);
+        Usuario salvo = usuarioRepository.save(usuario);
+        chavesUsuarioFiltro.registrar(salvo);
+        return salvo;
     }
 
     @Override
@@ -0,0 +1,174 @@
+package com.seucantinho.api.feature.usuario.infrastructure.cache;
+
+import com.seucantinho.api.feature.funcionario.domain.Funcionario;
+import com.seucantinho.api.feature.usuario.domain.Usuario;
+import com.seucantinho.api.feature.usuario.infrastructure.persistence.UsuarioRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Filtros de Bloom com os emails, CPFs e matrículas já usados em {@code tb_usuario}.
+ * <p>
+ * Uma resposta negativa garante que o valor não existe e dispensa a consulta de
+ * unicidade; uma positiva precisa ser confirmada no banco. Enquanto os filtros não
+ * estão carregados todas as respostas são positivas. Os valores são adicionados após
+ * o commit de quem salvou. Inserções feitas por outras instâncias não são vistas;
+ * para elas valem os índices únicos da tabela.
+ */
+@Slf4j
+@Component
+public class ChavesUsuarioFiltro {
+
+    private final UsuarioRepository usuarioRepository;
+    private final long capacidadeMinima;
+    private final double taxaFalsoPositivo;
+
+    private volatile Filtros atual;
+    private volatile Filtros emCarga;
+
+    private final Counter emailsAusentes;
+    private final Counter emailsTalvez;
+    private final Counter cpfsAusentes;
+    private final Counter cpfsTalvez;
+    private final Counter matriculasAusentes;
+    private final Counter matriculasTalvez;
+
+    public ChavesUsuarioFiltro(
+            UsuarioRepository usuarioRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.usuario.filtro-chaves.capacidade-minima:100000}") long capacidadeMinima,
+            @Value("${app.usuario.filtro-chaves.taxa-falso-positivo:0.01}") double taxaFalsoPositivo) {
+        this.usuarioRepository = usuarioRepository;
+        this.capacidadeMinima = capacidadeMinima;
+        this.taxaFalsoPositivo = taxaFalsoPositivo;
+
+        this.emailsAusentes = consultas(meterRegistry, "email", "ausente");
+        this.emailsTalvez = consultas(meterRegistry, "email", "talvez");
+        this.cpfsAusentes = consultas(meterRegistry, "cpf", "ausente");
+        this.cpfsTalvez = consultas(meterRegistry, "cpf", "talvez");
+        this.matriculasAusentes = consultas(meterRegistry, "matricula", "ausente");
+        this.matriculasTalvez = consultas(meterRegistry, "matricula", "talvez");
+        Gauge.builder("usuario.filtro_chaves.elementos", this, ChavesUsuarioFiltro::elementos)
+                .description("Emails, CPFs e matrículas nos filtros de unicidade")
+                .register(meterRegistry);
+    }
+
+    // Os filtros novos recebem os commits já durante a carga, então nada salvo no meio dela se perde
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void carregar() {
+        long previstos = Math.max(capacidadeMinima, usuarioRepository.count() * 2);
+        Filtros novos = new Filtros(
+                new FiltroBloom(previstos, taxaFalsoPositivo),
+                new FiltroBloom(previstos, taxaFalsoPositivo),
+                new FiltroBloom(previstos, taxaFalsoPositivo));
+        emCarga = novos;
+
+        adicionarTodos(novos.emails(), usuarioRepository.findAllEmails());
+        adicionarTodos(novos.cpfs(), usuarioRepository.findAllCpfs());
+        adicionarTodos(novos.matriculas(), usuarioRepository.findAllMatriculas());
+
+        atual = novos;
+        emCarga = null;
+        log.info("Filtros de unicidade de usuários carregados: {} elementos", novos.elementos());
+    }
+
+    public void registrar(Usuario usuario) {
+        String email = usuario.getEmail();
+        String cpf = usuario.getCpf();
+        String matricula = usuario instanceof Funcionario funcionario ? funcionario.getMatricula() : null;
+        aposCommit(() -> adicionar(email, cpf, matricula));
+    }
+
+    private void adicionar(String email, String cpf, String matricula) {
+        Filtros filtros = atual;
+        Filtros carregando = emCarga;
+        if (filtros != null) {
+            filtros.adicionar(email, cpf, matricula);
+        }
+        if (carregando != null && carregando != filtros) {
+            carregando.adicionar(email, cpf, matricula);
+        }
+    }
+
+    public boolean talvezExistaEmail(String email) {
+        Filtros filtros = atual;
+        return contar(email != null && (filtros == null || filtros.emails().talvezContenha(email)), emailsTalvez, emailsAusentes);
+    }
+
+    public boolean talvezExistaCpf(String cpf) {
+        Filtros filtros = atual;
+        return contar(cpf != null && (filtros == null || filtros.cpfs().talvezContenha(cpf)), cpfsTalvez, cpfsAusentes);
+    }
+
+    public boolean talvezExistaMatricula(String matricula) {
+        Filtros filtros = atual;
+        return contar(matricula != null && (filtros == null || filtros.matriculas().talvezContenha(matricula)),
+                matriculasTalvez, matriculasAusentes);
+    }
+
+    public long elementos() {
+        Filtros filtros = atual;
+        return filtros != null ? filtros.elementos() : 0;
+    }
+
+    private static void aposCommit(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+
+    private static boolean contar(boolean talvez, Counter talvezCounter, Counter ausenteCounter) {
+        (talvez ? talvezCounter : ausenteCounter).increment();
+        return talvez;
+    }
+
+    private static void adicionarTodos(FiltroBloom filtro, List<String> valores) {
+        for (String valor : valores) {
+            filtro.adicionar(valor);
+        }
+    }
+
+    private static Counter consultas(MeterRegistry meterRegistry, String chave, String resultado) {
+        return Counter.builder("usuario.filtro_chaves.consultas")
+                .description("Consultas de unicidade respondidas pelo filtro (ausente dispensa o banco)")
+                .tag("chave", chave)
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+
+    private record Filtros(FiltroBloom emails, FiltroBloom cpfs, FiltroBloom matriculas) {
+
+        void adicionar(String email, String cpf, String matricula) {
+            if (email != null) {
+                emails.adicionar(email);
+            }
+            if (cpf != null) {
+                cpfs.adicionar(cpf);
+            }
+            if (matricula != null) {
+                matriculas.adicionar(matricula);
+            }
+        }
+
+        long elementos() {
+            return emails.elementos() + cpfs.elementos() + matriculas.elementos();
+        }
+    }
+}
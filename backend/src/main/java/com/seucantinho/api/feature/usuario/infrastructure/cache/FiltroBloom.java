@@ -0,0 +1,80 @@
+package com.seucantinho.api.feature.usuario.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtro de Bloom para textos, seguro para uso concorrente.
+ * <p>
+ * {@link #talvezContenha(String)} nunca responde {@code false} para um valor
+ * adicionado; um {@code true} pode ser falso positivo, com taxa próxima da
+ * configurada enquanto a quantidade de elementos não passar da prevista.
+ * Não há remoção: valores excluídos continuam respondendo {@code true}.
+ */
+public final class FiltroBloom {
+
+    private final AtomicLongArray palavras;
+    private final long quantidadeBits;
+    private final int quantidadeHashes;
+    private final LongAdder elementos = new LongAdder();
+
+    public FiltroBloom(long elementosPrevistos, double taxaFalsoPositivo) {
+        long previstos = Math.max(1, elementosPrevistos);
+        double bits = -previstos * Math.log(taxaFalsoPositivo) / (Math.log(2) * Math.log(2));
+        this.quantidadeBits = Math.max(Long.SIZE, (long) Math.ceil(bits / Long.SIZE) * Long.SIZE);
+        this.quantidadeHashes = Math.max(1, (int) Math.round((double) quantidadeBits / previstos * Math.log(2)));
+        this.palavras = new AtomicLongArray(Math.toIntExact(quantidadeBits / Long.SIZE));
+    }
+
+    public void adicionar(String valor) {
+        long hash1 = hash(valor);
+        long hash2 = misturar(hash1) | 1;
+        for (int i = 0; i < quantidadeHashes; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, quantidadeBits);
+            int indice = (int) (bit >>> 6);
+            long mascara = 1L << bit;
+            long atual = palavras.get(indice);
+            while ((atual & mascara) == 0 && !palavras.compareAndSet(indice, atual, atual | mascara)) {
+                atual = palavras.get(indice);
+            }
+        }
+        elementos.increment();
+    }
+
+    public boolean talvezContenha(String valor) {
+        long hash1 = hash(valor);
+        long hash2 = misturar(hash1) | 1;
+        for (int i = 0; i < quantidadeHashes; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, quantidadeBits);
+            if ((palavras.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long elementos() {
+        return elementos.sum();
+    }
+
+    public long quantidadeBits() {
+        return quantidadeBits;
+    }
+
+    // FNV-1a de 64 bits sobre os bytes UTF-8; o segundo hash deriva deste (double hashing)
+    private static long hash(String valor) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : valor.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long misturar(long valor) {
+        valor = (valor ^ (valor >>> 30)) * 0xbf58476d1ce4e5b9L;
+        valor = (valor ^ (valor >>> 27)) * 0x94d049bb133111ebL;
+        return valor ^ (valor >>> 31);
+    }
+}
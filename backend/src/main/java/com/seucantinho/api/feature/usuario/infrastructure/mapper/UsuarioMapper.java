@@ -14,7 +14,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class UsuarioMapper {
 
-    public UsuarioResponseDTO toResponseDTO(Usuario usuario) {
+    // A quantidade de reservas vem de uma contagem feita por quem chama, sem inicializar cliente.getReservas()
+    public UsuarioResponseDTO toResponseDTO(Usuario usuario, int quantidadeReservas) {
         if (usuario == null) {
             return null;
         }
@@ -28,7 +29,7 @@ public class UsuarioMapper {
                     .telefone(cliente.getTelefone())
                     .ativo(cliente.getAtivo())
                     .dataCadastro(cliente.getDataCadastro())
-                    .quantidadeReservas(cliente.getReservas() != null ? cliente.getReservas().size() : 0)
+                    .quantidadeReservas(quantidadeReservas)
                     .build();
         }
 
@@ -2,8 +2,11 @@ package com.seucantinho.api.feature.usuario.infrastructure.persistence;
 
 import com.seucantinho.api.feature.usuario.domain.Usuario;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +19,21 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Integer> {
     boolean existsByEmail(String email);
 
     boolean existsByCpf(String cpf);
+
+    boolean existsByEmailAndIdNot(String email, Integer id);
+
+    @Query("SELECT u.email FROM Usuario u WHERE u.email IN :emails")
+    List<String> findEmailsIn(Collection<String> emails);
+
+    @Query("SELECT u.cpf FROM Usuario u WHERE u.cpf IN :cpfs")
+    List<String> findCpfsIn(Collection<String> cpfs);
+
+    @Query("SELECT u.email FROM Usuario u")
+    List<String> findAllEmails();
+
+    @Query("SELECT u.cpf FROM Usuario u WHERE u.cpf IS NOT NULL")
+    List<String> findAllCpfs();
+
+    @Query("SELECT f.matricula FROM Funcionario f WHERE f.matricula IS NOT NULL")
+    List<String> findAllMatriculas();
 }
@@ -0,0 +1,76 @@
+package com.seucantinho.api.shared.domain.tempo;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Fonte única de data e hora para o domínio.
+ * <p>
+ * Entidades e value objects não recebem injeção, então o {@link Clock} configurado
+ * ({@code RelogioConfig}) é instalado aqui na inicialização; nos testes basta
+ * {@link #usar(Clock)} com um relógio fixo. A data de hoje fica em cache e só é
+ * recalculada quando o relógio passa da meia-noite local da zona configurada.
+ */
+public final class Relogio {
+
+    private static volatile Estado estado = new Estado(Clock.systemDefaultZone());
+
+    private Relogio() {
+    }
+
+    public static void usar(Clock clock) {
+        estado = new Estado(clock);
+    }
+
+    public static void restaurar() {
+        usar(Clock.systemDefaultZone());
+    }
+
+    public static Clock clock() {
+        return estado.clock;
+    }
+
+    public static ZoneId zona() {
+        return estado.clock.getZone();
+    }
+
+    public static LocalDateTime agora() {
+        return LocalDateTime.now(estado.clock);
+    }
+
+    public static LocalDate hoje() {
+        Estado atual = estado;
+        long instante = atual.clock.millis();
+        Dia dia = atual.dia;
+        if (dia == null || instante < dia.inicioEmMillis || instante >= dia.fimEmMillis) {
+            dia = Dia.de(instante, atual.clock.getZone());
+            atual.dia = dia;
+        }
+        return dia.data;
+    }
+
+    private static final class Estado {
+
+        private final Clock clock;
+        private volatile Dia dia;
+
+        private Estado(Clock clock) {
+            this.clock = clock;
+        }
+    }
+
+    private record Dia(LocalDate data, long inicioEmMillis, long fimEmMillis) {
+
+        // Limites calculados pelo início do dia na zona, o que cobre dias de 23 ou 25 horas no horário de verão
+        static Dia de(long instante, ZoneId zona) {
+            LocalDate data = LocalDate.ofInstant(Instant.ofEpochMilli(instante), zona);
+            return new Dia(
+                    data,
+                    data.atStartOfDay(zona).toInstant().toEpochMilli(),
+                    data.plusDays(1).atStartOfDay(zona).toInstant().toEpochMilli());
+        }
+    }
+}
@@ -1,36 +1,50 @@
 package com.seucantinho.api.shared.domain.valueobject;
 
 import com.seucantinho.api.shared.domain.exception.BusinessException;
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
 import jakarta.persistence.Embeddable;
-import lombok.AccessLevel;
+import jakarta.persistence.Transient;
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
+/**
+ * Valor em reais guardado como centavos em um {@code long}.
+ * <p>
+ * As operações do domínio trabalham só com o {@code long}; o {@link BigDecimal} é
+ * criado apenas na fronteira com JPA ({@link #getValor()}/{@link #setValor(BigDecimal)},
+ * por acesso a propriedade) e com os DTOs. Cada valor é uma instância própria: o
+ * Hibernate chama {@link #setValor(BigDecimal)} no merge e na cópia de embeddables,
+ * o que não pode alcançar outra entidade.
+ */
 @Embeddable
-@Getter
+@Access(AccessType.PROPERTY)
 @EqualsAndHashCode
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ValorMonetario implements Serializable {
 
-    private BigDecimal valor;
+    private static final int CASAS_DECIMAIS = 2;
+    private static final long CENTAVOS_POR_REAL = 100;
 
-    private ValorMonetario(BigDecimal valor) {
-        this.valor = valor.setScale(2, RoundingMode.HALF_UP);
+    private long centavos;
+
+    protected ValorMonetario() {
+    }
+
+    private ValorMonetario(long centavos) {
+        this.centavos = centavos;
     }
 
     public static ValorMonetario of(BigDecimal valor) {
         if (valor == null) {
             throw new BusinessException("Valor monetário não pode ser nulo");
         }
-        if (valor.compareTo(BigDecimal.ZERO) < 0) {
+        if (valor.signum() < 0) {
             throw new BusinessException("Valor monetário não pode ser negativo");
         }
-        return new ValorMonetario(valor);
+        return new ValorMonetario(paraCentavos(valor));
     }
 
     public static ValorMonetario of(String valor) {
@@ -45,62 +59,117 @@ public class ValorMonetario implements Serializable {
         return of(BigDecimal.valueOf(valor));
     }
 
+    public static ValorMonetario ofCentavos(long centavos) {
+        if (centavos < 0) {
+            throw new BusinessException("Valor monetário não pode ser negativo");
+        }
+        return new ValorMonetario(centavos);
+    }
+
     public static ValorMonetario zero() {
-        return new ValorMonetario(BigDecimal.ZERO);
+        return new ValorMonetario(0);
     }
 
     public ValorMonetario somar(ValorMonetario outro) {
         if (outro == null) {
             return this;
         }
-        return new ValorMonetario(this.valor.add(outro.valor));
+        return new ValorMonetario(Math.addExact(this.centavos, outro.centavos));
     }
 
     public ValorMonetario subtrair(ValorMonetario outro) {
         if (outro == null) {
             return this;
         }
-        BigDecimal resultado = this.valor.subtract(outro.valor);
-        if (resultado.compareTo(BigDecimal.ZERO) < 0) {
+        long resultado = this.centavos - outro.centavos;
+        if (resultado < 0) {
             throw new BusinessException("Resultado da subtração não pode ser negativo");
         }
         return new ValorMonetario(resultado);
     }
 
+    // Meio centavo arredonda para cima (HALF_UP), como a divisão em BigDecimal
     public ValorMonetario calcularMetade() {
-        return new ValorMonetario(this.valor.divide(new BigDecimal("2"), 2, RoundingMode.HALF_UP));
+        return new ValorMonetario((this.centavos + 1) / 2);
     }
 
     public boolean isMaiorQue(ValorMonetario outro) {
-        return this.valor.compareTo(outro.valor) > 0;
+        return this.centavos > outro.centavos;
     }
 
     public boolean isMenorQue(ValorMonetario outro) {
-        return this.valor.compareTo(outro.valor) < 0;
+        return this.centavos < outro.centavos;
     }
 
     public boolean isIgualA(ValorMonetario outro) {
-        return this.valor.compareTo(outro.valor) == 0;
+        return this.centavos == outro.centavos;
     }
 
     public boolean isMaiorOuIgualA(ValorMonetario outro) {
-        return this.valor.compareTo(outro.valor) >= 0;
+        return this.centavos >= outro.centavos;
     }
 
+    @Transient
     public boolean isZero() {
-        return this.valor.compareTo(BigDecimal.ZERO) == 0;
+        return this.centavos == 0;
     }
 
+    @Transient
     public boolean isPositivo() {
-        return this.valor.compareTo(BigDecimal.ZERO) > 0;
+        return this.centavos > 0;
+    }
+
+    @Transient
+    public long getCentavos() {
+        return centavos;
     }
 
+    public BigDecimal getValor() {
+        return BigDecimal.valueOf(centavos, CASAS_DECIMAIS);
+    }
+
+    protected void setValor(BigDecimal valor) {
+        this.centavos = valor == null ? 0 : paraCentavos(valor);
+    }
+
+    // Formato pt-BR ("R$ 1.234,56") montado direto em um char[], sem String.format nem Locale
+    @Transient
     public String getValorFormatado() {
-        return String.format("R$ %.2f", valor);
+        long reais = centavos / CENTAVOS_POR_REAL;
+        int resto = (int) (centavos % CENTAVOS_POR_REAL);
+        int digitos = reais == 0 ? 1 : (int) Math.log10(reais) + 1;
+        int separadores = (digitos - 1) / 3;
+        char[] texto = new char[3 + digitos + separadores + 3];
+
+        int posicao = texto.length;
+        texto[--posicao] = (char) ('0' + resto % 10);
+        texto[--posicao] = (char) ('0' + resto / 10);
+        texto[--posicao] = ',';
+        int escritos = 0;
+        do {
+            if (escritos > 0 && escritos % 3 == 0) {
+                texto[--posicao] = '.';
+            }
+            texto[--posicao] = (char) ('0' + reais % 10);
+            reais /= 10;
+            escritos++;
+        } while (reais > 0);
+        texto[--posicao] = ' ';
+        texto[--posicao] = '$';
+        texto[--posicao] = 'R';
+        return new String(texto);
     }
 
     @Override
     public String toString() {
         return getValorFormatado();
     }
+
+    private static long paraCentavos(BigDecimal valor) {
+        try {
+            return valor.setScale(CASAS_DECIMAIS, RoundingMode.HALF_UP).movePointRight(CASAS_DECIMAIS).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new BusinessException("Valor monetário fora do limite suportado: " + valor);
+        }
+    }
 }
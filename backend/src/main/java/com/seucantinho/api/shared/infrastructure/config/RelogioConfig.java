@@ -0,0 +1,20 @@
+package com.seucantinho.api.shared.infrastructure.config;
+
+import com.seucantinho.api.shared.domain.tempo.Relogio;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+@Configuration
+public class RelogioConfig {
+
+    @Bean
+    public Clock clock(@Value("${app.relogio.zona:}") String zona) {
+        Clock clock = zona.isBlank() ? Clock.systemDefaultZone() : Clock.system(ZoneId.of(zona));
+        Relogio.usar(clock);
+        return clock;
+    }
+}
@@ -1,7 +1,12 @@
 package com.seucantinho.api.shared.infrastructure.config;
 
+import com.seucantinho.api.feature.auth.domain.port.out.TokenAcessoPort;
+import com.seucantinho.api.feature.auth.infrastructure.security.TokenAutenticacaoFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -9,6 +14,8 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -31,7 +38,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:4200", "http://localhost:8081"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "X-Next-Cursor"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
@@ -41,23 +48,39 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            TokenAcessoPort tokenAcessoPort,
+            @Value("${app.auth.token.obrigatorio:false}") boolean tokenObrigatorio) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(AbstractHttpConfigurer::disable)
             .sessionManagement(session ->
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-            .authorizeHttpRequests(auth -> auth
-                .requestMatchers(
-                    "/api/**",
+            .addFilterBefore(new TokenAutenticacaoFilter(tokenAcessoPort), UsernamePasswordAuthenticationFilter.class)
+            .exceptionHandling(excecoes ->
+                excecoes.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+            .authorizeHttpRequests(auth -> {
+                auth.requestMatchers(
+                    "/actuator/health",
                     "/swagger-ui/**",
                     "/swagger-ui.html",
                     "/v3/api-docs/**",
                     "/swagger-resources/**",
                     "/webjars/**"
-                ).permitAll()
-                .anyRequest().authenticated()
-            );
+                ).permitAll();
+                // Métricas expõem rejeições de login, filas e caches: só administradores, com ou sem token obrigatório
+                auth.requestMatchers("/actuator/metrics", "/actuator/metrics/**").hasRole("ADMIN");
+                // Com o token obrigatório, apenas login, cadastro de cliente e catálogo continuam públicos
+                if (tokenObrigatorio) {
+                    auth.requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/clientes").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/espacos/**", "/api/filiais/**").permitAll();
+                } else {
+                    auth.requestMatchers("/api/**").permitAll();
+                }
+                auth.anyRequest().authenticated();
+            });
 
         return http.build();
     }
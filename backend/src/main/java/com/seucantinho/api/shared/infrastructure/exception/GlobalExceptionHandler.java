@@ -3,7 +3,12 @@ package com.seucantinho.api.shared.infrastructure.exception;
 import com.seucantinho.api.shared.domain.exception.BusinessException;
 import com.seucantinho.api.shared.domain.exception.DuplicateResourceException;
 import com.seucantinho.api.shared.domain.exception.ResourceNotFoundException;
+import com.seucantinho.api.shared.domain.exception.ServiceUnavailableException;
+import com.seucantinho.api.shared.domain.exception.TooManyRequestsException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -18,6 +23,10 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String INDICE_RESERVA_UNICA_ATIVA = "idx_reserva_unica_ativa";
+    private static final String INDICE_PAGAMENTO_CODIGO_TRANSACAO = "idx_pagamento_codigo_transacao";
+    private static final String INDICE_PAGAMENTO_CHAVE_IDEMPOTENCIA = "idx_pagamento_chave_idempotencia";
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFound(
             ResourceNotFoundException ex, HttpServletRequest request) {
@@ -63,6 +72,81 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(
+            ServiceUnavailableException ex, HttpServletRequest request) {
+
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(
+            TooManyRequestsException ex, HttpServletRequest request) {
+
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSegundos()))
+                .body(error);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(
+            DataIntegrityViolationException ex, HttpServletRequest request) {
+
+        // Apenas a violacao de indice unico (23505) e conflito; FK, NOT NULL e CHECK seguem como erro interno
+        if (!ViolacaoIndiceUnico.de(ex)) {
+            return handleGenericException(ex, request);
+        }
+
+        String message = "Operação viola uma restrição de integridade dos dados";
+
+        if (ViolacaoIndiceUnico.de(ex, INDICE_RESERVA_UNICA_ATIVA)) {
+            message = "Espaço já possui reserva ativa para esta data";
+        } else if (ViolacaoIndiceUnico.de(ex, INDICE_PAGAMENTO_CODIGO_TRANSACAO, INDICE_PAGAMENTO_CHAVE_IDEMPOTENCIA)) {
+            message = "Pagamento já registrado para esta transação";
+        }
+
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                message,
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex, HttpServletRequest request) {
+
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                "Reserva alterada por outra operação, tente novamente",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
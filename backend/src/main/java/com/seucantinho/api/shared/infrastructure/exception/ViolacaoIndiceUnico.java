@@ -0,0 +1,42 @@
+package com.seucantinho.api.shared.infrastructure.exception;
+
+import java.sql.SQLException;
+
+public final class ViolacaoIndiceUnico {
+
+    private static final String SQL_STATE_UNIQUE_VIOLATION = "23505";
+
+    private ViolacaoIndiceUnico() {
+    }
+
+    public static boolean de(Throwable ex) {
+        SQLException sqlException = findSqlException(ex);
+        return sqlException != null && SQL_STATE_UNIQUE_VIOLATION.equals(sqlException.getSQLState());
+    }
+
+    public static boolean de(Throwable ex, String... indices) {
+        SQLException sqlException = findSqlException(ex);
+        if (sqlException == null
+                || !SQL_STATE_UNIQUE_VIOLATION.equals(sqlException.getSQLState())
+                || sqlException.getMessage() == null) {
+            return false;
+        }
+        for (String indice : indices) {
+            if (sqlException.getMessage().contains(indice)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static SQLException findSqlException(Throwable ex) {
+        Throwable cause = ex;
+        while (cause != null) {
+            if (cause instanceof SQLException sqlException) {
+                return sqlException;
+            }
+            cause = cause.getCause();
+        }
+        return null;
+    }
+}
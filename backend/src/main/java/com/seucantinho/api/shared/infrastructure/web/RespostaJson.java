@@ -0,0 +1,12 @@
+package com.seucantinho.api.shared.infrastructure.web;
+
+/**
+ * Corpo JSON já codificado em UTF-8, com a versão gzip (quando compensa) e as ETags fortes
+ * de cada representação. {@code origem} é o objeto serializado, comparado por identidade.
+ */
+public record RespostaJson(Object origem, byte[] json, byte[] gzip, String etag, String etagGzip) {
+
+    public boolean possuiGzip() {
+        return gzip != null;
+    }
+}
@@ -0,0 +1,141 @@
+package com.seucantinho.api.shared.infrastructure.web;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Respostas JSON pré-serializadas por visão (ex.: espaços ativos, filiais).
+ * <p>
+ * O conteúdo vem do catálogo em memória, cujas listas são imutáveis e trocadas a cada
+ * alteração; enquanto a visão devolver a mesma instância, os bytes, o gzip e a ETag
+ * são reaproveitados. Uma lista nova (após create/update/delete) gera nova serialização.
+ */
+@Component
+public class RespostaJsonCache {
+
+    private static final int TAMANHO_MINIMO_GZIP = 1024;
+    private static final int BYTES_ETAG = 16;
+
+    private final JsonMapper jsonMapper;
+    private final boolean gzipHabilitado;
+    private final Map<String, RespostaJson> respostas = new ConcurrentHashMap<>();
+
+    public RespostaJsonCache(
+            JsonMapper jsonMapper,
+            @Value("${app.catalogo.resposta.gzip:true}") boolean gzipHabilitado) {
+        this.jsonMapper = jsonMapper;
+        this.gzipHabilitado = gzipHabilitado;
+    }
+
+    public ResponseEntity<byte[]> responder(String visao, Object conteudo, String ifNoneMatch, String acceptEncoding) {
+        RespostaJson resposta = obter(visao, conteudo);
+        boolean comGzip = resposta.possuiGzip() && aceitaGzip(acceptEncoding);
+        String etag = comGzip ? resposta.etagGzip() : resposta.etag();
+
+        if (corresponde(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder corpo = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (comGzip) {
+            return corpo.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(resposta.gzip().length)
+                    .body(resposta.gzip());
+        }
+        return corpo.contentLength(resposta.json().length).body(resposta.json());
+    }
+
+    RespostaJson obter(String visao, Object conteudo) {
+        RespostaJson atual = respostas.get(visao);
+        if (atual != null && atual.origem() == conteudo) {
+            return atual;
+        }
+        RespostaJson nova = serializar(conteudo);
+        respostas.put(visao, nova);
+        return nova;
+    }
+
+    private RespostaJson serializar(Object conteudo) {
+        byte[] json = jsonMapper.writeValueAsBytes(conteudo);
+        String etag = etag(json, "");
+        if (!gzipHabilitado || json.length < TAMANHO_MINIMO_GZIP) {
+            return new RespostaJson(conteudo, json, null, etag, etag);
+        }
+        return new RespostaJson(conteudo, json, gzip(json), etag, etag(json, "-gzip"));
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream compactador = new GZIPOutputStream(saida)) {
+            compactador.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return saida.toByteArray();
+    }
+
+    // A representação gzip tem ETag própria: ETags fortes identificam os bytes enviados
+    private static String etag(byte[] json, String sufixo) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(Arrays.copyOf(hash, BYTES_ETAG)) + sufixo + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String codificacao : acceptEncoding.split(",")) {
+            String[] partes = codificacao.trim().split(";");
+            if (partes[0].trim().equalsIgnoreCase("gzip")) {
+                return partes.length < 2 || !partes[1].replace(" ", "").equalsIgnoreCase("q=0");
+            }
+        }
+        return false;
+    }
+
+    // If-None-Match usa comparação fraca: o prefixo W/ é ignorado
+    private static boolean corresponde(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidata : ifNoneMatch.split(",")) {
+            String valor = candidata.trim();
+            if (valor.startsWith("W/")) {
+                valor = valor.substring(2);
+            }
+            if (valor.equals("*") || valor.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
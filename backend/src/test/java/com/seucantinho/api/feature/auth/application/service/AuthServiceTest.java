@@ -3,6 +3,7 @@ package com.seucantinho.api.feature.auth.application.service;
 import com.seucantinho.api.feature.auth.application.dto.LoginRequest;
 import com.seucantinho.api.feature.auth.application.dto.LoginResponse;
 import com.seucantinho.api.feature.auth.domain.port.out.PasswordEncoderPort;
+import com.seucantinho.api.feature.auth.domain.port.out.TokenAcessoPort;
 import com.seucantinho.api.feature.cliente.domain.Cliente;
 import com.seucantinho.api.feature.usuario.domain.enums.PerfilUsuarioEnum;
 import com.seucantinho.api.feature.usuario.domain.port.out.UsuarioRepositoryPort;
@@ -31,6 +32,9 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoderPort passwordEncoderPort;
 
+    @Mock
+    private TokenAcessoPort tokenAcessoPort;
+
     @InjectMocks
     private AuthService authService;
 
@@ -57,6 +61,7 @@ class AuthServiceTest {
         // Arrange
         when(usuarioRepositoryPort.findByEmail(loginRequest.email())).thenReturn(Optional.of(cliente));
         when(passwordEncoderPort.matches(loginRequest.senha(), cliente.getSenhaHash())).thenReturn(true);
+        when(tokenAcessoPort.emitir(cliente)).thenReturn("k1.dados.assinatura");
 
         // Act
         LoginResponse response = authService.login(loginRequest);
@@ -67,8 +72,7 @@ class AuthServiceTest {
         assertThat(response.nome()).isEqualTo(cliente.getNome());
         assertThat(response.email()).isEqualTo(cliente.getEmail());
         assertThat(response.perfil()).isEqualTo(cliente.getPerfil());
-        assertThat(response.token()).startsWith("Bearer ");
-        assertThat(response.token()).contains(cliente.getEmail());
+        assertThat(response.token()).isEqualTo("k1.dados.assinatura");
         
         verify(usuarioRepositoryPort).findByEmail(loginRequest.email());
         verify(passwordEncoderPort).matches(loginRequest.senha(), cliente.getSenhaHash());
@@ -106,17 +110,19 @@ class AuthServiceTest {
     }
 
     @Test
-    @DisplayName("Deve gerar token com formato correto")
+    @DisplayName("Deve gerar token assinado sem o prefixo Bearer")
     void deveGerarTokenComFormatoCorreto() {
         // Arrange
         when(usuarioRepositoryPort.findByEmail(loginRequest.email())).thenReturn(Optional.of(cliente));
         when(passwordEncoderPort.matches(loginRequest.senha(), cliente.getSenhaHash())).thenReturn(true);
+        when(tokenAcessoPort.emitir(cliente)).thenReturn("k1.dados.assinatura");
 
         // Act
         LoginResponse response = authService.login(loginRequest);
 
         // Assert
-        assertThat(response.token()).matches("^Bearer .+$");
+        assertThat(response.token()).matches("^[^.\\s]+\\.[^.\\s]+\\.[^.\\s]+$");
+        verify(tokenAcessoPort).emitir(cliente);
     }
 
     @Test
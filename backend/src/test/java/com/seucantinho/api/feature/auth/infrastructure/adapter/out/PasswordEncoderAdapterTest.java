@@ -1,5 +1,8 @@
 package com.seucantinho.api.feature.auth.infrastructure.adapter.out;
 
+import com.seucantinho.api.shared.domain.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,8 +11,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -20,11 +32,20 @@ class PasswordEncoderAdapterTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    private SimpleMeterRegistry meterRegistry;
+    private ForkJoinPool senhaLotePool;
     private PasswordEncoderAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new PasswordEncoderAdapter(passwordEncoder);
+        meterRegistry = new SimpleMeterRegistry();
+        senhaLotePool = new ForkJoinPool(2);
+        adapter = new PasswordEncoderAdapter(passwordEncoder, Runnable::run, senhaLotePool, meterRegistry, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        senhaLotePool.shutdownNow();
     }
 
     @Test
@@ -68,5 +89,74 @@ class PasswordEncoderAdapterTest {
         assertFalse(result);
         verify(passwordEncoder).matches(rawPassword, encodedPassword);
     }
-}
 
+    @Test
+    @DisplayName("Deve codificar senhas em lote preservando a ordem")
+    void deveCodificarSenhasEmLote() {
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocacao -> "hash-" + invocacao.getArgument(0));
+
+        List<String> result = adapter.encodeEmLote(List.of("senha1", "senha2", "senha3", "senha4"));
+
+        assertEquals(List.of("hash-senha1", "hash-senha2", "hash-senha3", "hash-senha4"), result);
+        verify(passwordEncoder, times(4)).encode(anyString());
+        assertEquals(4, meterRegistry.get("auth.senha.hash").tag("operacao", "codificar").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve registrar o tempo de hash por operação")
+    void deveRegistrarTempoDeHash() {
+        when(passwordEncoder.matches("senha123", "hash")).thenReturn(true);
+
+        adapter.matches("senha123", "hash");
+
+        assertEquals(1, meterRegistry.get("auth.senha.hash").tag("operacao", "verificar").timer().count());
+        assertEquals(0, meterRegistry.get("auth.senha.hash").tag("operacao", "codificar").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve responder indisponível quando a fila de verificação está cheia")
+    void deveLancarServiceUnavailableQuandoFilaCheia() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1));
+        try {
+            executor.execute(() -> aguardar(liberar));
+            executor.execute(() -> aguardar(liberar));
+            PasswordEncoderAdapter sobrecarregado = new PasswordEncoderAdapter(passwordEncoder, executor, senhaLotePool, meterRegistry, 1000);
+
+            assertThrows(ServiceUnavailableException.class, () -> sobrecarregado.matches("senha123", "hash"));
+            verify(passwordEncoder, never()).matches(anyString(), anyString());
+        } finally {
+            liberar.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve desistir e responder indisponível quando a espera passa do limite")
+    void deveLancarServiceUnavailableQuandoEsperaExcedeLimite() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(10));
+        try {
+            executor.execute(() -> aguardar(liberar));
+            PasswordEncoderAdapter lento = new PasswordEncoderAdapter(passwordEncoder, executor, senhaLotePool, meterRegistry, 50);
+
+            assertThrows(ServiceUnavailableException.class, () -> lento.matches("senha123", "hash"));
+
+            liberar.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+            verify(passwordEncoder, never()).matches(anyString(), anyString());
+        } finally {
+            liberar.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void aguardar(CountDownLatch liberar) {
+        try {
+            liberar.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.seucantinho.api.feature.auth.infrastructure.adapter.out;
+
+import com.seucantinho.api.feature.auth.domain.valueobject.UsuarioAutenticado;
+import com.seucantinho.api.feature.auth.infrastructure.cache.TokenVerificadoCache;
+import com.seucantinho.api.feature.auth.infrastructure.config.TokenAcessoConfig;
+import com.seucantinho.api.feature.cliente.domain.Cliente;
+import com.seucantinho.api.feature.filial.domain.Filial;
+import com.seucantinho.api.feature.funcionario.domain.Funcionario;
+import com.seucantinho.api.feature.usuario.domain.enums.PerfilUsuarioEnum;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes do TokenHmacAdapter")
+class TokenHmacAdapterTest {
+
+    private static final String SEGREDO_ATUAL = "segredo-atual-com-pelo-menos-32-bytes";
+    private static final String SEGREDO_ANTIGO = "segredo-antigo-com-pelo-menos-32-bytes";
+    private static final Instant AGORA = Instant.parse("2025-11-01T15:00:00Z");
+    private static final ZoneId ZONA = ZoneId.of("America/Sao_Paulo");
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenHmacAdapter adapter;
+    private Cliente cliente;
+
+    @BeforeEach
+    void setUp() {
+        Relogio.usar(Clock.fixed(AGORA, ZONA));
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = criarAdapter("k2:" + SEGREDO_ATUAL, "k2");
+        cliente = Cliente.builder().id(7).email("cliente@email.com").build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Relogio.restaurar();
+    }
+
+    @Test
+    @DisplayName("Deve emitir token que é aceito na verificação com os dados do cliente")
+    void deveEmitirEVerificarTokenDeCliente() {
+        // Act
+        String token = adapter.emitir(cliente);
+        Optional<UsuarioAutenticado> resultado = adapter.verificar(token);
+
+        // Assert
+        assertThat(token).startsWith("k2.").doesNotContain(cliente.getEmail());
+        assertThat(resultado).isPresent();
+        assertThat(resultado.get().id()).isEqualTo(7);
+        assertThat(resultado.get().perfil()).isEqualTo(PerfilUsuarioEnum.CLIENTE);
+        assertThat(resultado.get().filialId()).isNull();
+        assertThat(resultado.get().expiraEmSegundos()).isEqualTo(AGORA.getEpochSecond() + Duration.ofMinutes(60).toSeconds());
+    }
+
+    @Test
+    @DisplayName("Deve incluir a filial no token de funcionário")
+    void deveIncluirFilialNoTokenDeFuncionario() {
+        // Arrange
+        Funcionario funcionario = new Funcionario();
+        funcionario.setId(3);
+        funcionario.setFilial(Filial.builder().id(5).build());
+
+        // Act
+        Optional<UsuarioAutenticado> resultado = adapter.verificar(adapter.emitir(funcionario));
+
+        // Assert
+        assertThat(resultado).isPresent();
+        assertThat(resultado.get().perfil()).isEqualTo(PerfilUsuarioEnum.FUNCIONARIO);
+        assertThat(resultado.get().filialId()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token com dados adulterados")
+    void deveRejeitarTokenAdulterado() {
+        // Arrange
+        String token = adapter.emitir(cliente);
+        String[] partes = token.split("\\.");
+        String adulterado = partes[0] + "." + partes[1].substring(0, partes[1].length() - 1) + "A." + partes[2];
+
+        // Act & Assert
+        assertThat(adapter.verificar(adulterado)).isEmpty();
+        assertThat(adapter.verificar(token + "x")).isEmpty();
+        assertThat(adapter.verificar("sem-pontos")).isEmpty();
+        assertThat(adapter.verificar(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token assinado por chave desconhecida")
+    void deveRejeitarTokenDeChaveDesconhecida() {
+        // Arrange
+        String token = criarAdapter("k9:" + SEGREDO_ATUAL, "k9").emitir(cliente);
+
+        // Act & Assert
+        assertThat(adapter.verificar(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token expirado, inclusive quando já estava no cache")
+    void deveRejeitarTokenExpirado() {
+        // Arrange
+        String token = adapter.emitir(cliente);
+        assertThat(adapter.verificar(token)).isPresent();
+
+        // Act
+        Relogio.usar(Clock.fixed(AGORA.plus(Duration.ofMinutes(61)), ZONA));
+
+        // Assert
+        assertThat(adapter.verificar(token)).isEmpty();
+        assertThat(adapter.verificar(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve aceitar token da chave anterior após rotação")
+    void deveAceitarTokenDaChaveAnteriorAposRotacao() {
+        // Arrange
+        String tokenAntigo = criarAdapter("k1:" + SEGREDO_ANTIGO, "k1").emitir(cliente);
+        TokenHmacAdapter rotacionado = criarAdapter("k1:" + SEGREDO_ANTIGO + ",k2:" + SEGREDO_ATUAL, "k2");
+
+        // Act
+        String tokenNovo = rotacionado.emitir(cliente);
+
+        // Assert
+        assertThat(tokenNovo).startsWith("k2.");
+        assertThat(rotacionado.verificar(tokenAntigo)).isPresent();
+        assertThat(rotacionado.verificar(tokenNovo)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Deve atender verificações repetidas pelo cache sem recalcular a assinatura")
+    void deveUsarCacheEmVerificacoesRepetidas() {
+        // Arrange
+        String token = adapter.emitir(cliente);
+
+        // Act
+        adapter.verificar(token);
+        adapter.verificar(token);
+        adapter.verificar(token);
+
+        // Assert
+        assertThat(contador("assinatura")).isEqualTo(1.0);
+        assertThat(contador("cache")).isEqualTo(2.0);
+    }
+
+    private TokenHmacAdapter criarAdapter(String chaves, String chaveAtiva) {
+        return new TokenHmacAdapter(
+                new TokenAcessoConfig(chaves, chaveAtiva, 60),
+                new TokenVerificadoCache(100),
+                meterRegistry);
+    }
+
+    private double contador(String resultado) {
+        return meterRegistry.get("auth.token.verificacoes").tag("resultado", resultado).counter().count();
+    }
+}
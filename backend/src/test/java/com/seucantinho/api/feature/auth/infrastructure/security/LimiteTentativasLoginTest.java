@@ -0,0 +1,144 @@
+package com.seucantinho.api.feature.auth.infrastructure.security;
+
+import com.seucantinho.api.shared.domain.exception.TooManyRequestsException;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes do LimiteTentativasLogin")
+class LimiteTentativasLoginTest {
+
+    private static final Instant AGORA = Instant.parse("2025-11-01T15:00:00Z");
+    private static final ZoneId ZONA = ZoneId.of("America/Sao_Paulo");
+
+    private SimpleMeterRegistry meterRegistry;
+    private LimiteTentativasLogin limite;
+
+    @BeforeEach
+    void setUp() {
+        Relogio.usar(Clock.fixed(AGORA, ZONA));
+        meterRegistry = new SimpleMeterRegistry();
+        limite = new LimiteTentativasLogin(meterRegistry, 3, 3, 10, 10, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Relogio.restaurar();
+    }
+
+    @Test
+    @DisplayName("Deve recusar o email após esgotar as tentativas, informando a espera")
+    void deveRecusarEmailAposEsgotarTentativas() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            limite.consumir("cliente@email.com", "10.0.0." + i);
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> limite.consumir("Cliente@Email.com ", "10.0.0.9"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .satisfies(e -> assertThat(((TooManyRequestsException) e).getRetryAfterSegundos()).isEqualTo(20));
+        assertThatCode(() -> limite.consumir("outro@email.com", "10.0.0.9")).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("auth.login.recusadas").tag("motivo", "email").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve recusar o IP após esgotar as tentativas, mesmo com emails diferentes")
+    void deveRecusarIpAposEsgotarTentativas() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            limite.consumir("cliente" + i + "@email.com", "10.0.0.1");
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> limite.consumir("novo@email.com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.get("auth.login.recusadas").tag("motivo", "ip").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve devolver fichas com o passar do tempo")
+    void deveRecarregarFichasComOTempo() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            limite.consumir("cliente@email.com", "10.0.0.1");
+        }
+
+        // Act
+        Relogio.usar(Clock.fixed(AGORA.plus(Duration.ofSeconds(20)), ZONA));
+
+        // Assert
+        assertThatCode(() -> limite.consumir("cliente@email.com", "10.0.0.1")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> limite.consumir("cliente@email.com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @DisplayName("Deve descartar os baldes mais antigos ao atingir a capacidade")
+    void deveDescartarBaldesAoAtingirCapacidade() {
+        // Arrange
+        LimiteTentativasLogin pequeno = new LimiteTentativasLogin(meterRegistry, 3, 3, 10, 10, 4);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            pequeno.consumir("cliente" + i + "@email.com", "10.0.0.1");
+        }
+
+        // Assert
+        assertThat(pequeno.tamanho()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Deve manter o balde esgotado ao inundar o cache com chaves novas")
+    void deveManterBaldeEsgotadoAoInundarCache() {
+        // Arrange
+        LimiteTentativasLogin pequeno = new LimiteTentativasLogin(meterRegistry, 3, 3, 1000, 1000, 10);
+        for (int i = 0; i < 3; i++) {
+            pequeno.consumir("vitima@email.com", "10.0.0.1");
+        }
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            pequeno.consumir("atacante" + i + "@email.com", "10.0.0.2");
+        }
+
+        // Assert
+        assertThat(pequeno.tamanho()).isLessThanOrEqualTo(10);
+        assertThatThrownBy(() -> pequeno.consumir("vitima@email.com", "10.0.0.3"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @DisplayName("Deve descartar primeiro os baldes já recarregados")
+    void deveDescartarPrimeiroBaldesRecarregados() {
+        // Arrange
+        LimiteTentativasLogin pequeno = new LimiteTentativasLogin(meterRegistry, 3, 3, 1000, 1000, 4);
+        pequeno.consumir("antigo@email.com", null);
+        Relogio.usar(Clock.fixed(AGORA.plus(Duration.ofMinutes(1)), ZONA));
+        for (int i = 0; i < 3; i++) {
+            pequeno.consumir("recente@email.com", null);
+        }
+        pequeno.consumir("outro1@email.com", null);
+        pequeno.consumir("outro2@email.com", null);
+
+        // Act
+        pequeno.consumir("outro3@email.com", null);
+
+        // Assert: saiu só o balde recarregado; o esgotado continua recusando
+        assertThat(pequeno.tamanho()).isEqualTo(4);
+        assertThatThrownBy(() -> pequeno.consumir("recente@email.com", null))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+}
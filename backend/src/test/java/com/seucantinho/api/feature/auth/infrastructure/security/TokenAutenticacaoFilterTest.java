@@ -0,0 +1,96 @@
+package com.seucantinho.api.feature.auth.infrastructure.security;
+
+import com.seucantinho.api.feature.auth.domain.port.out.TokenAcessoPort;
+import com.seucantinho.api.feature.auth.domain.valueobject.UsuarioAutenticado;
+import com.seucantinho.api.feature.usuario.domain.enums.PerfilUsuarioEnum;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do TokenAutenticacaoFilter")
+class TokenAutenticacaoFilterTest {
+
+    @Mock
+    private TokenAcessoPort tokenAcessoPort;
+
+    private TokenAutenticacaoFilter filter;
+    private MockHttpServletRequest request;
+    private MockFilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        filter = new TokenAutenticacaoFilter(tokenAcessoPort);
+        request = new MockHttpServletRequest("GET", "/api/reservas");
+        filterChain = new MockFilterChain();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve autenticar com o perfil do token válido")
+    void deveAutenticarComTokenValido() throws Exception {
+        // Arrange
+        UsuarioAutenticado usuario = new UsuarioAutenticado(1, PerfilUsuarioEnum.ADMIN, null, Long.MAX_VALUE);
+        request.addHeader("Authorization", "Bearer k1.dados.assinatura");
+        when(tokenAcessoPort.verificar("k1.dados.assinatura")).thenReturn(Optional.of(usuario));
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        // Assert
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(autenticacao).isNotNull();
+        assertThat(autenticacao.getPrincipal()).isEqualTo(usuario);
+        assertThat(autenticacao.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+        assertThat(filterChain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    @DisplayName("Deve seguir como anônimo quando o token é inválido")
+    void deveSeguirAnonimoComTokenInvalido() throws Exception {
+        // Arrange
+        request.addHeader("Authorization", "Bearer invalido");
+        when(tokenAcessoPort.verificar("invalido")).thenReturn(Optional.empty());
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        // Assert
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(filterChain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar requisições sem header Bearer")
+    void deveIgnorarRequisicaoSemBearer() throws Exception {
+        // Arrange
+        request.addHeader("Authorization", "Basic dXNlcjpzZW5oYQ==");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        // Assert
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(tokenAcessoPort);
+    }
+}
@@ -0,0 +1,158 @@
+package com.seucantinho.api.feature.cliente.application.service;
+
+import com.seucantinho.api.feature.auth.domain.port.out.PasswordEncoderPort;
+import com.seucantinho.api.feature.cliente.application.dto.ImportacaoClienteErroDTO;
+import com.seucantinho.api.feature.cliente.application.dto.ImportacaoClienteRelatorioDTO;
+import com.seucantinho.api.feature.cliente.domain.Cliente;
+import com.seucantinho.api.feature.cliente.domain.enums.MotivoRejeicaoImportacaoEnum;
+import com.seucantinho.api.feature.cliente.domain.port.out.ClienteRepositoryPort;
+import com.seucantinho.api.feature.cliente.domain.valueobject.LinhaImportacaoCliente;
+import com.seucantinho.api.feature.usuario.domain.port.out.UsuarioRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ClienteImportacaoLoteService")
+class ClienteImportacaoLoteServiceTest {
+
+    @Mock
+    private ClienteRepositoryPort clienteRepositoryPort;
+
+    @Mock
+    private UsuarioRepositoryPort usuarioRepositoryPort;
+
+    @Mock
+    private PasswordEncoderPort passwordEncoderPort;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ClienteImportacaoLoteService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ClienteImportacaoLoteService(
+                clienteRepositoryPort, usuarioRepositoryPort, passwordEncoderPort, transactionManager);
+        lenient().when(passwordEncoderPort.encodeEmLote(anyList())).thenAnswer(invocation ->
+                invocation.<List<String>>getArgument(0).stream().map(senha -> "hash-" + senha).toList());
+    }
+
+    @Test
+    @DisplayName("Deve consultar emails e CPFs uma única vez e inserir o lote inteiro de uma vez")
+    @SuppressWarnings("unchecked")
+    void deveImportarLoteComConsultasUnicas() {
+        // Arrange
+        List<LinhaImportacaoCliente> linhas = List.of(
+                LinhaImportacaoCliente.parse(1, "Ana;ana@email.com;senha-ana;12345678901"),
+                LinhaImportacaoCliente.parse(2, "Bruno;bruno@email.com;senha-bruno"),
+                LinhaImportacaoCliente.parse(3, "Carla;carla@email.com;senha-carla;10987654321"));
+        when(usuarioRepositoryPort.findEmailsExistentes(anyCollection())).thenReturn(Set.of());
+        when(usuarioRepositoryPort.findCpfsExistentes(anyCollection())).thenReturn(Set.of());
+        when(clienteRepositoryPort.inserirEmLote(anyList())).thenReturn(new boolean[]{true, true, true});
+
+        // Act
+        ImportacaoClienteRelatorioDTO relatorio = service.importar(linhas);
+
+        // Assert
+        assertThat(relatorio.getLinhasProcessadas()).isEqualTo(3);
+        assertThat(relatorio.getImportados()).isEqualTo(3);
+        assertThat(relatorio.getErros()).isEmpty();
+        verify(usuarioRepositoryPort, times(1)).findEmailsExistentes(anyCollection());
+        verify(usuarioRepositoryPort, times(1)).findCpfsExistentes(anyCollection());
+        verify(passwordEncoderPort, times(1)).encodeEmLote(List.of("senha-ana", "senha-bruno", "senha-carla"));
+        verify(passwordEncoderPort, never()).encode(anyString());
+        verify(clienteRepositoryPort, never()).save(any());
+
+        ArgumentCaptor<List<Cliente>> captor = ArgumentCaptor.forClass(List.class);
+        verify(clienteRepositoryPort, times(1)).inserirEmLote(captor.capture());
+        assertThat(captor.getValue()).extracting(Cliente::getSenhaHash)
+                .containsExactly("hash-senha-ana", "hash-senha-bruno", "hash-senha-carla");
+        assertThat(captor.getValue()).extracting(Cliente::getCpf)
+                .containsExactly("12345678901", null, "10987654321");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar dados inválidos, repetidos no arquivo e já cadastrados sem interromper o lote")
+    void deveRejeitarLinhasSemInterromperLote() {
+        // Arrange
+        List<LinhaImportacaoCliente> linhas = List.of(
+                LinhaImportacaoCliente.parse(1, "Ana;ana@email.com;senha123;12345678901"),
+                LinhaImportacaoCliente.parse(2, "Ana de novo;ana@email.com;senha123"),
+                LinhaImportacaoCliente.parse(3, "Bruno;email-invalido;senha123"),
+                LinhaImportacaoCliente.parse(4, "Carla;carla@email.com;senha123;12345678901"),
+                LinhaImportacaoCliente.parse(5, "Davi;davi@email.com;senha123"),
+                LinhaImportacaoCliente.parse(6, "Eva;eva@email.com;senha123;99999999999"));
+        when(usuarioRepositoryPort.findEmailsExistentes(anyCollection())).thenReturn(Set.of("davi@email.com"));
+        when(usuarioRepositoryPort.findCpfsExistentes(anyCollection())).thenReturn(Set.of("99999999999"));
+        when(clienteRepositoryPort.inserirEmLote(anyList())).thenReturn(new boolean[]{true});
+
+        // Act
+        ImportacaoClienteRelatorioDTO relatorio = service.importar(linhas);
+
+        // Assert
+        assertThat(relatorio.getLinhasProcessadas()).isEqualTo(6);
+        assertThat(relatorio.getImportados()).isEqualTo(1);
+        assertThat(relatorio.getRejeitados()).isEqualTo(5);
+        assertThat(relatorio.getErros()).extracting(ImportacaoClienteErroDTO::getLinha).containsExactly(2, 3, 4, 5, 6);
+        assertThat(relatorio.getErros()).extracting(ImportacaoClienteErroDTO::getMotivo).containsExactly(
+                MotivoRejeicaoImportacaoEnum.DUPLICADO_NO_ARQUIVO,
+                MotivoRejeicaoImportacaoEnum.DADOS_INVALIDOS,
+                MotivoRejeicaoImportacaoEnum.DUPLICADO_NO_ARQUIVO,
+                MotivoRejeicaoImportacaoEnum.JA_CADASTRADO,
+                MotivoRejeicaoImportacaoEnum.JA_CADASTRADO);
+        verify(passwordEncoderPort).encodeEmLote(List.of("senha123"));
+    }
+
+    @Test
+    @DisplayName("Deve reportar como já cadastrada a linha que perdeu a corrida para um cadastro concorrente")
+    void deveReportarConflitoNoInsert() {
+        // Arrange
+        List<LinhaImportacaoCliente> linhas = List.of(
+                LinhaImportacaoCliente.parse(1, "Ana;ana@email.com;senha123"),
+                LinhaImportacaoCliente.parse(2, "Bruno;bruno@email.com;senha123"));
+        when(usuarioRepositoryPort.findEmailsExistentes(anyCollection())).thenReturn(Set.of());
+        when(clienteRepositoryPort.inserirEmLote(anyList())).thenReturn(new boolean[]{false, true});
+
+        // Act
+        ImportacaoClienteRelatorioDTO relatorio = service.importar(linhas);
+
+        // Assert
+        assertThat(relatorio.getImportados()).isEqualTo(1);
+        assertThat(relatorio.getErros()).singleElement().satisfies(erro -> {
+            assertThat(erro.getLinha()).isEqualTo(1);
+            assertThat(erro.getEmail()).isEqualTo("ana@email.com");
+            assertThat(erro.getMotivo()).isEqualTo(MotivoRejeicaoImportacaoEnum.JA_CADASTRADO);
+        });
+        verify(usuarioRepositoryPort, never()).findCpfsExistentes(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Não deve cifrar senhas nem abrir transação quando nenhuma linha é nova")
+    void naoDeveCifrarQuandoNadaForNovo() {
+        // Arrange
+        List<LinhaImportacaoCliente> linhas = List.of(LinhaImportacaoCliente.parse(1, "Ana;ana@email.com;senha123"));
+        when(usuarioRepositoryPort.findEmailsExistentes(anyCollection())).thenReturn(Set.of("ana@email.com"));
+
+        // Act
+        ImportacaoClienteRelatorioDTO relatorio = service.importar(linhas);
+
+        // Assert
+        assertThat(relatorio.getImportados()).isZero();
+        assertThat(relatorio.getRejeitados()).isEqualTo(1);
+        verify(passwordEncoderPort, never()).encodeEmLote(anyList());
+        verifyNoInteractions(clienteRepositoryPort, transactionManager);
+    }
+}
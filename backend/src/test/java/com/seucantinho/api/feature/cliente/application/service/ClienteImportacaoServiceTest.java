@@ -0,0 +1,127 @@
+package com.seucantinho.api.feature.cliente.application.service;
+
+import com.seucantinho.api.feature.cliente.application.dto.ImportacaoClienteErroDTO;
+import com.seucantinho.api.feature.cliente.application.dto.ImportacaoClienteRelatorioDTO;
+import com.seucantinho.api.feature.cliente.domain.enums.MotivoRejeicaoImportacaoEnum;
+import com.seucantinho.api.feature.cliente.domain.valueobject.LinhaImportacaoCliente;
+import com.seucantinho.api.feature.cliente.infrastructure.config.ClienteImportacaoConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ClienteImportacaoService")
+class ClienteImportacaoServiceTest {
+
+    @Mock
+    private ClienteImportacaoLoteService clienteImportacaoLoteService;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    @DisplayName("Deve importar o arquivo em lotes de tamanho fixo, aceitando CSV e JSON por linha")
+    void deveImportarArquivoEmLotes() {
+        // Arrange
+        ClienteImportacaoService service = new ClienteImportacaoService(
+                clienteImportacaoLoteService, new ClienteImportacaoConfig(2, 10), jsonMapper);
+        List<LinhaImportacaoCliente> recebidas = new ArrayList<>();
+        List<Integer> tamanhosDosLotes = new ArrayList<>();
+        when(clienteImportacaoLoteService.importar(anyList())).thenAnswer(invocation -> {
+            List<LinhaImportacaoCliente> lote = invocation.getArgument(0);
+            recebidas.addAll(lote);
+            tamanhosDosLotes.add(lote.size());
+            return ImportacaoClienteRelatorioDTO.builder()
+                    .linhasProcessadas(lote.size())
+                    .importados(lote.size())
+                    .erros(new ArrayList<>())
+                    .build();
+        });
+        String arquivo = "nome;email;senha;cpf;telefone\n" +
+                "Ana;ana@email.com;senha123;12345678901;41999990000\n" +
+                "\n" +
+                "{\"nome\":\"Bruno\",\"email\":\"bruno@email.com\",\"senha\":\"senha123\"}\n" +
+                "Carla;carla@email.com;senha123\n";
+
+        // Act
+        ImportacaoClienteRelatorioDTO relatorio = service.importar(stream(arquivo));
+
+        // Assert
+        assertThat(tamanhosDosLotes).containsExactly(2, 1);
+        assertThat(recebidas).extracting(LinhaImportacaoCliente::getEmail)
+                .containsExactly("ana@email.com", "bruno@email.com", "carla@email.com");
+        assertThat(recebidas).extracting(LinhaImportacaoCliente::getNumero).containsExactly(2, 4, 5);
+        assertThat(relatorio.getLinhasProcessadas()).isEqualTo(3);
+        assertThat(relatorio.getImportados()).isEqualTo(3);
+        assertThat(relatorio.getRejeitados()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar JSON malformado sem interromper a importação")
+    void deveRejeitarJsonMalformado() {
+        // Arrange
+        ClienteImportacaoService service = new ClienteImportacaoService(
+                clienteImportacaoLoteService, new ClienteImportacaoConfig(10, 10), jsonMapper);
+        when(clienteImportacaoLoteService.importar(anyList())).thenAnswer(invocation -> {
+            List<LinhaImportacaoCliente> lote = invocation.getArgument(0);
+            return ImportacaoClienteRelatorioDTO.builder()
+                    .linhasProcessadas(lote.size())
+                    .importados(lote.size())
+                    .erros(new ArrayList<>())
+                    .build();
+        });
+        String arquivo = "{\"nome\":\"Ana\",\"email\":\n" +
+                "Bruno;bruno@email.com;senha123\n";
+
+        // Act
+        ImportacaoClienteRelatorioDTO relatorio = service.importar(stream(arquivo));
+
+        // Assert
+        assertThat(relatorio.getLinhasProcessadas()).isEqualTo(2);
+        assertThat(relatorio.getImportados()).isEqualTo(1);
+        assertThat(relatorio.getRejeitados()).isEqualTo(1);
+        assertThat(relatorio.getErros()).singleElement().satisfies(erro -> {
+            assertThat(erro.getLinha()).isEqualTo(1);
+            assertThat(erro.getMotivo()).isEqualTo(MotivoRejeicaoImportacaoEnum.LINHA_INVALIDA);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve contar todas as linhas inválidas mas detalhar apenas até o limite configurado")
+    void deveLimitarErrosDetalhados() {
+        // Arrange
+        ClienteImportacaoService service = new ClienteImportacaoService(
+                clienteImportacaoLoteService, new ClienteImportacaoConfig(100, 3), jsonMapper);
+        StringBuilder arquivo = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            arquivo.append("linha-invalida\n");
+        }
+
+        // Act
+        ImportacaoClienteRelatorioDTO relatorio = service.importar(stream(arquivo.toString()));
+
+        // Assert
+        assertThat(relatorio.getLinhasProcessadas()).isEqualTo(10_000);
+        assertThat(relatorio.getRejeitados()).isEqualTo(10_000);
+        assertThat(relatorio.getErros()).hasSize(3)
+                .extracting(ImportacaoClienteErroDTO::getLinha)
+                .containsExactly(1, 2, 3);
+        assertThat(relatorio.isErrosTruncados()).isTrue();
+        verifyNoInteractions(clienteImportacaoLoteService);
+    }
+
+    private ByteArrayInputStream stream(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,9 +3,14 @@ package com.seucantinho.api.feature.cliente.application.service;
 import com.seucantinho.api.feature.cliente.application.dto.ClienteRequestDTO;
 import com.seucantinho.api.feature.cliente.application.dto.ClienteResponseDTO;
 import com.seucantinho.api.feature.cliente.domain.Cliente;
+import com.seucantinho.api.feature.cliente.domain.enums.ModoContagemReservasEnum;
 import com.seucantinho.api.feature.cliente.domain.port.out.ClienteRepositoryPort;
 import com.seucantinho.api.feature.cliente.domain.service.ClienteUniquenessService;
+import com.seucantinho.api.feature.cliente.domain.valueobject.ClienteComReservas;
+import com.seucantinho.api.feature.cliente.infrastructure.config.ClienteListagemConfig;
 import com.seucantinho.api.feature.cliente.infrastructure.mapper.ClienteMapper;
+import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.domain.port.out.ReservaRepositoryPort;
 import com.seucantinho.api.shared.domain.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,10 +18,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -36,6 +44,12 @@ class ClienteServiceTest {
     @Mock
     private ClienteUniquenessService clienteUniquenessService;
 
+    @Mock
+    private ReservaRepositoryPort reservaRepositoryPort;
+
+    @Spy
+    private ClienteListagemConfig clienteListagemConfig = new ClienteListagemConfig(ModoContagemReservasEnum.AGRUPADA);
+
     @InjectMocks
     private ClienteService clienteService;
 
@@ -76,7 +90,7 @@ class ClienteServiceTest {
         // Arrange
         List<Cliente> clientes = Arrays.asList(cliente);
         when(clienteRepositoryPort.findAll()).thenReturn(clientes);
-        when(clienteMapper.toResponseDTO(any(Cliente.class))).thenReturn(responseDTO);
+        when(clienteMapper.toResponseDTO(any(Cliente.class), anyInt())).thenReturn(responseDTO);
 
         // Act
         List<ClienteResponseDTO> resultado = clienteService.findAll();
@@ -84,7 +98,7 @@ class ClienteServiceTest {
         // Assert
         assertThat(resultado).hasSize(1);
         verify(clienteRepositoryPort).findAll();
-        verify(clienteMapper).toResponseDTO(any(Cliente.class));
+        verify(clienteMapper).toResponseDTO(any(Cliente.class), anyInt());
     }
 
     @Test
@@ -93,7 +107,8 @@ class ClienteServiceTest {
         // Arrange
         Integer id = 1;
         when(clienteRepositoryPort.findById(id)).thenReturn(Optional.of(cliente));
-        when(clienteMapper.toResponseDTO(cliente)).thenReturn(responseDTO);
+        when(reservaRepositoryPort.countByUsuarioId(id)).thenReturn(2);
+        when(clienteMapper.toResponseDTO(cliente, 2)).thenReturn(responseDTO);
 
         // Act
         ClienteResponseDTO resultado = clienteService.findById(id);
@@ -102,7 +117,8 @@ class ClienteServiceTest {
         assertThat(resultado).isNotNull();
         assertThat(resultado).isEqualTo(responseDTO);
         verify(clienteRepositoryPort).findById(id);
-        verify(clienteMapper).toResponseDTO(cliente);
+        verify(reservaRepositoryPort).countByUsuarioId(id);
+        verify(clienteMapper).toResponseDTO(cliente, 2);
     }
 
     @Test
@@ -117,7 +133,7 @@ class ClienteServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Cliente não encontrado com ID: " + id);
         verify(clienteRepositoryPort).findById(id);
-        verify(clienteMapper, never()).toResponseDTO(any());
+        verify(clienteMapper, never()).toResponseDTO(any(), anyInt());
     }
 
     @Test
@@ -128,7 +144,7 @@ class ClienteServiceTest {
         doNothing().when(clienteUniquenessService).validarCpfUnico(requestDTO.getCpf());
         when(clienteMapper.toEntity(requestDTO)).thenReturn(cliente);
         when(clienteRepositoryPort.save(cliente)).thenReturn(cliente);
-        when(clienteMapper.toResponseDTO(cliente)).thenReturn(responseDTO);
+        when(clienteMapper.toResponseDTO(cliente, 0)).thenReturn(responseDTO);
 
         // Act
         ClienteResponseDTO resultado = clienteService.create(requestDTO);
@@ -140,7 +156,7 @@ class ClienteServiceTest {
         verify(clienteUniquenessService).validarCpfUnico(requestDTO.getCpf());
         verify(clienteMapper).toEntity(requestDTO);
         verify(clienteRepositoryPort).save(cliente);
-        verify(clienteMapper).toResponseDTO(cliente);
+        verify(clienteMapper).toResponseDTO(cliente, 0);
     }
 
     @Test
@@ -152,7 +168,7 @@ class ClienteServiceTest {
         doNothing().when(clienteUniquenessService).validarEmailUnicoParaAtualizacao(requestDTO.getEmail(), id);
         doNothing().when(clienteMapper).updateEntityFromDTO(cliente, requestDTO);
         when(clienteRepositoryPort.save(cliente)).thenReturn(cliente);
-        when(clienteMapper.toResponseDTO(cliente)).thenReturn(responseDTO);
+        when(clienteMapper.toResponseDTO(cliente, 0)).thenReturn(responseDTO);
 
         // Act
         ClienteResponseDTO resultado = clienteService.update(id, requestDTO);
@@ -164,7 +180,7 @@ class ClienteServiceTest {
         verify(clienteUniquenessService).validarEmailUnicoParaAtualizacao(requestDTO.getEmail(), id);
         verify(clienteMapper, times(2)).updateEntityFromDTO(cliente, requestDTO);
         verify(clienteRepositoryPort).save(cliente);
-        verify(clienteMapper).toResponseDTO(cliente);
+        verify(clienteMapper).toResponseDTO(cliente, 0);
     }
 
     @Test
@@ -220,7 +236,7 @@ class ClienteServiceTest {
         Integer id = 1;
         when(clienteRepositoryPort.findById(id)).thenReturn(Optional.of(cliente));
         when(clienteRepositoryPort.save(cliente)).thenReturn(cliente);
-        when(clienteMapper.toResponseDTO(cliente)).thenReturn(responseDTO);
+        when(clienteMapper.toResponseDTO(cliente, 0)).thenReturn(responseDTO);
 
         // Act
         ClienteResponseDTO resultado = clienteService.toggleAtivo(id, true);
@@ -239,7 +255,7 @@ class ClienteServiceTest {
         cliente.setAtivo(false);
         when(clienteRepositoryPort.findById(id)).thenReturn(Optional.of(cliente));
         when(clienteRepositoryPort.save(cliente)).thenReturn(cliente);
-        when(clienteMapper.toResponseDTO(cliente)).thenReturn(responseDTO);
+        when(clienteMapper.toResponseDTO(cliente, 0)).thenReturn(responseDTO);
 
         // Act
         ClienteResponseDTO resultado = clienteService.toggleAtivo(id, false);
@@ -276,4 +292,60 @@ class ClienteServiceTest {
         assertThat(resultado).isEmpty();
         verify(clienteRepositoryPort).findAll();
     }
+
+    @Test
+    @DisplayName("Deve listar N clientes com uma única contagem agrupada, sem carregar as reservas")
+    void deveListarClientesComContagemAgrupada() {
+        // Arrange
+        List<Cliente> clientes = new ArrayList<>();
+        for (int id = 1; id <= 500; id++) {
+            clientes.add(Cliente.builder().id(id).nome("Cliente " + id).reservas(reservasNaoCarregaveis()).build());
+        }
+        when(clienteRepositoryPort.findAll()).thenReturn(clientes);
+        when(reservaRepositoryPort.countByUsuarioIds(anyCollection())).thenReturn(Map.of(1, 3, 250, 7));
+        when(clienteMapper.toResponseDTO(any(Cliente.class), anyInt())).thenReturn(responseDTO);
+
+        // Act
+        List<ClienteResponseDTO> resultado = clienteService.findAll();
+
+        // Assert
+        assertThat(resultado).hasSize(500);
+        verify(clienteRepositoryPort, times(1)).findAll();
+        verify(reservaRepositoryPort, times(1)).countByUsuarioIds(anyCollection());
+        verify(clienteMapper).toResponseDTO(clientes.get(0), 3);
+        verify(clienteMapper).toResponseDTO(clientes.get(249), 7);
+        verify(clienteMapper).toResponseDTO(clientes.get(499), 0);
+    }
+
+    @Test
+    @DisplayName("Deve listar clientes com a contagem na própria consulta no modo SUBCONSULTA")
+    void deveListarClientesComSubconsulta() {
+        // Arrange
+        ClienteService servico = new ClienteService(clienteRepositoryPort, clienteMapper, clienteUniquenessService,
+                reservaRepositoryPort, new ClienteListagemConfig(ModoContagemReservasEnum.SUBCONSULTA));
+        Cliente outro = Cliente.builder().id(2).nome("Maria").reservas(reservasNaoCarregaveis()).build();
+        cliente.setReservas(reservasNaoCarregaveis());
+        when(clienteRepositoryPort.findAllWithQuantidadeReservas())
+                .thenReturn(List.of(new ClienteComReservas(cliente, 4), new ClienteComReservas(outro, 0)));
+        when(clienteMapper.toResponseDTO(any(Cliente.class), anyInt())).thenReturn(responseDTO);
+
+        // Act
+        List<ClienteResponseDTO> resultado = servico.findAll();
+
+        // Assert
+        assertThat(resultado).hasSize(2);
+        verify(clienteRepositoryPort, times(1)).findAllWithQuantidadeReservas();
+        verify(clienteRepositoryPort, never()).findAll();
+        verifyNoInteractions(reservaRepositoryPort);
+        verify(clienteMapper).toResponseDTO(cliente, 4);
+        verify(clienteMapper).toResponseDTO(outro, 0);
+    }
+
+    // Simula a coleção lazy: qualquer acesso falha o teste
+    @SuppressWarnings("unchecked")
+    private static List<Reserva> reservasNaoCarregaveis() {
+        return mock(List.class, invocation -> {
+            throw new AssertionError("cliente.getReservas() não deveria ser acessado");
+        });
+    }
 }
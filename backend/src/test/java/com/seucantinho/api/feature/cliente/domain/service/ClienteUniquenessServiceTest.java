@@ -12,8 +12,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -49,12 +47,12 @@ class ClienteUniquenessServiceTest {
     void deveValidarEmailUnicoComSucesso() {
         // Arrange
         String email = "novo@email.com";
-        when(usuarioRepositoryPort.findByEmail(email)).thenReturn(Optional.empty());
+        when(usuarioRepositoryPort.existsByEmail(email)).thenReturn(false);
 
         // Act & Assert
         assertThatCode(() -> clienteUniquenessService.validarEmailUnico(email))
                 .doesNotThrowAnyException();
-        verify(usuarioRepositoryPort).findByEmail(email);
+        verify(usuarioRepositoryPort).existsByEmail(email);
     }
 
     @Test
@@ -62,13 +60,13 @@ class ClienteUniquenessServiceTest {
     void deveLancarExcecaoQuandoEmailJaExiste() {
         // Arrange
         String email = "joao@email.com";
-        when(usuarioRepositoryPort.findByEmail(email)).thenReturn(Optional.of(cliente));
+        when(usuarioRepositoryPort.existsByEmail(email)).thenReturn(true);
 
         // Act & Assert
         assertThatThrownBy(() -> clienteUniquenessService.validarEmailUnico(email))
                 .isInstanceOf(DuplicateResourceException.class)
                 .hasMessage("Email já cadastrado no sistema");
-        verify(usuarioRepositoryPort).findByEmail(email);
+        verify(usuarioRepositoryPort).existsByEmail(email);
     }
 
     @Test
@@ -77,12 +75,12 @@ class ClienteUniquenessServiceTest {
         // Arrange
         String email = "joao@email.com";
         Integer clienteId = 1;
-        when(usuarioRepositoryPort.findByEmail(email)).thenReturn(Optional.of(cliente));
+        when(usuarioRepositoryPort.existsByEmailAndIdNot(email, clienteId)).thenReturn(false);
 
         // Act & Assert
         assertThatCode(() -> clienteUniquenessService.validarEmailUnicoParaAtualizacao(email, clienteId))
                 .doesNotThrowAnyException();
-        verify(usuarioRepositoryPort).findByEmail(email);
+        verify(usuarioRepositoryPort).existsByEmailAndIdNot(email, clienteId);
     }
 
     @Test
@@ -91,13 +89,13 @@ class ClienteUniquenessServiceTest {
         // Arrange
         String email = "joao@email.com";
         Integer clienteId = 2; // ID diferente do cliente existente
-        when(usuarioRepositoryPort.findByEmail(email)).thenReturn(Optional.of(cliente));
+        when(usuarioRepositoryPort.existsByEmailAndIdNot(email, clienteId)).thenReturn(true);
 
         // Act & Assert
         assertThatThrownBy(() -> clienteUniquenessService.validarEmailUnicoParaAtualizacao(email, clienteId))
                 .isInstanceOf(DuplicateResourceException.class)
                 .hasMessage("Email já cadastrado no sistema");
-        verify(usuarioRepositoryPort).findByEmail(email);
+        verify(usuarioRepositoryPort).existsByEmailAndIdNot(email, clienteId);
     }
 
     @Test
@@ -106,12 +104,12 @@ class ClienteUniquenessServiceTest {
         // Arrange
         String email = "novo@email.com";
         Integer clienteId = 1;
-        when(usuarioRepositoryPort.findByEmail(email)).thenReturn(Optional.empty());
+        when(usuarioRepositoryPort.existsByEmailAndIdNot(email, clienteId)).thenReturn(false);
 
         // Act & Assert
         assertThatCode(() -> clienteUniquenessService.validarEmailUnicoParaAtualizacao(email, clienteId))
                 .doesNotThrowAnyException();
-        verify(usuarioRepositoryPort).findByEmail(email);
+        verify(usuarioRepositoryPort).existsByEmailAndIdNot(email, clienteId);
     }
 
     @Test
@@ -119,12 +117,12 @@ class ClienteUniquenessServiceTest {
     void deveValidarCpfUnicoComSucesso() {
         // Arrange
         String cpf = "98765432100";
-        when(clienteRepositoryPort.findByCpf(cpf)).thenReturn(Optional.empty());
+        when(clienteRepositoryPort.existsByCpf(cpf)).thenReturn(false);
 
         // Act & Assert
         assertThatCode(() -> clienteUniquenessService.validarCpfUnico(cpf))
                 .doesNotThrowAnyException();
-        verify(clienteRepositoryPort).findByCpf(cpf);
+        verify(clienteRepositoryPort).existsByCpf(cpf);
     }
 
     @Test
@@ -132,13 +130,13 @@ class ClienteUniquenessServiceTest {
     void deveLancarExcecaoQuandoCpfJaExiste() {
         // Arrange
         String cpf = "12345678901";
-        when(clienteRepositoryPort.findByCpf(cpf)).thenReturn(Optional.of(cliente));
+        when(clienteRepositoryPort.existsByCpf(cpf)).thenReturn(true);
 
         // Act & Assert
         assertThatThrownBy(() -> clienteUniquenessService.validarCpfUnico(cpf))
                 .isInstanceOf(DuplicateResourceException.class)
                 .hasMessage("CPF já cadastrado");
-        verify(clienteRepositoryPort).findByCpf(cpf);
+        verify(clienteRepositoryPort).existsByCpf(cpf);
     }
 
     @Test
@@ -150,7 +148,7 @@ class ClienteUniquenessServiceTest {
         // Act & Assert
         assertThatCode(() -> clienteUniquenessService.validarCpfUnico(cpf))
                 .doesNotThrowAnyException();
-        verify(clienteRepositoryPort, never()).findByCpf(anyString());
+        verify(clienteRepositoryPort, never()).existsByCpf(anyString());
     }
 
     @Test
@@ -159,8 +157,8 @@ class ClienteUniquenessServiceTest {
         // Arrange
         String email1 = "email1@test.com";
         String email2 = "email2@test.com";
-        when(usuarioRepositoryPort.findByEmail(email1)).thenReturn(Optional.empty());
-        when(usuarioRepositoryPort.findByEmail(email2)).thenReturn(Optional.empty());
+        when(usuarioRepositoryPort.existsByEmail(email1)).thenReturn(false);
+        when(usuarioRepositoryPort.existsByEmail(email2)).thenReturn(false);
 
         // Act & Assert
         assertThatCode(() -> {
@@ -168,8 +166,8 @@ class ClienteUniquenessServiceTest {
             clienteUniquenessService.validarEmailUnico(email2);
         }).doesNotThrowAnyException();
 
-        verify(usuarioRepositoryPort).findByEmail(email1);
-        verify(usuarioRepositoryPort).findByEmail(email2);
+        verify(usuarioRepositoryPort).existsByEmail(email1);
+        verify(usuarioRepositoryPort).existsByEmail(email2);
     }
 
     @Test
@@ -177,11 +175,11 @@ class ClienteUniquenessServiceTest {
     void deveValidarEmailCaseSensitive() {
         // Arrange
         String emailUpper = "JOAO@EMAIL.COM";
-        when(usuarioRepositoryPort.findByEmail(emailUpper)).thenReturn(Optional.empty());
+        when(usuarioRepositoryPort.existsByEmail(emailUpper)).thenReturn(false);
 
         // Act & Assert
         assertThatCode(() -> clienteUniquenessService.validarEmailUnico(emailUpper))
                 .doesNotThrowAnyException();
-        verify(usuarioRepositoryPort).findByEmail(emailUpper);
+        verify(usuarioRepositoryPort).existsByEmail(emailUpper);
     }
 }
@@ -0,0 +1,70 @@
+package com.seucantinho.api.feature.cliente.domain.valueobject;
+
+import com.seucantinho.api.shared.domain.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Testes do value object LinhaImportacaoCliente")
+class LinhaImportacaoClienteTest {
+
+    @Test
+    @DisplayName("Deve ler todos os campos da linha")
+    void deveLerTodosOsCamposDaLinha() {
+        // Act
+        LinhaImportacaoCliente linha = LinhaImportacaoCliente.parse(2, "Maria Silva; maria@email.com ;senha123;12345678901;41999990000");
+
+        // Assert
+        assertThat(linha.getNumero()).isEqualTo(2);
+        assertThat(linha.getNome()).isEqualTo("Maria Silva");
+        assertThat(linha.getEmail()).isEqualTo("maria@email.com");
+        assertThat(linha.getSenha()).isEqualTo("senha123");
+        assertThat(linha.getCpf()).isEqualTo("12345678901");
+        assertThat(linha.getTelefone()).isEqualTo("41999990000");
+    }
+
+    @Test
+    @DisplayName("Deve aceitar linha sem CPF e telefone")
+    void deveAceitarLinhaSemCamposOpcionais() {
+        // Act
+        LinhaImportacaoCliente linha = LinhaImportacaoCliente.parse(1, "Maria;maria@email.com;senha123;;");
+
+        // Assert
+        assertThat(linha.getCpf()).isNull();
+        assertThat(linha.getTelefone()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer cabeçalho e linhas JSON")
+    void deveReconhecerCabecalhoEJson() {
+        assertThat(LinhaImportacaoCliente.isCabecalho("NOME;email;senha;cpf;telefone")).isTrue();
+        assertThat(LinhaImportacaoCliente.isCabecalho("Nomeia;nomeia@email.com;senha123")).isFalse();
+        assertThat(LinhaImportacaoCliente.isJson("  {\"nome\":\"Maria\"}")).isTrue();
+        assertThat(LinhaImportacaoCliente.isJson("Maria;maria@email.com;senha123")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar linha com campos faltando")
+    void deveRejeitarLinhaComCamposFaltando() {
+        assertThatThrownBy(() -> LinhaImportacaoCliente.parse(1, "Maria;maria@email.com"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("ao menos 3 campos");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar senha curta")
+    void deveRejeitarSenhaCurta() {
+        assertThatThrownBy(() -> LinhaImportacaoCliente.parse(1, "Maria;maria@email.com;123"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Senha deve ter no mínimo 6 caracteres");
+    }
+
+    @Test
+    @DisplayName("Não deve expor a senha em toString")
+    void naoDeveExporSenhaEmToString() {
+        LinhaImportacaoCliente linha = LinhaImportacaoCliente.parse(1, "Maria;maria@email.com;senhaSecreta");
+
+        assertThat(linha.toString()).doesNotContain("senhaSecreta");
+    }
+}
@@ -2,18 +2,22 @@ package com.seucantinho.api.feature.cliente.infrastructure.adapter.out;
 
 import com.seucantinho.api.feature.cliente.domain.Cliente;
 import com.seucantinho.api.feature.cliente.infrastructure.persistence.ClienteRepository;
+import com.seucantinho.api.feature.usuario.infrastructure.cache.ChavesUsuarioFiltro;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,11 +27,17 @@ class ClienteRepositoryAdapterTest {
     @Mock
     private ClienteRepository clienteRepository;
 
+    @Mock
+    private ChavesUsuarioFiltro chavesUsuarioFiltro;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     private ClienteRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new ClienteRepositoryAdapter(clienteRepository);
+        adapter = new ClienteRepositoryAdapter(clienteRepository, chavesUsuarioFiltro, jdbcTemplate);
     }
 
     @Test
@@ -40,6 +50,7 @@ class ClienteRepositoryAdapterTest {
 
         assertNotNull(result);
         verify(clienteRepository).save(cliente);
+        verify(chavesUsuarioFiltro).registrar(cliente);
     }
 
     @Test
@@ -93,5 +104,44 @@ class ClienteRepositoryAdapterTest {
         assertTrue(result.isPresent());
         verify(clienteRepository).findByCpf("12345678900");
     }
-}
 
+    @Test
+    @DisplayName("Deve verificar CPF pela projeção apenas quando o filtro indica possível duplicidade")
+    void deveVerificarCpfPelaProjecao() {
+        when(chavesUsuarioFiltro.talvezExistaCpf("11111111111")).thenReturn(false);
+        when(chavesUsuarioFiltro.talvezExistaCpf("22222222222")).thenReturn(true);
+        when(clienteRepository.existsByCpf("22222222222")).thenReturn(true);
+
+        assertFalse(adapter.existsByCpf("11111111111"));
+        assertTrue(adapter.existsByCpf("22222222222"));
+
+        verify(clienteRepository, never()).existsByCpf("11111111111");
+        verify(clienteRepository, never()).findByCpf(any());
+    }
+
+    @Test
+    @DisplayName("Deve inserir clientes em um único batch e registrar só os inseridos")
+    @SuppressWarnings("unchecked")
+    void deveInserirClientesEmLote() {
+        Cliente novo = Cliente.builder().nome("Novo").email("novo@email.com").senhaHash("hash").build();
+        Cliente concorrente = Cliente.builder().nome("Concorrente").email("concorrente@email.com").senhaHash("hash").build();
+        when(jdbcTemplate.batchUpdate(anyString(), eq(List.of(novo, concorrente)), eq(2), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{1, 0}});
+
+        boolean[] result = adapter.inserirEmLote(List.of(novo, concorrente));
+
+        assertArrayEquals(new boolean[]{true, false}, result);
+        verify(chavesUsuarioFiltro).registrar(novo);
+        verify(chavesUsuarioFiltro, never()).registrar(concorrente);
+        verify(clienteRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Não deve acessar o banco ao inserir lote vazio")
+    void naoDeveAcessarBancoComLoteVazio() {
+        boolean[] result = adapter.inserirEmLote(List.of());
+
+        assertEquals(0, result.length);
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
\ No newline at end of file
@@ -18,7 +18,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Testes do ClienteMapper")
@@ -92,7 +92,7 @@ class ClienteMapperTest {
                 .reservas(new ArrayList<>())
                 .build();
 
-        ClienteResponseDTO dto = mapper.toResponseDTO(cliente);
+        ClienteResponseDTO dto = mapper.toResponseDTO(cliente, 0);
 
         assertNotNull(dto);
         assertEquals(cliente.getId(), dto.getId());
@@ -105,14 +105,12 @@ class ClienteMapperTest {
     }
 
     @Test
-    @DisplayName("Deve converter Cliente com reservas para ClienteResponseDTO")
-    void deveConverterClienteComReservasParaResponseDTO() {
+    @DisplayName("Deve usar a quantidade de reservas informada sem inicializar as reservas do cliente")
+    void deveUsarQuantidadeInformadaSemInicializarReservas() {
         List<Reserva> reservas = new ArrayList<>();
         reservas.add(new Reserva());
-        reservas.add(new Reserva());
-        reservas.add(new Reserva());
 
-        Cliente cliente = Cliente.builder()
+        Cliente cliente = spy(Cliente.builder()
                 .id(1)
                 .nome("João Silva")
                 .email("joao@email.com")
@@ -121,11 +119,12 @@ class ClienteMapperTest {
                 .ativo(true)
                 .dataCadastro(LocalDateTime.now())
                 .reservas(reservas)
-                .build();
+                .build());
 
-        ClienteResponseDTO dto = mapper.toResponseDTO(cliente);
+        ClienteResponseDTO dto = mapper.toResponseDTO(cliente, 3);
 
         assertEquals(3, dto.getQuantidadeReservas());
+        verify(cliente, never()).getReservas();
     }
 
     @Test
@@ -5,6 +5,8 @@ import com.seucantinho.api.feature.espaco.application.dto.EspacoResponseDTO;
 import com.seucantinho.api.feature.espaco.domain.Espaco;
 import com.seucantinho.api.feature.espaco.domain.port.out.EspacoRepositoryPort;
 import com.seucantinho.api.feature.espaco.domain.valueobject.Capacidade;
+import com.seucantinho.api.feature.espaco.infrastructure.cache.Catalogo;
+import com.seucantinho.api.feature.espaco.infrastructure.cache.CatalogoCache;
 import com.seucantinho.api.feature.espaco.infrastructure.mapper.EspacoMapper;
 import com.seucantinho.api.feature.filial.application.dto.FilialResponseDTO;
 import com.seucantinho.api.feature.filial.domain.Filial;
@@ -42,6 +44,9 @@ class EspacoServiceTest {
     @Mock
     private EspacoMapper espacoMapper;
 
+    @Mock
+    private CatalogoCache catalogoCache;
+
     @InjectMocks
     private EspacoService espacoService;
 
@@ -62,17 +67,15 @@ class EspacoServiceTest {
     @DisplayName("Deve retornar todos os espaços")
     void deveRetornarTodosOsEspacos() {
         // Arrange
-        List<Espaco> espacos = Arrays.asList(espaco, criarEspaco());
-        when(espacoRepositoryPort.findAll()).thenReturn(espacos);
-        when(espacoMapper.toResponseDTO(any(Espaco.class))).thenReturn(responseDTO);
+        EspacoResponseDTO inativo = criarResponseDTO(2, false);
+        when(catalogoCache.obter()).thenReturn(catalogo(inativo, responseDTO));
 
         // Act
         List<EspacoResponseDTO> resultado = espacoService.findAll();
 
         // Assert
-        assertThat(resultado).hasSize(2);
-        verify(espacoRepositoryPort).findAll();
-        verify(espacoMapper, times(2)).toResponseDTO(any(Espaco.class));
+        assertThat(resultado).containsExactly(responseDTO, inativo);
+        verifyNoInteractions(espacoRepositoryPort, espacoMapper);
     }
 
     @Test
@@ -80,34 +83,29 @@ class EspacoServiceTest {
     void deveRetornarEspacosPorFilialId() {
         // Arrange
         Integer filialId = 1;
-        List<Espaco> espacos = Arrays.asList(espaco);
-        when(espacoRepositoryPort.findByFilialId(filialId)).thenReturn(espacos);
-        when(espacoMapper.toResponseDTO(any(Espaco.class))).thenReturn(responseDTO);
+        when(catalogoCache.obter()).thenReturn(catalogo(responseDTO));
 
         // Act
         List<EspacoResponseDTO> resultado = espacoService.findByFilialId(filialId);
 
         // Assert
-        assertThat(resultado).hasSize(1);
-        verify(espacoRepositoryPort).findByFilialId(filialId);
-        verify(espacoMapper).toResponseDTO(any(Espaco.class));
+        assertThat(resultado).containsExactly(responseDTO);
+        assertThat(espacoService.findByFilialId(2)).isEmpty();
+        verifyNoInteractions(espacoRepositoryPort, espacoMapper);
     }
 
     @Test
     @DisplayName("Deve retornar apenas espaços ativos")
     void deveRetornarApenasEspacosAtivos() {
         // Arrange
-        List<Espaco> espacosAtivos = Arrays.asList(espaco);
-        when(espacoRepositoryPort.findByAtivoTrue()).thenReturn(espacosAtivos);
-        when(espacoMapper.toResponseDTO(any(Espaco.class))).thenReturn(responseDTO);
+        when(catalogoCache.obter()).thenReturn(catalogo(responseDTO, criarResponseDTO(2, false)));
 
         // Act
         List<EspacoResponseDTO> resultado = espacoService.findAtivos();
 
         // Assert
-        assertThat(resultado).hasSize(1);
-        verify(espacoRepositoryPort).findByAtivoTrue();
-        verify(espacoMapper).toResponseDTO(any(Espaco.class));
+        assertThat(resultado).containsExactly(responseDTO);
+        verifyNoInteractions(espacoRepositoryPort, espacoMapper);
     }
 
     @Test
@@ -135,8 +133,7 @@ class EspacoServiceTest {
     void deveRetornarEspacoPorId() {
         // Arrange
         Integer id = 1;
-        when(espacoRepositoryPort.findByIdWithFilial(id)).thenReturn(Optional.of(espaco));
-        when(espacoMapper.toResponseDTO(espaco)).thenReturn(responseDTO);
+        when(catalogoCache.obter()).thenReturn(catalogo(responseDTO));
 
         // Act
         EspacoResponseDTO resultado = espacoService.findById(id);
@@ -144,8 +141,7 @@ class EspacoServiceTest {
         // Assert
         assertThat(resultado).isNotNull();
         assertThat(resultado).isEqualTo(responseDTO);
-        verify(espacoRepositoryPort).findByIdWithFilial(id);
-        verify(espacoMapper).toResponseDTO(espaco);
+        verifyNoInteractions(espacoRepositoryPort, espacoMapper);
     }
 
     @Test
@@ -153,14 +149,13 @@ class EspacoServiceTest {
     void deveLancarExcecaoAoBuscarEspacoPorIdInexistente() {
         // Arrange
         Integer id = 999;
-        when(espacoRepositoryPort.findByIdWithFilial(id)).thenReturn(Optional.empty());
+        when(catalogoCache.obter()).thenReturn(catalogo(responseDTO));
 
         // Act & Assert
         assertThatThrownBy(() -> espacoService.findById(id))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Espaço não encontrado com ID: " + id);
-        verify(espacoRepositoryPort).findByIdWithFilial(id);
-        verify(espacoMapper, never()).toResponseDTO(any());
+        verifyNoInteractions(espacoRepositoryPort, espacoMapper);
     }
 
     @Test
@@ -182,6 +177,7 @@ class EspacoServiceTest {
         verify(espacoMapper).toEntity(requestDTO, filial);
         verify(espacoRepositoryPort).save(espaco);
         verify(espacoMapper).toResponseDTO(espaco);
+        verify(catalogoCache).invalidar();
     }
 
     @Test
@@ -220,6 +216,7 @@ class EspacoServiceTest {
         verify(espacoMapper).updateEntityFromDTO(espaco, requestDTO, filial);
         verify(espacoRepositoryPort).save(espaco);
         verify(espacoMapper).toResponseDTO(espaco);
+        verify(catalogoCache).invalidar();
     }
 
     @Test
@@ -235,6 +232,7 @@ class EspacoServiceTest {
                 .hasMessageContaining("Espaço não encontrado com ID: " + id);
         verify(espacoRepositoryPort).findById(id);
         verify(espacoRepositoryPort, never()).save(any());
+        verify(catalogoCache, never()).invalidar();
     }
 
     @Test
@@ -251,6 +249,7 @@ class EspacoServiceTest {
         // Assert
         verify(espacoRepositoryPort).findById(id);
         verify(espacoRepositoryPort).deleteById(id);
+        verify(catalogoCache).invalidar();
     }
 
     @Test
@@ -272,14 +271,13 @@ class EspacoServiceTest {
     @DisplayName("Deve retornar lista vazia quando não há espaços ativos")
     void deveRetornarListaVaziaQuandoNaoHaEspacosAtivos() {
         // Arrange
-        when(espacoRepositoryPort.findByAtivoTrue()).thenReturn(Arrays.asList());
+        when(catalogoCache.obter()).thenReturn(catalogo(criarResponseDTO(2, false)));
 
         // Act
         List<EspacoResponseDTO> resultado = espacoService.findAtivos();
 
         // Assert
         assertThat(resultado).isEmpty();
-        verify(espacoRepositoryPort).findByAtivoTrue();
     }
 
     @Test
@@ -333,6 +331,10 @@ class EspacoServiceTest {
     }
 
     private EspacoResponseDTO criarResponseDTO() {
+        return criarResponseDTO(1, true);
+    }
+
+    private EspacoResponseDTO criarResponseDTO(int id, boolean ativo) {
         FilialResponseDTO filialDTO = FilialResponseDTO.builder()
                 .id(1)
                 .nome("Filial Centro")
@@ -341,13 +343,17 @@ class EspacoServiceTest {
                 .build();
 
         return EspacoResponseDTO.builder()
-                .id(1)
+                .id(id)
                 .nome("Salão de Eventos")
                 .descricao("Espaço amplo")
                 .capacidade(50)
                 .precoDiaria(new BigDecimal("300.00"))
                 .filial(filialDTO)
-                .ativo(true)
+                .ativo(ativo)
                 .build();
     }
+
+    private Catalogo catalogo(EspacoResponseDTO... espacos) {
+        return Catalogo.de(List.of(espacos), List.of(espacos[0].getFilial()));
+    }
 }
@@ -2,6 +2,7 @@ package com.seucantinho.api.feature.espaco.infrastructure.adapter.out;
 
 import com.seucantinho.api.feature.espaco.domain.Espaco;
 import com.seucantinho.api.feature.espaco.infrastructure.persistence.EspacoRepository;
+import com.seucantinho.api.feature.reserva.infrastructure.cache.OcupacaoEspacoIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -23,11 +25,14 @@ class EspacoRepositoryAdapterTest {
     @Mock
     private EspacoRepository espacoRepository;
 
+    @Mock
+    private OcupacaoEspacoIndex ocupacaoEspacoIndex;
+
     private EspacoRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new EspacoRepositoryAdapter(espacoRepository);
+        adapter = new EspacoRepositoryAdapter(espacoRepository, ocupacaoEspacoIndex);
     }
 
     @Test
@@ -83,5 +88,55 @@ class EspacoRepositoryAdapterTest {
         assertEquals(1, result.size());
         verify(espacoRepository).findByFilialId(1);
     }
-}
 
+    @Test
+    @DisplayName("Deve responder pelo índice quando todos os espaços estão livres")
+    void deveResponderPeloIndiceQuandoTodosLivres() {
+        LocalDate data = LocalDate.now().plusDays(10);
+        Espaco sala1 = Espaco.builder().id(1).nome("Sala 1").build();
+        Espaco sala2 = Espaco.builder().id(2).nome("Sala 2").build();
+
+        when(ocupacaoEspacoIndex.cobre(data)).thenReturn(true);
+        when(espacoRepository.findAtivosComCapacidadeMinima(10)).thenReturn(Arrays.asList(sala1, sala2));
+        when(ocupacaoEspacoIndex.isLivre(1, data, null)).thenReturn(true);
+        when(ocupacaoEspacoIndex.isLivre(2, data, null)).thenReturn(true);
+
+        List<Espaco> result = adapter.findEspacosDisponiveisPorData(data, 10);
+
+        assertEquals(2, result.size());
+        verify(espacoRepository, never()).findEspacosDisponiveisPorData(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve confirmar no banco quando o índice marca algum espaço como ocupado")
+    void deveConfirmarNoBancoQuandoIndiceMarcaOcupado() {
+        LocalDate data = LocalDate.now().plusDays(10);
+        Espaco livre = Espaco.builder().id(1).nome("Sala 1").build();
+        Espaco marcado = Espaco.builder().id(2).nome("Sala 2").build();
+
+        when(ocupacaoEspacoIndex.cobre(data)).thenReturn(true);
+        when(espacoRepository.findAtivosComCapacidadeMinima(10)).thenReturn(Arrays.asList(livre, marcado));
+        when(ocupacaoEspacoIndex.isLivre(1, data, null)).thenReturn(true);
+        when(ocupacaoEspacoIndex.isLivre(2, data, null)).thenReturn(false);
+        when(espacoRepository.findEspacosDisponiveisPorData(data, 10)).thenReturn(Arrays.asList(livre, marcado));
+
+        List<Espaco> result = adapter.findEspacosDisponiveisPorData(data, 10);
+
+        // A marcação estava desatualizada: o banco é quem decide
+        assertEquals(2, result.size());
+        verify(espacoRepository).findEspacosDisponiveisPorData(data, 10);
+    }
+
+    @Test
+    @DisplayName("Deve buscar espaços disponíveis no banco quando o índice não cobre a data")
+    void deveBuscarEspacosDisponiveisNoBanco() {
+        LocalDate data = LocalDate.now().plusYears(2);
+        when(ocupacaoEspacoIndex.cobre(data)).thenReturn(false);
+        when(espacoRepository.findEspacosDisponiveisPorData(data, 10)).thenReturn(List.of());
+
+        List<Espaco> result = adapter.findEspacosDisponiveisPorData(data, 10);
+
+        assertTrue(result.isEmpty());
+        verify(espacoRepository).findEspacosDisponiveisPorData(data, 10);
+    }
+}
@@ -0,0 +1,182 @@
+package com.seucantinho.api.feature.espaco.infrastructure.cache;
+
+import com.seucantinho.api.feature.espaco.application.dto.EspacoResponseDTO;
+import com.seucantinho.api.feature.espaco.domain.Espaco;
+import com.seucantinho.api.feature.espaco.domain.port.out.EspacoRepositoryPort;
+import com.seucantinho.api.feature.espaco.domain.valueobject.Capacidade;
+import com.seucantinho.api.feature.espaco.infrastructure.mapper.EspacoMapper;
+import com.seucantinho.api.feature.filial.domain.Filial;
+import com.seucantinho.api.feature.filial.domain.port.out.FilialRepositoryPort;
+import com.seucantinho.api.feature.filial.infrastructure.mapper.FilialMapper;
+import com.seucantinho.api.shared.domain.valueobject.ValorMonetario;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do CatalogoCache")
+class CatalogoCacheTest {
+
+    @Mock
+    private EspacoRepositoryPort espacoRepositoryPort;
+
+    @Mock
+    private FilialRepositoryPort filialRepositoryPort;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CatalogoCache cache;
+    private Filial centro;
+    private Filial norte;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = criarCache(300);
+
+        centro = Filial.builder().id(1).nome("Filial Centro").cidade("Curitiba").estado("PR").build();
+        norte = Filial.builder().id(2).nome("Filial Norte").cidade("Curitiba").estado("PR").build();
+        lenient().when(filialRepositoryPort.findAll()).thenReturn(List.of(norte, centro));
+        lenient().when(espacoRepositoryPort.findAllWithFilial()).thenReturn(List.of(
+                criarEspaco(3, centro, true), criarEspaco(1, centro, false), criarEspaco(2, norte, true)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve montar o catálogo ordenado por id e contar os espaços de cada filial")
+    void deveMontarCatalogo() {
+        // Act
+        Catalogo catalogo = cache.obter();
+
+        // Assert
+        assertThat(catalogo.espacos()).extracting(EspacoResponseDTO::getId).containsExactly(1, 2, 3);
+        assertThat(catalogo.espacosAtivos()).extracting(EspacoResponseDTO::getId).containsExactly(2, 3);
+        assertThat(catalogo.espacosDaFilial(1)).extracting(EspacoResponseDTO::getId).containsExactly(1, 3);
+        assertThat(catalogo.espacosDaFilial(99)).isEmpty();
+        assertThat(catalogo.espaco(2)).get().extracting(EspacoResponseDTO::getNome).isEqualTo("Espaço 2");
+        assertThat(catalogo.espaco(99)).isEmpty();
+        assertThat(catalogo.filial(1)).get().extracting(filial -> filial.getQuantidadeEspacos()).isEqualTo(2);
+        assertThat(catalogo.filial(2)).get().extracting(filial -> filial.getQuantidadeEspacos()).isEqualTo(1);
+        assertThatThrownBy(() -> catalogo.espacos().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Deve atender leituras seguintes sem acessar o banco")
+    void deveAtenderLeiturasSeguintesSemBanco() {
+        // Act
+        Catalogo primeiro = cache.obter();
+        Catalogo segundo = cache.obter();
+        cache.obter();
+
+        // Assert
+        assertThat(segundo).isSameAs(primeiro);
+        verify(espacoRepositoryPort, times(1)).findAllWithFilial();
+        verify(filialRepositoryPort, times(1)).findAll();
+        assertThat(meterRegistry.get("catalogo.cache.acessos").tag("resultado", "acerto").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("catalogo.cache.acessos").tag("resultado", "falha").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("catalogo.cache.taxa_acerto").gauge().value()).isCloseTo(2.0 / 3, within(1e-9));
+        assertThat(meterRegistry.get("catalogo.cache.tamanho").gauge().value()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o catálogo após invalidação fora de transação")
+    void deveRecarregarAposInvalidacao() {
+        // Arrange
+        cache.obter();
+
+        // Act
+        cache.invalidar();
+        cache.obter();
+
+        // Assert
+        verify(espacoRepositoryPort, times(2)).findAllWithFilial();
+    }
+
+    @Test
+    @DisplayName("Deve descartar o catálogo apenas após o commit da alteração")
+    void deveDescartarApenasAposCommit() {
+        // Arrange
+        cache.obter();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        cache.invalidar();
+        cache.obter();
+        List<TransactionSynchronization> sincronizacoes = TransactionSynchronizationManager.getSynchronizations();
+        sincronizacoes.forEach(TransactionSynchronization::afterCommit);
+        cache.obter();
+
+        // Assert
+        assertThat(sincronizacoes).hasSize(1);
+        verify(espacoRepositoryPort, times(2)).findAllWithFilial();
+    }
+
+    @Test
+    @DisplayName("Não deve publicar carga iniciada antes de uma invalidação")
+    void naoDevePublicarCargaConcorrenteComInvalidacao() {
+        // Arrange
+        when(espacoRepositoryPort.findAllWithFilial()).thenAnswer(invocation -> {
+            cache.invalidar();
+            return List.of(criarEspaco(1, centro, true));
+        }).thenReturn(List.of(criarEspaco(1, centro, true)));
+
+        // Act
+        cache.obter();
+        cache.obter();
+        cache.obter();
+
+        // Assert
+        verify(espacoRepositoryPort, times(2)).findAllWithFilial();
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o catálogo vencido")
+    void deveRecarregarCatalogoVencido() {
+        // Arrange
+        cache = criarCache(0);
+
+        // Act
+        cache.obter();
+        cache.obter();
+
+        // Assert
+        verify(espacoRepositoryPort, times(2)).findAllWithFilial();
+    }
+
+    private CatalogoCache criarCache(long validadeSegundos) {
+        return new CatalogoCache(espacoRepositoryPort, filialRepositoryPort, new EspacoMapper(), new FilialMapper(),
+                transactionManager, meterRegistry, validadeSegundos);
+    }
+
+    private Espaco criarEspaco(int id, Filial filial, boolean ativo) {
+        return Espaco.builder()
+                .id(id)
+                .nome("Espaço " + id)
+                .capacidade(Capacidade.of(50))
+                .precoDiaria(ValorMonetario.of("300.00"))
+                .filial(filial)
+                .ativo(ativo)
+                .build();
+    }
+}
@@ -1,5 +1,8 @@
 package com.seucantinho.api.feature.filial.application.service;
 
+import com.seucantinho.api.feature.espaco.infrastructure.cache.Catalogo;
+import com.seucantinho.api.feature.espaco.domain.port.out.EspacoRepositoryPort;
+import com.seucantinho.api.feature.espaco.infrastructure.cache.CatalogoCache;
 import com.seucantinho.api.feature.filial.application.dto.FilialRequestDTO;
 import com.seucantinho.api.feature.filial.application.dto.FilialResponseDTO;
 import com.seucantinho.api.feature.filial.domain.Filial;
@@ -33,12 +36,18 @@ class FilialServiceTest {
     @Mock
     private FilialRepositoryPort filialRepositoryPort;
 
+    @Mock
+    private EspacoRepositoryPort espacoRepositoryPort;
+
     @Mock
     private FilialMapper filialMapper;
 
     @Mock
     private FuncionarioRepository funcionarioRepository;
 
+    @Mock
+    private CatalogoCache catalogoCache;
+
     @InjectMocks
     private FilialService filialService;
 
@@ -57,17 +66,14 @@ class FilialServiceTest {
     @DisplayName("Deve retornar todas as filiais")
     void deveRetornarTodasAsFiliais() {
         // Arrange
-        List<Filial> filiais = Arrays.asList(filial);
-        when(filialRepositoryPort.findAll()).thenReturn(filiais);
-        when(filialMapper.toResponseDTO(any(Filial.class))).thenReturn(responseDTO);
+        when(catalogoCache.obter()).thenReturn(Catalogo.de(List.of(), List.of(responseDTO)));
 
         // Act
         List<FilialResponseDTO> resultado = filialService.findAll();
 
         // Assert
-        assertThat(resultado).hasSize(1);
-        verify(filialRepositoryPort).findAll();
-        verify(filialMapper).toResponseDTO(any(Filial.class));
+        assertThat(resultado).containsExactly(responseDTO);
+        verifyNoInteractions(filialRepositoryPort, filialMapper);
     }
 
     @Test
@@ -75,8 +81,7 @@ class FilialServiceTest {
     void deveRetornarFilialPorId() {
         // Arrange
         Integer id = 1;
-        when(filialRepositoryPort.findById(id)).thenReturn(Optional.of(filial));
-        when(filialMapper.toResponseDTO(filial)).thenReturn(responseDTO);
+        when(catalogoCache.obter()).thenReturn(Catalogo.de(List.of(), List.of(responseDTO)));
 
         // Act
         FilialResponseDTO resultado = filialService.findById(id);
@@ -84,8 +89,7 @@ class FilialServiceTest {
         // Assert
         assertThat(resultado).isNotNull();
         assertThat(resultado).isEqualTo(responseDTO);
-        verify(filialRepositoryPort).findById(id);
-        verify(filialMapper).toResponseDTO(filial);
+        verifyNoInteractions(filialRepositoryPort, filialMapper);
     }
 
     @Test
@@ -93,14 +97,13 @@ class FilialServiceTest {
     void deveLancarExcecaoAoBuscarFilialPorIdInexistente() {
         // Arrange
         Integer id = 999;
-        when(filialRepositoryPort.findById(id)).thenReturn(Optional.empty());
+        when(catalogoCache.obter()).thenReturn(Catalogo.de(List.of(), List.of(responseDTO)));
 
         // Act & Assert
         assertThatThrownBy(() -> filialService.findById(id))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Filial não encontrada com ID: " + id);
-        verify(filialRepositoryPort).findById(id);
-        verify(filialMapper, never()).toResponseDTO(any());
+        verifyNoInteractions(filialRepositoryPort, filialMapper);
     }
 
     @Test
@@ -109,7 +112,7 @@ class FilialServiceTest {
         // Arrange
         when(filialMapper.toEntity(requestDTO)).thenReturn(filial);
         when(filialRepositoryPort.save(filial)).thenReturn(filial);
-        when(filialMapper.toResponseDTO(filial)).thenReturn(responseDTO);
+        when(filialMapper.toResponseDTO(filial, 0)).thenReturn(responseDTO);
 
         // Act
         FilialResponseDTO resultado = filialService.create(requestDTO);
@@ -119,7 +122,8 @@ class FilialServiceTest {
         assertThat(resultado).isEqualTo(responseDTO);
         verify(filialMapper).toEntity(requestDTO);
         verify(filialRepositoryPort).save(filial);
-        verify(filialMapper).toResponseDTO(filial);
+        verify(filialMapper).toResponseDTO(filial, 0);
+        verify(catalogoCache).invalidar();
     }
 
     @Test
@@ -130,7 +134,7 @@ class FilialServiceTest {
         when(filialRepositoryPort.findById(id)).thenReturn(Optional.of(filial));
         doNothing().when(filialMapper).updateEntityFromDTO(filial, requestDTO);
         when(filialRepositoryPort.save(filial)).thenReturn(filial);
-        when(filialMapper.toResponseDTO(filial)).thenReturn(responseDTO);
+        when(filialMapper.toResponseDTO(filial, 0)).thenReturn(responseDTO);
 
         // Act
         FilialResponseDTO resultado = filialService.update(id, requestDTO);
@@ -141,7 +145,8 @@ class FilialServiceTest {
         verify(filialRepositoryPort).findById(id);
         verify(filialMapper).updateEntityFromDTO(filial, requestDTO);
         verify(filialRepositoryPort).save(filial);
-        verify(filialMapper).toResponseDTO(filial);
+        verify(filialMapper).toResponseDTO(filial, 0);
+        verify(catalogoCache).invalidar();
     }
 
     @Test
@@ -157,6 +162,7 @@ class FilialServiceTest {
                 .hasMessageContaining("Filial não encontrada com ID: " + id);
         verify(filialRepositoryPort).findById(id);
         verify(filialRepositoryPort, never()).save(any());
+        verify(catalogoCache, never()).invalidar();
     }
 
     @Test
@@ -175,6 +181,7 @@ class FilialServiceTest {
         verify(filialRepositoryPort).findById(id);
         verify(funcionarioRepository).findByFilialId(id);
         verify(filialRepositoryPort).deleteById(id);
+        verify(catalogoCache).invalidar();
     }
 
     @Test
@@ -218,14 +225,13 @@ class FilialServiceTest {
     @DisplayName("Deve retornar lista vazia quando não há filiais")
     void deveRetornarListaVaziaQuandoNaoHaFiliais() {
         // Arrange
-        when(filialRepositoryPort.findAll()).thenReturn(Arrays.asList());
+        when(catalogoCache.obter()).thenReturn(Catalogo.de(List.of(), List.of()));
 
         // Act
         List<FilialResponseDTO> resultado = filialService.findAll();
 
         // Assert
         assertThat(resultado).isEmpty();
-        verify(filialRepositoryPort).findAll();
     }
 
     // Métodos auxiliares
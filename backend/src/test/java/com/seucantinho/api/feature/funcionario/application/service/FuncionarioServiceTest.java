@@ -1,5 +1,6 @@
 package com.seucantinho.api.feature.funcionario.application.service;
 
+import com.seucantinho.api.feature.espaco.domain.port.out.EspacoRepositoryPort;
 import com.seucantinho.api.feature.filial.domain.Filial;
 import com.seucantinho.api.feature.filial.domain.port.out.FilialRepositoryPort;
 import com.seucantinho.api.feature.funcionario.application.dto.FuncionarioRequestDTO;
@@ -19,10 +20,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +37,9 @@ class FuncionarioServiceTest {
     @Mock
     private FilialRepositoryPort filialRepositoryPort;
 
+    @Mock
+    private EspacoRepositoryPort espacoRepositoryPort;
+
     @Mock
     private FuncionarioMapper funcionarioMapper;
 
@@ -85,7 +91,7 @@ class FuncionarioServiceTest {
     void findAll_DeveRetornarListaDeFuncionarios() {
         List<Funcionario> funcionarios = Arrays.asList(funcionario);
         when(funcionarioRepositoryPort.findAll()).thenReturn(funcionarios);
-        when(funcionarioMapper.toResponseDTO(funcionario)).thenReturn(responseDTO);
+        when(funcionarioMapper.toResponseDTO(funcionario, 0)).thenReturn(responseDTO);
 
         List<FuncionarioResponseDTO> result = funcionarioService.findAll();
 
@@ -93,14 +99,36 @@ class FuncionarioServiceTest {
         assertEquals(1, result.size());
         assertEquals("João Silva", result.get(0).getNome());
         verify(funcionarioRepositoryPort).findAll();
-        verify(funcionarioMapper).toResponseDTO(funcionario);
+        verify(funcionarioMapper).toResponseDTO(funcionario, 0);
+    }
+
+    @Test
+    void findAll_DeveContarEspacosDasFiliaisEmUmaUnicaConsulta() {
+        Filial norte = new Filial();
+        norte.setId(2);
+        Funcionario outro = new Funcionario();
+        outro.setId(2);
+        outro.setFilial(norte);
+        Funcionario terceiro = new Funcionario();
+        terceiro.setId(3);
+        terceiro.setFilial(filial);
+        when(funcionarioRepositoryPort.findAll()).thenReturn(List.of(funcionario, outro, terceiro));
+        when(espacoRepositoryPort.countByFilialIds(anyCollection())).thenReturn(Map.of(1, 5));
+
+        funcionarioService.findAll();
+
+        verify(espacoRepositoryPort, times(1)).countByFilialIds(List.of(1, 2, 1));
+        verify(funcionarioMapper).toResponseDTO(funcionario, 5);
+        verify(funcionarioMapper).toResponseDTO(outro, 0);
+        verify(funcionarioMapper).toResponseDTO(terceiro, 5);
+        verify(funcionarioMapper, never()).toResponseDTO(any(Funcionario.class));
     }
 
     @Test
     void findByFilialId_DeveRetornarFuncionariosDaFilial() {
         List<Funcionario> funcionarios = Arrays.asList(funcionario);
         when(funcionarioRepositoryPort.findByFilialId(1)).thenReturn(funcionarios);
-        when(funcionarioMapper.toResponseDTO(funcionario)).thenReturn(responseDTO);
+        when(funcionarioMapper.toResponseDTO(funcionario, 0)).thenReturn(responseDTO);
 
         List<FuncionarioResponseDTO> result = funcionarioService.findByFilialId(1);
 
@@ -112,14 +140,14 @@ class FuncionarioServiceTest {
     @Test
     void findById_QuandoFuncionarioExiste_DeveRetornarFuncionario() {
         when(funcionarioRepositoryPort.findById(1)).thenReturn(Optional.of(funcionario));
-        when(funcionarioMapper.toResponseDTO(funcionario)).thenReturn(responseDTO);
+        when(funcionarioMapper.toResponseDTO(funcionario, 0)).thenReturn(responseDTO);
 
         FuncionarioResponseDTO result = funcionarioService.findById(1);
 
         assertNotNull(result);
         assertEquals("João Silva", result.getNome());
         verify(funcionarioRepositoryPort).findById(1);
-        verify(funcionarioMapper).toResponseDTO(funcionario);
+        verify(funcionarioMapper).toResponseDTO(funcionario, 0);
     }
 
     @Test
@@ -138,7 +166,7 @@ class FuncionarioServiceTest {
         when(filialRepositoryPort.findById(1)).thenReturn(Optional.of(filial));
         when(funcionarioMapper.toEntity(requestDTO)).thenReturn(funcionario);
         when(funcionarioRepositoryPort.save(any(Funcionario.class))).thenReturn(funcionario);
-        when(funcionarioMapper.toResponseDTO(funcionario)).thenReturn(responseDTO);
+        when(funcionarioMapper.toResponseDTO(funcionario, 0)).thenReturn(responseDTO);
 
         FuncionarioResponseDTO result = funcionarioService.create(requestDTO);
 
@@ -168,7 +196,7 @@ class FuncionarioServiceTest {
         when(funcionarioRepositoryPort.findById(1)).thenReturn(Optional.of(funcionario));
         doNothing().when(funcionarioMapper).updateEntityFromDTO(funcionario, requestDTO);
         when(funcionarioRepositoryPort.save(funcionario)).thenReturn(funcionario);
-        when(funcionarioMapper.toResponseDTO(funcionario)).thenReturn(responseDTO);
+        when(funcionarioMapper.toResponseDTO(funcionario, 0)).thenReturn(responseDTO);
 
         FuncionarioResponseDTO result = funcionarioService.update(1, requestDTO);
 
@@ -214,7 +242,7 @@ class FuncionarioServiceTest {
     void toggleAtivo_QuandoFuncionarioExiste_DeveAlterarStatus() {
         when(funcionarioRepositoryPort.findById(1)).thenReturn(Optional.of(funcionario));
         when(funcionarioRepositoryPort.save(funcionario)).thenReturn(funcionario);
-        when(funcionarioMapper.toResponseDTO(funcionario)).thenReturn(responseDTO);
+        when(funcionarioMapper.toResponseDTO(funcionario, 0)).thenReturn(responseDTO);
 
         FuncionarioResponseDTO result = funcionarioService.toggleAtivo(1, false);
 
@@ -241,7 +269,7 @@ class FuncionarioServiceTest {
         when(funcionarioRepositoryPort.findById(1)).thenReturn(Optional.of(funcionario));
         when(filialRepositoryPort.findById(2)).thenReturn(Optional.of(novaFilial));
         when(funcionarioRepositoryPort.save(funcionario)).thenReturn(funcionario);
-        when(funcionarioMapper.toResponseDTO(funcionario)).thenReturn(responseDTO);
+        when(funcionarioMapper.toResponseDTO(funcionario, 0)).thenReturn(responseDTO);
 
         FuncionarioResponseDTO result = funcionarioService.trocarFilial(1, 2);
 
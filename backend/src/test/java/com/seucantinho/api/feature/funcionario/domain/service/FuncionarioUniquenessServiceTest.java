@@ -1,6 +1,5 @@
 package com.seucantinho.api.feature.funcionario.domain.service;
 
-import com.seucantinho.api.feature.funcionario.domain.Funcionario;
 import com.seucantinho.api.feature.funcionario.domain.port.out.FuncionarioRepositoryPort;
 import com.seucantinho.api.feature.usuario.domain.port.out.UsuarioRepositoryPort;
 import com.seucantinho.api.shared.domain.exception.DuplicateResourceException;
@@ -11,8 +10,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -41,118 +38,107 @@ class FuncionarioUniquenessServiceTest {
 
     @Test
     void validarEmailUnico_QuandoEmailNaoExiste_DevePassar() {
-        when(usuarioRepositoryPort.findByEmail(EMAIL_NOVO)).thenReturn(Optional.empty());
+        when(usuarioRepositoryPort.existsByEmail(EMAIL_NOVO)).thenReturn(false);
 
         assertDoesNotThrow(() -> funcionarioUniquenessService.validarEmailUnico(EMAIL_NOVO));
 
-        verify(usuarioRepositoryPort).findByEmail(EMAIL_NOVO);
+        verify(usuarioRepositoryPort).existsByEmail(EMAIL_NOVO);
     }
 
     @Test
     void validarEmailUnico_QuandoEmailJaExiste_DeveLancarExcecao() {
-        Funcionario usuarioExistente = new Funcionario();
-        when(usuarioRepositoryPort.findByEmail(EMAIL_EXISTENTE)).thenReturn(Optional.of(usuarioExistente));
+        when(usuarioRepositoryPort.existsByEmail(EMAIL_EXISTENTE)).thenReturn(true);
 
         DuplicateResourceException exception = assertThrows(DuplicateResourceException.class,
                 () -> funcionarioUniquenessService.validarEmailUnico(EMAIL_EXISTENTE));
 
         assertEquals("Email já cadastrado no sistema", exception.getMessage());
-        verify(usuarioRepositoryPort).findByEmail(EMAIL_EXISTENTE);
+        verify(usuarioRepositoryPort).existsByEmail(EMAIL_EXISTENTE);
     }
 
     @Test
     void validarEmailUnicoParaAtualizacao_QuandoEmailNaoMuda_DevePassar() {
-        Funcionario usuario = new Funcionario();
-        usuario.setId(FUNCIONARIO_ID);
-        when(usuarioRepositoryPort.findByEmail(EMAIL_EXISTENTE)).thenReturn(Optional.of(usuario));
+        when(usuarioRepositoryPort.existsByEmailAndIdNot(EMAIL_EXISTENTE, FUNCIONARIO_ID)).thenReturn(false);
 
         assertDoesNotThrow(() -> funcionarioUniquenessService.validarEmailUnicoParaAtualizacao(
                 EMAIL_EXISTENTE, FUNCIONARIO_ID));
 
-        verify(usuarioRepositoryPort).findByEmail(EMAIL_EXISTENTE);
+        verify(usuarioRepositoryPort).existsByEmailAndIdNot(EMAIL_EXISTENTE, FUNCIONARIO_ID);
     }
 
     @Test
     void validarEmailUnicoParaAtualizacao_QuandoEmailNovoNaoExiste_DevePassar() {
-        when(usuarioRepositoryPort.findByEmail(EMAIL_NOVO)).thenReturn(Optional.empty());
+        when(usuarioRepositoryPort.existsByEmailAndIdNot(EMAIL_NOVO, FUNCIONARIO_ID)).thenReturn(false);
 
         assertDoesNotThrow(() -> funcionarioUniquenessService.validarEmailUnicoParaAtualizacao(
                 EMAIL_NOVO, FUNCIONARIO_ID));
 
-        verify(usuarioRepositoryPort).findByEmail(EMAIL_NOVO);
+        verify(usuarioRepositoryPort).existsByEmailAndIdNot(EMAIL_NOVO, FUNCIONARIO_ID);
     }
 
     @Test
     void validarEmailUnicoParaAtualizacao_QuandoEmailPertenceAOutroUsuario_DeveLancarExcecao() {
-        Funcionario outroUsuario = new Funcionario();
-        outroUsuario.setId(999);
-        when(usuarioRepositoryPort.findByEmail(EMAIL_EXISTENTE)).thenReturn(Optional.of(outroUsuario));
+        when(usuarioRepositoryPort.existsByEmailAndIdNot(EMAIL_EXISTENTE, FUNCIONARIO_ID)).thenReturn(true);
 
         DuplicateResourceException exception = assertThrows(DuplicateResourceException.class,
                 () -> funcionarioUniquenessService.validarEmailUnicoParaAtualizacao(
                         EMAIL_EXISTENTE, FUNCIONARIO_ID));
 
         assertEquals("Email já cadastrado no sistema", exception.getMessage());
-        verify(usuarioRepositoryPort).findByEmail(EMAIL_EXISTENTE);
+        verify(usuarioRepositoryPort).existsByEmailAndIdNot(EMAIL_EXISTENTE, FUNCIONARIO_ID);
     }
 
     @Test
     void validarMatriculaUnica_QuandoMatriculaNaoExiste_DevePassar() {
-        when(funcionarioRepositoryPort.findByMatricula(MATRICULA_NOVA)).thenReturn(Optional.empty());
+        when(funcionarioRepositoryPort.existsByMatricula(MATRICULA_NOVA)).thenReturn(false);
 
         assertDoesNotThrow(() -> funcionarioUniquenessService.validarMatriculaUnica(MATRICULA_NOVA));
 
-        verify(funcionarioRepositoryPort).findByMatricula(MATRICULA_NOVA);
+        verify(funcionarioRepositoryPort).existsByMatricula(MATRICULA_NOVA);
     }
 
     @Test
     void validarMatriculaUnica_QuandoMatriculaJaExiste_DeveLancarExcecao() {
-        Funcionario funcionarioExistente = new Funcionario();
-        when(funcionarioRepositoryPort.findByMatricula(MATRICULA_EXISTENTE))
-                .thenReturn(Optional.of(funcionarioExistente));
+        when(funcionarioRepositoryPort.existsByMatricula(MATRICULA_EXISTENTE)).thenReturn(true);
 
         DuplicateResourceException exception = assertThrows(DuplicateResourceException.class,
                 () -> funcionarioUniquenessService.validarMatriculaUnica(MATRICULA_EXISTENTE));
 
         assertEquals("Matrícula já cadastrada", exception.getMessage());
-        verify(funcionarioRepositoryPort).findByMatricula(MATRICULA_EXISTENTE);
+        verify(funcionarioRepositoryPort).existsByMatricula(MATRICULA_EXISTENTE);
     }
 
     @Test
     void validarMatriculaUnicaParaAtualizacao_QuandoMatriculaNaoMuda_DevePassar() {
-        Funcionario funcionario = new Funcionario();
-        funcionario.setId(FUNCIONARIO_ID);
-        when(funcionarioRepositoryPort.findByMatricula(MATRICULA_EXISTENTE))
-                .thenReturn(Optional.of(funcionario));
+        when(funcionarioRepositoryPort.existsByMatriculaAndIdNot(MATRICULA_EXISTENTE, FUNCIONARIO_ID))
+                .thenReturn(false);
 
         assertDoesNotThrow(() -> funcionarioUniquenessService.validarMatriculaUnicaParaAtualizacao(
                 MATRICULA_EXISTENTE, FUNCIONARIO_ID));
 
-        verify(funcionarioRepositoryPort).findByMatricula(MATRICULA_EXISTENTE);
+        verify(funcionarioRepositoryPort).existsByMatriculaAndIdNot(MATRICULA_EXISTENTE, FUNCIONARIO_ID);
     }
 
     @Test
     void validarMatriculaUnicaParaAtualizacao_QuandoMatriculaNovaNaoExiste_DevePassar() {
-        when(funcionarioRepositoryPort.findByMatricula(MATRICULA_NOVA)).thenReturn(Optional.empty());
+        when(funcionarioRepositoryPort.existsByMatriculaAndIdNot(MATRICULA_NOVA, FUNCIONARIO_ID)).thenReturn(false);
 
         assertDoesNotThrow(() -> funcionarioUniquenessService.validarMatriculaUnicaParaAtualizacao(
                 MATRICULA_NOVA, FUNCIONARIO_ID));
 
-        verify(funcionarioRepositoryPort).findByMatricula(MATRICULA_NOVA);
+        verify(funcionarioRepositoryPort).existsByMatriculaAndIdNot(MATRICULA_NOVA, FUNCIONARIO_ID);
     }
 
     @Test
     void validarMatriculaUnicaParaAtualizacao_QuandoMatriculaPertenceAOutroFuncionario_DeveLancarExcecao() {
-        Funcionario outroFuncionario = new Funcionario();
-        outroFuncionario.setId(999);
-        when(funcionarioRepositoryPort.findByMatricula(MATRICULA_EXISTENTE))
-                .thenReturn(Optional.of(outroFuncionario));
+        when(funcionarioRepositoryPort.existsByMatriculaAndIdNot(MATRICULA_EXISTENTE, FUNCIONARIO_ID))
+                .thenReturn(true);
 
         DuplicateResourceException exception = assertThrows(DuplicateResourceException.class,
                 () -> funcionarioUniquenessService.validarMatriculaUnicaParaAtualizacao(
                         MATRICULA_EXISTENTE, FUNCIONARIO_ID));
 
         assertEquals("Matrícula já cadastrada", exception.getMessage());
-        verify(funcionarioRepositoryPort).findByMatricula(MATRICULA_EXISTENTE);
+        verify(funcionarioRepositoryPort).existsByMatriculaAndIdNot(MATRICULA_EXISTENTE, FUNCIONARIO_ID);
     }
 }
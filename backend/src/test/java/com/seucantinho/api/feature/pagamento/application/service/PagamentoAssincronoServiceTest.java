@@ -0,0 +1,342 @@
+package com.seucantinho.api.feature.pagamento.application.service;
+
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoRequestDTO;
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoResponseDTO;
+import com.seucantinho.api.feature.pagamento.application.dto.SolicitacaoPagamentoDTO;
+import com.seucantinho.api.feature.pagamento.domain.enums.StatusSolicitacaoPagamentoEnum;
+import com.seucantinho.api.feature.pagamento.domain.enums.TipoPagamentoEnum;
+import com.seucantinho.api.feature.pagamento.domain.port.in.PagamentoServicePort;
+import com.seucantinho.api.feature.pagamento.domain.port.out.PagamentoGatewayPort;
+import com.seucantinho.api.feature.pagamento.domain.port.out.SolicitacaoPagamentoRepositoryPort;
+import com.seucantinho.api.feature.pagamento.domain.valueobject.AutorizacaoGateway;
+import com.seucantinho.api.feature.pagamento.infrastructure.cache.SolicitacaoPagamentoCache;
+import com.seucantinho.api.shared.domain.exception.BusinessException;
+import com.seucantinho.api.shared.domain.exception.ResourceNotFoundException;
+import com.seucantinho.api.shared.domain.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do PagamentoAssincronoService")
+class PagamentoAssincronoServiceTest {
+
+    @Mock
+    private PagamentoServicePort pagamentoServicePort;
+
+    @Mock
+    private PagamentoIdempotenciaService pagamentoIdempotenciaService;
+
+    @Mock
+    private PagamentoGatewayPort pagamentoGatewayPort;
+
+    @Mock
+    private SolicitacaoPagamentoRepositoryPort solicitacaoPagamentoRepositoryPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SolicitacaoPagamentoCache cache;
+    private PagamentoRequestDTO requestDTO;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new SolicitacaoPagamentoCache(100);
+        requestDTO = PagamentoRequestDTO.builder()
+                .reservaId(1)
+                .valor(new BigDecimal("150.00"))
+                .tipo(TipoPagamentoEnum.SINAL)
+                .formaPagamento("CARTAO")
+                .build();
+        lenient().when(solicitacaoPagamentoRepositoryPort.inserir(any(SolicitacaoPagamentoDTO.class), any()))
+                .thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Deve registrar o pagamento com o código do gateway quando a cobrança é aprovada")
+    void deveRegistrarPagamentoQuandoGatewayAprova() {
+        // Arrange
+        PagamentoAssincronoService service = criarService(Runnable::run);
+        when(pagamentoGatewayPort.autorizar(anyString(), eq(requestDTO))).thenReturn(AutorizacaoGateway.aprovada("GW-1"));
+        when(pagamentoIdempotenciaService.registrar(any(PagamentoRequestDTO.class), eq("chave-1")))
+                .thenReturn(PagamentoResponseDTO.builder().id(7).codigoTransacaoGateway("GW-1").build());
+
+        // Act
+        SolicitacaoPagamentoDTO solicitacao = service.solicitar(requestDTO, "chave-1");
+
+        // Assert
+        SolicitacaoPagamentoDTO concluida = service.consultar(solicitacao.getProtocolo());
+        assertThat(concluida.getStatus()).isEqualTo(StatusSolicitacaoPagamentoEnum.CONFIRMADO);
+        assertThat(concluida.getPagamentoId()).isEqualTo(7);
+        assertThat(concluida.getCodigoTransacaoGateway()).isEqualTo("GW-1");
+
+        ArgumentCaptor<PagamentoRequestDTO> registrado = ArgumentCaptor.forClass(PagamentoRequestDTO.class);
+        verify(pagamentoIdempotenciaService).registrar(registrado.capture(), eq("chave-1"));
+        assertThat(registrado.getValue().getCodigoTransacaoGateway()).isEqualTo("GW-1");
+        assertThat(registrado.getValue().getValor()).isEqualByComparingTo("150.00");
+        assertThat(meterRegistry.get("pagamento.assincrono.solicitacoes").tag("status", "CONFIRMADO").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve gravar a solicitação antes de ir ao gateway e gravar cada mudança de situação")
+    void deveGravarSolicitacaoAntesDoGateway() {
+        // Arrange
+        PagamentoAssincronoService service = criarService(Runnable::run);
+        when(pagamentoGatewayPort.autorizar(anyString(), eq(requestDTO))).thenReturn(AutorizacaoGateway.aprovada("GW-1"));
+        when(pagamentoIdempotenciaService.registrar(any(PagamentoRequestDTO.class), eq("chave-1")))
+                .thenReturn(PagamentoResponseDTO.builder().id(7).codigoTransacaoGateway("GW-1").build());
+
+        // Act
+        SolicitacaoPagamentoDTO solicitacao = service.solicitar(requestDTO, "chave-1");
+
+        // Assert
+        String protocolo = solicitacao.getProtocolo();
+        InOrder ordem = inOrder(solicitacaoPagamentoRepositoryPort, pagamentoGatewayPort);
+        ordem.verify(solicitacaoPagamentoRepositoryPort).inserir(argThat(gravada ->
+                gravada.getStatus() == StatusSolicitacaoPagamentoEnum.PENDENTE
+                        && "CARTAO".equals(gravada.getFormaPagamento())), eq("chave-1"));
+        ordem.verify(solicitacaoPagamentoRepositoryPort).atualizarSituacao(eq(protocolo),
+                eq(StatusSolicitacaoPagamentoEnum.PROCESSANDO), isNull(), isNull(), isNull(), any(LocalDateTime.class));
+        ordem.verify(pagamentoGatewayPort).autorizar(protocolo, requestDTO);
+        ordem.verify(solicitacaoPagamentoRepositoryPort).atualizarSituacao(eq(protocolo),
+                eq(StatusSolicitacaoPagamentoEnum.CONFIRMADO), eq(7), eq("GW-1"), isNull(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Deve devolver a solicitação gravada quando a chave já existe no banco, sem cobrar de novo")
+    void deveDevolverSolicitacaoGravadaQuandoChaveJaExiste() {
+        // Arrange
+        PagamentoAssincronoService service = criarService(Runnable::run);
+        SolicitacaoPagamentoDTO gravada = SolicitacaoPagamentoDTO.builder()
+                .protocolo("protocolo-anterior")
+                .status(StatusSolicitacaoPagamentoEnum.CONFIRMADO)
+                .build();
+        when(solicitacaoPagamentoRepositoryPort.inserir(any(SolicitacaoPagamentoDTO.class), eq("chave-1"))).thenReturn(false);
+        when(solicitacaoPagamentoRepositoryPort.findByChaveIdempotencia("chave-1")).thenReturn(Optional.of(gravada));
+
+        // Act
+        SolicitacaoPagamentoDTO resultado = service.solicitar(requestDTO, "chave-1");
+
+        // Assert
+        assertThat(resultado).isSameAs(gravada);
+        assertThat(cache.tamanho()).isZero();
+        verifyNoInteractions(pagamentoServicePort, pagamentoGatewayPort, pagamentoIdempotenciaService);
+    }
+
+    @Test
+    @DisplayName("Deve consultar a tabela quando a solicitação não está mais no cache")
+    void deveConsultarTabelaQuandoForaDoCache() {
+        // Arrange
+        PagamentoAssincronoService service = criarService(Runnable::run);
+        SolicitacaoPagamentoDTO gravada = SolicitacaoPagamentoDTO.builder()
+                .protocolo("protocolo-antigo")
+                .status(StatusSolicitacaoPagamentoEnum.RECUSADO)
+                .build();
+        when(solicitacaoPagamentoRepositoryPort.findByProtocolo("protocolo-antigo")).thenReturn(Optional.of(gravada));
+
+        // Act
+        SolicitacaoPagamentoDTO resultado = service.consultar("protocolo-antigo");
+
+        // Assert
+        assertThat(resultado).isSameAs(gravada);
+    }
+
+    @Test
+    @DisplayName("Deve recusar a solicitação sem registrar pagamento quando o gateway recusa")
+    void deveRecusarQuandoGatewayRecusa() {
+        // Arrange
+        PagamentoAssincronoService service = criarService(Runnable::run);
+        when(pagamentoGatewayPort.autorizar(anyString(), eq(requestDTO)))
+                .thenReturn(AutorizacaoGateway.recusada("Saldo insuficiente"));
+
+        // Act
+        SolicitacaoPagamentoDTO solicitacao = service.solicitar(requestDTO, null);
+
+        // Assert
+        SolicitacaoPagamentoDTO concluida = service.consultar(solicitacao.getProtocolo());
+        assertThat(concluida.getStatus()).isEqualTo(StatusSolicitacaoPagamentoEnum.RECUSADO);
+        assertThat(concluida.getMensagem()).isEqualTo("Saldo insuficiente");
+        verifyNoInteractions(pagamentoIdempotenciaService);
+    }
+
+    @Test
+    @DisplayName("Deve recusar sem cobrar no gateway quando o pagamento viola as regras da reserva")
+    void deveRecusarSemCobrarQuandoPagamentoViolaRegras() {
+        // Arrange
+        PagamentoAssincronoService service = criarService(Runnable::run);
+        doThrow(new IllegalArgumentException("Pagamento SINAL só pode ser feito na criação da reserva"))
+                .when(pagamentoServicePort).validar(requestDTO);
+
+        // Act
+        SolicitacaoPagamentoDTO solicitacao = service.solicitar(requestDTO, null);
+
+        // Assert
+        SolicitacaoPagamentoDTO concluida = service.consultar(solicitacao.getProtocolo());
+        assertThat(concluida.getStatus()).isEqualTo(StatusSolicitacaoPagamentoEnum.RECUSADO);
+        assertThat(concluida.getMensagem()).isEqualTo("Pagamento SINAL só pode ser feito na criação da reserva");
+        verifyNoInteractions(pagamentoGatewayPort, pagamentoIdempotenciaService);
+    }
+
+    @Test
+    @DisplayName("Deve estornar a cobrança aprovada quando o registro falha por mudança na reserva")
+    void deveEstornarQuandoRegistroFalhaAposAprovacao() {
+        // Arrange
+        PagamentoAssincronoService service = criarService(Runnable::run);
+        when(pagamentoGatewayPort.autorizar(anyString(), eq(requestDTO))).thenReturn(AutorizacaoGateway.aprovada("GW-1"));
+        when(pagamentoIdempotenciaService.registrar(any(PagamentoRequestDTO.class), any()))
+                .thenThrow(new BusinessException("Reserva já está quitada"));
+
+        // Act
+        SolicitacaoPagamentoDTO solicitacao = service.solicitar(requestDTO, null);
+
+        // Assert
+        SolicitacaoPagamentoDTO concluida = service.consultar(solicitacao.getProtocolo());
+        assertThat(concluida.getStatus()).isEqualTo(StatusSolicitacaoPagamentoEnum.ESTORNADO);
+        assertThat(concluida.getCodigoTransacaoGateway()).isEqualTo("GW-1");
+        assertThat(concluida.getMensagem()).startsWith("Reserva já está quitada");
+        verify(pagamentoGatewayPort).estornar(solicitacao.getProtocolo(), "GW-1");
+        assertThat(meterRegistry.get("pagamento.assincrono.solicitacoes").tag("status", "ESTORNADO").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve marcar o estorno como pendente quando o gateway não confirma a devolução")
+    void deveMarcarEstornoPendenteQuandoEstornoFalha() {
+        // Arrange
+        PagamentoAssincronoService service = criarService(Runnable::run);
+        when(pagamentoGatewayPort.autorizar(anyString(), eq(requestDTO))).thenReturn(AutorizacaoGateway.aprovada("GW-1"));
+        when(pagamentoIdempotenciaService.registrar(any(PagamentoRequestDTO.class), any()))
+                .thenThrow(new IllegalStateException("Conexão com o banco perdida"));
+        doThrow(new IllegalStateException("Gateway de pagamento indisponível"))
+                .when(pagamentoGatewayPort).estornar(anyString(), eq("GW-1"));
+
+        // Act
+        SolicitacaoPagamentoDTO solicitacao = service.solicitar(requestDTO, null);
+
+        // Assert
+        SolicitacaoPagamentoDTO concluida = service.consultar(solicitacao.getProtocolo());
+        assertThat(concluida.getStatus()).isEqualTo(StatusSolicitacaoPagamentoEnum.ESTORNO_PENDENTE);
+        assertThat(concluida.getCodigoTransacaoGateway()).isEqualTo("GW-1");
+    }
+
+    @Test
+    @DisplayName("Deve marcar falha quando o gateway está indisponível")
+    void deveMarcarFalhaQuandoGatewayIndisponivel() {
+        // Arrange
+        PagamentoAssincronoService service = criarService(Runnable::run);
+        when(pagamentoGatewayPort.autorizar(anyString(), eq(requestDTO)))
+                .thenThrow(new IllegalStateException("Gateway de pagamento indisponível"));
+
+        // Act
+        SolicitacaoPagamentoDTO solicitacao = service.solicitar(requestDTO, null);
+
+        // Assert
+        assertThat(service.consultar(solicitacao.getProtocolo()).getStatus()).isEqualTo(StatusSolicitacaoPagamentoEnum.FALHA);
+        verifyNoInteractions(pagamentoIdempotenciaService);
+    }
+
+    @Test
+    @DisplayName("Deve devolver a mesma solicitação para reenvios com a mesma chave, sem cobrar de novo")
+    void deveDevolverMesmaSolicitacaoParaReenvio() {
+        // Arrange
+        PagamentoAssincronoService service = criarService(Runnable::run);
+        when(pagamentoGatewayPort.autorizar(anyString(), eq(requestDTO))).thenReturn(AutorizacaoGateway.aprovada("GW-1"));
+        when(pagamentoIdempotenciaService.registrar(any(PagamentoRequestDTO.class), eq("chave-1")))
+                .thenReturn(PagamentoResponseDTO.builder().id(7).codigoTransacaoGateway("GW-1").build());
+
+        // Act
+        SolicitacaoPagamentoDTO primeira = service.solicitar(requestDTO, "chave-1");
+        SolicitacaoPagamentoDTO reenvio = service.solicitar(requestDTO, "chave-1");
+
+        // Assert
+        assertThat(reenvio.getProtocolo()).isEqualTo(primeira.getProtocolo());
+        assertThat(reenvio.getStatus()).isEqualTo(StatusSolicitacaoPagamentoEnum.CONFIRMADO);
+        verify(pagamentoGatewayPort, times(1)).autorizar(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 e descartar a solicitação quando a fila está cheia")
+    void deveRecusarQuandoFilaCheia() {
+        // Arrange
+        PagamentoAssincronoService service = criarService(tarefa -> {
+            throw new RejectedExecutionException();
+        });
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.solicitar(requestDTO, "chave-1"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessage("Fila de pagamentos cheia, tente novamente em instantes");
+        assertThat(cache.tamanho()).isZero();
+        verify(solicitacaoPagamentoRepositoryPort).deleteByProtocolo(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve responder antes de o gateway concluir a cobrança")
+    void deveResponderAntesDoGatewayConcluir() throws Exception {
+        // Arrange
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(10));
+        PagamentoAssincronoService service = criarService(executor);
+        CountDownLatch gatewayLiberado = new CountDownLatch(1);
+        when(pagamentoGatewayPort.autorizar(anyString(), eq(requestDTO))).thenAnswer(invocation -> {
+            gatewayLiberado.await(10, TimeUnit.SECONDS);
+            return AutorizacaoGateway.recusada("Saldo insuficiente");
+        });
+
+        try {
+            // Act
+            SolicitacaoPagamentoDTO solicitacao = service.solicitar(requestDTO, null);
+
+            // Assert
+            assertThat(solicitacao.getStatus()).isEqualTo(StatusSolicitacaoPagamentoEnum.PENDENTE);
+            assertThat(service.consultar(solicitacao.getProtocolo()).getStatus())
+                    .isIn(StatusSolicitacaoPagamentoEnum.PENDENTE, StatusSolicitacaoPagamentoEnum.PROCESSANDO);
+
+            gatewayLiberado.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(service.consultar(solicitacao.getProtocolo()).getStatus())
+                    .isEqualTo(StatusSolicitacaoPagamentoEnum.RECUSADO);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao consultar protocolo desconhecido")
+    void deveLancarExcecaoParaProtocoloDesconhecido() {
+        // Arrange
+        PagamentoAssincronoService service = criarService(Runnable::run);
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.consultar("inexistente"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Solicitação de pagamento não encontrada: inexistente");
+    }
+
+    private PagamentoAssincronoService criarService(Executor executor) {
+        return new PagamentoAssincronoService(pagamentoServicePort, pagamentoIdempotenciaService, pagamentoGatewayPort, cache,
+                solicitacaoPagamentoRepositoryPort, executor, meterRegistry);
+    }
+}
@@ -0,0 +1,238 @@
+package com.seucantinho.api.feature.pagamento.application.service;
+
+import com.seucantinho.api.feature.espaco.domain.Espaco;
+import com.seucantinho.api.feature.espaco.domain.valueobject.Capacidade;
+import com.seucantinho.api.feature.pagamento.application.dto.ConciliacaoDivergenciaDTO;
+import com.seucantinho.api.feature.pagamento.application.dto.ConciliacaoRelatorioDTO;
+import com.seucantinho.api.feature.pagamento.domain.Pagamento;
+import com.seucantinho.api.feature.pagamento.domain.enums.MotivoDivergenciaConciliacaoEnum;
+import com.seucantinho.api.feature.pagamento.domain.enums.TipoPagamentoEnum;
+import com.seucantinho.api.feature.pagamento.domain.port.out.PagamentoRepositoryPort;
+import com.seucantinho.api.feature.pagamento.domain.valueobject.LinhaConciliacao;
+import com.seucantinho.api.feature.reserva.application.service.ReservaStatusService;
+import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import com.seucantinho.api.feature.reserva.domain.port.out.ReservaRepositoryPort;
+import com.seucantinho.api.feature.reserva.domain.strategy.impl.QuitacaoStatusTransitionStrategy;
+import com.seucantinho.api.feature.reserva.domain.strategy.impl.SinalStatusTransitionStrategy;
+import com.seucantinho.api.feature.reserva.domain.strategy.impl.TotalStatusTransitionStrategy;
+import com.seucantinho.api.feature.reserva.domain.valueobject.DataEvento;
+import com.seucantinho.api.shared.domain.valueobject.ValorMonetario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do PagamentoConciliacaoLoteService")
+class PagamentoConciliacaoLoteServiceTest {
+
+    @Mock
+    private PagamentoRepositoryPort pagamentoRepositoryPort;
+
+    @Mock
+    private ReservaRepositoryPort reservaRepositoryPort;
+
+    private PagamentoConciliacaoLoteService service;
+
+    @BeforeEach
+    void setUp() {
+        ReservaStatusService reservaStatusService = new ReservaStatusService(List.of(
+                new SinalStatusTransitionStrategy(),
+                new QuitacaoStatusTransitionStrategy(),
+                new TotalStatusTransitionStrategy()));
+        service = new PagamentoConciliacaoLoteService(pagamentoRepositoryPort, reservaRepositoryPort, reservaStatusService);
+    }
+
+    @Test
+    @DisplayName("Deve conciliar pagamentos já registrados sem gravar nada")
+    void deveConciliarPagamentosJaRegistrados() {
+        // Arrange
+        Reserva reserva = criarReserva(1);
+        when(pagamentoRepositoryPort.findByCodigosTransacaoGateway(Set.of("TX-1")))
+                .thenReturn(List.of(pagamento(reserva, "TX-1", TipoPagamentoEnum.SINAL, "150.00")));
+
+        // Act
+        ConciliacaoRelatorioDTO relatorio = service.conciliar(List.of(LinhaConciliacao.parse(1, "TX-1;1;SINAL;150.00")), new HashSet<>());
+
+        // Assert
+        assertThat(relatorio.getConciliados()).isEqualTo(1);
+        assertThat(relatorio.getInseridos()).isZero();
+        assertThat(relatorio.getDivergencias()).isEmpty();
+        verify(reservaRepositoryPort, never()).findDesanexadasComPagamentos(any());
+        verify(pagamentoRepositoryPort, never()).inserirEmLote(any());
+    }
+
+    @Test
+    @DisplayName("Deve apontar divergência de valor, tipo e reserva dos pagamentos registrados")
+    void deveApontarDivergenciasDePagamentosRegistrados() {
+        // Arrange
+        Reserva reserva = criarReserva(1);
+        when(pagamentoRepositoryPort.findByCodigosTransacaoGateway(any())).thenReturn(List.of(
+                pagamento(reserva, "TX-1", TipoPagamentoEnum.SINAL, "150.00"),
+                pagamento(reserva, "TX-2", TipoPagamentoEnum.SINAL, "150.00"),
+                pagamento(reserva, "TX-3", TipoPagamentoEnum.SINAL, "150.00")));
+
+        // Act
+        ConciliacaoRelatorioDTO relatorio = service.conciliar(List.of(
+                LinhaConciliacao.parse(1, "TX-1;1;SINAL;149.90"),
+                LinhaConciliacao.parse(2, "TX-2;1;TOTAL;150.00"),
+                LinhaConciliacao.parse(3, "TX-3;9;SINAL;150.00")), new HashSet<>());
+
+        // Assert
+        assertThat(relatorio.getDivergentes()).isEqualTo(3);
+        assertThat(relatorio.getDivergencias()).extracting(ConciliacaoDivergenciaDTO::getMotivo).containsExactly(
+                MotivoDivergenciaConciliacaoEnum.VALOR_DIVERGENTE,
+                MotivoDivergenciaConciliacaoEnum.TIPO_DIVERGENTE,
+                MotivoDivergenciaConciliacaoEnum.RESERVA_DIVERGENTE);
+    }
+
+    @Test
+    @DisplayName("Deve inserir pagamentos ausentes em lote e gravar o novo status com checagem de versão")
+    @SuppressWarnings("unchecked")
+    void deveInserirPagamentosAusentesEGravarStatusComVersao() {
+        // Arrange
+        Reserva primeira = criarReserva(1);
+        Reserva segunda = criarReserva(2);
+        Reserva terceira = criarReserva(3);
+        when(pagamentoRepositoryPort.findByCodigosTransacaoGateway(any())).thenReturn(List.of());
+        when(reservaRepositoryPort.findDesanexadasComPagamentos(Set.of(1, 2, 3)))
+                .thenReturn(List.of(primeira, segunda, terceira));
+        when(reservaRepositoryPort.updateStatusComVersaoEmLote(any())).thenReturn(new boolean[]{true, true, true});
+
+        // Act
+        ConciliacaoRelatorioDTO relatorio = service.conciliar(List.of(
+                LinhaConciliacao.parse(1, "TX-1;1;SINAL;150.00"),
+                LinhaConciliacao.parse(2, "TX-2;2;SINAL;150.00"),
+                LinhaConciliacao.parse(3, "TX-3;3;TOTAL;300.00"),
+                LinhaConciliacao.parse(4, "TX-4;1;QUITACAO;150.00")), new HashSet<>());
+
+        // Assert
+        assertThat(relatorio.getInseridos()).isEqualTo(4);
+        assertThat(relatorio.getDivergencias()).isEmpty();
+
+        ArgumentCaptor<List<Reserva>> gravadas = ArgumentCaptor.forClass(List.class);
+        verify(reservaRepositoryPort, times(1)).updateStatusComVersaoEmLote(gravadas.capture());
+        assertThat(gravadas.getValue()).extracting(Reserva::getId, Reserva::getStatus).containsExactly(
+                tuple(1, StatusReservaEnum.QUITADA),
+                tuple(2, StatusReservaEnum.CONFIRMADA),
+                tuple(3, StatusReservaEnum.QUITADA));
+
+        ArgumentCaptor<List<Pagamento>> inseridos = ArgumentCaptor.forClass(List.class);
+        verify(pagamentoRepositoryPort, times(1)).inserirEmLote(inseridos.capture());
+        assertThat(inseridos.getValue()).extracting(Pagamento::getCodigoTransacaoGateway)
+                .containsExactly("TX-1", "TX-2", "TX-3", "TX-4");
+        verify(reservaRepositoryPort).recalcularTotalPago(Set.of(1, 2, 3));
+        verify(reservaRepositoryPort, never()).updateStatusEmLote(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve descartar e apontar como divergentes as linhas de reservas alteradas durante a conciliação")
+    @SuppressWarnings("unchecked")
+    void deveDescartarLinhasDeReservasAlteradasConcorrentemente() {
+        // Arrange
+        Reserva primeira = criarReserva(1);
+        Reserva segunda = criarReserva(2);
+        when(pagamentoRepositoryPort.findByCodigosTransacaoGateway(any())).thenReturn(List.of());
+        when(reservaRepositoryPort.findDesanexadasComPagamentos(Set.of(1, 2))).thenReturn(List.of(primeira, segunda));
+        when(reservaRepositoryPort.updateStatusComVersaoEmLote(any())).thenReturn(new boolean[]{false, true});
+
+        // Act
+        ConciliacaoRelatorioDTO relatorio = service.conciliar(List.of(
+                LinhaConciliacao.parse(1, "TX-1;1;SINAL;150.00"),
+                LinhaConciliacao.parse(2, "TX-2;2;SINAL;150.00"),
+                LinhaConciliacao.parse(3, "TX-3;1;QUITACAO;150.00")), new HashSet<>());
+
+        // Assert
+        assertThat(relatorio.getInseridos()).isEqualTo(1);
+        assertThat(relatorio.getDivergencias()).extracting(ConciliacaoDivergenciaDTO::getLinha).containsExactly(1, 3);
+        assertThat(relatorio.getDivergencias()).extracting(ConciliacaoDivergenciaDTO::getMotivo)
+                .containsOnly(MotivoDivergenciaConciliacaoEnum.RESERVA_ALTERADA);
+
+        ArgumentCaptor<List<Pagamento>> inseridos = ArgumentCaptor.forClass(List.class);
+        verify(pagamentoRepositoryPort).inserirEmLote(inseridos.capture());
+        assertThat(inseridos.getValue()).extracting(Pagamento::getCodigoTransacaoGateway).containsExactly("TX-2");
+        verify(reservaRepositoryPort).recalcularTotalPago(Set.of(2));
+    }
+
+    @Test
+    @DisplayName("Deve recusar linhas repetidas, de reservas inexistentes ou que violam as regras de pagamento")
+    void deveRecusarLinhasInvalidasParaODominio() {
+        // Arrange
+        Reserva reserva = criarReserva(1);
+        when(pagamentoRepositoryPort.findByCodigosTransacaoGateway(any())).thenReturn(List.of());
+        when(reservaRepositoryPort.findDesanexadasComPagamentos(Set.of(1, 2))).thenReturn(List.of(reserva));
+
+        // Act
+        ConciliacaoRelatorioDTO relatorio = service.conciliar(List.of(
+                LinhaConciliacao.parse(1, "TX-1;1;SINAL;100.00"),
+                LinhaConciliacao.parse(2, "TX-1;1;SINAL;150.00"),
+                LinhaConciliacao.parse(3, "TX-2;2;SINAL;150.00")), new HashSet<>());
+
+        // Assert
+        assertThat(relatorio.getInseridos()).isZero();
+        assertThat(relatorio.getDivergencias()).extracting(ConciliacaoDivergenciaDTO::getMotivo).containsExactly(
+                MotivoDivergenciaConciliacaoEnum.DUPLICADA_NO_ARQUIVO,
+                MotivoDivergenciaConciliacaoEnum.PAGAMENTO_RECUSADO,
+                MotivoDivergenciaConciliacaoEnum.RESERVA_NAO_ENCONTRADA);
+        assertThat(reserva.getStatus()).isEqualTo(StatusReservaEnum.AGUARDANDO_SINAL);
+        verify(reservaRepositoryPort).updateStatusComVersaoEmLote(List.of());
+    }
+
+    @Test
+    @DisplayName("Deve recusar como repetido o código já lido em um lote anterior do arquivo")
+    void deveRecusarCodigoLidoEmLoteAnterior() {
+        // Arrange
+        when(pagamentoRepositoryPort.findByCodigosTransacaoGateway(any())).thenReturn(List.of());
+        Set<String> codigosJaVistos = new HashSet<>(Set.of("TX-1"));
+
+        // Act
+        ConciliacaoRelatorioDTO relatorio = service.conciliar(
+                List.of(LinhaConciliacao.parse(1001, "TX-1;1;SINAL;150.00")), codigosJaVistos);
+
+        // Assert
+        assertThat(relatorio.getDivergencias()).extracting(ConciliacaoDivergenciaDTO::getMotivo)
+                .containsExactly(MotivoDivergenciaConciliacaoEnum.DUPLICADA_NO_ARQUIVO);
+        verify(reservaRepositoryPort, never()).findDesanexadasComPagamentos(any());
+    }
+
+    private Reserva criarReserva(int id) {
+        Espaco espaco = Espaco.builder()
+                .id(1)
+                .nome("Salão de Eventos")
+                .capacidade(Capacidade.of(50))
+                .precoDiaria(ValorMonetario.of("300.00"))
+                .ativo(true)
+                .build();
+        return Reserva.builder()
+                .id(id)
+                .espaco(espaco)
+                .dataEvento(DataEvento.of(LocalDate.now().plusDays(10)))
+                .valorTotal(ValorMonetario.of("300.00"))
+                .status(StatusReservaEnum.AGUARDANDO_SINAL)
+                .pagamentos(new ArrayList<>())
+                .build();
+    }
+
+    private Pagamento pagamento(Reserva reserva, String codigo, TipoPagamentoEnum tipo, String valor) {
+        return Pagamento.builder()
+                .reserva(reserva)
+                .codigoTransacaoGateway(codigo)
+                .tipo(tipo)
+                .valor(ValorMonetario.of(valor))
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.seucantinho.api.feature.pagamento.application.service;
+
+import com.seucantinho.api.feature.pagamento.application.dto.ConciliacaoDivergenciaDTO;
+import com.seucantinho.api.feature.pagamento.application.dto.ConciliacaoRelatorioDTO;
+import com.seucantinho.api.feature.pagamento.domain.enums.MotivoDivergenciaConciliacaoEnum;
+import com.seucantinho.api.feature.pagamento.domain.valueobject.LinhaConciliacao;
+import com.seucantinho.api.feature.pagamento.infrastructure.config.PagamentoConciliacaoConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do PagamentoConciliacaoService")
+class PagamentoConciliacaoServiceTest {
+
+    @Mock
+    private PagamentoConciliacaoLoteService pagamentoConciliacaoLoteService;
+
+    @Test
+    @DisplayName("Deve conciliar o arquivo em lotes de tamanho fixo, ignorando cabeçalho e linhas em branco")
+    void deveConciliarArquivoEmLotes() {
+        // Arrange
+        PagamentoConciliacaoService service = new PagamentoConciliacaoService(
+                pagamentoConciliacaoLoteService, new PagamentoConciliacaoConfig(2, 10));
+        List<Integer> tamanhosDosLotes = new ArrayList<>();
+        when(pagamentoConciliacaoLoteService.conciliar(anyList(), anySet())).thenAnswer(invocation -> {
+            List<LinhaConciliacao> lote = invocation.getArgument(0);
+            tamanhosDosLotes.add(lote.size());
+            return ConciliacaoRelatorioDTO.builder()
+                    .linhasProcessadas(lote.size())
+                    .conciliados(lote.size())
+                    .divergencias(new ArrayList<>())
+                    .build();
+        });
+        String arquivo = "codigo_transacao;reserva_id;tipo;valor;forma_pagamento\n" +
+                "TX-1;1;SINAL;150.00;PIX\n" +
+                "\n" +
+                "TX-2;2;SINAL;150.00;PIX\n" +
+                "TX-3;3;TOTAL;300.00;PIX\n";
+
+        // Act
+        ConciliacaoRelatorioDTO relatorio = service.importar(stream(arquivo));
+
+        // Assert
+        assertThat(tamanhosDosLotes).containsExactly(2, 1);
+        assertThat(relatorio.getLinhasProcessadas()).isEqualTo(3);
+        assertThat(relatorio.getConciliados()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve contar todas as linhas inválidas mas detalhar apenas até o limite configurado")
+    void deveLimitarDivergenciasDetalhadas() {
+        // Arrange
+        PagamentoConciliacaoService service = new PagamentoConciliacaoService(
+                pagamentoConciliacaoLoteService, new PagamentoConciliacaoConfig(100, 3));
+        StringBuilder arquivo = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            arquivo.append("linha-invalida\n");
+        }
+
+        // Act
+        ConciliacaoRelatorioDTO relatorio = service.importar(stream(arquivo.toString()));
+
+        // Assert
+        assertThat(relatorio.getLinhasProcessadas()).isEqualTo(10_000);
+        assertThat(relatorio.getDivergentes()).isEqualTo(10_000);
+        assertThat(relatorio.getDivergencias()).hasSize(3)
+                .extracting(ConciliacaoDivergenciaDTO::getMotivo)
+                .containsOnly(MotivoDivergenciaConciliacaoEnum.LINHA_INVALIDA);
+        assertThat(relatorio.getDivergencias()).extracting(ConciliacaoDivergenciaDTO::getLinha).containsExactly(1, 2, 3);
+        assertThat(relatorio.isDivergenciasTruncadas()).isTrue();
+        verifyNoInteractions(pagamentoConciliacaoLoteService);
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar os códigos já lidos entre os lotes do mesmo arquivo")
+    void deveCompartilharCodigosEntreLotes() {
+        // Arrange
+        PagamentoConciliacaoService service = new PagamentoConciliacaoService(
+                pagamentoConciliacaoLoteService, new PagamentoConciliacaoConfig(1, 10));
+        List<Set<String>> conjuntos = new ArrayList<>();
+        when(pagamentoConciliacaoLoteService.conciliar(anyList(), anySet())).thenAnswer(invocation -> {
+            List<LinhaConciliacao> lote = invocation.getArgument(0);
+            Set<String> codigosJaVistos = invocation.getArgument(1);
+            conjuntos.add(codigosJaVistos);
+            codigosJaVistos.add(lote.get(0).getCodigoTransacaoGateway());
+            return ConciliacaoRelatorioDTO.builder().linhasProcessadas(1).divergencias(new ArrayList<>()).build();
+        });
+
+        // Act
+        service.importar(stream("TX-1;1;SINAL;150.00\nTX-1;1;SINAL;150.00\n"));
+
+        // Assert
+        assertThat(conjuntos).hasSize(2);
+        assertThat(conjuntos.get(1)).isSameAs(conjuntos.get(0)).containsExactly("TX-1");
+    }
+
+    @Test
+    @DisplayName("Deve registrar as linhas do lote que falhou e continuar com os lotes seguintes")
+    void deveContinuarAposFalhaDeUmLote() {
+        // Arrange
+        PagamentoConciliacaoService service = new PagamentoConciliacaoService(
+                pagamentoConciliacaoLoteService, new PagamentoConciliacaoConfig(2, 10));
+        when(pagamentoConciliacaoLoteService.conciliar(anyList(), anySet()))
+                .thenThrow(new IllegalStateException("conexão perdida"))
+                .thenReturn(ConciliacaoRelatorioDTO.builder()
+                        .linhasProcessadas(1)
+                        .conciliados(1)
+                        .divergencias(new ArrayList<>())
+                        .build());
+        String arquivo = "TX-1;1;SINAL;150.00\n" +
+                "TX-2;2;SINAL;150.00\n" +
+                "TX-3;3;TOTAL;300.00\n";
+
+        // Act
+        ConciliacaoRelatorioDTO relatorio = service.importar(stream(arquivo));
+
+        // Assert
+        assertThat(relatorio.getLinhasProcessadas()).isEqualTo(3);
+        assertThat(relatorio.getConciliados()).isEqualTo(1);
+        assertThat(relatorio.getDivergentes()).isEqualTo(2);
+        assertThat(relatorio.getDivergencias())
+                .extracting(ConciliacaoDivergenciaDTO::getLinha, ConciliacaoDivergenciaDTO::getCodigoTransacaoGateway,
+                        ConciliacaoDivergenciaDTO::getMotivo)
+                .containsExactly(
+                        tuple(1, "TX-1", MotivoDivergenciaConciliacaoEnum.LOTE_NAO_CONCILIADO),
+                        tuple(2, "TX-2", MotivoDivergenciaConciliacaoEnum.LOTE_NAO_CONCILIADO));
+        verify(pagamentoConciliacaoLoteService, times(2)).conciliar(anyList(), anySet());
+    }
+
+    private ByteArrayInputStream stream(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,111 @@
+package com.seucantinho.api.feature.pagamento.application.service;
+
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoRequestDTO;
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoResponseDTO;
+import com.seucantinho.api.feature.pagamento.domain.enums.TipoPagamentoEnum;
+import com.seucantinho.api.feature.pagamento.domain.port.in.PagamentoServicePort;
+import com.seucantinho.api.feature.pagamento.infrastructure.cache.PagamentoIdempotenciaCache;
+import com.seucantinho.api.feature.reserva.infrastructure.lock.ReservaStripedLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes de concorrência da idempotência de pagamentos")
+class PagamentoIdempotenciaConcorrenciaTest {
+
+    private static final int REQUISICOES = 1_000;
+
+    private PagamentoServicePort pagamentoServicePort;
+    private PagamentoIdempotenciaService service;
+    private final Map<String, PagamentoResponseDTO> pagamentosPorChave = new ConcurrentHashMap<>();
+    private final AtomicInteger sequencia = new AtomicInteger();
+    private final AtomicInteger pagamentosValidados = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        pagamentoServicePort = mock(PagamentoServicePort.class);
+
+        // Simula idx_pagamento_chave_idempotencia: o segundo INSERT com a mesma chave falha com SQLState 23505
+        when(pagamentoServicePort.create(any(PagamentoRequestDTO.class), anyString())).thenAnswer(invocation -> {
+            PagamentoRequestDTO dto = invocation.getArgument(0);
+            String chave = invocation.getArgument(1);
+            pagamentosValidados.incrementAndGet();
+            PagamentoResponseDTO criado = PagamentoResponseDTO.builder()
+                    .id(sequencia.incrementAndGet())
+                    .reservaId(dto.getReservaId())
+                    .valor(dto.getValor())
+                    .tipo(dto.getTipo())
+                    .codigoTransacaoGateway(dto.getCodigoTransacaoGateway())
+                    .build();
+            if (pagamentosPorChave.putIfAbsent(chave, criado) != null) {
+                throw new DataIntegrityViolationException("could not execute statement", new SQLException(
+                        "ERROR: duplicate key value violates unique constraint \"idx_pagamento_chave_idempotencia\"", "23505"));
+            }
+            return criado;
+        });
+        when(pagamentoServicePort.findRegistrado(anyString(), any())).thenAnswer(invocation ->
+                Optional.ofNullable(pagamentosPorChave.get((String) invocation.getArgument(0))));
+
+        service = new PagamentoIdempotenciaService(
+                pagamentoServicePort, new PagamentoIdempotenciaCache(100), new ReservaStripedLock(16), 3, 0);
+    }
+
+    @Test
+    @DisplayName("Deve registrar um único pagamento quando mil reenvios chegam ao mesmo tempo")
+    void deveRegistrarUmUnicoPagamentoComMilReenvios() throws Exception {
+        // Arrange
+        PagamentoRequestDTO requestDTO = PagamentoRequestDTO.builder()
+                .reservaId(1)
+                .valor(new BigDecimal("150.00"))
+                .tipo(TipoPagamentoEnum.SINAL)
+                .formaPagamento("PIX")
+                .codigoTransacaoGateway("TX-1")
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<PagamentoResponseDTO>> resultados = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < REQUISICOES; i++) {
+            resultados.add(executor.submit(() -> {
+                largada.await();
+                return service.registrar(requestDTO, "chave-1");
+            }));
+        }
+        largada.countDown();
+
+        List<Integer> ids = new ArrayList<>();
+        for (Future<PagamentoResponseDTO> resultado : resultados) {
+            ids.add(resultado.get(30, TimeUnit.SECONDS).getId());
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(pagamentosPorChave).hasSize(1);
+        assertThat(ids).hasSize(REQUISICOES).containsOnly(pagamentosPorChave.get("chave-1").getId());
+        // Só quem chegou antes do primeiro commit chega a validar; os demais são atendidos pelo cache
+        assertThat(pagamentosValidados.get()).isLessThan(REQUISICOES);
+        verify(pagamentoServicePort, never()).create(any(PagamentoRequestDTO.class));
+    }
+}
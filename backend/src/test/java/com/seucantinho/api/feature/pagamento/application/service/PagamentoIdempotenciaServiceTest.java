@@ -0,0 +1,207 @@
+package com.seucantinho.api.feature.pagamento.application.service;
+
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoRequestDTO;
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoResponseDTO;
+import com.seucantinho.api.feature.pagamento.domain.enums.TipoPagamentoEnum;
+import com.seucantinho.api.feature.pagamento.domain.port.in.PagamentoServicePort;
+import com.seucantinho.api.feature.pagamento.infrastructure.cache.PagamentoIdempotenciaCache;
+import com.seucantinho.api.feature.reserva.infrastructure.lock.ReservaStripedLock;
+import com.seucantinho.api.shared.domain.exception.BusinessException;
+import com.seucantinho.api.shared.domain.exception.DuplicateResourceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do PagamentoIdempotenciaService")
+class PagamentoIdempotenciaServiceTest {
+
+    @Mock
+    private PagamentoServicePort pagamentoServicePort;
+
+    private PagamentoIdempotenciaCache cache;
+    private PagamentoIdempotenciaService service;
+    private PagamentoRequestDTO requestDTO;
+    private PagamentoResponseDTO responseDTO;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PagamentoIdempotenciaCache(100);
+        service = new PagamentoIdempotenciaService(pagamentoServicePort, cache, new ReservaStripedLock(16), 3, 0);
+        requestDTO = PagamentoRequestDTO.builder()
+                .reservaId(1)
+                .valor(new BigDecimal("150.00"))
+                .tipo(TipoPagamentoEnum.SINAL)
+                .formaPagamento("PIX")
+                .codigoTransacaoGateway("TX-1")
+                .build();
+        responseDTO = PagamentoResponseDTO.builder()
+                .id(10)
+                .reservaId(1)
+                .valor(new BigDecimal("150.00"))
+                .tipo(TipoPagamentoEnum.SINAL)
+                .codigoTransacaoGateway("TX-1")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve criar pagamento sem chaves diretamente, sem consultar registros anteriores")
+    void deveCriarPagamentoSemChaves() {
+        // Arrange
+        requestDTO.setCodigoTransacaoGateway(null);
+        when(pagamentoServicePort.create(requestDTO)).thenReturn(responseDTO);
+
+        // Act
+        PagamentoResponseDTO resultado = service.registrar(requestDTO, " ");
+
+        // Assert
+        assertThat(resultado).isEqualTo(responseDTO);
+        verify(pagamentoServicePort, never()).findRegistrado(any(), any());
+        assertThat(cache.tamanho()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve criar pagamento novo e guardá-lo no cache")
+    void deveCriarPagamentoNovoEGuardarNoCache() {
+        // Arrange
+        when(pagamentoServicePort.findRegistrado("chave-1", "TX-1")).thenReturn(Optional.empty());
+        when(pagamentoServicePort.create(requestDTO, "chave-1")).thenReturn(responseDTO);
+
+        // Act
+        PagamentoResponseDTO resultado = service.registrar(requestDTO, "chave-1");
+
+        // Assert
+        assertThat(resultado).isEqualTo(responseDTO);
+        assertThat(cache.buscar("chave-1", null)).contains(responseDTO);
+        assertThat(cache.buscar(null, "TX-1")).contains(responseDTO);
+    }
+
+    @Test
+    @DisplayName("Deve responder reenvio pelo cache sem acessar o serviço de pagamentos")
+    void deveResponderReenvioPeloCache() {
+        // Arrange
+        cache.registrar("chave-1", responseDTO);
+
+        // Act
+        PagamentoResponseDTO resultado = service.registrar(requestDTO, "chave-1");
+
+        // Assert
+        assertThat(resultado).isSameAs(responseDTO);
+        verifyNoInteractions(pagamentoServicePort);
+    }
+
+    @Test
+    @DisplayName("Deve responder reenvio com o pagamento persistido quando ausente do cache")
+    void deveResponderReenvioComPagamentoPersistido() {
+        // Arrange
+        when(pagamentoServicePort.findRegistrado(null, "TX-1")).thenReturn(Optional.of(responseDTO));
+
+        // Act
+        PagamentoResponseDTO resultado = service.registrar(requestDTO, null);
+
+        // Assert
+        assertThat(resultado).isEqualTo(responseDTO);
+        verify(pagamentoServicePort, never()).create(any(), any());
+        assertThat(cache.buscar(null, "TX-1")).contains(responseDTO);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar chave reutilizada com dados de outro pagamento")
+    void deveRejeitarChaveReutilizadaEmOutroPagamento() {
+        // Arrange
+        cache.registrar("chave-1", responseDTO);
+        requestDTO.setValor(new BigDecimal("300.00"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.registrar(requestDTO, "chave-1"))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessage("Chave de idempotência já utilizada em outro pagamento");
+        verifyNoInteractions(pagamentoServicePort);
+    }
+
+    @Test
+    @DisplayName("Deve retornar o pagamento vencedor quando perde a corrida pelo índice único")
+    void deveRetornarPagamentoVencedorAoPerderCorrida() {
+        // Arrange
+        when(pagamentoServicePort.findRegistrado("chave-1", "TX-1"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(responseDTO));
+        when(pagamentoServicePort.create(requestDTO, "chave-1")).thenThrow(violacao("idx_pagamento_chave_idempotencia"));
+
+        // Act
+        PagamentoResponseDTO resultado = service.registrar(requestDTO, "chave-1");
+
+        // Assert
+        assertThat(resultado).isEqualTo(responseDTO);
+    }
+
+    @Test
+    @DisplayName("Deve propagar violações de integridade que não são de idempotência")
+    void devePropagarOutrasViolacoesDeIntegridade() {
+        // Arrange
+        DataIntegrityViolationException violacao = violacao("fk_pagamento_reserva");
+        when(pagamentoServicePort.findRegistrado("chave-1", "TX-1")).thenReturn(Optional.empty());
+        when(pagamentoServicePort.create(requestDTO, "chave-1")).thenThrow(violacao);
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.registrar(requestDTO, "chave-1")).isSameAs(violacao);
+    }
+
+    @Test
+    @DisplayName("Deve repetir o registro quando a reserva foi alterada por outra instância")
+    void deveRepetirRegistroEmConflitoDeVersao() {
+        // Arrange
+        when(pagamentoServicePort.findRegistrado("chave-1", "TX-1")).thenReturn(Optional.empty());
+        when(pagamentoServicePort.create(requestDTO, "chave-1"))
+                .thenThrow(new ObjectOptimisticLockingFailureException("Reserva", 1))
+                .thenReturn(responseDTO);
+
+        // Act
+        PagamentoResponseDTO resultado = service.registrar(requestDTO, "chave-1");
+
+        // Assert
+        assertThat(resultado).isEqualTo(responseDTO);
+        verify(pagamentoServicePort, times(2)).create(requestDTO, "chave-1");
+    }
+
+    @Test
+    @DisplayName("Deve desistir após o número máximo de tentativas em conflito de versão")
+    void deveDesistirAposMaximoDeTentativas() {
+        // Arrange
+        requestDTO.setCodigoTransacaoGateway(null);
+        when(pagamentoServicePort.create(requestDTO)).thenThrow(new ObjectOptimisticLockingFailureException("Reserva", 1));
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.registrar(requestDTO, null))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(pagamentoServicePort, times(3)).create(requestDTO);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar chave de idempotência maior que a coluna")
+    void deveRejeitarChaveMuitoLonga() {
+        // Act & Assert
+        assertThatThrownBy(() -> service.registrar(requestDTO, "x".repeat(101)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Idempotency-Key deve ter no máximo 100 caracteres");
+        verifyNoInteractions(pagamentoServicePort);
+    }
+
+    private DataIntegrityViolationException violacao(String indice) {
+        return new DataIntegrityViolationException("could not execute statement", new SQLException(
+                "ERROR: duplicate key value violates unique constraint \"" + indice + "\"", "23505"));
+    }
+}
@@ -159,7 +159,63 @@ class PagamentoServiceTest {
         verify(pagamentoRepositoryPort).save(pagamento);
         verify(reservaStatusService).updateStatusAfterPayment(reserva, pagamento);
         verify(reservaRepositoryPort).save(reserva);
+        verify(reservaRepositoryPort).somarTotalPago(reserva.getId(), new BigDecimal("150.00"));
         verify(pagamentoMapper).toResponseDTO(pagamento);
+        assertThat(reserva.getTotalPago().getValor()).isEqualByComparingTo("150.00");
+        assertThat(reserva.getPagamentos()).containsExactly(pagamento);
+    }
+
+    @Test
+    @DisplayName("Deve gravar a chave de idempotência no pagamento criado")
+    void deveGravarChaveDeIdempotenciaNoPagamento() {
+        // Arrange
+        when(reservaRepositoryPort.findByIdWithPagamentos(requestDTO.getReservaId()))
+                .thenReturn(Optional.of(reserva));
+        when(pagamentoMapper.toEntity(requestDTO, reserva)).thenReturn(pagamento);
+        when(pagamentoRepositoryPort.save(pagamento)).thenReturn(pagamento);
+        when(pagamentoMapper.toResponseDTO(pagamento)).thenReturn(responseDTO);
+
+        // Act
+        PagamentoResponseDTO resultado = pagamentoService.create(requestDTO, "chave-1");
+
+        // Assert
+        assertThat(resultado).isEqualTo(responseDTO);
+        assertThat(pagamento.getChaveIdempotencia()).isEqualTo("chave-1");
+        verify(pagamentoRepositoryPort).save(pagamento);
+    }
+
+    @Test
+    @DisplayName("Deve validar o pagamento contra a reserva sem gravar nada")
+    void deveValidarPagamentoSemGravar() {
+        // Arrange
+        reserva.getPagamentos().add(criarPagamento());
+        when(reservaRepositoryPort.findByIdWithPagamentos(requestDTO.getReservaId()))
+                .thenReturn(Optional.of(reserva));
+        when(pagamentoMapper.toEntity(requestDTO, reserva)).thenReturn(pagamento);
+
+        // Act & Assert
+        assertThatThrownBy(() -> pagamentoService.validar(requestDTO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Pagamento SINAL só pode ser feito na criação da reserva");
+        verify(pagamentoRepositoryPort, never()).save(any());
+        verify(reservaRepositoryPort, never()).save(any());
+        verifyNoInteractions(reservaStatusService);
+    }
+
+    @Test
+    @DisplayName("Deve buscar pagamento já registrado pela chave de idempotência")
+    void deveBuscarPagamentoRegistrado() {
+        // Arrange
+        when(pagamentoRepositoryPort.findByChaveIdempotenciaOrCodigoTransacao("chave-1", "TX-1"))
+                .thenReturn(Optional.of(pagamento));
+        when(pagamentoMapper.toResponseDTO(pagamento)).thenReturn(responseDTO);
+
+        // Act
+        Optional<PagamentoResponseDTO> resultado = pagamentoService.findRegistrado("chave-1", "TX-1");
+
+        // Assert
+        assertThat(resultado).contains(responseDTO);
+        verifyNoInteractions(reservaRepositoryPort, reservaStatusService);
     }
 
     @Test
@@ -131,7 +131,7 @@ class PagamentoTest {
                 .tipo(TipoPagamentoEnum.SINAL)
                 .formaPagamento("PIX")
                 .build();
-        reserva.getPagamentos().add(pagamentoSinal);
+        reserva.registrarPagamento(pagamentoSinal);
 
         Pagamento pagamentoQuitacao = Pagamento.builder()
                 .reserva(reserva)
@@ -175,7 +175,7 @@ class PagamentoTest {
                 .tipo(TipoPagamentoEnum.SINAL)
                 .formaPagamento("PIX")
                 .build();
-        reserva.getPagamentos().add(pagamentoSinal1);
+        reserva.registrarPagamento(pagamentoSinal1);
 
         Pagamento pagamentoSinal2 = Pagamento.builder()
                 .reserva(reserva)
@@ -202,7 +202,7 @@ class PagamentoTest {
                 .tipo(TipoPagamentoEnum.SINAL)
                 .formaPagamento("PIX")
                 .build();
-        reserva.getPagamentos().add(pagamentoSinal);
+        reserva.registrarPagamento(pagamentoSinal);
 
         Pagamento pagamentoTotal = Pagamento.builder()
                 .reserva(reserva)
@@ -284,7 +284,7 @@ class PagamentoTest {
                 .tipo(TipoPagamentoEnum.SINAL)
                 .formaPagamento("PIX")
                 .build();
-        reserva.getPagamentos().add(pagamentoSinal);
+        reserva.registrarPagamento(pagamentoSinal);
 
         Pagamento pagamentoQuitacao = Pagamento.builder()
                 .reserva(reserva)
@@ -319,8 +319,8 @@ class PagamentoTest {
                 .formaPagamento("Cartão")
                 .build();
 
-        reserva.getPagamentos().add(pagamentoSinal);
-        reserva.getPagamentos().add(pagamentoQuitacao1);
+        reserva.registrarPagamento(pagamentoSinal);
+        reserva.registrarPagamento(pagamentoQuitacao1);
 
         Pagamento pagamentoQuitacao2 = Pagamento.builder()
                 .reserva(reserva)
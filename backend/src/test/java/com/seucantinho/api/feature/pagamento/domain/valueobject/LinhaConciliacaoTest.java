@@ -0,0 +1,80 @@
+package com.seucantinho.api.feature.pagamento.domain.valueobject;
+
+import com.seucantinho.api.feature.pagamento.domain.enums.TipoPagamentoEnum;
+import com.seucantinho.api.shared.domain.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Testes do value object LinhaConciliacao")
+class LinhaConciliacaoTest {
+
+    @Test
+    @DisplayName("Deve ler todos os campos da linha")
+    void deveLerTodosOsCamposDaLinha() {
+        // Act
+        LinhaConciliacao linha = LinhaConciliacao.parse(2, "TX-1; 10 ;SINAL;150,00;PIX");
+
+        // Assert
+        assertThat(linha.getNumero()).isEqualTo(2);
+        assertThat(linha.getCodigoTransacaoGateway()).isEqualTo("TX-1");
+        assertThat(linha.getReservaId()).isEqualTo(10);
+        assertThat(linha.getTipo()).isEqualTo(TipoPagamentoEnum.SINAL);
+        assertThat(linha.getValor()).isEqualByComparingTo("150.00");
+        assertThat(linha.getFormaPagamento()).isEqualTo("PIX");
+    }
+
+    @Test
+    @DisplayName("Deve aceitar linha sem forma de pagamento")
+    void deveAceitarLinhaSemFormaDePagamento() {
+        // Act
+        LinhaConciliacao linha = LinhaConciliacao.parse(1, "TX-1;10;QUITACAO;150.00");
+
+        // Assert
+        assertThat(linha.getTipo()).isEqualTo(TipoPagamentoEnum.QUITACAO);
+        assertThat(linha.getFormaPagamento()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer a linha de cabeçalho")
+    void deveReconhecerCabecalho() {
+        assertThat(LinhaConciliacao.isCabecalho("CODIGO_TRANSACAO;reserva_id;tipo;valor")).isTrue();
+        assertThat(LinhaConciliacao.isCabecalho("TX-1;10;SINAL;150.00")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar linha com campos faltando")
+    void deveRejeitarLinhaComCamposFaltando() {
+        assertThatThrownBy(() -> LinhaConciliacao.parse(1, "TX-1;10;SINAL"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("ao menos 4 campos");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tipo de pagamento desconhecido")
+    void deveRejeitarTipoDesconhecido() {
+        assertThatThrownBy(() -> LinhaConciliacao.parse(1, "TX-1;10;PARCELA;150.00"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Tipo de pagamento inválido: PARCELA");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar valor não numérico ou não positivo")
+    void deveRejeitarValorInvalido() {
+        assertThatThrownBy(() -> LinhaConciliacao.parse(1, "TX-1;10;SINAL;abc"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Valor inválido: abc");
+        assertThatThrownBy(() -> LinhaConciliacao.parse(1, "TX-1;10;SINAL;0"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Valor deve ser positivo: 0");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar ID de reserva inválido")
+    void deveRejeitarReservaIdInvalido() {
+        assertThatThrownBy(() -> LinhaConciliacao.parse(1, "TX-1;dez;SINAL;150.00"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("ID da reserva inválido: dez");
+    }
+}
@@ -0,0 +1,54 @@
+package com.seucantinho.api.feature.pagamento.infrastructure.adapter.out;
+
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoRequestDTO;
+import com.seucantinho.api.feature.pagamento.domain.valueobject.AutorizacaoGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Testes do PagamentoGatewayStubAdapter")
+class PagamentoGatewayStubAdapterTest {
+
+    @Test
+    @DisplayName("Deve aprovar mantendo o código de transação informado ou gerando um pelo protocolo")
+    void deveAprovarCobranca() {
+        // Arrange
+        PagamentoGatewayStubAdapter gateway = new PagamentoGatewayStubAdapter(0, 0, 0.0, 0.0);
+
+        // Act
+        AutorizacaoGateway comCodigo = gateway.autorizar("p-1", PagamentoRequestDTO.builder().codigoTransacaoGateway("TX-1").build());
+        AutorizacaoGateway semCodigo = gateway.autorizar("p-2", new PagamentoRequestDTO());
+
+        // Assert
+        assertThat(comCodigo.isAprovada()).isTrue();
+        assertThat(comCodigo.getCodigoTransacao()).isEqualTo("TX-1");
+        assertThat(semCodigo.getCodigoTransacao()).isEqualTo("STUB-p-2");
+    }
+
+    @Test
+    @DisplayName("Deve simular recusas e indisponibilidade conforme as taxas configuradas")
+    void deveSimularRecusasEFalhas() {
+        // Arrange
+        PagamentoGatewayStubAdapter recusaTudo = new PagamentoGatewayStubAdapter(0, 0, 1.0, 0.0);
+        PagamentoGatewayStubAdapter falhaTudo = new PagamentoGatewayStubAdapter(0, 0, 0.0, 1.0);
+
+        // Act & Assert
+        AutorizacaoGateway recusada = recusaTudo.autorizar("p-1", new PagamentoRequestDTO());
+        assertThat(recusada.isAprovada()).isFalse();
+        assertThat(recusada.getMotivoRecusa()).isEqualTo("Pagamento recusado pelo emissor");
+        assertThatThrownBy(() -> falhaTudo.autorizar("p-1", new PagamentoRequestDTO()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Gateway de pagamento indisponível");
+    }
+
+    @Test
+    @DisplayName("Deve aceitar o estorno de uma cobrança aprovada")
+    void deveEstornarCobranca() {
+        // Arrange
+        PagamentoGatewayStubAdapter gateway = new PagamentoGatewayStubAdapter(0, 0, 0.0, 0.0);
+
+        // Act & Assert
+        assertThatCode(() -> gateway.estornar("p-1", "STUB-p-1")).doesNotThrowAnyException();
+    }
+}
@@ -2,18 +2,26 @@ package com.seucantinho.api.feature.pagamento.infrastructure.adapter.out;
 
 import com.seucantinho.api.feature.pagamento.domain.Pagamento;
 import com.seucantinho.api.feature.pagamento.infrastructure.persistence.PagamentoRepository;
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,11 +31,14 @@ class PagamentoRepositoryAdapterTest {
     @Mock
     private PagamentoRepository pagamentoRepository;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     private PagamentoRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new PagamentoRepositoryAdapter(pagamentoRepository);
+        adapter = new PagamentoRepositoryAdapter(pagamentoRepository, jdbcTemplate);
     }
 
     @Test
@@ -83,5 +94,117 @@ class PagamentoRepositoryAdapterTest {
         assertEquals(1, result.size());
         verify(pagamentoRepository).findByReservaId(1);
     }
-}
 
+    @Test
+    @DisplayName("Deve somar pagamentos por reserva em uma única consulta")
+    void deveSomarPagamentosPorReserva() {
+        List<Object[]> linhas = new ArrayList<>();
+        linhas.add(new Object[]{1, new BigDecimal("150.00")});
+        linhas.add(new Object[]{2, new BigDecimal("300.00")});
+        when(pagamentoRepository.sumValorByReservaIds(Set.of(1, 2, 3))).thenReturn(linhas);
+
+        Map<Integer, BigDecimal> result = adapter.sumValorByReservaIds(Set.of(1, 2, 3));
+
+        assertEquals(2, result.size());
+        assertEquals(new BigDecimal("150.00"), result.get(1));
+        assertNull(result.get(3));
+        verify(pagamentoRepository, times(1)).sumValorByReservaIds(Set.of(1, 2, 3));
+    }
+
+    @Test
+    @DisplayName("Não deve consultar somas para lista vazia de reservas")
+    void naoDeveConsultarSomasParaListaVazia() {
+        Map<Integer, BigDecimal> result = adapter.sumValorByReservaIds(Set.of());
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(pagamentoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve remover pagamentos de reservas canceladas em lote")
+    void deveRemoverPagamentosDeReservasCanceladasEmLote() {
+        when(pagamentoRepository.deleteByReservaIdsAndStatusReserva(Set.of(1, 2), StatusReservaEnum.CANCELADA))
+                .thenReturn(3);
+
+        int result = adapter.deleteByReservaIdsAndStatusReserva(Set.of(1, 2), StatusReservaEnum.CANCELADA);
+
+        assertEquals(3, result);
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco ao remover pagamentos sem reservas")
+    void naoDeveConsultarBancoAoRemoverPagamentosSemReservas() {
+        int result = adapter.deleteByReservaIdsAndStatusReserva(Set.of(), StatusReservaEnum.CANCELADA);
+
+        assertEquals(0, result);
+        verifyNoInteractions(pagamentoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve priorizar o pagamento da chave de idempotência sobre o do código de transação")
+    void devePriorizarPagamentoDaChaveDeIdempotencia() {
+        Pagamento porCodigo = Pagamento.builder().id(1).codigoTransacaoGateway("TX-1").build();
+        Pagamento porChave = Pagamento.builder().id(2).chaveIdempotencia("chave-1").build();
+        when(pagamentoRepository.findByChaveIdempotenciaOrCodigoTransacao("chave-1", "TX-1"))
+                .thenReturn(List.of(porCodigo, porChave));
+
+        Optional<Pagamento> result = adapter.findByChaveIdempotenciaOrCodigoTransacao("chave-1", "TX-1");
+
+        assertTrue(result.isPresent());
+        assertEquals(2, result.get().getId());
+    }
+
+    @Test
+    @DisplayName("Deve encontrar pagamento apenas pelo código de transação")
+    void deveEncontrarPagamentoPeloCodigoDeTransacao() {
+        Pagamento porCodigo = Pagamento.builder().id(1).codigoTransacaoGateway("TX-1").build();
+        when(pagamentoRepository.findByChaveIdempotenciaOrCodigoTransacao(null, "TX-1"))
+                .thenReturn(List.of(porCodigo));
+
+        Optional<Pagamento> result = adapter.findByChaveIdempotenciaOrCodigoTransacao(null, "TX-1");
+
+        assertTrue(result.isPresent());
+        assertEquals(1, result.get().getId());
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco sem chave nem código de transação")
+    void naoDeveConsultarBancoSemChaveNemCodigo() {
+        Optional<Pagamento> result = adapter.findByChaveIdempotenciaOrCodigoTransacao(null, null);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(pagamentoRepository);
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco ao buscar pagamentos sem códigos de transação")
+    void naoDeveConsultarBancoSemCodigosDeTransacao() {
+        List<Pagamento> result = adapter.findByCodigosTransacaoGateway(Set.of());
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(pagamentoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve inserir pagamentos em um único lote JDBC")
+    @SuppressWarnings("unchecked")
+    void deveInserirPagamentosEmUmUnicoLote() {
+        List<Pagamento> pagamentos = List.of(Pagamento.builder().id(1).build(), Pagamento.builder().id(2).build());
+        when(jdbcTemplate.batchUpdate(anyString(), eq(pagamentos), eq(2), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{1, 1}});
+
+        int result = adapter.inserirEmLote(pagamentos);
+
+        assertEquals(2, result);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), eq(pagamentos), eq(2), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("Não deve acessar o banco ao inserir lote vazio")
+    void naoDeveAcessarBancoAoInserirLoteVazio() {
+        int result = adapter.inserirEmLote(List.of());
+
+        assertEquals(0, result);
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,77 @@
+package com.seucantinho.api.feature.pagamento.infrastructure.adapter.out;
+
+import com.seucantinho.api.feature.pagamento.application.dto.SolicitacaoPagamentoDTO;
+import com.seucantinho.api.feature.pagamento.domain.enums.StatusSolicitacaoPagamentoEnum;
+import com.seucantinho.api.feature.pagamento.domain.enums.TipoPagamentoEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do SolicitacaoPagamentoRepositoryAdapter")
+class SolicitacaoPagamentoRepositoryAdapterTest {
+
+    private static final LocalDateTime AGORA = LocalDateTime.of(2025, 11, 1, 12, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SolicitacaoPagamentoRepositoryAdapter adapter;
+    private SolicitacaoPagamentoDTO solicitacao;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new SolicitacaoPagamentoRepositoryAdapter(jdbcTemplate);
+        solicitacao = SolicitacaoPagamentoDTO.builder()
+                .protocolo("protocolo-1")
+                .status(StatusSolicitacaoPagamentoEnum.PENDENTE)
+                .reservaId(1)
+                .tipo(TipoPagamentoEnum.SINAL)
+                .valor(new BigDecimal("150.00"))
+                .formaPagamento("CARTAO")
+                .dataSolicitacao(AGORA)
+                .dataAtualizacao(AGORA)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve gravar a solicitação pendente com a chave de idempotência")
+    void deveGravarSolicitacaoPendente() {
+        when(jdbcTemplate.update(startsWith("INSERT INTO tb_solicitacao_pagamento"), any(Object[].class))).thenReturn(1);
+
+        boolean inserida = adapter.inserir(solicitacao, "chave-1");
+
+        assertTrue(inserida);
+        verify(jdbcTemplate).update(anyString(), eq("protocolo-1"), eq("chave-1"), eq("PENDENTE"), eq(1), eq("SINAL"),
+                eq(new BigDecimal("150.00")), eq("CARTAO"), eq(Timestamp.valueOf(AGORA)), eq(Timestamp.valueOf(AGORA)));
+    }
+
+    @Test
+    @DisplayName("Deve indicar que nada foi gravado quando a chave já existe")
+    void deveIndicarChaveExistente() {
+        when(jdbcTemplate.update(startsWith("INSERT INTO tb_solicitacao_pagamento"), any(Object[].class))).thenReturn(0);
+
+        assertFalse(adapter.inserir(solicitacao, "chave-1"));
+    }
+
+    @Test
+    @DisplayName("Deve gravar a nova situação pelo protocolo")
+    void deveGravarNovaSituacao() {
+        adapter.atualizarSituacao("protocolo-1", StatusSolicitacaoPagamentoEnum.CONFIRMADO, 7, "GW-1", null, AGORA);
+
+        verify(jdbcTemplate).update(startsWith("UPDATE tb_solicitacao_pagamento"), eq("CONFIRMADO"), eq(7), eq("GW-1"),
+                isNull(), eq(Timestamp.valueOf(AGORA)), eq("protocolo-1"));
+    }
+}
@@ -0,0 +1,69 @@
+package com.seucantinho.api.feature.pagamento.infrastructure.cache;
+
+import com.seucantinho.api.feature.pagamento.application.dto.PagamentoResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes do PagamentoIdempotenciaCache")
+class PagamentoIdempotenciaCacheTest {
+
+    @Test
+    @DisplayName("Deve encontrar pagamento pela chave de idempotência e pelo código de transação")
+    void deveEncontrarPagamentoPelasDuasChaves() {
+        // Arrange
+        PagamentoIdempotenciaCache cache = new PagamentoIdempotenciaCache(10);
+        PagamentoResponseDTO pagamento = pagamento(1, "TX-1");
+
+        // Act
+        cache.registrar("chave-1", pagamento);
+
+        // Assert
+        assertThat(cache.buscar("chave-1", null)).contains(pagamento);
+        assertThat(cache.buscar(null, "TX-1")).contains(pagamento);
+        assertThat(cache.buscar("outra-chave", "TX-1")).contains(pagamento);
+        assertThat(cache.buscar("outra-chave", "TX-2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve manter o primeiro pagamento registrado para a mesma chave")
+    void deveManterPrimeiroPagamentoParaMesmaChave() {
+        // Arrange
+        PagamentoIdempotenciaCache cache = new PagamentoIdempotenciaCache(10);
+        PagamentoResponseDTO original = pagamento(1, null);
+
+        // Act
+        cache.registrar("chave-1", original);
+        cache.registrar("chave-1", pagamento(2, null));
+
+        // Assert
+        assertThat(cache.buscar("chave-1", null)).contains(original);
+        assertThat(cache.tamanho()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve descartar as entradas mais antigas ao atingir a capacidade")
+    void deveDescartarEntradasMaisAntigas() {
+        // Arrange
+        PagamentoIdempotenciaCache cache = new PagamentoIdempotenciaCache(2);
+
+        // Act
+        cache.registrar("chave-1", pagamento(1, null));
+        cache.registrar("chave-2", pagamento(2, null));
+        cache.registrar("chave-3", pagamento(3, null));
+
+        // Assert
+        assertThat(cache.tamanho()).isEqualTo(2);
+        assertThat(cache.buscar("chave-1", null)).isEmpty();
+        assertThat(cache.buscar("chave-3", null)).isPresent();
+    }
+
+    private PagamentoResponseDTO pagamento(int id, String codigoTransacao) {
+        return PagamentoResponseDTO.builder()
+                .id(id)
+                .reservaId(1)
+                .codigoTransacaoGateway(codigoTransacao)
+                .build();
+    }
+}
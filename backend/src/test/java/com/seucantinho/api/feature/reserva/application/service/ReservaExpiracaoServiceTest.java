@@ -0,0 +1,77 @@
+package com.seucantinho.api.feature.reserva.application.service;
+
+import com.seucantinho.api.feature.pagamento.domain.port.out.PagamentoRepositoryPort;
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import com.seucantinho.api.feature.reserva.domain.port.out.ReservaRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ReservaExpiracaoService")
+class ReservaExpiracaoServiceTest {
+
+    @Mock
+    private ReservaRepositoryPort reservaRepositoryPort;
+
+    @Mock
+    private PagamentoRepositoryPort pagamentoRepositoryPort;
+
+    @InjectMocks
+    private ReservaExpiracaoService reservaExpiracaoService;
+
+    @Test
+    @DisplayName("Deve considerar apenas reservas aguardando sinal")
+    void deveConsiderarApenasReservasAguardandoSinal() {
+        assertThat(ReservaExpiracaoService.STATUS_EXPIRAVEIS).containsExactly(StatusReservaEnum.AGUARDANDO_SINAL);
+    }
+
+    @Test
+    @DisplayName("Deve cancelar em lote as reservas vencidas, inclusive as de evento próximo, e remover os pagamentos")
+    void deveCancelarEmLoteERemoverPagamentos() {
+        // Arrange
+        List<Integer> ids = List.of(1, 2, 3);
+        when(reservaRepositoryPort.cancelarEmLote(ids, Set.of(StatusReservaEnum.AGUARDANDO_SINAL)))
+                .thenReturn(2);
+
+        // Act
+        int canceladas = reservaExpiracaoService.expirar(ids);
+
+        // Assert
+        assertThat(canceladas).isEqualTo(2);
+        verify(pagamentoRepositoryPort).deleteByReservaIdsAndStatusReserva(ids, StatusReservaEnum.CANCELADA);
+    }
+
+    @Test
+    @DisplayName("Não deve remover pagamentos quando nenhuma reserva é cancelada")
+    void naoDeveRemoverPagamentosQuandoNenhumaReservaCancelada() {
+        // Arrange
+        when(reservaRepositoryPort.cancelarEmLote(any(), any())).thenReturn(0);
+
+        // Act
+        int canceladas = reservaExpiracaoService.expirar(List.of(1));
+
+        // Assert
+        assertThat(canceladas).isZero();
+        verifyNoInteractions(pagamentoRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Não deve acessar o banco sem reservas vencidas")
+    void naoDeveAcessarBancoSemReservasVencidas() {
+        int canceladas = reservaExpiracaoService.expirar(List.of());
+
+        assertThat(canceladas).isZero();
+        verifyNoInteractions(reservaRepositoryPort, pagamentoRepositoryPort);
+    }
+}
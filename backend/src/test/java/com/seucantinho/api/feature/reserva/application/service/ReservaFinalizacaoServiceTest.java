@@ -0,0 +1,99 @@
+package com.seucantinho.api.feature.reserva.application.service;
+
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import com.seucantinho.api.feature.reserva.domain.port.out.ReservaRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ReservaFinalizacaoService")
+class ReservaFinalizacaoServiceTest {
+
+    private static final Set<StatusReservaEnum> ELEGIVEIS = Set.of(StatusReservaEnum.QUITADA);
+
+    @Mock
+    private ReservaRepositoryPort reservaRepositoryPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReservaFinalizacaoService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new ReservaFinalizacaoService(reservaRepositoryPort, meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("Deve considerar apenas status que podem transitar para FINALIZADA")
+    void deveConsiderarApenasStatusFinalizaveis() {
+        assertThat(ReservaFinalizacaoService.STATUS_FINALIZAVEIS).containsExactly(StatusReservaEnum.QUITADA);
+    }
+
+    @Test
+    @DisplayName("Deve finalizar reservas passadas em lotes")
+    void deveFinalizarReservasPassadasEmLotes() {
+        // Arrange
+        LocalDate hoje = LocalDate.now();
+        when(reservaRepositoryPort.findIdsByStatusAndDataEventoAntes(ELEGIVEIS, hoje, 0, 2)).thenReturn(List.of(1, 2));
+        when(reservaRepositoryPort.findIdsByStatusAndDataEventoAntes(ELEGIVEIS, hoje, 2, 2)).thenReturn(List.of(5));
+        when(reservaRepositoryPort.updateStatusEmLote(List.of(1, 2), ELEGIVEIS, StatusReservaEnum.FINALIZADA)).thenReturn(2);
+        when(reservaRepositoryPort.updateStatusEmLote(List.of(5), ELEGIVEIS, StatusReservaEnum.FINALIZADA)).thenReturn(1);
+
+        // Act
+        int finalizadas = service.finalizarReservasPassadas();
+
+        // Assert
+        assertThat(finalizadas).isEqualTo(3);
+        verify(reservaRepositoryPort, times(2)).findIdsByStatusAndDataEventoAntes(any(), any(), any(), anyInt());
+        verify(reservaRepositoryPort, times(2)).updateStatusEmLote(any(), any(), eq(StatusReservaEnum.FINALIZADA));
+        assertThat(meterRegistry.get("reserva.finalizacao.reservas").summary().totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get("reserva.finalizacao.duracao").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve buscar o próximo lote quando o anterior vier completo")
+    void deveBuscarProximoLoteQuandoAnteriorCompleto() {
+        // Arrange
+        LocalDate hoje = LocalDate.now();
+        when(reservaRepositoryPort.findIdsByStatusAndDataEventoAntes(ELEGIVEIS, hoje, 0, 2)).thenReturn(List.of(1, 2));
+        when(reservaRepositoryPort.findIdsByStatusAndDataEventoAntes(ELEGIVEIS, hoje, 2, 2)).thenReturn(List.of());
+        when(reservaRepositoryPort.updateStatusEmLote(List.of(1, 2), ELEGIVEIS, StatusReservaEnum.FINALIZADA)).thenReturn(2);
+
+        // Act
+        int finalizadas = service.finalizarReservasPassadas();
+
+        // Assert
+        assertThat(finalizadas).isEqualTo(2);
+        verify(reservaRepositoryPort, times(1)).updateStatusEmLote(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve registrar execução sem reservas a finalizar")
+    void deveRegistrarExecucaoSemReservas() {
+        // Arrange
+        when(reservaRepositoryPort.findIdsByStatusAndDataEventoAntes(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        // Act
+        int finalizadas = service.finalizarReservasPassadas();
+
+        // Assert
+        assertThat(finalizadas).isZero();
+        verify(reservaRepositoryPort, never()).updateStatusEmLote(any(), any(), any());
+        assertThat(meterRegistry.get("reserva.finalizacao.reservas").summary().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,232 @@
+package com.seucantinho.api.feature.reserva.application.service;
+
+import com.seucantinho.api.feature.cliente.domain.Cliente;
+import com.seucantinho.api.feature.espaco.domain.Espaco;
+import com.seucantinho.api.feature.espaco.domain.port.out.EspacoRepositoryPort;
+import com.seucantinho.api.feature.espaco.domain.valueobject.Capacidade;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaRequestDTO;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaResponseDTO;
+import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.domain.port.out.ReservaRepositoryPort;
+import com.seucantinho.api.feature.reserva.domain.service.ReservaAvailabilityService;
+import com.seucantinho.api.feature.reserva.domain.valueobject.DataEvento;
+import com.seucantinho.api.feature.reserva.infrastructure.adapter.out.ReservaRepositoryAdapter;
+import com.seucantinho.api.feature.reserva.infrastructure.cache.OcupacaoEspacoIndex;
+import com.seucantinho.api.feature.reserva.infrastructure.config.ReservaCriacaoConfig;
+import com.seucantinho.api.feature.reserva.infrastructure.config.ReservaPaginacaoConfig;
+import com.seucantinho.api.feature.reserva.infrastructure.mapper.ReservaMapper;
+import com.seucantinho.api.feature.reserva.infrastructure.persistence.ReservaRepository;
+import com.seucantinho.api.feature.reserva.infrastructure.scheduler.ReservaExpiracaoAgenda;
+import com.seucantinho.api.feature.usuario.domain.Usuario;
+import com.seucantinho.api.feature.usuario.domain.enums.PerfilUsuarioEnum;
+import com.seucantinho.api.feature.usuario.domain.port.out.UsuarioRepositoryPort;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
+import com.seucantinho.api.shared.domain.valueobject.ValorMonetario;
+import com.seucantinho.api.shared.infrastructure.exception.ErrorResponse;
+import com.seucantinho.api.shared.infrastructure.exception.GlobalExceptionHandler;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// Tradução 23505 -> 409 no modo insert-first. A unicidade em si é garantida por idx_reserva_unica_ativa
+// no banco; o teste concorrente emula o índice no ReservaRepository por baixo do adapter real
+@DisplayName("Testes do modo insert-first da criação de reservas")
+class ReservaServiceInsertFirstTest {
+
+    private static final DataIntegrityViolationException VIOLACAO_INDICE = new DataIntegrityViolationException(
+            "could not execute statement", new SQLException(
+                    "ERROR: duplicate key value violates unique constraint \"idx_reserva_unica_ativa\"", "23505"));
+
+    private UsuarioRepositoryPort usuarioRepositoryPort;
+    private EspacoRepositoryPort espacoRepositoryPort;
+    private ReservaMapper reservaMapper;
+    private ReservaRepositoryPort reservaRepositoryPort;
+    private ReservaAvailabilityService reservaAvailabilityService;
+    private ReservaService reservaService;
+    private ReservaRequestDTO requestDTO;
+
+    @BeforeEach
+    void setUp() {
+        Relogio.usar(Clock.fixed(Instant.parse("2025-11-01T15:00:00Z"), ZoneId.of("America/Sao_Paulo")));
+        Espaco espaco = Espaco.builder()
+                .id(1)
+                .nome("Salão de Eventos")
+                .capacidade(Capacidade.of(50))
+                .precoDiaria(ValorMonetario.of("300.00"))
+                .ativo(true)
+                .build();
+        Usuario cliente = Cliente.builder()
+                .id(1)
+                .nome("João Silva")
+                .email("cliente@email.com")
+                .senhaHash("hash123")
+                .perfil(PerfilUsuarioEnum.CLIENTE)
+                .build();
+
+        usuarioRepositoryPort = mock(UsuarioRepositoryPort.class);
+        espacoRepositoryPort = mock(EspacoRepositoryPort.class);
+        reservaMapper = mock(ReservaMapper.class);
+        reservaRepositoryPort = mock(ReservaRepositoryPort.class);
+        reservaAvailabilityService = mock(ReservaAvailabilityService.class);
+
+        when(usuarioRepositoryPort.findById(1)).thenReturn(Optional.of(cliente));
+        when(espacoRepositoryPort.findById(1)).thenReturn(Optional.of(espaco));
+        when(reservaMapper.toEntity(any(), any(), any())).thenAnswer(invocation -> {
+            ReservaRequestDTO dto = invocation.getArgument(0);
+            return Reserva.builder()
+                    .usuario(invocation.getArgument(1))
+                    .espaco(invocation.getArgument(2))
+                    .dataEvento(DataEvento.of(dto.getDataEvento()))
+                    .valorTotal(ValorMonetario.of(dto.getValorTotal()))
+                    .build();
+        });
+        when(reservaMapper.toResponseDTO(any(Reserva.class), any(), anyInt())).thenAnswer(invocation ->
+                ReservaResponseDTO.builder().id(((Reserva) invocation.getArgument(0)).getId()).build());
+
+        reservaService = criarService(reservaRepositoryPort);
+        requestDTO = ReservaRequestDTO.builder()
+                .usuarioId(1)
+                .espacoId(1)
+                .dataEvento(Relogio.hoje().plusDays(30))
+                .valorTotal(new BigDecimal("300.00"))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Relogio.restaurar();
+    }
+
+    @Test
+    @DisplayName("Deve traduzir a violação de idx_reserva_unica_ativa no INSERT em 409")
+    void deveTraduzirViolacaoDoIndiceEm409() {
+        // Arrange
+        when(reservaRepositoryPort.saveAndFlush(any(Reserva.class)))
+                .thenAnswer(invocation -> {
+                    Reserva reserva = invocation.getArgument(0);
+                    reserva.setId(1);
+                    return reserva;
+                })
+                .thenThrow(VIOLACAO_INDICE);
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getRequestURI()).thenReturn("/api/reservas");
+
+        // Act
+        ReservaResponseDTO criada = reservaService.create(requestDTO);
+        DataIntegrityViolationException conflito = catchThrowableOfType(
+                DataIntegrityViolationException.class, () -> reservaService.create(requestDTO));
+        ResponseEntity<ErrorResponse> response = new GlobalExceptionHandler().handleDataIntegrityViolation(conflito, request);
+
+        // Assert
+        assertThat(criada.getId()).isEqualTo(1);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getMessage()).isEqualTo("Espaço já possui reserva ativa para esta data");
+        verify(reservaRepositoryPort, times(2)).saveAndFlush(any(Reserva.class));
+        verify(reservaRepositoryPort, never()).existsActiveReservationByEspacoAndData(any(), any(), any());
+        verifyNoInteractions(reservaAvailabilityService);
+    }
+
+    @Test
+    @DisplayName("Deve criar uma única reserva quando várias requisições disputam o mesmo espaço e data")
+    void deveCriarUmaUnicaReservaSobConcorrencia() throws Exception {
+        // Arrange: o ReservaRepository emula idx_reserva_unica_ativa por baixo do adapter real
+        int requisicoes = 16;
+        Map<String, Integer> indiceUnico = new ConcurrentHashMap<>();
+        AtomicInteger proximoId = new AtomicInteger(1);
+        ReservaRepository reservaRepository = mock(ReservaRepository.class);
+        when(reservaRepository.saveAndFlush(any(Reserva.class))).thenAnswer(invocation -> {
+            Reserva reserva = invocation.getArgument(0);
+            String chave = reserva.getEspaco().getId() + "|" + reserva.getDataEvento().getData();
+            int id = proximoId.getAndIncrement();
+            if (indiceUnico.putIfAbsent(chave, id) != null) {
+                throw VIOLACAO_INDICE;
+            }
+            reserva.setId(id);
+            return reserva;
+        });
+        OcupacaoEspacoIndex ocupacaoEspacoIndex = mock(OcupacaoEspacoIndex.class);
+        ReservaRepositoryAdapter adapter = new ReservaRepositoryAdapter(reservaRepository, ocupacaoEspacoIndex,
+                mock(ReservaExpiracaoAgenda.class), mock(EntityManager.class), mock(JdbcTemplate.class));
+        ReservaService servico = criarService(adapter);
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getRequestURI()).thenReturn("/api/reservas");
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+        ExecutorService executor = Executors.newFixedThreadPool(requisicoes);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<HttpStatus>> respostas = new ArrayList<>();
+
+        try {
+            // Act
+            for (int i = 0; i < requisicoes; i++) {
+                respostas.add(executor.submit(() -> {
+                    largada.await();
+                    try {
+                        servico.create(requestDTO);
+                        return HttpStatus.CREATED;
+                    } catch (DataIntegrityViolationException e) {
+                        return HttpStatus.valueOf(handler.handleDataIntegrityViolation(e, request).getStatusCode().value());
+                    }
+                }));
+            }
+            largada.countDown();
+            List<HttpStatus> status = new ArrayList<>();
+            for (Future<HttpStatus> resposta : respostas) {
+                status.add(resposta.get(10, TimeUnit.SECONDS));
+            }
+
+            // Assert
+            assertThat(status).filteredOn(HttpStatus.CREATED::equals).hasSize(1);
+            assertThat(status).filteredOn(HttpStatus.CONFLICT::equals).hasSize(requisicoes - 1);
+            assertThat(indiceUnico).hasSize(1);
+            verify(reservaRepository, times(requisicoes)).saveAndFlush(any(Reserva.class));
+            verify(ocupacaoEspacoIndex, times(1)).registrar(any(Reserva.class));
+            verifyNoInteractions(reservaAvailabilityService);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ReservaService criarService(ReservaRepositoryPort repositoryPort) {
+        return new ReservaService(
+                repositoryPort,
+                usuarioRepositoryPort,
+                espacoRepositoryPort,
+                reservaMapper,
+                reservaAvailabilityService,
+                mock(ReservaStatusService.class),
+                mock(ReservaPaginacaoConfig.class),
+                new ReservaCriacaoConfig(true),
+                mock(ReservaLoteGravacaoService.class)
+        );
+    }
+}
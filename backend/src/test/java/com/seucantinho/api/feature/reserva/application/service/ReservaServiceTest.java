@@ -7,17 +7,28 @@ import com.seucantinho.api.feature.espaco.domain.port.out.EspacoRepositoryPort;
 import com.seucantinho.api.feature.espaco.domain.valueobject.Capacidade;
 import com.seucantinho.api.feature.filial.domain.Filial;
 import com.seucantinho.api.feature.funcionario.domain.Funcionario;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaBuscaPaginaDTO;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaLoteItemDTO;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaLoteResponseDTO;
+import com.seucantinho.api.feature.reserva.application.dto.ReservaPaginaDTO;
 import com.seucantinho.api.feature.reserva.application.dto.ReservaRequestDTO;
 import com.seucantinho.api.feature.reserva.application.dto.ReservaResponseDTO;
 import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.domain.enums.OrdenacaoReservaEnum;
+import com.seucantinho.api.feature.reserva.domain.enums.ResultadoItemLoteEnum;
 import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
 import com.seucantinho.api.feature.reserva.domain.port.out.ReservaRepositoryPort;
 import com.seucantinho.api.feature.reserva.domain.service.ReservaAvailabilityService;
 import com.seucantinho.api.feature.reserva.domain.valueobject.DataEvento;
+import com.seucantinho.api.feature.reserva.domain.valueobject.ReservaFiltro;
+import com.seucantinho.api.feature.reserva.domain.valueobject.ReservaCursor;
+import com.seucantinho.api.feature.reserva.infrastructure.config.ReservaCriacaoConfig;
+import com.seucantinho.api.feature.reserva.infrastructure.config.ReservaPaginacaoConfig;
 import com.seucantinho.api.feature.reserva.infrastructure.mapper.ReservaMapper;
 import com.seucantinho.api.feature.usuario.domain.Usuario;
 import com.seucantinho.api.feature.usuario.domain.enums.PerfilUsuarioEnum;
 import com.seucantinho.api.feature.usuario.domain.port.out.UsuarioRepositoryPort;
+import com.seucantinho.api.shared.domain.exception.BusinessException;
 import com.seucantinho.api.shared.domain.exception.ResourceNotFoundException;
 import com.seucantinho.api.shared.domain.valueobject.ValorMonetario;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,14 +38,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -62,6 +82,15 @@ class ReservaServiceTest {
     @Mock
     private ReservaStatusService reservaStatusService;
 
+    @Mock
+    private ReservaPaginacaoConfig reservaPaginacaoConfig;
+
+    @Mock
+    private ReservaCriacaoConfig reservaCriacaoConfig;
+
+    @Mock
+    private ReservaLoteGravacaoService reservaLoteGravacaoService;
+
     @InjectMocks
     private ReservaService reservaService;
 
@@ -88,7 +117,7 @@ class ReservaServiceTest {
         // Arrange
         List<Reserva> reservas = Arrays.asList(reserva);
         when(reservaRepositoryPort.findAll()).thenReturn(reservas);
-        when(reservaMapper.toResponseDTO(any(Reserva.class))).thenReturn(responseDTO);
+        when(reservaMapper.toResponseDTO(any(Reserva.class), any(ValorMonetario.class), anyInt())).thenReturn(responseDTO);
 
         // Act
         List<ReservaResponseDTO> resultado = reservaService.findAll();
@@ -96,7 +125,178 @@ class ReservaServiceTest {
         // Assert
         assertThat(resultado).hasSize(1);
         verify(reservaRepositoryPort).findAll();
-        verify(reservaMapper).toResponseDTO(any(Reserva.class));
+        verify(reservaMapper).toResponseDTO(any(Reserva.class), any(ValorMonetario.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve preencher total pago das reservas a partir da coluna total_pago")
+    void devePreencherTotalPagoComColunaDaReserva() {
+        // Arrange
+        Reserva segunda = Reserva.builder()
+                .id(2)
+                .usuario(cliente)
+                .espaco(espaco)
+                .dataEvento(DataEvento.of(LocalDate.now().plusDays(11)))
+                .valorTotal(ValorMonetario.of("300.00"))
+                .build();
+        reserva.setTotalPago(ValorMonetario.of("150.00"));
+        when(reservaRepositoryPort.findAll()).thenReturn(Arrays.asList(reserva, segunda));
+
+        // Act
+        reservaService.findAll();
+
+        // Assert
+        verify(reservaMapper).toResponseDTO(reserva, ValorMonetario.of("150.00"), 0);
+        verify(reservaMapper).toResponseDTO(segunda, ValorMonetario.zero(), 0);
+        verify(reservaRepositoryPort, times(1)).countByUsuarioIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve exportar reservas lote a lote")
+    @SuppressWarnings("unchecked")
+    void deveExportarReservasLoteALote() {
+        // Arrange
+        ReservaFiltro filtro = ReservaFiltro.builder().filialId(1).build();
+        Reserva segunda = Reserva.builder()
+                .id(2)
+                .usuario(cliente)
+                .espaco(espaco)
+                .dataEvento(DataEvento.of(LocalDate.now().plusDays(11)))
+                .valorTotal(ValorMonetario.of("300.00"))
+                .build();
+        doAnswer(invocation -> {
+            Consumer<List<Reserva>> consumidorLote = invocation.getArgument(1);
+            consumidorLote.accept(List.of(reserva));
+            consumidorLote.accept(List.of(segunda));
+            return null;
+        }).when(reservaRepositoryPort).percorrer(eq(filtro), any());
+        when(reservaMapper.toResponseDTO(any(Reserva.class), any(ValorMonetario.class), anyInt())).thenReturn(responseDTO);
+        List<ReservaResponseDTO> exportadas = new ArrayList<>();
+
+        // Act
+        reservaService.exportar(filtro, exportadas::add);
+
+        // Assert
+        assertThat(exportadas).hasSize(2);
+        verify(reservaRepositoryPort, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve buscar reservas com ordenação e página padrão")
+    void deveBuscarReservasComOrdenacaoEPaginaPadrao() {
+        // Arrange
+        ReservaFiltro filtro = ReservaFiltro.builder().status(Set.of(StatusReservaEnum.CONFIRMADA)).build();
+        when(reservaPaginacaoConfig.resolverTamanho(null)).thenReturn(50);
+        when(reservaRepositoryPort.buscar(filtro, OrdenacaoReservaEnum.DATA_EVENTO, Sort.Direction.ASC, 0, 50))
+                .thenReturn(new SliceImpl<>(List.of(reserva), PageRequest.of(0, 50), true));
+        when(reservaMapper.toResponseDTO(any(Reserva.class), any(ValorMonetario.class), anyInt())).thenReturn(responseDTO);
+
+        // Act
+        ReservaBuscaPaginaDTO resultado = reservaService.buscar(filtro, null, null, null, null);
+
+        // Assert
+        assertThat(resultado.getReservas()).containsExactly(responseDTO);
+        assertThat(resultado.getPagina()).isZero();
+        assertThat(resultado.getTamanho()).isEqualTo(50);
+        assertThat(resultado.isPossuiProxima()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve repassar ordenação e página informadas na busca")
+    void deveRepassarOrdenacaoEPaginaNaBusca() {
+        // Arrange
+        ReservaFiltro filtro = ReservaFiltro.builder().filialId(1).build();
+        when(reservaPaginacaoConfig.resolverTamanho(20)).thenReturn(20);
+        when(reservaRepositoryPort.buscar(filtro, OrdenacaoReservaEnum.VALOR_TOTAL, Sort.Direction.DESC, 3, 20))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(3, 20), false));
+
+        // Act
+        ReservaBuscaPaginaDTO resultado = reservaService.buscar(
+                filtro, OrdenacaoReservaEnum.VALOR_TOTAL, Sort.Direction.DESC, 3, 20);
+
+        // Assert
+        assertThat(resultado.getReservas()).isEmpty();
+        assertThat(resultado.getPagina()).isEqualTo(3);
+        assertThat(resultado.isPossuiProxima()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar página negativa na busca")
+    void deveRejeitarPaginaNegativaNaBusca() {
+        ReservaFiltro filtro = ReservaFiltro.builder().build();
+
+        assertThatThrownBy(() -> reservaService.buscar(filtro, null, null, -1, null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Página deve ser maior ou igual a zero");
+        verifyNoInteractions(reservaRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Deve retornar lista vazia quando não há reservas")
+    void deveRetornarListaVaziaQuandoNaoHaReservas() {
+        // Arrange
+        when(reservaRepositoryPort.findAll()).thenReturn(Collections.emptyList());
+
+        // Act
+        List<ReservaResponseDTO> resultado = reservaService.findAll();
+
+        // Assert
+        assertThat(resultado).isEmpty();
+        verifyNoInteractions(reservaMapper);
+    }
+
+    @Test
+    @DisplayName("Deve retornar página com cursor quando existem mais reservas")
+    void deveRetornarPaginaComCursorQuandoExistemMaisReservas() {
+        // Arrange
+        Reserva segunda = Reserva.builder()
+                .id(2)
+                .usuario(cliente)
+                .espaco(espaco)
+                .dataEvento(DataEvento.of(LocalDate.now().plusDays(11)))
+                .valorTotal(ValorMonetario.of("300.00"))
+                .build();
+        when(reservaPaginacaoConfig.resolverTamanho(1)).thenReturn(1);
+        when(reservaRepositoryPort.findPagina(null, 2)).thenReturn(Arrays.asList(reserva, segunda));
+        when(reservaMapper.toResponseDTO(eq(reserva), any(ValorMonetario.class), anyInt())).thenReturn(responseDTO);
+
+        // Act
+        ReservaPaginaDTO resultado = reservaService.findPagina(null, 1);
+
+        // Assert
+        assertThat(resultado.getReservas()).containsExactly(responseDTO);
+        assertThat(resultado.getNextCursor()).isEqualTo(ReservaCursor.from(reserva).encode());
+        verify(reservaMapper, never()).toResponseDTO(eq(segunda), any(ValorMonetario.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve retornar última página sem cursor")
+    void deveRetornarUltimaPaginaSemCursor() {
+        // Arrange
+        ReservaCursor cursor = ReservaCursor.of(LocalDate.now(), 1);
+        when(reservaPaginacaoConfig.resolverTamanho(null)).thenReturn(50);
+        when(reservaRepositoryPort.findPaginaByUsuarioId(1, cursor, 51)).thenReturn(Arrays.asList(reserva));
+        when(reservaMapper.toResponseDTO(eq(reserva), any(ValorMonetario.class), anyInt())).thenReturn(responseDTO);
+
+        // Act
+        ReservaPaginaDTO resultado = reservaService.findPaginaByUsuarioId(1, cursor.encode(), null);
+
+        // Assert
+        assertThat(resultado.getReservas()).hasSize(1);
+        assertThat(resultado.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao paginar com cursor inválido")
+    void deveLancarExcecaoAoPaginarComCursorInvalido() {
+        // Arrange
+        when(reservaPaginacaoConfig.resolverTamanho(null)).thenReturn(50);
+
+        // Act & Assert
+        assertThatThrownBy(() -> reservaService.findPaginaByEspacoId(1, "invalido", null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Cursor de paginação inválido");
+        verify(reservaRepositoryPort, never()).findPaginaByEspacoId(any(), any(), anyInt());
     }
 
     @Test
@@ -105,7 +305,8 @@ class ReservaServiceTest {
         // Arrange
         Integer id = 1;
         when(reservaRepositoryPort.findById(id)).thenReturn(Optional.of(reserva));
-        when(reservaMapper.toResponseDTO(reserva)).thenReturn(responseDTO);
+        when(reservaRepositoryPort.countByUsuarioId(cliente.getId())).thenReturn(4);
+        when(reservaMapper.toResponseDTO(eq(reserva), any(ValorMonetario.class), eq(4))).thenReturn(responseDTO);
 
         // Act
         ReservaResponseDTO resultado = reservaService.findById(id);
@@ -114,7 +315,8 @@ class ReservaServiceTest {
         assertThat(resultado).isNotNull();
         assertThat(resultado).isEqualTo(responseDTO);
         verify(reservaRepositoryPort).findById(id);
-        verify(reservaMapper).toResponseDTO(reserva);
+        verify(reservaRepositoryPort).countByUsuarioId(cliente.getId());
+        verify(reservaMapper).toResponseDTO(eq(reserva), any(ValorMonetario.class), eq(4));
     }
 
     @Test
@@ -137,7 +339,7 @@ class ReservaServiceTest {
         Integer usuarioId = 1;
         List<Reserva> reservas = Arrays.asList(reserva);
         when(reservaRepositoryPort.findByUsuarioId(usuarioId)).thenReturn(reservas);
-        when(reservaMapper.toResponseDTO(any(Reserva.class))).thenReturn(responseDTO);
+        when(reservaMapper.toResponseDTO(any(Reserva.class), any(ValorMonetario.class), anyInt())).thenReturn(responseDTO);
 
         // Act
         List<ReservaResponseDTO> resultado = reservaService.findByUsuarioId(usuarioId);
@@ -154,7 +356,7 @@ class ReservaServiceTest {
         Integer espacoId = 1;
         List<Reserva> reservas = Arrays.asList(reserva);
         when(reservaRepositoryPort.findByEspacoId(espacoId)).thenReturn(reservas);
-        when(reservaMapper.toResponseDTO(any(Reserva.class))).thenReturn(responseDTO);
+        when(reservaMapper.toResponseDTO(any(Reserva.class), any(ValorMonetario.class), anyInt())).thenReturn(responseDTO);
 
         // Act
         List<ReservaResponseDTO> resultado = reservaService.findByEspacoId(espacoId);
@@ -173,7 +375,7 @@ class ReservaServiceTest {
         when(reservaMapper.toEntity(requestDTO, cliente, espaco)).thenReturn(reserva);
         doNothing().when(reservaAvailabilityService).validarDisponibilidade(anyInt(), any(LocalDate.class), any());
         when(reservaRepositoryPort.save(reserva)).thenReturn(reserva);
-        when(reservaMapper.toResponseDTO(reserva)).thenReturn(responseDTO);
+        when(reservaMapper.toResponseDTO(eq(reserva), any(ValorMonetario.class), anyInt())).thenReturn(responseDTO);
 
         // Act
         ReservaResponseDTO resultado = reservaService.create(requestDTO);
@@ -186,6 +388,161 @@ class ReservaServiceTest {
         verify(reservaRepositoryPort).save(reserva);
     }
 
+    @Test
+    @DisplayName("Deve criar reserva no modo insert-first sem consultar disponibilidade")
+    void deveCriarReservaNoModoInsertFirst() {
+        // Arrange
+        when(reservaCriacaoConfig.isInsertFirst()).thenReturn(true);
+        when(usuarioRepositoryPort.findById(requestDTO.getUsuarioId())).thenReturn(Optional.of(cliente));
+        when(espacoRepositoryPort.findById(requestDTO.getEspacoId())).thenReturn(Optional.of(espaco));
+        when(reservaMapper.toEntity(requestDTO, cliente, espaco)).thenReturn(reserva);
+        when(reservaRepositoryPort.saveAndFlush(reserva)).thenReturn(reserva);
+        when(reservaMapper.toResponseDTO(eq(reserva), any(ValorMonetario.class), anyInt())).thenReturn(responseDTO);
+
+        // Act
+        ReservaResponseDTO resultado = reservaService.create(requestDTO);
+
+        // Assert
+        assertThat(resultado).isEqualTo(responseDTO);
+        verify(reservaRepositoryPort).saveAndFlush(reserva);
+        verifyNoInteractions(reservaAvailabilityService);
+        verify(reservaRepositoryPort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve criar reservas em lote com resultado por item")
+    void deveCriarReservasEmLoteComResultadoPorItem() {
+        // Arrange
+        LocalDate livre = LocalDate.now().plusDays(10);
+        LocalDate ocupada = LocalDate.now().plusDays(17);
+        List<ReservaRequestDTO> lote = Arrays.asList(
+                criarRequestDTO(livre),
+                criarRequestDTO(ocupada),
+                criarRequestDTO(livre),
+                ReservaRequestDTO.builder().usuarioId(99).espacoId(1).dataEvento(livre.plusDays(1))
+                        .valorTotal(new BigDecimal("300.00")).build()
+        );
+        when(usuarioRepositoryPort.findById(1)).thenReturn(Optional.of(cliente));
+        when(usuarioRepositoryPort.findById(99)).thenReturn(Optional.empty());
+        when(espacoRepositoryPort.findByIdWithFilial(1)).thenReturn(Optional.of(espaco));
+        Map<Integer, Set<LocalDate>> ocupadas = new HashMap<>();
+        ocupadas.put(1, Set.of(ocupada));
+        when(reservaRepositoryPort.findDatasOcupadas(anyCollection(), anyCollection())).thenReturn(ocupadas);
+        when(reservaMapper.toEntity(any(ReservaRequestDTO.class), any(Usuario.class), any(Espaco.class)))
+                .thenAnswer(invocation -> {
+                    ReservaRequestDTO dto = invocation.getArgument(0);
+                    return Reserva.builder()
+                            .usuario(invocation.getArgument(1))
+                            .espaco(invocation.getArgument(2))
+                            .dataEvento(DataEvento.of(dto.getDataEvento()))
+                            .valorTotal(ValorMonetario.of(dto.getValorTotal()))
+                            .build();
+                });
+        when(reservaLoteGravacaoService.gravarTodas(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(reservaMapper.toResponseDTO(any(Reserva.class), any(ValorMonetario.class), anyInt())).thenReturn(responseDTO);
+
+        // Act
+        ReservaLoteResponseDTO resultado = reservaService.createBatch(lote);
+
+        // Assert
+        assertThat(resultado.getCriadas()).isEqualTo(1);
+        assertThat(resultado.getConflitos()).isEqualTo(2);
+        assertThat(resultado.getErros()).isEqualTo(1);
+        assertThat(resultado.getItens()).extracting(ReservaLoteItemDTO::getResultado).containsExactly(
+                ResultadoItemLoteEnum.CRIADA,
+                ResultadoItemLoteEnum.CONFLITO,
+                ResultadoItemLoteEnum.CONFLITO,
+                ResultadoItemLoteEnum.ERRO);
+        assertThat(resultado.getItens().get(3).getMensagem()).contains("Usuário não encontrado com ID: 99");
+        verify(usuarioRepositoryPort, times(1)).findById(1);
+        verify(espacoRepositoryPort, times(1)).findByIdWithFilial(1);
+        verify(reservaRepositoryPort, times(1)).findDatasOcupadas(anyCollection(), anyCollection());
+        verify(reservaLoteGravacaoService, times(1)).gravarTodas(argThat(reservas -> reservas.size() == 1));
+        verify(reservaRepositoryPort, never()).save(any());
+        verify(reservaRepositoryPort, never()).existsActiveReservationByEspacoAndData(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Não deve salvar quando nenhum item do lote é válido")
+    void naoDeveSalvarQuandoNenhumItemDoLoteValido() {
+        // Arrange
+        when(usuarioRepositoryPort.findById(1)).thenReturn(Optional.of(cliente));
+        when(espacoRepositoryPort.findByIdWithFilial(1)).thenReturn(Optional.empty());
+        when(reservaRepositoryPort.findDatasOcupadas(anyCollection(), anyCollection())).thenReturn(new HashMap<>());
+
+        // Act
+        ReservaLoteResponseDTO resultado = reservaService.createBatch(List.of(criarRequestDTO(LocalDate.now().plusDays(10))));
+
+        // Assert
+        assertThat(resultado.getErros()).isEqualTo(1);
+        assertThat(resultado.getItens().get(0).getMensagem()).contains("Espaço não encontrado com ID: 1");
+        verifyNoInteractions(reservaLoteGravacaoService);
+    }
+
+    @Test
+    @DisplayName("Deve reportar como conflito apenas o item que colidiu no índice único durante o batch")
+    void deveReportarConflitoSomenteDoItemQueColidiuNoBatch() {
+        // Arrange
+        LocalDate primeira = LocalDate.now().plusDays(10);
+        LocalDate disputada = LocalDate.now().plusDays(11);
+        LocalDate terceira = LocalDate.now().plusDays(12);
+        List<ReservaRequestDTO> lote = Arrays.asList(
+                criarRequestDTO(primeira), criarRequestDTO(disputada), criarRequestDTO(terceira));
+        when(usuarioRepositoryPort.findById(1)).thenReturn(Optional.of(cliente));
+        when(espacoRepositoryPort.findByIdWithFilial(1)).thenReturn(Optional.of(espaco));
+        when(reservaRepositoryPort.findDatasOcupadas(anyCollection(), anyCollection())).thenReturn(new HashMap<>());
+        when(reservaMapper.toEntity(any(ReservaRequestDTO.class), any(Usuario.class), any(Espaco.class)))
+                .thenAnswer(invocation -> {
+                    ReservaRequestDTO dto = invocation.getArgument(0);
+                    return Reserva.builder()
+                            .usuario(invocation.getArgument(1))
+                            .espaco(invocation.getArgument(2))
+                            .dataEvento(DataEvento.of(dto.getDataEvento()))
+                            .valorTotal(ValorMonetario.of(dto.getValorTotal()))
+                            .build();
+                });
+        when(reservaLoteGravacaoService.gravarTodas(anyList())).thenThrow(violacaoReservaUnicaAtiva());
+        when(reservaLoteGravacaoService.gravar(any(Reserva.class))).thenAnswer(invocation -> {
+            Reserva reserva = invocation.getArgument(0);
+            if (reserva.getDataEvento().getData().equals(disputada)) {
+                throw violacaoReservaUnicaAtiva();
+            }
+            return reserva;
+        });
+        when(reservaMapper.toResponseDTO(any(Reserva.class), any(ValorMonetario.class), anyInt())).thenReturn(responseDTO);
+
+        // Act
+        ReservaLoteResponseDTO resultado = reservaService.createBatch(lote);
+
+        // Assert
+        assertThat(resultado.getCriadas()).isEqualTo(2);
+        assertThat(resultado.getConflitos()).isEqualTo(1);
+        assertThat(resultado.getItens()).extracting(ReservaLoteItemDTO::getResultado).containsExactly(
+                ResultadoItemLoteEnum.CRIADA,
+                ResultadoItemLoteEnum.CONFLITO,
+                ResultadoItemLoteEnum.CRIADA);
+        assertThat(resultado.getItens().get(1).getMensagem()).isEqualTo("Espaço já possui reserva ativa para esta data");
+        verify(reservaLoteGravacaoService, times(3)).gravar(any(Reserva.class));
+    }
+
+    @Test
+    @DisplayName("Deve propagar violação de integridade que não é do índice de reserva ativa")
+    void devePropagarOutraViolacaoDeIntegridadeNoBatch() {
+        // Arrange
+        when(usuarioRepositoryPort.findById(1)).thenReturn(Optional.of(cliente));
+        when(espacoRepositoryPort.findByIdWithFilial(1)).thenReturn(Optional.of(espaco));
+        when(reservaRepositoryPort.findDatasOcupadas(anyCollection(), anyCollection())).thenReturn(new HashMap<>());
+        when(reservaMapper.toEntity(any(ReservaRequestDTO.class), any(Usuario.class), any(Espaco.class))).thenReturn(reserva);
+        DataIntegrityViolationException violacao = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("ERROR: null value in column \"valor_total\" violates not-null constraint", "23502"));
+        when(reservaLoteGravacaoService.gravarTodas(anyList())).thenThrow(violacao);
+
+        // Act & Assert
+        assertThatThrownBy(() -> reservaService.createBatch(List.of(criarRequestDTO(LocalDate.now().plusDays(10)))))
+                .isSameAs(violacao);
+        verify(reservaLoteGravacaoService, never()).gravar(any());
+    }
+
     @Test
     @DisplayName("Deve lançar exceção ao criar reserva com usuário inexistente")
     void deveLancarExcecaoAoCriarReservaComUsuarioInexistente() {
@@ -219,7 +576,7 @@ class ReservaServiceTest {
         when(reservaRepositoryPort.findById(id)).thenReturn(Optional.of(reserva));
         doNothing().when(reservaAvailabilityService).validarDisponibilidade(anyInt(), any(LocalDate.class), anyInt());
         when(reservaRepositoryPort.save(reserva)).thenReturn(reserva);
-        when(reservaMapper.toResponseDTO(reserva)).thenReturn(responseDTO);
+        when(reservaMapper.toResponseDTO(eq(reserva), any(ValorMonetario.class), anyInt())).thenReturn(responseDTO);
 
         ReservaRequestDTO updateDTO = criarRequestDTO();
         updateDTO.setDataEvento(LocalDate.now().plusDays(20));
@@ -242,7 +599,7 @@ class ReservaServiceTest {
         when(reservaRepositoryPort.findById(id)).thenReturn(Optional.of(reserva));
         doNothing().when(reservaStatusService).cancelReservation(reserva);
         when(reservaRepositoryPort.save(reserva)).thenReturn(reserva);
-        when(reservaMapper.toResponseDTO(reserva)).thenReturn(responseDTO);
+        when(reservaMapper.toResponseDTO(eq(reserva), any(ValorMonetario.class), anyInt())).thenReturn(responseDTO);
 
         // Act
         ReservaResponseDTO resultado = reservaService.updateStatus(id, StatusReservaEnum.CANCELADA);
@@ -251,6 +608,7 @@ class ReservaServiceTest {
         assertThat(resultado).isNotNull();
         verify(reservaStatusService).cancelReservation(reserva);
         verify(reservaRepositoryPort).save(reserva);
+        verify(reservaRepositoryPort).zerarTotalPago(id);
     }
 
     @Test
@@ -260,7 +618,7 @@ class ReservaServiceTest {
         Integer id = 1;
         when(reservaRepositoryPort.findById(id)).thenReturn(Optional.of(reserva));
         when(reservaRepositoryPort.save(reserva)).thenReturn(reserva);
-        when(reservaMapper.toResponseDTO(reserva)).thenReturn(responseDTO);
+        when(reservaMapper.toResponseDTO(eq(reserva), any(ValorMonetario.class), anyInt())).thenReturn(responseDTO);
 
         // Act
         ReservaResponseDTO resultado = reservaService.updateStatus(id, StatusReservaEnum.CONFIRMADA);
@@ -310,23 +668,23 @@ class ReservaServiceTest {
         admin.setNome("Admin Teste");
         admin.setEmail("admin@email.com");
         admin.setSenhaHash("hash");
-        
+
         when(usuarioRepositoryPort.findByEmail("admin@email.com")).thenReturn(Optional.of(admin));
-        List<Reserva> reservas = Arrays.asList(reserva);
-        when(reservaRepositoryPort.findAll()).thenReturn(reservas);
-        when(reservaMapper.toResponseDTO(any(Reserva.class))).thenReturn(responseDTO);
+        when(reservaPaginacaoConfig.resolverTamanho(null)).thenReturn(50);
+        when(reservaRepositoryPort.findPaginaByPeriodo(null, null, null, 51)).thenReturn(Arrays.asList(reserva));
+        when(reservaMapper.toResponseDTO(any(Reserva.class), any(ValorMonetario.class), anyInt())).thenReturn(responseDTO);
 
         // Act
-        List<ReservaResponseDTO> resultado = reservaService.findByAcessoPorEmail("admin@email.com");
+        ReservaPaginaDTO resultado = reservaService.findByAcessoPorEmail("admin@email.com", null, null, null, null);
 
         // Assert
-        assertThat(resultado).hasSize(1);
-        verify(reservaRepositoryPort).findAll();
-        verify(reservaMapper).toResponseDTO(any(Reserva.class));
+        assertThat(resultado.getReservas()).hasSize(1);
+        verify(reservaRepositoryPort).findPaginaByPeriodo(null, null, null, 51);
+        verify(reservaMapper).toResponseDTO(any(Reserva.class), any(ValorMonetario.class), anyInt());
     }
 
     @Test
-    @DisplayName("Deve retornar reservas da filial para funcionário")
+    @DisplayName("Deve retornar reservas da filial para funcionário com uma única consulta")
     void deveRetornarReservasDaFilialParaFuncionario() {
         // Arrange
         Funcionario funcionario = new Funcionario();
@@ -335,17 +693,25 @@ class ReservaServiceTest {
         funcionario.setEmail("func@email.com");
         funcionario.setSenhaHash("hash");
         funcionario.setFilial(filial);
+        LocalDate dataInicio = LocalDate.now();
+        LocalDate dataFim = LocalDate.now().plusDays(30);
 
         when(usuarioRepositoryPort.findByEmail("func@email.com")).thenReturn(Optional.of(funcionario));
-        when(reservaRepositoryPort.findAll()).thenReturn(Arrays.asList(reserva));
-        when(reservaMapper.toResponseDTO(any(Reserva.class))).thenReturn(responseDTO);
+        when(reservaPaginacaoConfig.resolverTamanho(10)).thenReturn(10);
+        when(reservaRepositoryPort.findPaginaByFilialIdAndPeriodo(filial.getId(), dataInicio, dataFim, null, 11))
+                .thenReturn(Arrays.asList(reserva));
+        when(reservaMapper.toResponseDTO(any(Reserva.class), any(ValorMonetario.class), anyInt())).thenReturn(responseDTO);
 
         // Act
-        List<ReservaResponseDTO> resultado = reservaService.findByAcessoPorEmail("func@email.com");
+        ReservaPaginaDTO resultado = reservaService.findByAcessoPorEmail("func@email.com", dataInicio, dataFim, null, 10);
 
         // Assert
-        assertThat(resultado).hasSize(1);
-        verify(reservaRepositoryPort).findAll();
+        assertThat(resultado.getReservas()).hasSize(1);
+        assertThat(resultado.getNextCursor()).isNull();
+        verify(reservaRepositoryPort).findPaginaByFilialIdAndPeriodo(filial.getId(), dataInicio, dataFim, null, 11);
+        verify(reservaRepositoryPort).countByUsuarioIds(anyCollection());
+        verify(reservaRepositoryPort, never()).findAll();
+        verifyNoMoreInteractions(reservaRepositoryPort);
     }
 
     @Test
@@ -362,26 +728,34 @@ class ReservaServiceTest {
         when(usuarioRepositoryPort.findByEmail("func@email.com")).thenReturn(Optional.of(funcionario));
 
         // Act
-        List<ReservaResponseDTO> resultado = reservaService.findByAcessoPorEmail("func@email.com");
+        ReservaPaginaDTO resultado = reservaService.findByAcessoPorEmail("func@email.com", null, null, null, null);
 
         // Assert
-        assertThat(resultado).isEmpty();
+        assertThat(resultado.getReservas()).isEmpty();
+        assertThat(resultado.getNextCursor()).isNull();
+        verifyNoInteractions(reservaRepositoryPort);
     }
 
     @Test
-    @DisplayName("Deve retornar reservas do próprio cliente")
+    @DisplayName("Deve retornar reservas do próprio cliente filtradas pelo período")
     void deveRetornarReservasDoProprioCliente() {
         // Arrange
+        LocalDate dataInicio = LocalDate.of(2025, 12, 1);
+        LocalDate dataFim = LocalDate.of(2025, 12, 31);
         when(usuarioRepositoryPort.findByEmail("cliente@email.com")).thenReturn(Optional.of(cliente));
-        when(reservaRepositoryPort.findByUsuarioId(cliente.getId())).thenReturn(Arrays.asList(reserva));
-        when(reservaMapper.toResponseDTO(any(Reserva.class))).thenReturn(responseDTO);
+        when(reservaPaginacaoConfig.resolverTamanho(null)).thenReturn(50);
+        when(reservaRepositoryPort.findPaginaByUsuarioIdAndPeriodo(cliente.getId(), dataInicio, dataFim, null, 51))
+                .thenReturn(Arrays.asList(reserva));
+        when(reservaMapper.toResponseDTO(any(Reserva.class), any(ValorMonetario.class), anyInt())).thenReturn(responseDTO);
 
         // Act
-        List<ReservaResponseDTO> resultado = reservaService.findByAcessoPorEmail("cliente@email.com");
+        ReservaPaginaDTO resultado = reservaService.findByAcessoPorEmail(
+                "cliente@email.com", dataInicio, dataFim, null, null);
 
         // Assert
-        assertThat(resultado).hasSize(1);
-        verify(reservaRepositoryPort).findByUsuarioId(cliente.getId());
+        assertThat(resultado.getReservas()).hasSize(1);
+        verify(reservaRepositoryPort).findPaginaByUsuarioIdAndPeriodo(cliente.getId(), dataInicio, dataFim, null, 51);
+        verify(reservaRepositoryPort, never()).findPaginaByUsuarioId(any(), any(), anyInt());
     }
 
     @Test
@@ -391,7 +765,7 @@ class ReservaServiceTest {
         when(usuarioRepositoryPort.findByEmail("naoexiste@email.com")).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> reservaService.findByAcessoPorEmail("naoexiste@email.com"))
+        assertThatThrownBy(() -> reservaService.findByAcessoPorEmail("naoexiste@email.com", null, null, null, null))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Usuário não encontrado com email");
     }
@@ -449,6 +823,20 @@ class ReservaServiceTest {
                 .build();
     }
 
+    private ReservaRequestDTO criarRequestDTO(LocalDate dataEvento) {
+        return ReservaRequestDTO.builder()
+                .usuarioId(1)
+                .espacoId(1)
+                .dataEvento(dataEvento)
+                .valorTotal(new BigDecimal("300.00"))
+                .build();
+    }
+
+    private DataIntegrityViolationException violacaoReservaUnicaAtiva() {
+        return new DataIntegrityViolationException("could not execute statement", new SQLException(
+                "ERROR: duplicate key value violates unique constraint \"idx_reserva_unica_ativa\"", "23505"));
+    }
+
     private ReservaResponseDTO criarResponseDTO() {
         return ReservaResponseDTO.builder()
                 .id(1)
@@ -118,7 +118,7 @@ class ReservaStatusServiceTest {
     @DisplayName("Deve cancelar reserva com sucesso")
     void deveCancelarReservaComSucesso() {
         // Arrange
-        reserva.getPagamentos().add(pagamento);
+        reserva.registrarPagamento(pagamento);
         assertThat(reserva.getPagamentos()).hasSize(1);
 
         // Act
@@ -127,6 +127,7 @@ class ReservaStatusServiceTest {
         // Assert
         assertThat(reserva.getStatus()).isEqualTo(StatusReservaEnum.CANCELADA);
         assertThat(reserva.getPagamentos()).isEmpty();
+        assertThat(reserva.getTotalPago().isZero()).isTrue();
     }
 
     @Test
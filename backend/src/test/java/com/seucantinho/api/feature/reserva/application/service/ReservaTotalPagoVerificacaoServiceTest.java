@@ -0,0 +1,105 @@
+package com.seucantinho.api.feature.reserva.application.service;
+
+import com.seucantinho.api.feature.pagamento.domain.port.out.PagamentoRepositoryPort;
+import com.seucantinho.api.feature.reserva.domain.port.out.ReservaRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ReservaTotalPagoVerificacaoService")
+class ReservaTotalPagoVerificacaoServiceTest {
+
+    @Mock
+    private ReservaRepositoryPort reservaRepositoryPort;
+
+    @Mock
+    private PagamentoRepositoryPort pagamentoRepositoryPort;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Deve recalcular apenas as reservas com total pago divergente, lote a lote")
+    void deveRecalcularReservasDivergentesEmLotes() {
+        // Arrange
+        ReservaTotalPagoVerificacaoService service = new ReservaTotalPagoVerificacaoService(
+                reservaRepositoryPort, pagamentoRepositoryPort, meterRegistry, 2, true);
+        when(reservaRepositoryPort.findTotaisPagos(0, 2)).thenReturn(totais(
+                1, new BigDecimal("150.00"),
+                2, BigDecimal.ZERO));
+        when(reservaRepositoryPort.findTotaisPagos(2, 2)).thenReturn(totais(
+                5, new BigDecimal("300.00")));
+        when(pagamentoRepositoryPort.sumValorByReservaIds(Map.of(1, 0, 2, 0).keySet()))
+                .thenReturn(Map.of(1, new BigDecimal("150.0"), 2, new BigDecimal("150.00")));
+        when(pagamentoRepositoryPort.sumValorByReservaIds(Map.of(5, 0).keySet()))
+                .thenReturn(Map.of());
+
+        // Act
+        int divergentes = service.verificar();
+
+        // Assert
+        assertThat(divergentes).isEqualTo(2);
+        verify(reservaRepositoryPort).recalcularTotalPago(List.of(2));
+        verify(reservaRepositoryPort).recalcularTotalPago(List.of(5));
+        assertThat(meterRegistry.get("reserva.total_pago.divergencias").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Deve apenas reportar divergências quando a correção está desativada")
+    void deveApenasReportarDivergenciasSemCorrecao() {
+        // Arrange
+        ReservaTotalPagoVerificacaoService service = new ReservaTotalPagoVerificacaoService(
+                reservaRepositoryPort, pagamentoRepositoryPort, meterRegistry, 10, false);
+        when(reservaRepositoryPort.findTotaisPagos(0, 10)).thenReturn(totais(1, BigDecimal.ZERO));
+        when(pagamentoRepositoryPort.sumValorByReservaIds(any())).thenReturn(Map.of(1, new BigDecimal("150.00")));
+
+        // Act
+        int divergentes = service.verificar();
+
+        // Assert
+        assertThat(divergentes).isEqualTo(1);
+        verify(reservaRepositoryPort, never()).recalcularTotalPago(any());
+    }
+
+    @Test
+    @DisplayName("Não deve consultar pagamentos quando não há reservas")
+    void naoDeveConsultarPagamentosSemReservas() {
+        // Arrange
+        ReservaTotalPagoVerificacaoService service = new ReservaTotalPagoVerificacaoService(
+                reservaRepositoryPort, pagamentoRepositoryPort, meterRegistry, 10, true);
+        when(reservaRepositoryPort.findTotaisPagos(0, 10)).thenReturn(Map.of());
+
+        // Act
+        int divergentes = service.verificar();
+
+        // Assert
+        assertThat(divergentes).isZero();
+        verifyNoInteractions(pagamentoRepositoryPort);
+    }
+
+    private Map<Integer, BigDecimal> totais(Object... idsEValores) {
+        Map<Integer, BigDecimal> totais = new LinkedHashMap<>();
+        for (int i = 0; i < idsEValores.length; i += 2) {
+            totais.put((Integer) idsEValores[i], (BigDecimal) idsEValores[i + 1]);
+        }
+        return totais;
+    }
+}
@@ -166,8 +166,8 @@ class ReservaTest {
         Reserva reserva = criarReservaValida();
         Pagamento pagamento1 = criarPagamento(reserva, ValorMonetario.of("150.00"));
         Pagamento pagamento2 = criarPagamento(reserva, ValorMonetario.of("150.00"));
-        reserva.getPagamentos().add(pagamento1);
-        reserva.getPagamentos().add(pagamento2);
+        reserva.registrarPagamento(pagamento1);
+        reserva.registrarPagamento(pagamento2);
 
         // Act
         ValorMonetario totalPago = reserva.calcularTotalPago();
@@ -176,13 +176,44 @@ class ReservaTest {
         assertThat(totalPago.getValor()).isEqualByComparingTo("300.00");
     }
 
+    @Test
+    @DisplayName("Deve manter total pago sem percorrer a lista de pagamentos")
+    void deveManterTotalPagoSemPercorrerPagamentos() {
+        // Arrange
+        Reserva reserva = criarReservaValida();
+        reserva.setTotalPago(ValorMonetario.of("150.00"));
+
+        // Act
+        ValorMonetario totalPago = reserva.calcularTotalPago();
+
+        // Assert
+        assertThat(reserva.getPagamentos()).isEmpty();
+        assertThat(totalPago.getValor()).isEqualByComparingTo("150.00");
+        assertThat(reserva.calcularSaldo().getValor()).isEqualByComparingTo("150.00");
+    }
+
+    @Test
+    @DisplayName("Deve zerar total pago ao limpar os pagamentos")
+    void deveZerarTotalPagoAoLimparPagamentos() {
+        // Arrange
+        Reserva reserva = criarReservaValida();
+        reserva.registrarPagamento(criarPagamento(reserva, ValorMonetario.of("150.00")));
+
+        // Act
+        reserva.limparPagamentos();
+
+        // Assert
+        assertThat(reserva.getPagamentos()).isEmpty();
+        assertThat(reserva.calcularTotalPago().isZero()).isTrue();
+    }
+
     @Test
     @DisplayName("Deve calcular saldo restante corretamente")
     void deveCalcularSaldoRestanteCorretamente() {
         // Arrange
         Reserva reserva = criarReservaValida();
         Pagamento pagamento = criarPagamento(reserva, ValorMonetario.of("150.00"));
-        reserva.getPagamentos().add(pagamento);
+        reserva.registrarPagamento(pagamento);
 
         // Act
         ValorMonetario saldo = reserva.calcularSaldo();
@@ -197,7 +228,7 @@ class ReservaTest {
         // Arrange
         Reserva reserva = criarReservaValida();
         Pagamento pagamento = criarPagamento(reserva, ValorMonetario.of("300.00"));
-        reserva.getPagamentos().add(pagamento);
+        reserva.registrarPagamento(pagamento);
 
         // Act
         ValorMonetario saldo = reserva.calcularSaldo();
@@ -213,7 +244,7 @@ class ReservaTest {
         Reserva reserva = criarReservaValida();
         reserva.setStatus(StatusReservaEnum.QUITADA);
         Pagamento pagamento = criarPagamento(reserva, ValorMonetario.of("300.00"));
-        reserva.getPagamentos().add(pagamento);
+        reserva.registrarPagamento(pagamento);
 
         // Act
         boolean isQuitada = reserva.isQuitada();
@@ -229,7 +260,7 @@ class ReservaTest {
         Reserva reserva = criarReservaValida();
         reserva.setStatus(StatusReservaEnum.QUITADA);
         Pagamento pagamento = criarPagamento(reserva, ValorMonetario.of("150.00"));
-        reserva.getPagamentos().add(pagamento);
+        reserva.registrarPagamento(pagamento);
 
         // Act
         boolean isQuitada = reserva.isQuitada();
@@ -1,21 +1,37 @@
 package com.seucantinho.api.feature.reserva.domain.valueobject;
 
 import com.seucantinho.api.shared.domain.exception.BusinessException;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 
 import static org.assertj.core.api.Assertions.*;
 
 @DisplayName("Testes da classe DataEvento")
 class DataEventoTest {
 
+    @BeforeEach
+    void setUp() {
+        Relogio.usar(Clock.fixed(Instant.parse("2025-11-01T15:00:00Z"), ZoneId.of("America/Sao_Paulo")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Relogio.restaurar();
+    }
+
     @Test
     @DisplayName("Deve criar data evento válida no futuro")
     void deveCriarDataEventoValidaNoFuturo() {
         // Arrange
-        LocalDate dataFutura = LocalDate.now().plusDays(10);
+        LocalDate dataFutura = Relogio.hoje().plusDays(10);
 
         // Act
         DataEvento dataEvento = DataEvento.of(dataFutura);
@@ -29,7 +45,7 @@ class DataEventoTest {
     @DisplayName("Deve criar data evento com 1 dia de antecedência")
     void deveCriarDataEventoComUmDiaDeAntecedencia() {
         // Arrange
-        LocalDate dataFutura = LocalDate.now().plusDays(1);
+        LocalDate dataFutura = Relogio.hoje().plusDays(1);
 
         // Act
         DataEvento dataEvento = DataEvento.of(dataFutura);
@@ -43,7 +59,7 @@ class DataEventoTest {
     @DisplayName("Deve criar data evento com 365 dias de antecedência")
     void deveCriarDataEventoComMaximoDeAntecedencia() {
         // Arrange
-        LocalDate dataFutura = LocalDate.now().plusDays(365);
+        LocalDate dataFutura = Relogio.hoje().plusDays(365);
 
         // Act
         DataEvento dataEvento = DataEvento.of(dataFutura);
@@ -66,7 +82,7 @@ class DataEventoTest {
     @DisplayName("Deve lançar exceção quando data for no passado")
     void deveLancarExcecaoQuandoDataForNoPassado() {
         // Arrange
-        LocalDate dataPassada = LocalDate.now().minusDays(1);
+        LocalDate dataPassada = Relogio.hoje().minusDays(1);
 
         // Act & Assert
         assertThatThrownBy(() -> DataEvento.of(dataPassada))
@@ -78,7 +94,7 @@ class DataEventoTest {
     @DisplayName("Deve lançar exceção quando data for hoje (sem antecedência mínima)")
     void deveLancarExcecaoQuandoDataForHoje() {
         // Arrange
-        LocalDate hoje = LocalDate.now();
+        LocalDate hoje = Relogio.hoje();
 
         // Act & Assert
         assertThatThrownBy(() -> DataEvento.of(hoje))
@@ -90,7 +106,7 @@ class DataEventoTest {
     @DisplayName("Deve lançar exceção quando data exceder máximo de antecedência")
     void deveLancarExcecaoQuandoDataExcederMaximoDeAntecedencia() {
         // Arrange
-        LocalDate dataDistante = LocalDate.now().plusDays(366);
+        LocalDate dataDistante = Relogio.hoje().plusDays(366);
 
         // Act & Assert
         assertThatThrownBy(() -> DataEvento.of(dataDistante))
@@ -130,7 +146,7 @@ class DataEventoTest {
     @DisplayName("Deve manter igualdade entre datas evento com mesma data")
     void deveManterIgualdadeEntreDatasEvento() {
         // Arrange
-        LocalDate data = LocalDate.now().plusDays(10);
+        LocalDate data = Relogio.hoje().plusDays(10);
         DataEvento dataEvento1 = DataEvento.of(data);
         DataEvento dataEvento2 = DataEvento.of(data);
 
@@ -143,8 +159,8 @@ class DataEventoTest {
     @DisplayName("Deve diferenciar datas evento com datas diferentes")
     void deveDiferenciarDatasEventoComDatasDiferentes() {
         // Arrange
-        LocalDate data1 = LocalDate.now().plusDays(10);
-        LocalDate data2 = LocalDate.now().plusDays(20);
+        LocalDate data1 = Relogio.hoje().plusDays(10);
+        LocalDate data2 = Relogio.hoje().plusDays(20);
         DataEvento dataEvento1 = DataEvento.of(data1);
         DataEvento dataEvento2 = DataEvento.of(data2);
 
@@ -156,10 +172,10 @@ class DataEventoTest {
     @DisplayName("Deve aceitar datas válidas dentro do intervalo permitido")
     void deveAceitarDatasValidasDentroDoIntervalo() {
         // Arrange & Act
-        DataEvento dataEvento30Dias = DataEvento.of(LocalDate.now().plusDays(30));
-        DataEvento dataEvento90Dias = DataEvento.of(LocalDate.now().plusDays(90));
-        DataEvento dataEvento180Dias = DataEvento.of(LocalDate.now().plusDays(180));
-        DataEvento dataEvento364Dias = DataEvento.of(LocalDate.now().plusDays(364));
+        DataEvento dataEvento30Dias = DataEvento.of(Relogio.hoje().plusDays(30));
+        DataEvento dataEvento90Dias = DataEvento.of(Relogio.hoje().plusDays(90));
+        DataEvento dataEvento180Dias = DataEvento.of(Relogio.hoje().plusDays(180));
+        DataEvento dataEvento364Dias = DataEvento.of(Relogio.hoje().plusDays(364));
 
         // Assert
         assertThat(dataEvento30Dias).isNotNull();
@@ -172,7 +188,7 @@ class DataEventoTest {
     @DisplayName("Deve lançar exceção para data 2 anos no futuro")
     void deveLancarExcecaoParaDataMuitoDistante() {
         // Arrange
-        LocalDate dataDistante = LocalDate.now().plusYears(2);
+        LocalDate dataDistante = Relogio.hoje().plusYears(2);
 
         // Act & Assert
         assertThatThrownBy(() -> DataEvento.of(dataDistante))
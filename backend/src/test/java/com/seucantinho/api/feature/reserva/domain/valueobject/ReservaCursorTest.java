@@ -0,0 +1,54 @@
+package com.seucantinho.api.feature.reserva.domain.valueobject;
+
+import com.seucantinho.api.shared.domain.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Testes da classe ReservaCursor")
+class ReservaCursorTest {
+
+    @Test
+    @DisplayName("Deve codificar e decodificar cursor")
+    void deveCodificarEDecodificarCursor() {
+        // Arrange
+        ReservaCursor cursor = ReservaCursor.of(LocalDate.of(2025, 12, 20), 42);
+
+        // Act
+        ReservaCursor decodificado = ReservaCursor.decode(cursor.encode());
+
+        // Assert
+        assertThat(decodificado).isEqualTo(cursor);
+        assertThat(decodificado.getDataEvento()).isEqualTo(LocalDate.of(2025, 12, 20));
+        assertThat(decodificado.getId()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("Deve gerar cursor opaco")
+    void deveGerarCursorOpaco() {
+        ReservaCursor cursor = ReservaCursor.of(LocalDate.of(2025, 12, 20), 42);
+
+        assertThat(cursor.encode()).doesNotContain("2025-12-20").doesNotContain("=");
+    }
+
+    @Test
+    @DisplayName("Deve retornar nulo para cursor vazio")
+    void deveRetornarNuloParaCursorVazio() {
+        assertThat(ReservaCursor.decode(null)).isNull();
+        assertThat(ReservaCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para cursor inválido")
+    void deveLancarExcecaoParaCursorInvalido() {
+        assertThatThrownBy(() -> ReservaCursor.decode("@@@"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Cursor de paginação inválido");
+        assertThatThrownBy(() -> ReservaCursor.decode("c2VtLXNlcGFyYWRvcg"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Cursor de paginação inválido");
+    }
+}
@@ -0,0 +1,72 @@
+package com.seucantinho.api.feature.reserva.domain.valueobject;
+
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import com.seucantinho.api.shared.domain.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Testes da classe ReservaFiltro")
+class ReservaFiltroTest {
+
+    @Test
+    @DisplayName("Deve criar filtro sem restrições")
+    void deveCriarFiltroSemRestricoes() {
+        ReservaFiltro filtro = ReservaFiltro.builder().build();
+
+        assertThat(filtro.getUsuarioId()).isNull();
+        assertThat(filtro.getEspacoId()).isNull();
+        assertThat(filtro.getFilialId()).isNull();
+        assertThat(filtro.getDataInicio()).isNull();
+        assertThat(filtro.getDataFim()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve aceitar período de um único dia")
+    void deveAceitarPeriodoDeUmDia() {
+        LocalDate data = LocalDate.of(2026, 3, 10);
+
+        ReservaFiltro filtro = ReservaFiltro.builder().dataInicio(data).dataFim(data).build();
+
+        assertThat(filtro.getDataInicio()).isEqualTo(data);
+        assertThat(filtro.getDataFim()).isEqualTo(data);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar data inicial posterior à data final")
+    void deveRejeitarDataInicialPosteriorAFinal() {
+        ReservaFiltro.ReservaFiltroBuilder builder = ReservaFiltro.builder()
+                .dataInicio(LocalDate.of(2026, 3, 11))
+                .dataFim(LocalDate.of(2026, 3, 10));
+
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Data inicial não pode ser posterior à data final");
+    }
+
+    @Test
+    @DisplayName("Deve tratar conjunto de status nulo como sem restrição")
+    void deveTratarStatusNuloComoSemRestricao() {
+        ReservaFiltro filtro = ReservaFiltro.builder().status(null).build();
+
+        assertThat(filtro.getStatus()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve copiar o conjunto de status informado")
+    void deveCopiarConjuntoDeStatus() {
+        Set<StatusReservaEnum> status = new HashSet<>(Set.of(StatusReservaEnum.CONFIRMADA));
+
+        ReservaFiltro filtro = ReservaFiltro.builder().status(status).build();
+        status.add(StatusReservaEnum.CANCELADA);
+
+        assertThat(filtro.getStatus()).containsExactly(StatusReservaEnum.CONFIRMADA);
+        assertThatThrownBy(() -> filtro.getStatus().add(StatusReservaEnum.QUITADA))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -1,18 +1,44 @@
 package com.seucantinho.api.feature.reserva.infrastructure.adapter.out;
 
 import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.domain.enums.OrdenacaoReservaEnum;
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import com.seucantinho.api.feature.reserva.domain.valueobject.ReservaCursor;
+import com.seucantinho.api.feature.reserva.domain.valueobject.ReservaFiltro;
+import com.seucantinho.api.feature.reserva.infrastructure.cache.OcupacaoEspacoIndex;
 import com.seucantinho.api.feature.reserva.infrastructure.persistence.ReservaRepository;
+import com.seucantinho.api.feature.reserva.infrastructure.scheduler.ReservaExpiracaoAgenda;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,11 +50,24 @@ class ReservaRepositoryAdapterTest {
     @Mock
     private ReservaRepository reservaRepository;
 
+    @Mock
+    private OcupacaoEspacoIndex ocupacaoEspacoIndex;
+
+    @Mock
+    private ReservaExpiracaoAgenda reservaExpiracaoAgenda;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     private ReservaRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new ReservaRepositoryAdapter(reservaRepository);
+        adapter = new ReservaRepositoryAdapter(reservaRepository, ocupacaoEspacoIndex, reservaExpiracaoAgenda, entityManager,
+                jdbcTemplate);
     }
 
     @Test
@@ -41,6 +80,58 @@ class ReservaRepositoryAdapterTest {
 
         assertNotNull(result);
         verify(reservaRepository).save(reserva);
+        verify(ocupacaoEspacoIndex).registrar(reserva);
+        verify(reservaExpiracaoAgenda).agendar(reserva);
+    }
+
+    @Test
+    @DisplayName("Deve dispensar o banco quando o índice sabe que a data está livre")
+    void deveDispensarBancoQuandoIndiceIndicaDataLivre() {
+        LocalDate data = LocalDate.now().plusDays(10);
+        when(ocupacaoEspacoIndex.isLivre(1, data, null)).thenReturn(true);
+
+        boolean result = adapter.existsActiveReservationByEspacoAndData(1, data, null);
+
+        assertFalse(result);
+        verify(reservaRepository, never()).existsReservaAtivaByEspacoAndData(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve confirmar no banco quando o índice não sabe que a data está livre")
+    void deveConfirmarNoBancoQuandoIndiceNaoIndicaDataLivre() {
+        LocalDate data = LocalDate.now().plusDays(10);
+        when(ocupacaoEspacoIndex.isLivre(1, data, 5)).thenReturn(false);
+        when(reservaRepository.existsReservaAtivaByEspacoAndData(1, data, 5)).thenReturn(false);
+
+        boolean result = adapter.existsActiveReservationByEspacoAndData(1, data, 5);
+
+        assertFalse(result);
+        verify(reservaRepository).existsReservaAtivaByEspacoAndData(1, data, 5);
+    }
+
+    @Test
+    @DisplayName("Deve mapear as datas de criação por id, mantendo as nulas")
+    void deveMapearDatasCriacaoPorId() {
+        LocalDateTime criacao = LocalDateTime.of(2025, 11, 1, 10, 0);
+        List<Object[]> linhas = new ArrayList<>();
+        linhas.add(new Object[]{1, criacao});
+        linhas.add(new Object[]{2, null});
+        when(reservaRepository.findCriacoesByStatus(StatusReservaEnum.AGUARDANDO_SINAL)).thenReturn(linhas);
+
+        Map<Integer, LocalDateTime> datas = adapter.findDatasCriacaoByStatus(StatusReservaEnum.AGUARDANDO_SINAL);
+
+        assertEquals(criacao, datas.get(1));
+        assertTrue(datas.containsKey(2));
+        assertNull(datas.get(2));
+    }
+
+    @Test
+    @DisplayName("Deve remover reserva do índice ao deletar")
+    void deveRemoverReservaDoIndiceAoDeletar() {
+        adapter.deleteById(1);
+
+        verify(reservaRepository).deleteById(1);
+        verify(ocupacaoEspacoIndex).remover(1);
     }
 
     @Test
@@ -70,5 +161,268 @@ class ReservaRepositoryAdapterTest {
         assertEquals(1, result.get().getId());
         verify(reservaRepository).findById(1);
     }
-}
 
+    @Test
+    @DisplayName("Deve buscar primeira página sem cursor")
+    void deveBuscarPrimeiraPaginaSemCursor() {
+        when(reservaRepository.findPrimeiraPagina(Limit.of(11))).thenReturn(List.of());
+
+        adapter.findPagina(null, 11);
+
+        verify(reservaRepository).findPrimeiraPagina(Limit.of(11));
+        verify(reservaRepository, never()).findPaginaApos(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar página após o cursor")
+    void deveBuscarPaginaAposCursor() {
+        LocalDate data = LocalDate.of(2025, 12, 20);
+        ReservaCursor cursor = ReservaCursor.of(data, 7);
+        when(reservaRepository.findPaginaAposByEspacoId(3, data, 7, Limit.of(11))).thenReturn(List.of());
+
+        adapter.findPaginaByEspacoId(3, cursor, 11);
+
+        verify(reservaRepository).findPaginaAposByEspacoId(3, data, 7, Limit.of(11));
+    }
+
+    @Test
+    @DisplayName("Deve buscar página da filial com uma única consulta")
+    void deveBuscarPaginaDaFilialComUmaUnicaConsulta() {
+        LocalDate inicio = LocalDate.of(2025, 12, 1);
+        LocalDate fim = LocalDate.of(2025, 12, 31);
+        when(reservaRepository.findPrimeiraPaginaByFilialIdAndPeriodo(1, inicio, fim, Limit.of(21)))
+                .thenReturn(List.of());
+
+        adapter.findPaginaByFilialIdAndPeriodo(1, inicio, fim, null, 21);
+
+        verify(reservaRepository).findPrimeiraPaginaByFilialIdAndPeriodo(1, inicio, fim, Limit.of(21));
+        verifyNoMoreInteractions(reservaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar datas ocupadas por espaço")
+    void deveAgruparDatasOcupadasPorEspaco() {
+        LocalDate data1 = LocalDate.of(2025, 12, 20);
+        LocalDate data2 = LocalDate.of(2025, 12, 27);
+        List<Object[]> linhas = new ArrayList<>();
+        linhas.add(new Object[]{1, data1});
+        linhas.add(new Object[]{1, data2});
+        linhas.add(new Object[]{2, data1});
+        when(reservaRepository.findDatasOcupadas(Set.of(1, 2), Set.of(data1, data2))).thenReturn(linhas);
+
+        Map<Integer, Set<LocalDate>> result = adapter.findDatasOcupadas(Set.of(1, 2), Set.of(data1, data2));
+
+        assertEquals(Set.of(data1, data2), result.get(1));
+        assertEquals(Set.of(data1), result.get(2));
+    }
+
+    @Test
+    @DisplayName("Deve salvar reservas em lote e registrar no índice")
+    void deveSalvarReservasEmLote() {
+        Reserva reserva1 = Reserva.builder().id(1).build();
+        Reserva reserva2 = Reserva.builder().id(2).build();
+        List<Reserva> reservas = Arrays.asList(reserva1, reserva2);
+        when(reservaRepository.saveAllAndFlush(reservas)).thenReturn(reservas);
+
+        List<Reserva> result = adapter.saveAllAndFlush(reservas);
+
+        assertEquals(2, result.size());
+        verify(reservaRepository, times(1)).saveAllAndFlush(reservas);
+        verify(ocupacaoEspacoIndex).registrar(reserva1);
+        verify(ocupacaoEspacoIndex).registrar(reserva2);
+    }
+
+    @Test
+    @DisplayName("Deve atualizar status em lote e liberar o índice ao finalizar")
+    void deveAtualizarStatusEmLoteELiberarIndice() {
+        List<Integer> ids = List.of(1, 2);
+        Set<StatusReservaEnum> origem = Set.of(StatusReservaEnum.QUITADA);
+        when(reservaRepository.updateStatusEmLote(ids, origem, StatusReservaEnum.FINALIZADA)).thenReturn(2);
+
+        int result = adapter.updateStatusEmLote(ids, origem, StatusReservaEnum.FINALIZADA);
+
+        assertEquals(2, result);
+        verify(ocupacaoEspacoIndex).remover(1);
+        verify(ocupacaoEspacoIndex).remover(2);
+    }
+
+    @Test
+    @DisplayName("Não deve executar atualização em lote sem ids")
+    void naoDeveAtualizarStatusEmLoteSemIds() {
+        int result = adapter.updateStatusEmLote(List.of(), Set.of(StatusReservaEnum.QUITADA), StatusReservaEnum.FINALIZADA);
+
+        assertEquals(0, result);
+        verifyNoInteractions(reservaRepository, ocupacaoEspacoIndex);
+    }
+
+    @Test
+    @DisplayName("Deve liberar no índice apenas as reservas efetivamente canceladas")
+    void deveLiberarIndiceApenasDasReservasCanceladas() {
+        List<Integer> ids = List.of(1, 2, 3);
+        Set<StatusReservaEnum> origem = Set.of(StatusReservaEnum.AGUARDANDO_SINAL);
+        when(reservaRepository.cancelarEmLote(ids, origem, StatusReservaEnum.CANCELADA)).thenReturn(2);
+        when(reservaRepository.findIdsByIdInAndStatus(ids, StatusReservaEnum.CANCELADA)).thenReturn(List.of(1, 3));
+
+        int result = adapter.cancelarEmLote(ids, origem);
+
+        assertEquals(2, result);
+        verify(ocupacaoEspacoIndex).remover(1);
+        verify(ocupacaoEspacoIndex).remover(3);
+        verifyNoMoreInteractions(ocupacaoEspacoIndex);
+    }
+
+    @Test
+    @DisplayName("Não deve alterar o índice quando nenhuma reserva é cancelada")
+    void naoDeveAlterarIndiceQuandoNenhumaReservaCancelada() {
+        List<Integer> ids = List.of(1);
+        Set<StatusReservaEnum> origem = Set.of(StatusReservaEnum.AGUARDANDO_SINAL);
+        when(reservaRepository.cancelarEmLote(ids, origem, StatusReservaEnum.CANCELADA)).thenReturn(0);
+
+        int result = adapter.cancelarEmLote(ids, origem);
+
+        assertEquals(0, result);
+        verifyNoInteractions(ocupacaoEspacoIndex);
+        verify(reservaRepository, never()).findIdsByIdInAndStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve apontar quais reservas não foram gravadas por terem mudado de versão")
+    @SuppressWarnings("unchecked")
+    void deveApontarReservasComVersaoAlterada() {
+        List<Reserva> reservas = List.of(
+                Reserva.builder().id(1).versao(3L).status(StatusReservaEnum.CONFIRMADA).build(),
+                Reserva.builder().id(2).versao(7L).status(StatusReservaEnum.QUITADA).build());
+        when(jdbcTemplate.batchUpdate(anyString(), eq(reservas), eq(2), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{1, 0}});
+
+        boolean[] result = adapter.updateStatusComVersaoEmLote(reservas);
+
+        assertArrayEquals(new boolean[]{true, false}, result);
+    }
+
+    @Test
+    @DisplayName("Não deve acessar o banco ao gravar um lote vazio de reservas")
+    void naoDeveGravarLoteVazio() {
+        assertEquals(0, adapter.updateStatusComVersaoEmLote(List.of()).length);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve percorrer reservas em lotes limpando o contexto de persistência a cada lote")
+    void devePercorrerReservasEmLotes() {
+        int total = ReservaRepositoryAdapter.TAMANHO_LOTE_EXPORTACAO + 1;
+        LocalDate inicio = LocalDate.of(2026, 1, 1);
+        ReservaFiltro filtro = ReservaFiltro.builder().espacoId(3).dataInicio(inicio).build();
+        when(reservaRepository.streamByFiltro(null, 3, null, inicio, null)).thenReturn(
+                IntStream.rangeClosed(1, total).mapToObj(id -> Reserva.builder().id(id).build()));
+        List<Integer> tamanhosLotes = new ArrayList<>();
+
+        adapter.percorrer(filtro, lote -> tamanhosLotes.add(lote.size()));
+
+        assertEquals(List.of(ReservaRepositoryAdapter.TAMANHO_LOTE_EXPORTACAO, 1), tamanhosLotes);
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("Não deve entregar lote quando não há reservas")
+    void naoDeveEntregarLoteSemReservas() {
+        when(reservaRepository.streamByFiltro(null, null, null, null, null)).thenReturn(Stream.empty());
+        List<List<Reserva>> lotes = new ArrayList<>();
+
+        adapter.percorrer(ReservaFiltro.builder().build(), lotes::add);
+
+        assertTrue(lotes.isEmpty());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    @DisplayName("Deve buscar com especificação, ordenação desempatada por ID e página")
+    @SuppressWarnings("unchecked")
+    void deveBuscarComEspecificacaoOrdenacaoEPagina() {
+        ReservaFiltro filtro = ReservaFiltro.builder().filialId(1).build();
+        Slice<Reserva> slice = new SliceImpl<>(List.of(Reserva.builder().id(1).build()));
+        JpaSpecificationExecutor.SpecificationFluentQuery<Reserva> consulta = mock(JpaSpecificationExecutor.SpecificationFluentQuery.class);
+        when(consulta.sortBy(any())).thenReturn(consulta);
+        when(consulta.slice(any())).thenReturn(slice);
+        when(reservaRepository.findBy(any(Specification.class), any())).thenAnswer(invocation -> {
+            Function<JpaSpecificationExecutor.SpecificationFluentQuery<Reserva>, Slice<Reserva>> funcao = invocation.getArgument(1);
+            return funcao.apply(consulta);
+        });
+
+        Slice<Reserva> result = adapter.buscar(filtro, OrdenacaoReservaEnum.DATA_EVENTO, Sort.Direction.DESC, 2, 20);
+
+        assertSame(slice, result);
+        verify(consulta).sortBy(Sort.by(Sort.Direction.DESC, "dataEvento.data").and(Sort.by(Sort.Direction.DESC, "id")));
+        verify(consulta).slice(PageRequest.of(2, 20));
+    }
+
+    @Test
+    @DisplayName("Deve retornar totais pagos na ordem dos ids")
+    void deveRetornarTotaisPagosNaOrdemDosIds() {
+        when(reservaRepository.findTotaisPagos(0, Limit.of(2))).thenReturn(List.of(
+                new Object[]{3, new BigDecimal("150.00")},
+                new Object[]{7, BigDecimal.ZERO}));
+
+        Map<Integer, BigDecimal> result = adapter.findTotaisPagos(0, 2);
+
+        assertEquals(List.of(3, 7), List.copyOf(result.keySet()));
+        assertEquals(new BigDecimal("150.00"), result.get(3));
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco ao recalcular total pago sem reservas")
+    void naoDeveRecalcularTotalPagoSemReservas() {
+        int result = adapter.recalcularTotalPago(List.of());
+
+        assertEquals(0, result);
+        verifyNoInteractions(reservaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve desanexar as reservas carregadas com pagamentos")
+    void deveDesanexarReservasCarregadasComPagamentos() {
+        Reserva primeira = Reserva.builder().id(1).build();
+        Reserva segunda = Reserva.builder().id(2).build();
+        when(reservaRepository.findAllByIdWithPagamentos(Set.of(1, 2))).thenReturn(List.of(primeira, segunda));
+
+        List<Reserva> result = adapter.findDesanexadasComPagamentos(Set.of(1, 2));
+
+        assertEquals(2, result.size());
+        verify(entityManager).detach(primeira);
+        verify(entityManager).detach(segunda);
+    }
+
+    @Test
+    @DisplayName("Deve contar reservas por usuário com uma consulta agrupada por página de ids")
+    @SuppressWarnings("unchecked")
+    void deveContarReservasPorPaginaDeIds() {
+        // Arrange
+        List<Integer> usuarioIds = new ArrayList<>();
+        for (int id = 1; id <= ReservaRepositoryAdapter.IDS_POR_CONSULTA * 2 + 1; id++) {
+            usuarioIds.add(id);
+        }
+        usuarioIds.add(1);
+        when(reservaRepository.countByUsuarioIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Integer> pagina = invocation.getArgument(0);
+            return pagina.contains(1) ? List.<Object[]>of(new Object[]{1, 4L}) : List.of();
+        });
+
+        // Act
+        Map<Integer, Integer> quantidades = adapter.countByUsuarioIds(usuarioIds);
+
+        // Assert
+        ArgumentCaptor<Collection<Integer>> paginas = ArgumentCaptor.forClass(Collection.class);
+        verify(reservaRepository, times(3)).countByUsuarioIds(paginas.capture());
+        assertTrue(paginas.getAllValues().stream().allMatch(pagina -> pagina.size() <= ReservaRepositoryAdapter.IDS_POR_CONSULTA));
+        assertEquals(ReservaRepositoryAdapter.IDS_POR_CONSULTA * 2 + 1,
+                paginas.getAllValues().stream().mapToInt(Collection::size).sum());
+        assertEquals(Map.of(1, 4), quantidades);
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco ao contar reservas de lista vazia")
+    void naoDeveConsultarAoContarListaVazia() {
+        assertTrue(adapter.countByUsuarioIds(List.of()).isEmpty());
+        verify(reservaRepository, never()).countByUsuarioIds(anyCollection());
+    }
+}
@@ -0,0 +1,147 @@
+package com.seucantinho.api.feature.reserva.infrastructure.cache;
+
+import com.seucantinho.api.feature.espaco.domain.Espaco;
+import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import com.seucantinho.api.feature.reserva.domain.valueobject.DataEvento;
+import com.seucantinho.api.feature.reserva.infrastructure.persistence.ReservaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do OcupacaoEspacoIndex")
+class OcupacaoEspacoIndexTest {
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    private OcupacaoEspacoIndex index;
+    private LocalDate data;
+
+    @BeforeEach
+    void setUp() {
+        index = new OcupacaoEspacoIndex(reservaRepository);
+        data = LocalDate.now().plusDays(10);
+    }
+
+    @Test
+    @DisplayName("Não deve cobrir nenhuma data antes do aquecimento")
+    void naoDeveCobrirDataAntesDoAquecimento() {
+        assertThat(index.cobre(data)).isFalse();
+        assertThat(index.isLivre(10, data, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar gravações anteriores ao aquecimento, que já estão no banco")
+    void deveIgnorarGravacoesAnterioresAoAquecimento() {
+        // Arrange
+        index.registrar(criarReserva(1, 10, StatusReservaEnum.CONFIRMADA));
+        when(reservaRepository.findOcupacoesAtivas(any(), any())).thenReturn(List.of());
+
+        // Act
+        index.aquecer();
+
+        // Assert: vale o que o aquecimento leu do banco
+        assertThat(index.isLivre(10, data, null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve carregar ocupações ativas no aquecimento")
+    void deveCarregarOcupacoesAtivasNoAquecimento() {
+        // Arrange
+        List<Object[]> ocupacoes = new ArrayList<>();
+        ocupacoes.add(new Object[]{1, 10, data});
+        when(reservaRepository.findOcupacoesAtivas(any(), any())).thenReturn(ocupacoes);
+
+        // Act
+        index.aquecer();
+
+        // Assert
+        assertThat(index.cobre(data)).isTrue();
+        assertThat(index.isLivre(10, data, null)).isFalse();
+        assertThat(index.isLivre(10, data.plusDays(1), null)).isTrue();
+        assertThat(index.isLivre(20, data, null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Não deve cobrir datas fora da janela de antecedência")
+    void naoDeveCobrirDatasForaDaJanela() {
+        when(reservaRepository.findOcupacoesAtivas(any(), any())).thenReturn(List.of());
+
+        index.aquecer();
+
+        assertThat(index.cobre(LocalDate.now().minusDays(1))).isFalse();
+        assertThat(index.cobre(LocalDate.now().plusDays(365))).isTrue();
+        assertThat(index.cobre(LocalDate.now().plusDays(366))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar a própria reserva na verificação")
+    void deveIgnorarPropriaReservaNaVerificacao() {
+        when(reservaRepository.findOcupacoesAtivas(any(), any())).thenReturn(List.of());
+        index.aquecer();
+
+        index.registrar(criarReserva(1, 10, StatusReservaEnum.AGUARDANDO_SINAL));
+
+        assertThat(index.isLivre(10, data, 1)).isTrue();
+        assertThat(index.isLivre(10, data, 2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve liberar a data quando a reserva é cancelada")
+    void deveLiberarDataQuandoReservaCancelada() {
+        when(reservaRepository.findOcupacoesAtivas(any(), any())).thenReturn(List.of());
+        index.aquecer();
+        index.registrar(criarReserva(1, 10, StatusReservaEnum.CONFIRMADA));
+
+        index.registrar(criarReserva(1, 10, StatusReservaEnum.CANCELADA));
+
+        assertThat(index.isLivre(10, data, null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve mover a ocupação quando a reserva troca de espaço")
+    void deveMoverOcupacaoQuandoReservaTrocaDeEspaco() {
+        when(reservaRepository.findOcupacoesAtivas(any(), any())).thenReturn(List.of());
+        index.aquecer();
+        index.registrar(criarReserva(1, 10, StatusReservaEnum.CONFIRMADA));
+
+        index.registrar(criarReserva(1, 20, StatusReservaEnum.CONFIRMADA));
+
+        assertThat(index.isLivre(10, data, null)).isTrue();
+        assertThat(index.isLivre(20, data, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve liberar a data quando a reserva é removida")
+    void deveLiberarDataQuandoReservaRemovida() {
+        when(reservaRepository.findOcupacoesAtivas(any(), any())).thenReturn(List.of());
+        index.aquecer();
+        index.registrar(criarReserva(1, 10, StatusReservaEnum.QUITADA));
+
+        index.remover(1);
+
+        assertThat(index.isLivre(10, data, null)).isTrue();
+    }
+
+    private Reserva criarReserva(Integer id, Integer espacoId, StatusReservaEnum status) {
+        return Reserva.builder()
+                .id(id)
+                .espaco(Espaco.builder().id(espacoId).build())
+                .dataEvento(DataEvento.of(data))
+                .status(status)
+                .build();
+    }
+}
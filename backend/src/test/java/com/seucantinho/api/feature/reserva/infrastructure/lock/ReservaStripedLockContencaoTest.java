@@ -0,0 +1,121 @@
+package com.seucantinho.api.feature.reserva.infrastructure.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+// Verificações determinísticas de contenção; a vazão por número de reservas é medida
+// em benchmarks/ (ReservaStripedLockBenchmark), fora da suíte de testes
+@DisplayName("Testes de contenção do ReservaStripedLock")
+class ReservaStripedLockContencaoTest {
+
+    @Test
+    @DisplayName("Deve colocar reservas de ids consecutivos em listras distintas")
+    void deveColocarIdsConsecutivosEmListrasDistintas() {
+        // Arrange
+        ReservaStripedLock lock = new ReservaStripedLock(256);
+        Set<Integer> listras = new HashSet<>();
+
+        // Act
+        for (int reservaId = 1; reservaId <= 256; reservaId++) {
+            listras.add(lock.indice(reservaId));
+        }
+
+        // Assert
+        assertThat(listras).hasSize(256);
+    }
+
+    @Test
+    @DisplayName("Deve colocar na mesma listra reservas cujos ids diferem pela quantidade de listras")
+    void deveCompartilharListraQuandoIdsColidem() {
+        // Arrange
+        ReservaStripedLock lock = new ReservaStripedLock(16);
+
+        // Act & Assert
+        assertThat(lock.indice(17)).isEqualTo(lock.indice(1));
+        assertThat(lock.indice(2)).isNotEqualTo(lock.indice(1));
+    }
+
+    @Test
+    @DisplayName("Não deve haver duas threads ao mesmo tempo na seção crítica da mesma reserva")
+    void deveSerializarOperacoesDaMesmaReserva() throws Exception {
+        // Arrange
+        ReservaStripedLock lock = new ReservaStripedLock(256);
+        AtomicInteger dentro = new AtomicInteger();
+        AtomicInteger maximoDentro = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<?>> tarefas = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 16; t++) {
+            tarefas.add(executor.submit(() -> {
+                largada.await();
+                for (int i = 0; i < 100; i++) {
+                    lock.executar(1, () -> {
+                        maximoDentro.accumulateAndGet(dentro.incrementAndGet(), Math::max);
+                        Thread.onSpinWait();
+                        return dentro.decrementAndGet();
+                    });
+                }
+                return null;
+            }));
+        }
+        largada.countDown();
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(maximoDentro.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve bloquear uma reserva de outra listra enquanto a primeira está ocupada")
+    void naoDeveBloquearReservaDeOutraListra() throws Exception {
+        // Arrange
+        ReservaStripedLock lock = new ReservaStripedLock(256);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch ocupada = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        try {
+            executor.submit(() -> lock.executar(1, () -> {
+                ocupada.countDown();
+                aguardar(liberar);
+                return null;
+            }));
+            assertThat(ocupada.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // Act
+            Future<String> outraReserva = executor.submit(() -> lock.executar(2, () -> "ok"));
+
+            // Assert: conclui com a reserva 1 ainda travada
+            assertThat(outraReserva.get(10, TimeUnit.SECONDS)).isEqualTo("ok");
+        } finally {
+            liberar.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.seucantinho.api.feature.reserva.infrastructure.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Testes do ReservaStripedLock")
+class ReservaStripedLockTest {
+
+    @Test
+    @DisplayName("Deve arredondar a quantidade de listras para potência de dois")
+    void deveArredondarQuantidadeDeListras() {
+        assertThat(new ReservaStripedLock(256).quantidadeListras()).isEqualTo(256);
+        assertThat(new ReservaStripedLock(100).quantidadeListras()).isEqualTo(128);
+        assertThat(new ReservaStripedLock(1).quantidadeListras()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve distribuir ids sequenciais em listras diferentes")
+    void deveDistribuirIdsSequenciais() {
+        // Arrange
+        ReservaStripedLock lock = new ReservaStripedLock(256);
+
+        // Act & Assert
+        assertThat(lock.indice(1)).isNotEqualTo(lock.indice(2));
+        assertThat(lock.indice(1)).isEqualTo(lock.indice(1));
+    }
+
+    @Test
+    @DisplayName("Deve permitir uma única quitação quando vários pagamentos chegam juntos para a mesma reserva")
+    void devePermitirUmaUnicaQuitacaoSimultanea() throws Exception {
+        // Arrange
+        ReservaStripedLock lock = new ReservaStripedLock(256);
+        AtomicInteger quitacoes = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<Boolean>> resultados = new ArrayList<>();
+
+        // Act: cada tarefa valida (nenhuma quitação ainda) e só depois registra, como PagamentoService.create
+        for (int i = 0; i < 64; i++) {
+            resultados.add(executor.submit(() -> {
+                largada.await();
+                return lock.executar(1, () -> {
+                    if (quitacoes.get() > 0) {
+                        return false;
+                    }
+                    Thread.onSpinWait();
+                    quitacoes.incrementAndGet();
+                    return true;
+                });
+            }));
+        }
+        largada.countDown();
+        int aceitas = 0;
+        for (Future<Boolean> resultado : resultados) {
+            aceitas += resultado.get(10, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(aceitas).isEqualTo(1);
+        assertThat(quitacoes.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve executar sem lock quando a reserva não é informada")
+    void deveExecutarSemReserva() {
+        assertThat(new ReservaStripedLock(16).executar(null, () -> "ok")).isEqualTo("ok");
+    }
+}
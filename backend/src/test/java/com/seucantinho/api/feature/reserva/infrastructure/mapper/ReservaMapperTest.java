@@ -1,5 +1,6 @@
 package com.seucantinho.api.feature.reserva.infrastructure.mapper;
 
+import com.seucantinho.api.feature.cliente.application.dto.ClienteResponseDTO;
 import com.seucantinho.api.feature.cliente.domain.Cliente;
 import com.seucantinho.api.feature.espaco.domain.Espaco;
 import com.seucantinho.api.feature.espaco.domain.valueobject.Capacidade;
@@ -11,7 +12,9 @@ import com.seucantinho.api.feature.reserva.domain.Reserva;
 import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
 import com.seucantinho.api.feature.reserva.domain.valueobject.DataEvento;
 import com.seucantinho.api.feature.usuario.infrastructure.mapper.UsuarioMapper;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
 import com.seucantinho.api.shared.domain.valueobject.ValorMonetario;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,11 +23,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Testes do ReservaMapper")
@@ -43,6 +50,7 @@ class ReservaMapperTest {
 
     @BeforeEach
     void setUp() {
+        Relogio.usar(Clock.fixed(Instant.parse("2025-11-01T15:00:00Z"), ZoneId.of("America/Sao_Paulo")));
         mapper = new ReservaMapper(espacoMapper, usuarioMapper);
 
         filial = Filial.builder()
@@ -72,6 +80,11 @@ class ReservaMapperTest {
                 .build();
     }
 
+    @AfterEach
+    void tearDown() {
+        Relogio.restaurar();
+    }
+
     @Test
     @DisplayName("Deve converter ReservaRequestDTO para Reserva")
     void deveConverterRequestDTOParaEntity() {
@@ -125,10 +138,10 @@ class ReservaMapperTest {
                 .espaco(espaco)
                 .build();
 
-        when(usuarioMapper.toResponseDTO(any())).thenReturn(null);
+        when(usuarioMapper.toResponseDTO(any(), anyInt())).thenReturn(null);
         when(espacoMapper.toResponseDTO(any())).thenReturn(null);
 
-        ReservaResponseDTO dto = mapper.toResponseDTO(reserva);
+        ReservaResponseDTO dto = mapper.toResponseDTO(reserva, reserva.calcularTotalPago(), 0);
 
         assertNotNull(dto);
         assertEquals(reserva.getId(), dto.getId());
@@ -139,5 +152,46 @@ class ReservaMapperTest {
         assertEquals(0, dto.getTotalPago().compareTo(BigDecimal.ZERO));
         assertEquals(reserva.getValorTotal().getValor(), dto.getSaldo());
     }
-}
 
+    @Test
+    @DisplayName("Deve usar total pago informado sem carregar pagamentos")
+    void deveUsarTotalPagoInformado() {
+        Reserva reserva = Reserva.builder()
+                .id(1)
+                .dataEvento(DataEvento.of(Relogio.hoje().plusDays(10)))
+                .valorTotal(ValorMonetario.of(new BigDecimal("500.00")))
+                .status(StatusReservaEnum.CONFIRMADA)
+                .usuario(cliente)
+                .espaco(espaco)
+                .pagamentos(null)
+                .build();
+
+        when(usuarioMapper.toResponseDTO(any(), anyInt())).thenReturn(null);
+        when(espacoMapper.toResponseDTO(any())).thenReturn(null);
+
+        ReservaResponseDTO dto = mapper.toResponseDTO(reserva, ValorMonetario.of(new BigDecimal("250.00")), 0);
+
+        assertEquals(new BigDecimal("250.00"), dto.getTotalPago());
+        assertEquals(new BigDecimal("250.00"), dto.getSaldo());
+    }
+
+    @Test
+    @DisplayName("Deve usar a quantidade de reservas informada sem inicializar as reservas do cliente")
+    void deveUsarQuantidadeInformadaSemInicializarReservasDoCliente() {
+        Cliente clienteSemReservasCarregadas = spy(cliente);
+        Reserva reserva = Reserva.builder()
+                .id(1)
+                .dataEvento(DataEvento.of(Relogio.hoje().plusDays(10)))
+                .valorTotal(ValorMonetario.of(new BigDecimal("500.00")))
+                .status(StatusReservaEnum.CONFIRMADA)
+                .usuario(clienteSemReservasCarregadas)
+                .espaco(espaco)
+                .build();
+        ReservaMapper mapperComUsuarioReal = new ReservaMapper(espacoMapper, new UsuarioMapper());
+
+        ReservaResponseDTO dto = mapperComUsuarioReal.toResponseDTO(reserva, reserva.calcularTotalPago(), 4);
+
+        assertEquals(4, ((ClienteResponseDTO) dto.getUsuario()).getQuantidadeReservas());
+        verify(clienteSemReservasCarregadas, never()).getReservas();
+    }
+}
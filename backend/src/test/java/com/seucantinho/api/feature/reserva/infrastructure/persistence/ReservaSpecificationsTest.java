@@ -0,0 +1,132 @@
+package com.seucantinho.api.feature.reserva.infrastructure.persistence;
+
+import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import com.seucantinho.api.feature.reserva.domain.valueobject.ReservaFiltro;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes do ReservaSpecifications")
+@SuppressWarnings({"unchecked", "rawtypes"})
+class ReservaSpecificationsTest {
+
+    private Root<Reserva> root;
+    private CriteriaQuery query;
+    private CriteriaBuilder cb;
+    private Join usuario;
+    private Join espaco;
+    private Join filial;
+    private Path status;
+    private Path dataEvento;
+
+    @BeforeEach
+    void setUp() {
+        root = mock(Root.class);
+        query = mock(CriteriaQuery.class);
+        cb = mock(CriteriaBuilder.class);
+        usuario = mock(Join.class, withSettings().extraInterfaces(Fetch.class));
+        espaco = mock(Join.class, withSettings().extraInterfaces(Fetch.class));
+        filial = mock(Join.class, withSettings().extraInterfaces(Fetch.class));
+        status = mock(Path.class);
+        dataEvento = mock(Path.class);
+        Path embutido = mock(Path.class);
+
+        when(root.fetch("usuario", JoinType.INNER)).thenReturn((Fetch) usuario);
+        when(root.fetch("espaco", JoinType.INNER)).thenReturn((Fetch) espaco);
+        when(((Fetch) espaco).fetch("filial", JoinType.INNER)).thenReturn((Fetch) filial);
+        when(root.join("usuario")).thenReturn(usuario);
+        when(root.join("espaco")).thenReturn(espaco);
+        when(espaco.join("filial")).thenReturn(filial);
+        when(root.get("status")).thenReturn(status);
+        when(root.get("dataEvento")).thenReturn(embutido);
+        when(embutido.get("data")).thenReturn(dataEvento);
+    }
+
+    @Test
+    @DisplayName("Deve trazer usuário, espaço e filial por JOIN FETCH na consulta de reservas")
+    void deveUsarJoinFetchNaConsultaDeReservas() {
+        when(query.getResultType()).thenReturn(Reserva.class);
+
+        ReservaSpecifications.comFiltro(ReservaFiltro.builder().build()).toPredicate(root, query, cb);
+
+        verify(root).fetch("usuario", JoinType.INNER);
+        verify(root).fetch("espaco", JoinType.INNER);
+        verify((Fetch) espaco).fetch("filial", JoinType.INNER);
+        verify(root, never()).join(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve usar JOIN simples na consulta de contagem")
+    void deveUsarJoinSimplesNaContagem() {
+        when(query.getResultType()).thenReturn(Long.class);
+
+        ReservaSpecifications.comFiltro(ReservaFiltro.builder().build()).toPredicate(root, query, cb);
+
+        verify(root).join("usuario");
+        verify(root).join("espaco");
+        verify(espaco).join("filial");
+        verify(root, never()).fetch(anyString(), any(JoinType.class));
+    }
+
+    @Test
+    @DisplayName("Não deve restringir a consulta sem filtros")
+    void naoDeveRestringirConsultaSemFiltros() {
+        when(query.getResultType()).thenReturn(Reserva.class);
+
+        ReservaSpecifications.comFiltro(ReservaFiltro.builder().build()).toPredicate(root, query, cb);
+
+        verify(cb).and();
+        verify(cb, never()).equal(any(), any(Object.class));
+        verify(status, never()).in(any(java.util.Collection.class));
+    }
+
+    @Test
+    @DisplayName("Deve combinar todos os filtros informados em um único predicado")
+    void deveCombinarTodosOsFiltros() {
+        // Arrange
+        when(query.getResultType()).thenReturn(Reserva.class);
+        Path usuarioId = mock(Path.class);
+        Path espacoId = mock(Path.class);
+        Path filialId = mock(Path.class);
+        when(usuario.get("id")).thenReturn(usuarioId);
+        when(espaco.get("id")).thenReturn(espacoId);
+        when(filial.get("id")).thenReturn(filialId);
+        LocalDate inicio = LocalDate.of(2026, 1, 1);
+        LocalDate fim = LocalDate.of(2026, 1, 31);
+        ReservaFiltro filtro = ReservaFiltro.builder()
+                .status(Set.of(StatusReservaEnum.CONFIRMADA, StatusReservaEnum.QUITADA))
+                .usuarioId(4)
+                .espacoId(2)
+                .filialId(1)
+                .dataInicio(inicio)
+                .dataFim(fim)
+                .build();
+
+        // Act
+        ReservaSpecifications.comFiltro(filtro).toPredicate(root, query, cb);
+
+        // Assert
+        verify(status).in(Set.of(StatusReservaEnum.CONFIRMADA, StatusReservaEnum.QUITADA));
+        verify(cb).equal(usuarioId, 4);
+        verify(cb).equal(espacoId, 2);
+        verify(cb).equal(filialId, 1);
+        verify(cb).greaterThanOrEqualTo(dataEvento, inicio);
+        verify(cb).lessThanOrEqualTo(dataEvento, fim);
+        verify(cb).and(any(Predicate[].class));
+    }
+}
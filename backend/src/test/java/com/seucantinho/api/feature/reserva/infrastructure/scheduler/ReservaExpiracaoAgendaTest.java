@@ -0,0 +1,164 @@
+package com.seucantinho.api.feature.reserva.infrastructure.scheduler;
+
+import com.seucantinho.api.feature.reserva.domain.Reserva;
+import com.seucantinho.api.feature.reserva.domain.enums.StatusReservaEnum;
+import com.seucantinho.api.feature.reserva.domain.port.out.ReservaRepositoryPort;
+import com.seucantinho.api.feature.reserva.infrastructure.config.ReservaExpiracaoConfig;
+import com.seucantinho.api.shared.domain.tempo.Relogio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ReservaExpiracaoAgenda")
+class ReservaExpiracaoAgendaTest {
+
+    @Mock
+    private ObjectProvider<ReservaRepositoryPort> reservaRepositoryPortProvider;
+
+    @Mock
+    private ReservaRepositoryPort reservaRepositoryPort;
+
+    private ReservaExpiracaoAgenda agenda;
+
+    @BeforeEach
+    void setUp() {
+        agenda = new ReservaExpiracaoAgenda(reservaRepositoryPortProvider, new ReservaExpiracaoConfig(true, 48, 200));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Relogio.restaurar();
+    }
+
+    @Test
+    @DisplayName("Deve carregar do banco as reservas aguardando sinal")
+    void deveCarregarReservasAguardandoSinal() throws InterruptedException {
+        // Arrange
+        Map<Integer, LocalDateTime> criacoes = new LinkedHashMap<>();
+        criacoes.put(1, LocalDateTime.now().minusHours(72));
+        criacoes.put(2, LocalDateTime.now().minusHours(50));
+        criacoes.put(3, LocalDateTime.now());
+        when(reservaRepositoryPortProvider.getObject()).thenReturn(reservaRepositoryPort);
+        when(reservaRepositoryPort.findDatasCriacaoByStatus(StatusReservaEnum.AGUARDANDO_SINAL)).thenReturn(criacoes);
+
+        // Act
+        agenda.carregar();
+
+        // Assert
+        assertThat(agenda.pendentes()).isEqualTo(3);
+        assertThat(agenda.proximoLote(10)).containsExactly(1, 2);
+        assertThat(agenda.pendentes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve limitar o lote ao tamanho máximo")
+    void deveLimitarLoteAoTamanhoMaximo() throws InterruptedException {
+        // Arrange
+        LocalDateTime vencida = LocalDateTime.now().minusDays(3);
+        agenda.agendar(criarReserva(1, StatusReservaEnum.AGUARDANDO_SINAL, vencida));
+        agenda.agendar(criarReserva(2, StatusReservaEnum.AGUARDANDO_SINAL, vencida.plusMinutes(1)));
+        agenda.agendar(criarReserva(3, StatusReservaEnum.AGUARDANDO_SINAL, vencida.plusMinutes(2)));
+
+        // Act
+        List<Integer> primeiroLote = agenda.proximoLote(2);
+        List<Integer> segundoLote = agenda.proximoLote(2);
+
+        // Assert
+        assertThat(primeiroLote).containsExactly(1, 2);
+        assertThat(segundoLote).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar reservas que não aguardam sinal e agendamentos repetidos")
+    void deveIgnorarReservasQueNaoAguardamSinal() {
+        LocalDateTime agora = LocalDateTime.now();
+
+        agenda.agendar(criarReserva(1, StatusReservaEnum.CONFIRMADA, agora));
+        agenda.agendar(criarReserva(null, StatusReservaEnum.AGUARDANDO_SINAL, agora));
+        agenda.agendar(criarReserva(2, StatusReservaEnum.AGUARDANDO_SINAL, agora));
+        agenda.agendar(criarReserva(2, StatusReservaEnum.AGUARDANDO_SINAL, agora));
+
+        assertThat(agenda.pendentes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve bloquear até o próximo vencimento")
+    void deveBloquearAteProximoVencimento() throws InterruptedException {
+        agenda.reagendar(List.of(7), Duration.ofMillis(200));
+
+        long inicio = System.nanoTime();
+        List<Integer> lote = agenda.proximoLote(10);
+
+        assertThat(lote).containsExactly(7);
+        assertThat(Duration.ofNanos(System.nanoTime() - inicio)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+    }
+
+    @Test
+    @DisplayName("Deve calcular o reagendamento e o atraso pelo Relogio")
+    void deveUsarRelogioNoReagendamento() throws InterruptedException {
+        // Arrange
+        Instant inicio = Instant.parse("2025-11-01T12:00:00Z");
+        Relogio.usar(Clock.fixed(inicio, ZoneOffset.UTC));
+        agenda.reagendar(List.of(7), Duration.ofMinutes(5));
+
+        // Act
+        Relogio.usar(Clock.fixed(inicio.plus(Duration.ofMinutes(6)), ZoneOffset.UTC));
+        List<Integer> lote = agenda.proximoLote(10);
+
+        // Assert: venceu pelo relógio configurado, sem esperar os 5 minutos reais
+        assertThat(lote).containsExactly(7);
+    }
+
+    @Test
+    @DisplayName("Deve medir o atraso do vencimento a partir do Relogio")
+    void deveMedirAtrasoPeloRelogio() {
+        // Arrange
+        Relogio.usar(Clock.fixed(Instant.ofEpochMilli(1_000), ZoneOffset.UTC));
+
+        // Act
+        long atraso = new ReservaExpiracaoAgenda.Vencimento(1, 6_000).getDelay(TimeUnit.MILLISECONDS);
+
+        // Assert
+        assertThat(atraso).isEqualTo(5_000);
+    }
+
+    @Test
+    @DisplayName("Não deve agendar quando a expiração está desabilitada")
+    void naoDeveAgendarQuandoDesabilitada() {
+        agenda = new ReservaExpiracaoAgenda(reservaRepositoryPortProvider, new ReservaExpiracaoConfig(false, 48, 200));
+
+        agenda.carregar();
+        agenda.agendar(criarReserva(1, StatusReservaEnum.AGUARDANDO_SINAL, LocalDateTime.now()));
+
+        assertThat(agenda.pendentes()).isZero();
+        verifyNoInteractions(reservaRepositoryPortProvider);
+    }
+
+    private Reserva criarReserva(Integer id, StatusReservaEnum status, LocalDateTime dataCriacao) {
+        return Reserva.builder()
+                .id(id)
+                .status(status)
+                .dataCriacao(dataCriacao)
+                .build();
+    }
+}
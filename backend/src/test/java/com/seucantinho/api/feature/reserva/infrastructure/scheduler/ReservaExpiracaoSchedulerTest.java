@@ -0,0 +1,68 @@
+package com.seucantinho.api.feature.reserva.infrastructure.scheduler;
+
+import com.seucantinho.api.feature.reserva.application.service.ReservaExpiracaoService;
+import com.seucantinho.api.feature.reserva.infrastructure.config.ReservaExpiracaoConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ReservaExpiracaoScheduler")
+class ReservaExpiracaoSchedulerTest {
+
+    @Mock
+    private ReservaExpiracaoAgenda reservaExpiracaoAgenda;
+
+    @Mock
+    private ReservaExpiracaoService reservaExpiracaoService;
+
+    private ReservaExpiracaoScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ReservaExpiracaoScheduler(
+                reservaExpiracaoAgenda, reservaExpiracaoService, new ReservaExpiracaoConfig(true, 48, 2));
+    }
+
+    @Test
+    @DisplayName("Deve expirar o lote vencido")
+    void deveExpirarLoteVencido() {
+        scheduler.expirar(List.of(1, 2));
+
+        verify(reservaExpiracaoService).expirar(List.of(1, 2));
+        verifyNoInteractions(reservaExpiracaoAgenda);
+    }
+
+    @Test
+    @DisplayName("Deve reagendar o lote quando a expiração falha")
+    void deveReagendarLoteQuandoExpiracaoFalha() {
+        when(reservaExpiracaoService.expirar(List.of(1, 2))).thenThrow(new IllegalStateException("banco indisponível"));
+
+        scheduler.expirar(List.of(1, 2));
+
+        verify(reservaExpiracaoAgenda).reagendar(List.of(1, 2), ReservaExpiracaoScheduler.ATRASO_RETENTATIVA);
+    }
+
+    @Test
+    @DisplayName("Deve consumir a agenda em segundo plano até ser parado")
+    void deveConsumirAgendaEmSegundoPlano() throws InterruptedException {
+        when(reservaExpiracaoAgenda.proximoLote(2))
+                .thenReturn(List.of(1))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(Long.MAX_VALUE);
+                    return List.of();
+                });
+
+        scheduler.iniciar();
+
+        verify(reservaExpiracaoService, timeout(2000)).expirar(List.of(1));
+        scheduler.parar();
+    }
+}
@@ -2,6 +2,7 @@ package com.seucantinho.api.feature.usuario.infrastructure.adapter.out;
 
 import com.seucantinho.api.feature.cliente.domain.Cliente;
 import com.seucantinho.api.feature.usuario.domain.Usuario;
+import com.seucantinho.api.feature.usuario.infrastructure.cache.ChavesUsuarioFiltro;
 import com.seucantinho.api.feature.usuario.infrastructure.persistence.UsuarioRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +16,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,11 +26,14 @@ class UsuarioRepositoryAdapterTest {
     @Mock
     private UsuarioRepository usuarioRepository;
 
+    @Mock
+    private ChavesUsuarioFiltro chavesUsuarioFiltro;
+
     private UsuarioRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new UsuarioRepositoryAdapter(usuarioRepository);
+        adapter = new UsuarioRepositoryAdapter(usuarioRepository, chavesUsuarioFiltro);
     }
 
     @Test
@@ -88,6 +93,7 @@ class UsuarioRepositoryAdapterTest {
     @Test
     @DisplayName("Deve verificar se existe usuário com email")
     void deveVerificarSeExisteUsuarioComEmail() {
+        when(chavesUsuarioFiltro.talvezExistaEmail("teste@email.com")).thenReturn(true);
         when(usuarioRepository.existsByEmail("teste@email.com")).thenReturn(true);
 
         boolean result = adapter.existsByEmail("teste@email.com");
@@ -99,6 +105,7 @@ class UsuarioRepositoryAdapterTest {
     @Test
     @DisplayName("Deve verificar se existe usuário com CPF")
     void deveVerificarSeExisteUsuarioComCpf() {
+        when(chavesUsuarioFiltro.talvezExistaCpf("12345678900")).thenReturn(true);
         when(usuarioRepository.existsByCpf("12345678900")).thenReturn(true);
 
         boolean result = adapter.existsByCpf("12345678900");
@@ -106,5 +113,39 @@ class UsuarioRepositoryAdapterTest {
         assertTrue(result);
         verify(usuarioRepository).existsByCpf("12345678900");
     }
-}
 
+    @Test
+    @DisplayName("Não deve consultar o banco quando o filtro garante que o email não existe")
+    void naoDeveConsultarBancoQuandoFiltroDescartaEmail() {
+        when(chavesUsuarioFiltro.talvezExistaEmail("novo@email.com")).thenReturn(false);
+
+        boolean result = adapter.existsByEmail("novo@email.com");
+
+        assertFalse(result);
+        verifyNoInteractions(usuarioRepository);
+    }
+
+    @Test
+    @DisplayName("Deve verificar email de outro usuário pela projeção quando o filtro indica possível duplicidade")
+    void deveVerificarEmailDeOutroUsuario() {
+        when(chavesUsuarioFiltro.talvezExistaEmail("teste@email.com")).thenReturn(true);
+        when(usuarioRepository.existsByEmailAndIdNot("teste@email.com", 1)).thenReturn(false);
+
+        boolean result = adapter.existsByEmailAndIdNot("teste@email.com", 1);
+
+        assertFalse(result);
+        verify(usuarioRepository).existsByEmailAndIdNot("teste@email.com", 1);
+        verify(usuarioRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve registrar o usuário salvo no filtro de unicidade")
+    void deveRegistrarUsuarioSalvoNoFiltro() {
+        Cliente usuario = Cliente.builder().id(1).email("teste@email.com").build();
+        when(usuarioRepository.save(usuario)).thenReturn(usuario);
+
+        adapter.save(usuario);
+
+        verify(chavesUsuarioFiltro).registrar(usuario);
+    }
+}
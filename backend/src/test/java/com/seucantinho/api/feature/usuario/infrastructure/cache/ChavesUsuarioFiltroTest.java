@@ -0,0 +1,90 @@
+package com.seucantinho.api.feature.usuario.infrastructure.cache;
+
+import com.seucantinho.api.feature.cliente.domain.Cliente;
+import com.seucantinho.api.feature.funcionario.domain.Funcionario;
+import com.seucantinho.api.feature.usuario.infrastructure.persistence.UsuarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ChavesUsuarioFiltro")
+class ChavesUsuarioFiltroTest {
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChavesUsuarioFiltro filtro;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filtro = new ChavesUsuarioFiltro(usuarioRepository, meterRegistry, 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("Deve responder talvez para qualquer valor antes da carga")
+    void deveResponderTalvezAntesDaCarga() {
+        // Act & Assert
+        assertThat(filtro.talvezExistaEmail("novo@email.com")).isTrue();
+        assertThat(filtro.talvezExistaCpf("12345678901")).isTrue();
+        assertThat(filtro.talvezExistaMatricula("F001")).isTrue();
+        assertThat(filtro.talvezExistaMatricula(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve descartar valores ausentes após carregar os usuários existentes")
+    void deveDescartarValoresAusentesAposCarga() {
+        // Arrange
+        carregar(List.of("joao@email.com"), List.of("12345678901"), List.of("F001"));
+
+        // Act & Assert
+        assertThat(filtro.talvezExistaEmail("joao@email.com")).isTrue();
+        assertThat(filtro.talvezExistaCpf("12345678901")).isTrue();
+        assertThat(filtro.talvezExistaMatricula("F001")).isTrue();
+        assertThat(filtro.talvezExistaEmail("novo@email.com")).isFalse();
+        assertThat(filtro.talvezExistaCpf("98765432100")).isFalse();
+        assertThat(filtro.talvezExistaMatricula("F999")).isFalse();
+        assertThat(filtro.elementos()).isEqualTo(3);
+        assertThat(meterRegistry.get("usuario.filtro_chaves.consultas")
+                .tag("chave", "email").tag("resultado", "ausente").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve incluir usuários salvos após a carga")
+    void deveIncluirUsuariosSalvosAposCarga() {
+        // Arrange
+        carregar(List.of(), List.of(), List.of());
+        Funcionario funcionario = new Funcionario();
+        funcionario.setEmail("func@email.com");
+        funcionario.setMatricula("F010");
+
+        // Act
+        filtro.registrar(Cliente.builder().email("maria@email.com").cpf("11122233344").build());
+        filtro.registrar(funcionario);
+
+        // Assert
+        assertThat(filtro.talvezExistaEmail("maria@email.com")).isTrue();
+        assertThat(filtro.talvezExistaCpf("11122233344")).isTrue();
+        assertThat(filtro.talvezExistaEmail("func@email.com")).isTrue();
+        assertThat(filtro.talvezExistaMatricula("F010")).isTrue();
+    }
+
+    private void carregar(List<String> emails, List<String> cpfs, List<String> matriculas) {
+        when(usuarioRepository.count()).thenReturn((long) emails.size());
+        when(usuarioRepository.findAllEmails()).thenReturn(emails);
+        when(usuarioRepository.findAllCpfs()).thenReturn(cpfs);
+        when(usuarioRepository.findAllMatriculas()).thenReturn(matriculas);
+        filtro.carregar();
+    }
+}
@@ -0,0 +1,60 @@
+package com.seucantinho.api.feature.usuario.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes do FiltroBloom")
+class FiltroBloomTest {
+
+    @Test
+    @DisplayName("Deve reconhecer todos os valores adicionados")
+    void deveReconhecerValoresAdicionados() {
+        // Arrange
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            filtro.adicionar("usuario" + i + "@email.com");
+        }
+
+        // Assert
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filtro.talvezContenha("usuario" + i + "@email.com")).isTrue();
+        }
+        assertThat(filtro.elementos()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("Deve manter a taxa de falsos positivos próxima da configurada")
+    void deveManterTaxaDeFalsosPositivos() {
+        // Arrange
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filtro.adicionar("usuario" + i + "@email.com");
+        }
+
+        // Act
+        int falsosPositivos = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filtro.talvezContenha("outro" + i + "@email.com")) {
+                falsosPositivos++;
+            }
+        }
+
+        // Assert
+        assertThat(falsosPositivos / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("Deve responder negativo para filtro vazio")
+    void deveResponderNegativoParaFiltroVazio() {
+        // Arrange
+        FiltroBloom filtro = new FiltroBloom(100, 0.01);
+
+        // Act & Assert
+        assertThat(filtro.talvezContenha("12345678901")).isFalse();
+        assertThat(filtro.quantidadeBits() % Long.SIZE).isZero();
+    }
+}
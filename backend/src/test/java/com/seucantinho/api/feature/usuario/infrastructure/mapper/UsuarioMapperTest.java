@@ -15,6 +15,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 @DisplayName("Testes do UsuarioMapper")
 class UsuarioMapperTest {
@@ -29,7 +30,7 @@ class UsuarioMapperTest {
     @Test
     @DisplayName("Deve retornar null quando usuário for null")
     void deveRetornarNullQuandoUsuarioForNull() {
-        var resultado = mapper.toResponseDTO(null);
+        var resultado = mapper.toResponseDTO(null, 0);
         assertNull(resultado);
     }
 
@@ -47,7 +48,7 @@ class UsuarioMapperTest {
                 .reservas(new ArrayList<>())
                 .build();
 
-        var resultado = mapper.toResponseDTO(cliente);
+        var resultado = mapper.toResponseDTO(cliente, 0);
 
         assertNotNull(resultado);
         assertInstanceOf(ClienteResponseDTO.class, resultado);
@@ -62,26 +63,35 @@ class UsuarioMapperTest {
     }
 
     @Test
-    @DisplayName("Deve mapear Cliente com reservas para ClienteResponseDTO")
-    void deveMapearClienteComReservasParaResponseDTO() {
-        Cliente cliente = Cliente.builder()
+    @DisplayName("Não deve inicializar as reservas do cliente ao mapear")
+    void naoDeveInicializarReservasDoClienteAoMapear() {
+        Cliente cliente = spy(Cliente.builder()
                 .id(1)
                 .nome("João Silva")
                 .email("joao@email.com")
-                .cpf("12345678900")
-                .telefone("11999999999")
-                .ativo(true)
-                .dataCadastro(LocalDateTime.now())
-                .build();
-        cliente.setReservas(new ArrayList<>());
-        cliente.getReservas().add(new com.seucantinho.api.feature.reserva.domain.Reserva());
-        cliente.getReservas().add(new com.seucantinho.api.feature.reserva.domain.Reserva());
+                .reservas(new ArrayList<>())
+                .build());
 
-        var resultado = mapper.toResponseDTO(cliente);
+        var resultado = mapper.toResponseDTO(cliente, 2);
 
-        assertNotNull(resultado);
         ClienteResponseDTO clienteDTO = (ClienteResponseDTO) resultado;
         assertEquals(2, clienteDTO.getQuantidadeReservas());
+        verify(cliente, never()).getReservas();
+    }
+
+    @Test
+    @DisplayName("Deve usar a quantidade de reservas informada sem acessar a coleção")
+    void deveUsarQuantidadeInformadaSemAcessarColecao() {
+        Cliente cliente = Cliente.builder()
+                .id(1)
+                .nome("João Silva")
+                .email("joao@email.com")
+                .reservas(null)
+                .build();
+
+        var resultado = mapper.toResponseDTO(cliente, 7);
+
+        assertEquals(7, ((ClienteResponseDTO) resultado).getQuantidadeReservas());
     }
 
     @Test
@@ -105,7 +115,7 @@ class UsuarioMapperTest {
         funcionario.setMatricula("MAT001");
         funcionario.setFilial(filial);
 
-        var resultado = mapper.toResponseDTO(funcionario);
+        var resultado = mapper.toResponseDTO(funcionario, 0);
 
         assertNotNull(resultado);
         assertInstanceOf(FuncionarioResponseDTO.class, resultado);
@@ -136,7 +146,7 @@ class UsuarioMapperTest {
         funcionario.setMatricula("MAT001");
         funcionario.setFilial(null);
 
-        var resultado = mapper.toResponseDTO(funcionario);
+        var resultado = mapper.toResponseDTO(funcionario, 0);
 
         assertNotNull(resultado);
         FuncionarioResponseDTO funcionarioDTO = (FuncionarioResponseDTO) resultado;
@@ -155,7 +165,7 @@ class UsuarioMapperTest {
         admin.setAtivo(true);
         admin.setDataCadastro(LocalDateTime.now());
 
-        var resultado = mapper.toResponseDTO(admin);
+        var resultado = mapper.toResponseDTO(admin, 0);
 
         assertNotNull(resultado);
         assertInstanceOf(AdministradorResponseDTO.class, resultado);
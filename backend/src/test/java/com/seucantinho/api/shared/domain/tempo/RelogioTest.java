@@ -0,0 +1,114 @@
+package com.seucantinho.api.shared.domain.tempo;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Testes do Relogio")
+class RelogioTest {
+
+    private static final ZoneId SAO_PAULO = ZoneId.of("America/Sao_Paulo");
+
+    @AfterEach
+    void tearDown() {
+        Relogio.restaurar();
+    }
+
+    @Test
+    @DisplayName("Deve usar a data e a hora do relógio configurado")
+    void deveUsarRelogioConfigurado() {
+        // Arrange
+        Relogio.usar(Clock.fixed(Instant.parse("2025-11-01T15:30:00Z"), SAO_PAULO));
+
+        // Act & Assert
+        assertThat(Relogio.hoje()).isEqualTo(LocalDate.of(2025, 11, 1));
+        assertThat(Relogio.agora()).isEqualTo(LocalDateTime.of(2025, 11, 1, 12, 30));
+        assertThat(Relogio.zona()).isEqualTo(SAO_PAULO);
+    }
+
+    @Test
+    @DisplayName("Deve manter a mesma data em cache até a meia-noite da zona configurada")
+    void deveVirarODiaNaMeiaNoiteDaZona() {
+        // Arrange
+        RelogioAjustavel clock = new RelogioAjustavel(Instant.parse("2025-11-02T02:59:59Z"), SAO_PAULO);
+        Relogio.usar(clock);
+        LocalDate antes = Relogio.hoje();
+
+        // Act
+        clock.avancar(Duration.ofSeconds(1));
+        LocalDate depois = Relogio.hoje();
+
+        // Assert
+        assertThat(antes).isEqualTo(LocalDate.of(2025, 11, 1));
+        assertThat(depois).isEqualTo(LocalDate.of(2025, 11, 2));
+        assertThat(Relogio.hoje()).isSameAs(depois);
+    }
+
+    @Test
+    @DisplayName("Deve recalcular a data quando o relógio volta no tempo")
+    void deveRecalcularQuandoRelogioVolta() {
+        // Arrange
+        RelogioAjustavel clock = new RelogioAjustavel(Instant.parse("2025-11-02T12:00:00Z"), ZoneId.of("UTC"));
+        Relogio.usar(clock);
+        Relogio.hoje();
+
+        // Act
+        clock.avancar(Duration.ofDays(-1));
+
+        // Assert
+        assertThat(Relogio.hoje()).isEqualTo(LocalDate.of(2025, 11, 1));
+    }
+
+    @Test
+    @DisplayName("Deve descartar a data em cache ao trocar de relógio")
+    void deveDescartarCacheAoTrocarRelogio() {
+        // Arrange
+        Relogio.usar(Clock.fixed(Instant.parse("2025-11-01T12:00:00Z"), SAO_PAULO));
+        Relogio.hoje();
+
+        // Act
+        Relogio.usar(Clock.fixed(Instant.parse("2025-12-25T12:00:00Z"), SAO_PAULO));
+
+        // Assert
+        assertThat(Relogio.hoje()).isEqualTo(LocalDate.of(2025, 12, 25));
+    }
+
+    private static final class RelogioAjustavel extends Clock {
+
+        private Instant instante;
+        private final ZoneId zona;
+
+        private RelogioAjustavel(Instant instante, ZoneId zona) {
+            this.instante = instante;
+            this.zona = zona;
+        }
+
+        void avancar(Duration duracao) {
+            instante = instante.plus(duracao);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zona;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new RelogioAjustavel(instante, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instante;
+        }
+    }
+}
@@ -294,7 +294,7 @@ class ValorMonetarioTest {
         String formatado = valor.getValorFormatado();
 
         // Assert
-        assertThat(formatado).isEqualTo("R$ 1250.50");
+        assertThat(formatado).isEqualTo("R$ 1.250,50");
     }
 
     @Test
@@ -307,7 +307,7 @@ class ValorMonetarioTest {
         String resultado = valor.toString();
 
         // Assert
-        assertThat(resultado).isEqualTo("R$ 999.99");
+        assertThat(resultado).isEqualTo("R$ 999,99");
     }
 
     @Test
@@ -332,4 +332,63 @@ class ValorMonetarioTest {
         // Act & Assert
         assertThat(valor1).isNotEqualTo(valor2);
     }
+
+    @ParameterizedTest
+    @DisplayName("Deve formatar no padrão pt-BR independentemente do Locale da JVM")
+    @CsvSource({
+            "0, 'R$ 0,00'",
+            "0.05, 'R$ 0,05'",
+            "1, 'R$ 1,00'",
+            "999.99, 'R$ 999,99'",
+            "1000, 'R$ 1.000,00'",
+            "1234567.89, 'R$ 1.234.567,89'"
+    })
+    void deveFormatarNoPadraoPtBr(String valor, String esperado) {
+        assertThat(ValorMonetario.of(valor).getValorFormatado()).isEqualTo(esperado);
+    }
+
+    @Test
+    @DisplayName("Deve criar valor a partir de centavos")
+    void deveCriarValorAPartirDeCentavos() {
+        // Act
+        ValorMonetario valor = ValorMonetario.ofCentavos(12_345);
+
+        // Assert
+        assertThat(valor.getCentavos()).isEqualTo(12_345);
+        assertThat(valor.getValor()).isEqualByComparingTo("123.45");
+        assertThat(valor).isEqualTo(ValorMonetario.of("123.45"));
+        assertThatThrownBy(() -> ValorMonetario.ofCentavos(-1))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Valor monetário não pode ser negativo");
+    }
+
+    @Test
+    @DisplayName("Deve arredondar a metade de valores com centavo ímpar para cima")
+    void deveArredondarMetadeParaCima() {
+        assertThat(ValorMonetario.of("1.01").calcularMetade().getValor()).isEqualByComparingTo("0.51");
+        assertThat(ValorMonetario.of("0.01").calcularMetade().getValor()).isEqualByComparingTo("0.01");
+    }
+
+    @Test
+    @DisplayName("Deve converter para BigDecimal com duas casas na fronteira com JPA")
+    void deveConverterParaBigDecimalComDuasCasas() {
+        assertThat(ValorMonetario.of("10").getValor()).isEqualTo(new BigDecimal("10.00"));
+    }
+
+    @Test
+    @DisplayName("Não deve compartilhar instâncias entre valores iguais")
+    void naoDeveCompartilharInstanciasEntreValoresIguais() {
+        // Arrange
+        ValorMonetario precoDiaria = ValorMonetario.of("300");
+        ValorMonetario valorTotal = ValorMonetario.of("300");
+
+        // Act: o Hibernate altera o embeddable de destino no merge
+        valorTotal.setValor(new BigDecimal("1.00"));
+
+        // Assert
+        assertThat(precoDiaria).isNotSameAs(valorTotal);
+        assertThat(precoDiaria.getValor()).isEqualByComparingTo("300.00");
+        assertThat(ValorMonetario.of("300").getValor()).isEqualByComparingTo("300.00");
+        assertThat(ValorMonetario.zero()).isNotSameAs(ValorMonetario.zero());
+    }
 }
@@ -0,0 +1,72 @@
+package com.seucantinho.api.shared.infrastructure.config;
+
+import com.seucantinho.api.feature.auth.infrastructure.config.SenhaExecutorConfig;
+import com.seucantinho.api.feature.pagamento.infrastructure.config.PagamentoAssincronoConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.autoconfigure.DispatcherServletAutoConfiguration;
+import org.springframework.boot.webmvc.autoconfigure.WebMvcAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import static org.assertj.core.api.Assertions.*;
+
+// Com executores próprios no contexto, o MVC deve continuar usando o applicationTaskExecutor limitado
+@SpringBootTest(classes = {
+        PagamentoAssincronoConfig.class,
+        SenhaExecutorConfig.class,
+        ExecutorAssincronoMvcTest.Metricas.class
+})
+@ImportAutoConfiguration({
+        TaskExecutionAutoConfiguration.class,
+        DispatcherServletAutoConfiguration.class,
+        WebMvcAutoConfiguration.class
+})
+@DisplayName("Testes do executor das requisições assíncronas do MVC")
+class ExecutorAssincronoMvcTest {
+
+    @TestConfiguration
+    static class Metricas {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private ThreadPoolTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private RequestMappingHandlerAdapter requestMappingHandlerAdapter;
+
+    @Test
+    @DisplayName("Deve manter o applicationTaskExecutor com threads e fila limitadas")
+    void deveManterApplicationTaskExecutorLimitado() {
+        // Assert
+        assertThat(applicationTaskExecutor.getMaxPoolSize()).isEqualTo(32);
+        assertThat(applicationTaskExecutor.getQueueCapacity()).isEqualTo(200);
+        assertThat(applicationTaskExecutor.getThreadNamePrefix()).isEqualTo("mvc-async-");
+    }
+
+    @Test
+    @DisplayName("Deve usar o applicationTaskExecutor nas requisições assíncronas do MVC")
+    void deveUsarApplicationTaskExecutorNoMvc() {
+        // Act
+        Object executorDoMvc = ReflectionTestUtils.getField(requestMappingHandlerAdapter, "taskExecutor");
+
+        // Assert
+        assertThat(executorDoMvc).isSameAs(applicationTaskExecutor);
+    }
+}
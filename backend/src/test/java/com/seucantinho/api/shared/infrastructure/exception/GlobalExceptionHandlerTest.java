@@ -11,12 +11,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
 
@@ -223,4 +225,53 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getTimestamp()).isNotNull();
         assertThat(response.getBody().getTimestamp()).isBeforeOrEqualTo(java.time.LocalDateTime.now());
     }
+
+    @Test
+    @DisplayName("Deve traduzir violação do índice de reserva ativa em conflito")
+    void deveTraduzirViolacaoDoIndiceDeReservaAtivaEmConflito() {
+        // Arrange
+        SQLException sqlException = new SQLException(
+                "ERROR: duplicate key value violates unique constraint \"idx_reserva_unica_ativa\"", "23505");
+        DataIntegrityViolationException exception = new DataIntegrityViolationException(
+                "could not execute statement", new RuntimeException(sqlException));
+
+        // Act
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleDataIntegrityViolation(exception, request);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getStatus()).isEqualTo(409);
+        assertThat(response.getBody().getMessage()).isEqualTo("Espaço já possui reserva ativa para esta data");
+    }
+
+    @Test
+    @DisplayName("Deve tratar violação de chave estrangeira como erro interno, não como conflito")
+    void deveTratarViolacaoDeChaveEstrangeiraComoErroInterno() {
+        // Arrange
+        DataIntegrityViolationException exception = new DataIntegrityViolationException(
+                "could not execute statement", new SQLException("violates foreign key constraint", "23503"));
+
+        // Act
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleDataIntegrityViolation(exception, request);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(response.getBody().getMessage()).isEqualTo("Ocorreu um erro interno no servidor");
+    }
+
+    @Test
+    @DisplayName("Deve tratar violação de índice único desconhecido como conflito genérico")
+    void deveTratarOutroIndiceUnicoComoConflitoGenerico() {
+        // Arrange
+        DataIntegrityViolationException exception = new DataIntegrityViolationException(
+                "could not execute statement", new SQLException(
+                        "ERROR: duplicate key value violates unique constraint \"tb_usuario_email_key\"", "23505"));
+
+        // Act
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleDataIntegrityViolation(exception, request);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getMessage()).isEqualTo("Operação viola uma restrição de integridade dos dados");
+    }
 }
@@ -0,0 +1,130 @@
+package com.seucantinho.api.shared.infrastructure.web;
+
+import com.seucantinho.api.feature.filial.application.dto.FilialResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Testes do RespostaJsonCache")
+class RespostaJsonCacheTest {
+
+    private JsonMapper jsonMapper;
+    private RespostaJsonCache cache;
+    private List<FilialResponseDTO> filiais;
+
+    @BeforeEach
+    void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        cache = new RespostaJsonCache(jsonMapper, true);
+        filiais = IntStream.rangeClosed(1, 30)
+                .mapToObj(id -> FilialResponseDTO.builder()
+                        .id(id)
+                        .nome("Filial " + id)
+                        .cidade("Curitiba")
+                        .estado("PR")
+                        .endereco("Rua XV de Novembro, " + id)
+                        .quantidadeEspacos(id % 4)
+                        .build())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Deve responder com o JSON serializado e ETag forte")
+    void deveResponderComJsonEEtag() {
+        // Act
+        ResponseEntity<byte[]> resposta = cache.responder("filiais", filiais, null, null);
+
+        // Assert
+        assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resposta.getBody()).isEqualTo(jsonMapper.writeValueAsBytes(filiais));
+        assertThat(resposta.getHeaders().getETag()).matches("\"[0-9a-f]{32}\"");
+        assertThat(resposta.getHeaders().getCacheControl()).isEqualTo("no-cache");
+        assertThat(resposta.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(resposta.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar os bytes enquanto o conteúdo for a mesma instância")
+    void deveReaproveitarBytesDaMesmaInstancia() {
+        // Act
+        byte[] primeira = cache.responder("filiais", filiais, null, null).getBody();
+        byte[] segunda = cache.responder("filiais", filiais, null, null).getBody();
+        byte[] aposAlteracao = cache.responder("filiais", List.copyOf(filiais.subList(0, 10)), null, null).getBody();
+
+        // Assert
+        assertThat(segunda).isSameAs(primeira);
+        assertThat(aposAlteracao).isNotSameAs(primeira).isNotEqualTo(primeira);
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 quando If-None-Match corresponde à ETag")
+    void deveResponderNaoModificado() {
+        // Arrange
+        String etag = cache.responder("filiais", filiais, null, null).getHeaders().getETag();
+
+        // Act
+        ResponseEntity<byte[]> resposta = cache.responder("filiais", filiais, "\"outra\", W/" + etag, null);
+
+        // Assert
+        assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(resposta.getBody()).isNull();
+        assertThat(resposta.getHeaders().getETag()).isEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("Deve responder 200 quando a ETag informada é de uma versão anterior")
+    void deveResponderConteudoComEtagAntiga() {
+        // Arrange
+        String etagAntiga = cache.responder("filiais", filiais, null, null).getHeaders().getETag();
+        List<FilialResponseDTO> alteradas = List.copyOf(filiais.subList(1, filiais.size()));
+
+        // Act
+        ResponseEntity<byte[]> resposta = cache.responder("filiais", alteradas, etagAntiga, null);
+
+        // Assert
+        assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resposta.getHeaders().getETag()).isNotEqualTo(etagAntiga);
+    }
+
+    @Test
+    @DisplayName("Deve enviar a versão gzip com ETag própria quando o cliente aceita")
+    void deveEnviarVersaoGzip() throws IOException {
+        // Act
+        ResponseEntity<byte[]> identidade = cache.responder("filiais", filiais, null, null);
+        ResponseEntity<byte[]> compactada = cache.responder("filiais", filiais, null, "br, gzip;q=0.8");
+
+        // Assert
+        assertThat(compactada.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(compactada.getHeaders().getETag()).endsWith("-gzip\"").isNotEqualTo(identidade.getHeaders().getETag());
+        assertThat(compactada.getBody().length).isLessThan(identidade.getBody().length);
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(compactada.getBody()))) {
+            assertThat(entrada.readAllBytes()).isEqualTo(identidade.getBody());
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve compactar respostas pequenas nem quando o cliente recusa gzip")
+    void naoDeveCompactarRespostasPequenasOuRecusadas() {
+        // Act
+        ResponseEntity<byte[]> pequena = cache.responder("uma-filial", filiais.subList(0, 1), null, "gzip");
+        ResponseEntity<byte[]> recusada = cache.responder("filiais", filiais, null, "gzip;q=0");
+
+        // Assert
+        assertThat(pequena.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(new String(pequena.getBody(), StandardCharsets.UTF_8)).startsWith("[{\"id\":1");
+        assertThat(recusada.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
+}
@@ -72,6 +72,34 @@ describe('ReservaService', () => {
     });
   });
 
+  describe('paginação por cursor', () => {
+    it('deve seguir o cabeçalho X-Next-Cursor até a última página', () => {
+      const segundaReserva = { ...mockReservaResponse, id: 2 };
+      const terceiraReserva = { ...mockReservaResponse, id: 3 };
+
+      service.getAll().subscribe(reservas => {
+        expect(reservas.map(reserva => reserva.id)).toEqual([1, 2, 3]);
+      });
+
+      httpMock.expectOne(apiUrl).flush([mockReservaResponse], { headers: { 'X-Next-Cursor': 'c1' } });
+      httpMock.expectOne(`${apiUrl}?cursor=c1`).flush([segundaReserva], { headers: { 'X-Next-Cursor': 'c2' } });
+      httpMock.expectOne(`${apiUrl}?cursor=c2`).flush([terceiraReserva]);
+    });
+
+    it('deve seguir o cursor nas reservas de um usuário', () => {
+      const usuarioId = 1;
+
+      service.getByUsuarioId(usuarioId).subscribe(reservas => {
+        expect(reservas.length).toBe(2);
+      });
+
+      httpMock.expectOne(`${apiUrl}/usuario/${usuarioId}`)
+        .flush([mockReservaResponse], { headers: { 'X-Next-Cursor': 'c1' } });
+      httpMock.expectOne(`${apiUrl}/usuario/${usuarioId}?cursor=c1`)
+        .flush([{ ...mockReservaResponse, id: 2 }]);
+    });
+  });
+
   describe('getById', () => {
     it('deve fetch reserva by id', () => {
       const id = 1;
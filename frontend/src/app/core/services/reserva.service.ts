@@ -1,6 +1,7 @@
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
-import { Observable } from 'rxjs';
+import { HttpClient, HttpParams } from '@angular/common/http';
+import { EMPTY, Observable } from 'rxjs';
+import { expand, reduce } from 'rxjs/operators';
 import { environment } from '../../../environments/environment';
 import { ReservaRequest, ReservaResponse, StatusReserva } from '../models';
 
@@ -10,10 +11,12 @@ import { ReservaRequest, ReservaResponse, StatusReserva } from '../models';
 export class ReservaService {
   private readonly apiUrl = `${environment.apiUrl}/reservas`;
 
+  private static readonly NEXT_CURSOR_HEADER = 'X-Next-Cursor';
+
   constructor(private http: HttpClient) {}
 
   getAll(): Observable<ReservaResponse[]> {
-    return this.http.get<ReservaResponse[]>(this.apiUrl);
+    return this.getTodasAsPaginas(this.apiUrl);
   }
 
   getById(id: number): Observable<ReservaResponse> {
@@ -21,15 +24,15 @@ export class ReservaService {
   }
 
   getByUsuarioId(usuarioId: number): Observable<ReservaResponse[]> {
-    return this.http.get<ReservaResponse[]>(`${this.apiUrl}/usuario/${usuarioId}`);
+    return this.getTodasAsPaginas(`${this.apiUrl}/usuario/${usuarioId}`);
   }
 
   getByAcesso(usuarioEmail: string): Observable<ReservaResponse[]> {
-    return this.http.get<ReservaResponse[]>(`${this.apiUrl}/acesso/${usuarioEmail}`);
+    return this.getTodasAsPaginas(`${this.apiUrl}/acesso/${usuarioEmail}`);
   }
 
   getByEspacoId(espacoId: number): Observable<ReservaResponse[]> {
-    return this.http.get<ReservaResponse[]>(`${this.apiUrl}/espaco/${espacoId}`);
+    return this.getTodasAsPaginas(`${this.apiUrl}/espaco/${espacoId}`);
   }
 
   create(reserva: ReservaRequest): Observable<ReservaResponse> {
@@ -47,4 +50,20 @@ export class ReservaService {
   delete(id: number): Observable<void> {
     return this.http.delete<void>(`${this.apiUrl}/${id}`);
   }
+
+  // As listagens são paginadas por cursor: segue o cabeçalho X-Next-Cursor até a última página
+  private getTodasAsPaginas(url: string): Observable<ReservaResponse[]> {
+    const buscarPagina = (cursor?: string) => this.http.get<ReservaResponse[]>(url, {
+      observe: 'response',
+      params: cursor ? new HttpParams().set('cursor', cursor) : undefined
+    });
+
+    return buscarPagina().pipe(
+      expand(resposta => {
+        const cursor = resposta.headers.get(ReservaService.NEXT_CURSOR_HEADER);
+        return cursor ? buscarPagina(cursor) : EMPTY;
+      }),
+      reduce((reservas, resposta) => reservas.concat(resposta.body ?? []), [] as ReservaResponse[])
+    );
+  }
 }